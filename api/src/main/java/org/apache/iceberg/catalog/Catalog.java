@@ -28,6 +28,7 @@ import org.apache.iceberg.Transaction;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 
 /** A Catalog API for table create, drop, and load operations. */
 public interface Catalog {
@@ -325,6 +326,30 @@ public interface Catalog {
    */
   Table loadTable(TableIdentifier identifier);
 
+  /**
+   * Load several tables.
+   *
+   * <p>Tables that do not exist are not included in the result. Implementations may load the tables
+   * with fewer requests to the catalog or in parallel; the default implementation loads each table
+   * with {@link #loadTable(TableIdentifier)}.
+   *
+   * @param identifiers a list of table identifiers
+   * @return a map from each identifier of a table that exists to the loaded {@link Table}, in the
+   *     order of the identifiers
+   */
+  default Map<TableIdentifier, Table> loadTables(List<TableIdentifier> identifiers) {
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : identifiers) {
+      try {
+        tables.put(identifier, loadTable(identifier));
+      } catch (NoSuchTableException e) {
+        // tables that do not exist are not returned
+      }
+    }
+
+    return tables;
+  }
+
   /**
    * Invalidate cached table metadata from current catalog.
    *
@@ -29,6 +29,7 @@ import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 
 /** A Catalog API for table and namespace operations that includes session context. */
 public interface SessionCatalog {
@@ -196,6 +197,30 @@ public interface SessionCatalog {
    */
   Table loadTable(SessionContext context, TableIdentifier ident);
 
+  /**
+   * Load several tables.
+   *
+   * <p>Tables that do not exist are not included in the result.
+   *
+   * @param context session context
+   * @param identifiers a list of table identifiers
+   * @return a map from each identifier of a table that exists to the loaded {@link Table}, in the
+   *     order of the identifiers
+   */
+  default Map<TableIdentifier, Table> loadTables(
+      SessionContext context, List<TableIdentifier> identifiers) {
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : identifiers) {
+      try {
+        tables.put(identifier, loadTable(context, identifier));
+      } catch (NoSuchTableException e) {
+        // tables that do not exist are not returned
+      }
+    }
+
+    return tables;
+  }
+
   /**
    * Drop a table, without requesting that files are immediately deleted.
    *
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.transforms;
+
+import java.io.Serializable;
+
+/**
+ * A transform function that is applied to a batch of source values without boxing.
+ *
+ * <p>Source values are passed in primitive arrays using the same representation as the values
+ * that are passed to a function returned by {@link Transform#bind(org.apache.iceberg.types.Type)}:
+ * int for integer and date values, long for long, time and timestamp values, and bytes for string
+ * (UTF-8), binary, fixed, and UUID (16 bytes, big-endian) values. Variable-length values are
+ * passed as slices of a byte array, where value {@code i} is stored between {@code offsets[i]}
+ * and {@code offsets[i + 1]}.
+ *
+ * <p>Batches do not track null values. Results at the positions of null source values are
+ * undefined and must be replaced with null by the caller.
+ *
+ * <p>Use {@link BatchTransforms#bind(Transform, org.apache.iceberg.types.Type)} to create a batch
+ * transform. Each batch transform only implements the methods for its source type and result
+ * type; the others throw {@link UnsupportedOperationException}.
+ */
+public interface BatchTransform extends Serializable {
+
+  /**
+   * Transforms int source values to int results.
+   *
+   * @param values source values
+   * @param results an array that is filled with the transformed values
+   * @param length the number of values to transform
+   */
+  default void applyInts(int[] values, int[] results, int length) {
+    throw new UnsupportedOperationException(
+        String.format("Cannot transform int values to int results with %s", this));
+  }
+
+  /**
+   * Transforms long source values to int results.
+   *
+   * @param values source values
+   * @param results an array that is filled with the transformed values
+   * @param length the number of values to transform
+   */
+  default void applyLongs(long[] values, int[] results, int length) {
+    throw new UnsupportedOperationException(
+        String.format("Cannot transform long values to int results with %s", this));
+  }
+
+  /**
+   * Transforms long source values to long results.
+   *
+   * @param values source values
+   * @param results an array that is filled with the transformed values
+   * @param length the number of values to transform
+   */
+  default void applyLongs(long[] values, long[] results, int length) {
+    throw new UnsupportedOperationException(
+        String.format("Cannot transform long values to long results with %s", this));
+  }
+
+  /**
+   * Transforms byte slice source values to int results.
+   *
+   * @param data a byte array that contains the source values
+   * @param offsets the start offset of each value, followed by the end offset of the last value
+   * @param results an array that is filled with the transformed values
+   * @param length the number of values to transform
+   */
+  default void applyBytes(byte[] data, int[] offsets, int[] results, int length) {
+    throw new UnsupportedOperationException(
+        String.format("Cannot transform byte values to int results with %s", this));
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.transforms;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.BucketUtil;
+import org.apache.iceberg.util.DateTimeUtil;
+import org.apache.iceberg.util.TruncateUtil;
+
+/** Factory methods for {@link BatchTransform batch transforms}. */
+public class BatchTransforms {
+
+  private BatchTransforms() {}
+
+  /**
+   * Returns whether a transform can be applied to batches of a source type.
+   *
+   * <p>Batches are supported for identity, bucket, truncate, and time transforms of integer, long,
+   * date, time, and timestamp values, and for bucket transforms of string, binary, fixed, and UUID
+   * values.
+   *
+   * @param transform a transform
+   * @param type a source type
+   * @return true if {@link #bind(Transform, Type)} returns a batch transform for the type
+   */
+  public static boolean isSupported(Transform<?, ?> transform, Type type) {
+    if (!transform.canTransform(type)) {
+      return false;
+    }
+
+    switch (type.typeId()) {
+      case INTEGER:
+      case DATE:
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+      case TIMESTAMP_NANO:
+        return transform.isIdentity()
+            || transform instanceof Bucket
+            || transform instanceof Truncate
+            || granularity(transform) != null;
+      case STRING:
+      case BINARY:
+      case FIXED:
+      case UUID:
+        return transform instanceof Bucket;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Binds a transform to a source type and returns a function that transforms batches of values.
+   *
+   * @param transform a transform
+   * @param type a source type
+   * @return a batch transform for the source type
+   * @throws IllegalArgumentException if the transform cannot be applied to batches of the type
+   */
+  public static BatchTransform bind(Transform<?, ?> transform, Type type) {
+    Preconditions.checkArgument(
+        isSupported(transform, type), "Cannot apply %s to batches of %s", transform, type);
+
+    if (transform.isIdentity()) {
+      return new IdentityBatch();
+    } else if (transform instanceof Bucket) {
+      return new BucketBatch(((Bucket<?>) transform).numBuckets(), type.typeId());
+    } else if (transform instanceof Truncate) {
+      return new TruncateBatch(((Truncate<?>) transform).width());
+    } else {
+      return new TimeBatch(granularity(transform), type.typeId());
+    }
+  }
+
+  private static ChronoUnit granularity(Transform<?, ?> transform) {
+    if (transform instanceof TimeTransform) {
+      return ((TimeTransform<?>) transform).granularity();
+    } else if (transform instanceof Dates) {
+      return ((Dates) transform).granularity();
+    } else if (transform instanceof Timestamps) {
+      return ((Timestamps) transform).granularity();
+    }
+
+    return null;
+  }
+
+  private static class IdentityBatch implements BatchTransform {
+    @Override
+    public void applyInts(int[] values, int[] results, int length) {
+      System.arraycopy(values, 0, results, 0, length);
+    }
+
+    @Override
+    public void applyLongs(long[] values, long[] results, int length) {
+      System.arraycopy(values, 0, results, 0, length);
+    }
+
+    @Override
+    public String toString() {
+      return "identity";
+    }
+  }
+
+  private static class BucketBatch implements BatchTransform {
+    private final int numBuckets;
+    private final Type.TypeID typeId;
+
+    private BucketBatch(int numBuckets, Type.TypeID typeId) {
+      this.numBuckets = numBuckets;
+      this.typeId = typeId;
+    }
+
+    private int bucket(int hash) {
+      return (hash & Integer.MAX_VALUE) % numBuckets;
+    }
+
+    @Override
+    public void applyInts(int[] values, int[] results, int length) {
+      for (int i = 0; i < length; i += 1) {
+        results[i] = bucket(BucketUtil.hash(values[i]));
+      }
+    }
+
+    @Override
+    public void applyLongs(long[] values, int[] results, int length) {
+      if (typeId == Type.TypeID.TIMESTAMP_NANO) {
+        // bucket nanosecond timestamps the same as microsecond timestamps
+        for (int i = 0; i < length; i += 1) {
+          results[i] = bucket(BucketUtil.hash(DateTimeUtil.nanosToMicros(values[i])));
+        }
+      } else {
+        for (int i = 0; i < length; i += 1) {
+          results[i] = bucket(BucketUtil.hash(values[i]));
+        }
+      }
+    }
+
+    @Override
+    public void applyBytes(byte[] data, int[] offsets, int[] results, int length) {
+      for (int i = 0; i < length; i += 1) {
+        int start = offsets[i];
+        results[i] = bucket(BucketUtil.hash(data, start, offsets[i + 1] - start));
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "bucket[" + numBuckets + "]";
+    }
+  }
+
+  private static class TruncateBatch implements BatchTransform {
+    private final int width;
+
+    private TruncateBatch(int width) {
+      this.width = width;
+    }
+
+    @Override
+    public void applyInts(int[] values, int[] results, int length) {
+      for (int i = 0; i < length; i += 1) {
+        results[i] = TruncateUtil.truncateInt(width, values[i]);
+      }
+    }
+
+    @Override
+    public void applyLongs(long[] values, long[] results, int length) {
+      for (int i = 0; i < length; i += 1) {
+        results[i] = TruncateUtil.truncateLong(width, values[i]);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "truncate[" + width + "]";
+    }
+  }
+
+  private static class TimeBatch implements BatchTransform {
+    private final ChronoUnit granularity;
+    private final Type.TypeID typeId;
+
+    private TimeBatch(ChronoUnit granularity, Type.TypeID typeId) {
+      this.granularity = granularity;
+      this.typeId = typeId;
+    }
+
+    @Override
+    public void applyInts(int[] days, int[] results, int length) {
+      Preconditions.checkState(typeId == Type.TypeID.DATE, "Cannot apply to int values: %s", this);
+      switch (granularity) {
+        case YEARS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.daysToYears(days[i]);
+          }
+          break;
+        case MONTHS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.daysToMonths(days[i]);
+          }
+          break;
+        case DAYS:
+          System.arraycopy(days, 0, results, 0, length);
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported time unit: " + granularity);
+      }
+    }
+
+    @Override
+    public void applyLongs(long[] timestamps, int[] results, int length) {
+      if (typeId == Type.TypeID.TIMESTAMP_NANO) {
+        applyNanos(timestamps, results, length);
+      } else {
+        Preconditions.checkState(
+            typeId == Type.TypeID.TIMESTAMP, "Cannot apply to long values: %s", this);
+        applyMicros(timestamps, results, length);
+      }
+    }
+
+    private void applyMicros(long[] micros, int[] results, int length) {
+      switch (granularity) {
+        case YEARS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.microsToYears(micros[i]);
+          }
+          break;
+        case MONTHS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.microsToMonths(micros[i]);
+          }
+          break;
+        case DAYS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.microsToDays(micros[i]);
+          }
+          break;
+        case HOURS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.microsToHours(micros[i]);
+          }
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported time unit: " + granularity);
+      }
+    }
+
+    private void applyNanos(long[] nanos, int[] results, int length) {
+      switch (granularity) {
+        case YEARS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.nanosToYears(nanos[i]);
+          }
+          break;
+        case MONTHS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.nanosToMonths(nanos[i]);
+          }
+          break;
+        case DAYS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.nanosToDays(nanos[i]);
+          }
+          break;
+        case HOURS:
+          for (int i = 0; i < length; i += 1) {
+            results[i] = DateTimeUtil.nanosToHours(nanos[i]);
+          }
+          break;
+        default:
+          throw new UnsupportedOperationException("Unsupported time unit: " + granularity);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return granularity.toString().toLowerCase(Locale.ROOT);
+    }
+  }
+}
@@ -71,6 +71,19 @@ public class BucketUtil {
     return MURMUR3.hashBytes(value).asInt();
   }
 
+  /**
+   * Hashes a slice of a byte array, such as the UTF-8 bytes of a string or the bytes of a binary
+   * value.
+   *
+   * @param value a byte array
+   * @param offset the offset of the first byte to hash
+   * @param length the number of bytes to hash
+   * @return the hash of the bytes
+   */
+  public static int hash(byte[] value, int offset, int length) {
+    return MURMUR3.hashBytes(value, offset, length).asInt();
+  }
+
   public static int hash(ByteBuffer value) {
     if (value.hasArray()) {
       return MURMUR3
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.transforms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+import org.junit.jupiter.api.Test;
+
+public class TestBatchTransforms {
+  private static final int NUM_VALUES = 1_000;
+  private static final Random RANDOM = new Random(2384);
+
+  @Test
+  public void testIntTransforms() {
+    int[] values = randomInts();
+    for (Transform<?, ?> transform :
+        new Transform<?, ?>[] {
+          Transforms.identity(), Transforms.bucket(16), Transforms.truncate(10)
+        }) {
+      assertIntResults(transform, Types.IntegerType.get(), values);
+    }
+  }
+
+  @Test
+  public void testDateTransforms() {
+    int[] values = randomInts();
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      // dates between 1700 and 2240
+      values[i] = values[i] % 100_000;
+    }
+
+    for (Transform<?, ?> transform :
+        new Transform<?, ?>[] {
+          Transforms.bucket(16), Transforms.year(), Transforms.month(), Transforms.day()
+        }) {
+      assertIntResults(transform, Types.DateType.get(), values);
+    }
+  }
+
+  @Test
+  public void testLongTransforms() {
+    long[] values = randomLongs();
+    assertIntResults(Transforms.bucket(16), Types.LongType.get(), values);
+    assertLongResults(Transforms.identity(), Types.LongType.get(), values);
+    assertLongResults(Transforms.truncate(10), Types.LongType.get(), values);
+  }
+
+  @Test
+  public void testTimestampTransforms() {
+    long[] values = randomLongs();
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      // timestamps between 1653 and 2286, which can also be stored as nanos
+      values[i] = values[i] % 10_000_000_000_000_000L;
+    }
+
+    for (Transform<?, ?> transform :
+        new Transform<?, ?>[] {
+          Transforms.bucket(16),
+          Transforms.year(),
+          Transforms.month(),
+          Transforms.day(),
+          Transforms.hour()
+        }) {
+      assertIntResults(transform, Types.TimestampType.withZone(), values);
+      assertIntResults(transform, Types.TimestampType.withoutZone(), values);
+      assertIntResults(transform, Types.TimestampNanoType.withZone(), values);
+    }
+  }
+
+  @Test
+  public void testByteTransforms() {
+    String[] strings = new String[NUM_VALUES];
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      strings[i] = "value-" + RANDOM.nextLong() + "-é";
+    }
+
+    assertBucketResults(
+        Types.StringType.get(), strings, value -> value.getBytes(StandardCharsets.UTF_8));
+
+    UUID[] uuids = new UUID[NUM_VALUES];
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      uuids[i] = UUID.randomUUID();
+    }
+
+    assertBucketResults(Types.UUIDType.get(), uuids, UUIDUtil::convert);
+
+    ByteBuffer[] buffers = new ByteBuffer[NUM_VALUES];
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      byte[] bytes = new byte[8];
+      RANDOM.nextBytes(bytes);
+      buffers[i] = ByteBuffer.wrap(bytes);
+    }
+
+    assertBucketResults(Types.BinaryType.get(), buffers, ByteBuffer::array);
+    assertBucketResults(Types.FixedType.ofLength(8), buffers, ByteBuffer::array);
+  }
+
+  @Test
+  public void testUnsupportedTransforms() {
+    assertThat(BatchTransforms.isSupported(Transforms.truncate(4), Types.StringType.get()))
+        .isFalse();
+    assertThat(BatchTransforms.isSupported(Transforms.bucket(4), Types.DecimalType.of(9, 2)))
+        .isFalse();
+    assertThat(BatchTransforms.isSupported(Transforms.day(), Types.LongType.get())).isFalse();
+
+    assertThatThrownBy(() -> BatchTransforms.bind(Transforms.identity(), Types.StringType.get()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot apply identity to batches of string");
+
+    BatchTransform bucket = BatchTransforms.bind(Transforms.bucket(4), Types.IntegerType.get());
+    assertThatThrownBy(() -> bucket.applyLongs(new long[1], new long[1], 1))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Cannot transform long values to long results with bucket[4]");
+  }
+
+  private static void assertIntResults(Transform<?, ?> transform, Type type, int[] values) {
+    Function<Object, Object> func = bind(transform, type);
+    int[] results = new int[NUM_VALUES];
+    BatchTransforms.bind(transform, type).applyInts(values, results, NUM_VALUES);
+
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      assertThat(results[i]).as("%s(%s)", transform, values[i]).isEqualTo(func.apply(values[i]));
+    }
+  }
+
+  private static void assertIntResults(Transform<?, ?> transform, Type type, long[] values) {
+    Function<Object, Object> func = bind(transform, type);
+    int[] results = new int[NUM_VALUES];
+    BatchTransforms.bind(transform, type).applyLongs(values, results, NUM_VALUES);
+
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      assertThat(results[i])
+          .as("%s(%s) for %s", transform, values[i], type)
+          .isEqualTo(func.apply(values[i]));
+    }
+  }
+
+  private static void assertLongResults(Transform<?, ?> transform, Type type, long[] values) {
+    Function<Object, Object> func = bind(transform, type);
+    long[] results = new long[NUM_VALUES];
+    BatchTransforms.bind(transform, type).applyLongs(values, results, NUM_VALUES);
+
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      assertThat(results[i]).as("%s(%s)", transform, values[i]).isEqualTo(func.apply(values[i]));
+    }
+  }
+
+  private static <T> void assertBucketResults(Type type, T[] values, Function<T, byte[]> toBytes) {
+    Transform<?, ?> transform = Transforms.bucket(16);
+    Function<Object, Object> func = bind(transform, type);
+
+    // concatenate the values after a prefix to check that offsets are used
+    int[] offsets = new int[NUM_VALUES + 1];
+    offsets[0] = 3;
+    byte[][] bytes = new byte[NUM_VALUES][];
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      bytes[i] = toBytes.apply(values[i]);
+      offsets[i + 1] = offsets[i] + bytes[i].length;
+    }
+
+    byte[] data = new byte[offsets[NUM_VALUES]];
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      System.arraycopy(bytes[i], 0, data, offsets[i], bytes[i].length);
+    }
+
+    int[] results = new int[NUM_VALUES];
+    BatchTransforms.bind(transform, type).applyBytes(data, offsets, results, NUM_VALUES);
+
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      assertThat(results[i])
+          .as("%s(%s) for %s", transform, values[i], type)
+          .isEqualTo(func.apply(values[i]));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> bind(Transform<?, ?> transform, Type type) {
+    return ((Transform<Object, Object>) transform).bind(type);
+  }
+
+  private static int[] randomInts() {
+    int[] values = new int[NUM_VALUES];
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      values[i] = RANDOM.nextInt();
+    }
+
+    return values;
+  }
+
+  private static long[] randomLongs() {
+    long[] values = new long[NUM_VALUES];
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      values[i] = RANDOM.nextLong();
+    }
+
+    return values;
+  }
+}
@@ -363,6 +363,15 @@ public class TestBucketing {
     assertThat(buffer.limit()).as("Buffer limit should not change").isEqualTo(105);
   }
 
+  @Test
+  public void testByteArraySlice() {
+    byte[] bytes = randomBytes(128);
+
+    assertThat(BucketUtil.hash(bytes, 5, 100))
+        .as("Byte array slice hash should match hash for correct slice")
+        .isEqualTo(hashBytes(bytes, 5, 100));
+  }
+
   @Test
   public void testByteBufferOnHeapArrayOffset() {
     byte[] bytes = randomBytes(128);
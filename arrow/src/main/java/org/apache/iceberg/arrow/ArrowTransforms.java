@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.transforms.BatchTransform;
+
+/**
+ * Applies {@link BatchTransform batch transforms} to Arrow vectors.
+ *
+ * <p>Values are read from the vector's buffers into primitive arrays without boxing. Results at the
+ * positions of null values are undefined; callers must check {@link FieldVector#isNull(int)}.
+ */
+public class ArrowTransforms {
+
+  private ArrowTransforms() {}
+
+  /**
+   * Transforms the values of a vector to int results, for bucket and time transforms and for
+   * identity and truncate transforms of int values.
+   *
+   * @param transform a batch transform that is bound to the vector's type
+   * @param vector an int, date, long, time, timestamp, string, binary, or fixed vector
+   * @param results an array with at least as many elements as the vector's value count
+   */
+  public static void applyToInts(BatchTransform transform, FieldVector vector, int[] results) {
+    int length = vector.getValueCount();
+    checkResults(results.length, length);
+
+    if (vector instanceof IntVector || vector instanceof DateDayVector) {
+      transform.applyInts(ints(vector.getDataBuffer(), length), results, length);
+
+    } else if (isLongVector(vector)) {
+      transform.applyLongs(longs(vector.getDataBuffer(), length), results, length);
+
+    } else if (vector instanceof BaseVariableWidthVector) {
+      ArrowBuf offsetBuffer = vector.getOffsetBuffer();
+      int[] offsets = new int[length + 1];
+      int start = offsetBuffer.getInt(0);
+      for (int i = 0; i <= length; i += 1) {
+        offsets[i] =
+            offsetBuffer.getInt((long) i * BaseVariableWidthVector.OFFSET_WIDTH) - start;
+      }
+
+      byte[] data = new byte[offsets[length]];
+      vector.getDataBuffer().getBytes(start, data);
+      transform.applyBytes(data, offsets, results, length);
+
+    } else if (vector instanceof FixedSizeBinaryVector) {
+      int width = ((FixedSizeBinaryVector) vector).getByteWidth();
+      int[] offsets = new int[length + 1];
+      for (int i = 0; i <= length; i += 1) {
+        offsets[i] = i * width;
+      }
+
+      byte[] data = new byte[length * width];
+      vector.getDataBuffer().getBytes(0, data);
+      transform.applyBytes(data, offsets, results, length);
+
+    } else {
+      throw new UnsupportedOperationException(
+          "Cannot transform vector: " + vector.getClass().getName());
+    }
+  }
+
+  /**
+   * Transforms the values of a vector to long results, for identity and truncate transforms of
+   * long values.
+   *
+   * @param transform a batch transform that is bound to the vector's type
+   * @param vector a long, time, or timestamp vector
+   * @param results an array with at least as many elements as the vector's value count
+   */
+  public static void applyToLongs(BatchTransform transform, FieldVector vector, long[] results) {
+    int length = vector.getValueCount();
+    checkResults(results.length, length);
+    Preconditions.checkArgument(
+        isLongVector(vector),
+        "Cannot transform vector to long results: %s",
+        vector.getClass().getName());
+    transform.applyLongs(longs(vector.getDataBuffer(), length), results, length);
+  }
+
+  private static boolean isLongVector(FieldVector vector) {
+    return vector instanceof BigIntVector
+        || vector instanceof TimeStampVector
+        || vector instanceof TimeMicroVector;
+  }
+
+  private static void checkResults(int resultsLength, int length) {
+    Preconditions.checkArgument(
+        resultsLength >= length,
+        "Invalid results array: length %s is less than value count %s",
+        resultsLength,
+        length);
+  }
+
+  private static int[] ints(ArrowBuf buffer, int length) {
+    int[] values = new int[length];
+    for (int i = 0; i < length; i += 1) {
+      values[i] = buffer.getInt((long) i * Integer.BYTES);
+    }
+
+    return values;
+  }
+
+  private static long[] longs(ArrowBuf buffer, int length) {
+    long[] values = new long[length];
+    for (int i = 0; i < length; i += 1) {
+      values[i] = buffer.getLong((long) i * Long.BYTES);
+    }
+
+    return values;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.deletes.DeleteCounter;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+
+/**
+ * A {@link DeleteFilter} for rows of a batch that is read into Arrow vectors.
+ *
+ * <p>Row positions are taken from the batch offset in the file, so the row position column is not
+ * added to the required schema.
+ */
+class ArrowDeleteFilter extends DeleteFilter<StructLike> {
+  private final FileIO io;
+
+  ArrowDeleteFilter(FileIO io, FileScanTask task, Schema tableSchema, Schema expectedSchema) {
+    super(
+        task.file().location(),
+        task.deletes(),
+        tableSchema,
+        expectedSchema,
+        new DeleteCounter(),
+        false /* row positions are known from the batch */);
+    this.io = io;
+  }
+
+  @Override
+  protected StructLike asStructLike(StructLike row) {
+    return row;
+  }
+
+  @Override
+  protected InputFile getInputFile(String location) {
+    return io.newInputFile(location);
+  }
+}
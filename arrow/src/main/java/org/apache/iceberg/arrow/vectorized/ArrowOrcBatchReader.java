@@ -0,0 +1,492 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.BitVectorHelper;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMicroVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.arrow.ArrowAllocation;
+import org.apache.iceberg.arrow.ArrowSchemaUtil;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.orc.OrcBatchReader;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.ColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DecimalColumnVector;
+import org.apache.orc.storage.ql.exec.vector.DoubleColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+
+/**
+ * Reads ORC row batches into {@link ColumnarBatch} objects.
+ *
+ * <p>The values of each column are copied from the ORC column vector into an Arrow vector in a
+ * single pass, writing directly to the Arrow buffers. Rows that are deleted by position or equality
+ * delete files are skipped while copying, so the returned batches only contain live rows.
+ *
+ * <p>This reader owns the Arrow vectors. If containers are not reused, the vectors of the previous
+ * batch are closed before the next batch is read.
+ */
+class ArrowOrcBatchReader implements OrcBatchReader<ColumnarBatch>, Closeable {
+  private static final int ROW_POSITION = -1;
+
+  private final Types.NestedField[] fields;
+  private final Types.NestedField[] readFields;
+  private final int[] orcPositions;
+  private final PositionDeleteIndex deletedPositions;
+  private final Predicate<StructLike> isLive;
+  private final BatchRow row;
+  private final boolean reuseContainers;
+  private final BufferAllocator allocator;
+  private FieldVector[] vectors = null;
+  private int[] rowIds = new int[0];
+  private long batchOffsetInFile = 0L;
+
+  /**
+   * Create a new instance.
+   *
+   * @param expectedSchema the schema of the returned batches
+   * @param deleteFilter a delete filter for the file, or null if there are no deletes
+   * @param reuseContainers whether to reuse the Arrow vectors for the next batch
+   */
+  ArrowOrcBatchReader(
+      Schema expectedSchema, ArrowDeleteFilter deleteFilter, boolean reuseContainers) {
+    Schema readSchema = readSchema(expectedSchema, deleteFilter);
+    List<Types.NestedField> columns = readSchema.columns();
+    this.fields = expectedSchema.columns().toArray(new Types.NestedField[0]);
+    this.readFields = columns.toArray(new Types.NestedField[0]);
+    this.orcPositions = new int[readFields.length];
+
+    int orcPosition = 0;
+    for (int pos = 0; pos < readFields.length; pos += 1) {
+      Types.NestedField field = readFields[pos];
+      if (field.fieldId() == MetadataColumns.ROW_POSITION.fieldId()) {
+        orcPositions[pos] = ROW_POSITION;
+      } else if (MetadataColumns.isMetadataColumn(field.fieldId())) {
+        throw new UnsupportedOperationException("Cannot read metadata column: " + field.name());
+      } else if (!field.type().isPrimitiveType()) {
+        throw new UnsupportedOperationException("Cannot read non-primitive column: " + field);
+      } else {
+        orcPositions[pos] = orcPosition;
+        orcPosition += 1;
+      }
+    }
+
+    this.deletedPositions =
+        deleteFilter != null && deleteFilter.hasPosDeletes()
+            ? deleteFilter.deletedRowPositions()
+            : null;
+    this.isLive =
+        deleteFilter != null && deleteFilter.hasEqDeletes()
+            ? deleteFilter.eqDeletedRowFilter()
+            : null;
+    this.row = new BatchRow();
+    this.reuseContainers = reuseContainers;
+    this.allocator = ArrowAllocation.rootAllocator();
+  }
+
+  /** Returns the schema to read from the file, including the columns needed to apply deletes. */
+  static Schema readSchema(Schema expectedSchema, ArrowDeleteFilter deleteFilter) {
+    return deleteFilter != null ? deleteFilter.requiredSchema() : expectedSchema;
+  }
+
+  /** Returns the projection to read from ORC, which does not include metadata columns. */
+  static Schema orcProjection(Schema readSchema) {
+    return TypeUtil.selectNot(readSchema, MetadataColumns.metadataFieldIds());
+  }
+
+  @Override
+  public void setBatchContext(long newBatchOffsetInFile) {
+    this.batchOffsetInFile = newBatchOffsetInFile;
+  }
+
+  @Override
+  public ColumnarBatch read(VectorizedRowBatch batch) {
+    int numRows = liveRows(batch);
+
+    if (vectors == null || !reuseContainers) {
+      closeVectors();
+      this.vectors = new FieldVector[fields.length];
+      for (int pos = 0; pos < fields.length; pos += 1) {
+        vectors[pos] = ArrowSchemaUtil.convert(fields[pos]).createVector(allocator);
+      }
+    }
+
+    org.apache.iceberg.arrow.vectorized.ColumnVector[] columns =
+        new org.apache.iceberg.arrow.vectorized.ColumnVector[fields.length];
+    for (int pos = 0; pos < fields.length; pos += 1) {
+      FieldVector vector = vectors[pos];
+      if (vector.getValueCapacity() < numRows) {
+        vector.setInitialCapacity(numRows);
+        vector.allocateNew();
+      } else {
+        vector.reset();
+      }
+
+      NullabilityHolder nulls = new NullabilityHolder(numRows);
+      if (orcPositions[pos] == ROW_POSITION) {
+        copyPositions((BigIntVector) vector, numRows, nulls);
+      } else {
+        copyColumn(fields[pos].type(), batch.cols[orcPositions[pos]], vector, numRows, nulls);
+      }
+
+      vector.setValueCount(numRows);
+      columns[pos] =
+          new org.apache.iceberg.arrow.vectorized.ColumnVector(
+              VectorHolder.vectorHolder(vector, fields[pos], nulls));
+    }
+
+    return new ColumnarBatch(numRows, columns);
+  }
+
+  @Override
+  public void close() {
+    closeVectors();
+  }
+
+  private void closeVectors() {
+    if (vectors != null) {
+      for (FieldVector vector : vectors) {
+        vector.close();
+      }
+
+      this.vectors = null;
+    }
+  }
+
+  /** Fills {@link #rowIds} with the rows of the batch that are not deleted. */
+  private int liveRows(VectorizedRowBatch batch) {
+    if (rowIds.length < batch.size) {
+      this.rowIds = new int[batch.size];
+    }
+
+    row.setBatch(batch);
+
+    int numRows = 0;
+    for (int index = 0; index < batch.size; index += 1) {
+      int rowId = batch.selectedInUse ? batch.selected[index] : index;
+      if (deletedPositions != null && deletedPositions.isDeleted(batchOffsetInFile + rowId)) {
+        continue;
+      }
+
+      if (isLive != null && !isLive.test(row.setRowId(rowId))) {
+        continue;
+      }
+
+      rowIds[numRows] = rowId;
+      numRows += 1;
+    }
+
+    return numRows;
+  }
+
+  private void copyPositions(BigIntVector vector, int numRows, NullabilityHolder nulls) {
+    for (int index = 0; index < numRows; index += 1) {
+      vector.set(index, batchOffsetInFile + rowIds[index]);
+    }
+
+    nulls.setNotNulls(0, numRows);
+  }
+
+  @SuppressWarnings("checkstyle:CyclomaticComplexity")
+  private void copyColumn(
+      Type type, ColumnVector source, FieldVector vector, int numRows, NullabilityHolder nulls) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+        long[] booleans = ((LongColumnVector) source).vector;
+        BitVector bits = (BitVector) vector;
+        copy(source, numRows, nulls, (index, rowId) -> bits.set(index, (int) booleans[rowId]));
+        break;
+      case INTEGER:
+        long[] ints = ((LongColumnVector) source).vector;
+        IntVector intVector = (IntVector) vector;
+        copy(source, numRows, nulls, (index, rowId) -> intVector.set(index, (int) ints[rowId]));
+        break;
+      case LONG:
+        long[] longs = ((LongColumnVector) source).vector;
+        BigIntVector longVector = (BigIntVector) vector;
+        copy(source, numRows, nulls, (index, rowId) -> longVector.set(index, longs[rowId]));
+        break;
+      case DATE:
+        long[] days = ((LongColumnVector) source).vector;
+        DateDayVector dateVector = (DateDayVector) vector;
+        copy(source, numRows, nulls, (index, rowId) -> dateVector.set(index, (int) days[rowId]));
+        break;
+      case TIME:
+        long[] micros = ((LongColumnVector) source).vector;
+        TimeMicroVector timeVector = (TimeMicroVector) vector;
+        copy(source, numRows, nulls, (index, rowId) -> timeVector.set(index, micros[rowId]));
+        break;
+      case FLOAT:
+        double[] floats = ((DoubleColumnVector) source).vector;
+        Float4Vector floatVector = (Float4Vector) vector;
+        copy(
+            source,
+            numRows,
+            nulls,
+            (index, rowId) -> floatVector.set(index, (float) floats[rowId]));
+        break;
+      case DOUBLE:
+        double[] doubles = ((DoubleColumnVector) source).vector;
+        Float8Vector doubleVector = (Float8Vector) vector;
+        copy(source, numRows, nulls, (index, rowId) -> doubleVector.set(index, doubles[rowId]));
+        break;
+      case TIMESTAMP:
+        TimestampColumnVector timestamps = (TimestampColumnVector) source;
+        TimeStampVector timestampVector = (TimeStampVector) vector;
+        copy(
+            source,
+            numRows,
+            nulls,
+            (index, rowId) -> timestampVector.set(index, timestampMicros(timestamps, rowId)));
+        break;
+      case TIMESTAMP_NANO:
+        TimestampColumnVector timestampNanos = (TimestampColumnVector) source;
+        TimeStampVector timestampNanoVector = (TimeStampVector) vector;
+        copy(
+            source,
+            numRows,
+            nulls,
+            (index, rowId) ->
+                timestampNanoVector.set(index, timestampNanos(timestampNanos, rowId)));
+        break;
+      case STRING:
+        BytesColumnVector strings = (BytesColumnVector) source;
+        VarCharVector stringVector = (VarCharVector) vector;
+        copy(
+            source,
+            numRows,
+            nulls,
+            (index, rowId) ->
+                stringVector.setSafe(
+                    index, strings.vector[rowId], strings.start[rowId], strings.length[rowId]));
+        break;
+      case BINARY:
+        BytesColumnVector binaries = (BytesColumnVector) source;
+        VarBinaryVector binaryVector = (VarBinaryVector) vector;
+        copy(
+            source,
+            numRows,
+            nulls,
+            (index, rowId) ->
+                binaryVector.setSafe(
+                    index, binaries.vector[rowId], binaries.start[rowId], binaries.length[rowId]));
+        break;
+      case FIXED:
+      case UUID:
+        BytesColumnVector fixed = (BytesColumnVector) source;
+        FixedSizeBinaryVector fixedVector = (FixedSizeBinaryVector) vector;
+        int width = fixedVector.getByteWidth();
+        copy(
+            source,
+            numRows,
+            nulls,
+            (index, rowId) -> {
+              fixedVector
+                  .getDataBuffer()
+                  .setBytes((long) index * width, fixed.vector[rowId], fixed.start[rowId], width);
+              BitVectorHelper.setBit(fixedVector.getValidityBuffer(), index);
+            });
+        break;
+      case DECIMAL:
+        Types.DecimalType decimal = (Types.DecimalType) type;
+        DecimalColumnVector decimals = (DecimalColumnVector) source;
+        DecimalVector decimalVector = (DecimalVector) vector;
+        int scale = decimal.scale();
+        if (decimal.precision() <= 18) {
+          copy(
+              source,
+              numRows,
+              nulls,
+              (index, rowId) ->
+                  decimalVector.set(index, decimals.vector[rowId].serialize64(scale)));
+        } else {
+          copy(
+              source,
+              numRows,
+              nulls,
+              (index, rowId) ->
+                  decimalVector.set(
+                      index,
+                      decimals.vector[rowId].getHiveDecimal().bigDecimalValue().setScale(scale)));
+        }
+
+        break;
+      default:
+        throw new UnsupportedOperationException("Cannot read unsupported type: " + type);
+    }
+  }
+
+  private void copy(ColumnVector source, int numRows, NullabilityHolder nulls, ValueCopier copier) {
+    if (source.isRepeating) {
+      if (!source.noNulls && source.isNull[0]) {
+        nulls.setNulls(0, numRows);
+      } else {
+        for (int index = 0; index < numRows; index += 1) {
+          copier.copy(index, 0);
+        }
+
+        nulls.setNotNulls(0, numRows);
+      }
+
+    } else if (source.noNulls) {
+      for (int index = 0; index < numRows; index += 1) {
+        copier.copy(index, rowIds[index]);
+      }
+
+      nulls.setNotNulls(0, numRows);
+
+    } else {
+      for (int index = 0; index < numRows; index += 1) {
+        int rowId = rowIds[index];
+        if (source.isNull[rowId]) {
+          nulls.setNull(index);
+        } else {
+          copier.copy(index, rowId);
+          nulls.setNotNull(index);
+        }
+      }
+    }
+  }
+
+  private static long timestampMicros(TimestampColumnVector vector, int rowId) {
+    return Math.floorDiv(vector.time[rowId], 1_000) * 1_000_000
+        + Math.floorDiv(vector.nanos[rowId], 1000);
+  }
+
+  private static long timestampNanos(TimestampColumnVector vector, int rowId) {
+    return Math.floorDiv(vector.time[rowId], 1_000) * 1_000_000_000 + vector.nanos[rowId];
+  }
+
+  private interface ValueCopier {
+    void copy(int index, int rowId);
+  }
+
+  /** A row of the current batch with the values of the read schema, used for equality deletes. */
+  private class BatchRow implements StructLike {
+    private VectorizedRowBatch batch = null;
+    private int rowId = 0;
+
+    private void setBatch(VectorizedRowBatch newBatch) {
+      this.batch = newBatch;
+    }
+
+    private BatchRow setRowId(int newRowId) {
+      this.rowId = newRowId;
+      return this;
+    }
+
+    @Override
+    public int size() {
+      return readFields.length;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(get(pos));
+    }
+
+    private Object get(int pos) {
+      if (orcPositions[pos] == ROW_POSITION) {
+        return batchOffsetInFile + rowId;
+      }
+
+      ColumnVector source = batch.cols[orcPositions[pos]];
+      int index = source.isRepeating ? 0 : rowId;
+      if (!source.noNulls && source.isNull[index]) {
+        return null;
+      }
+
+      Type type = readFields[pos].type();
+      switch (type.typeId()) {
+        case BOOLEAN:
+          return ((LongColumnVector) source).vector[index] != 0;
+        case INTEGER:
+        case DATE:
+          return (int) ((LongColumnVector) source).vector[index];
+        case LONG:
+        case TIME:
+          return ((LongColumnVector) source).vector[index];
+        case FLOAT:
+          return (float) ((DoubleColumnVector) source).vector[index];
+        case DOUBLE:
+          return ((DoubleColumnVector) source).vector[index];
+        case TIMESTAMP:
+          return timestampMicros((TimestampColumnVector) source, index);
+        case TIMESTAMP_NANO:
+          return timestampNanos((TimestampColumnVector) source, index);
+        case STRING:
+          BytesColumnVector strings = (BytesColumnVector) source;
+          return new String(
+              strings.vector[index],
+              strings.start[index],
+              strings.length[index],
+              StandardCharsets.UTF_8);
+        case BINARY:
+        case FIXED:
+          BytesColumnVector binaries = (BytesColumnVector) source;
+          int start = binaries.start[index];
+          return ByteBuffer.wrap(
+              Arrays.copyOfRange(binaries.vector[index], start, start + binaries.length[index]));
+        case UUID:
+          BytesColumnVector uuids = (BytesColumnVector) source;
+          return UUIDUtil.convert(uuids.vector[index], uuids.start[index]);
+        case DECIMAL:
+          int scale = ((Types.DecimalType) type).scale();
+          return ((DecimalColumnVector) source)
+              .vector[index]
+              .getHiveDecimal()
+              .bigDecimalValue()
+              .setScale(scale);
+        default:
+          throw new UnsupportedOperationException("Cannot read unsupported type: " + type);
+      }
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      throw new UnsupportedOperationException("Cannot modify a batch row");
+    }
+  }
+}
@@ -36,6 +36,7 @@ import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.encryption.EncryptedFiles;
 import org.apache.iceberg.encryption.EncryptedInputFile;
@@ -46,6 +47,7 @@ import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.parquet.TypeWithSchemaVisitor;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -56,6 +58,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Type.TypeID;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ExceptionUtil;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.TableScanUtil;
 import org.apache.parquet.schema.MessageType;
 import org.slf4j.Logger;
@@ -65,6 +68,9 @@ import org.slf4j.LoggerFactory;
  * Vectorized reader that returns an iterator of {@link ColumnarBatch}. See {@link
  * #open(CloseableIterable)} ()} to learn about the behavior of the iterator.
  *
+ * <p>Parquet and ORC data files are supported. ORC batches are read with the residual filter pushed
+ * down as an ORC search argument, and position and equality deletes are applied to them.
+ *
  * <p>The following Iceberg data types are supported and have been tested:
  *
  * <ul>
@@ -95,7 +101,8 @@ import org.slf4j.LoggerFactory;
  *   <li>Data types: {@link Types.ListType}, {@link Types.MapType} and {@link Types.StructType} See
  *       https://github.com/apache/iceberg/issues/2485 and
  *       https://github.com/apache/iceberg/issues/2486.
- *   <li>Delete files are not supported. See https://github.com/apache/iceberg/issues/2487.
+ *   <li>Delete files are not supported for Parquet data files. See
+ *       https://github.com/apache/iceberg/issues/2487.
  * </ul>
  */
 public class ArrowReader extends CloseableGroup {
@@ -119,10 +126,13 @@ public class ArrowReader extends CloseableGroup {
           TypeID.TIMESTAMP_NANO);
 
   private final Schema schema;
+  private final Schema tableSchema;
   private final FileIO io;
   private final EncryptionManager encryption;
   private final int batchSize;
   private final boolean reuseContainers;
+  private final boolean pageSkipping;
+  private final boolean lateMaterialization;
 
   /**
    * Create a new instance of the reader.
@@ -139,11 +149,22 @@ public class ArrowReader extends CloseableGroup {
    */
   public ArrowReader(TableScan scan, int batchSize, boolean reuseContainers) {
     this.schema = scan.schema();
+    this.tableSchema = scan.table().schema();
     this.io = scan.table().io();
     this.encryption = scan.table().encryption();
     this.batchSize = batchSize;
     // start planning tasks in the background
     this.reuseContainers = reuseContainers;
+    this.pageSkipping =
+        PropertyUtil.propertyAsBoolean(
+            scan.table().properties(),
+            TableProperties.PARQUET_PAGE_SKIPPING_ENABLED,
+            TableProperties.PARQUET_PAGE_SKIPPING_ENABLED_DEFAULT);
+    this.lateMaterialization =
+        PropertyUtil.propertyAsBoolean(
+            scan.table().properties(),
+            TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED,
+            TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED_DEFAULT);
   }
 
   /**
@@ -166,7 +187,7 @@ public class ArrowReader extends CloseableGroup {
    *
    * <ol>
    *   <li>At least one column is queried,
-   *   <li>There are no delete files, and
+   *   <li>There are no delete files for Parquet data files, and
    *   <li>Supported data types are queried (see {@link #SUPPORTED_TYPES}).
    * </ol>
    *
@@ -175,7 +196,17 @@ public class ArrowReader extends CloseableGroup {
   public CloseableIterator<ColumnarBatch> open(CloseableIterable<CombinedScanTask> tasks) {
     CloseableIterator<ColumnarBatch> itr =
         new VectorizedCombinedScanIterator(
-            tasks, schema, null, io, encryption, true, batchSize, reuseContainers);
+            tasks,
+            schema,
+            tableSchema,
+            null,
+            io,
+            encryption,
+            true,
+            batchSize,
+            reuseContainers,
+            pageSkipping,
+            lateMaterialization);
     addCloseable(itr);
     return itr;
   }
@@ -186,8 +217,8 @@ public class ArrowReader extends CloseableGroup {
   }
 
   /**
-   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Only Parquet data file
-   * format is supported.
+   * Reads the data file and returns an iterator of {@link VectorSchemaRoot}. Only Parquet and ORC
+   * data file formats are supported.
    */
   private static final class VectorizedCombinedScanIterator
       implements CloseableIterator<ColumnarBatch> {
@@ -195,10 +226,14 @@ public class ArrowReader extends CloseableGroup {
     private final Iterator<FileScanTask> fileItr;
     private final Map<String, InputFile> inputFiles;
     private final Schema expectedSchema;
+    private final Schema tableSchema;
+    private final FileIO io;
     private final String nameMapping;
     private final boolean caseSensitive;
     private final int batchSize;
     private final boolean reuseContainers;
+    private final boolean pageSkipping;
+    private final boolean lateMaterialization;
     private CloseableIterator<ColumnarBatch> currentIterator;
     private FileScanTask currentTask;
 
@@ -207,6 +242,7 @@ public class ArrowReader extends CloseableGroup {
      *
      * @param tasks Combined file scan tasks.
      * @param expectedSchema Read schema. The returned data will have this schema.
+     * @param tableSchema Table schema, used to find the columns needed to apply deletes.
      * @param nameMapping Mapping from external schema names to Iceberg type IDs.
      * @param io File I/O.
      * @param encryptionManager Encryption manager.
@@ -221,16 +257,23 @@ public class ArrowReader extends CloseableGroup {
      *     the value of {@code reuseContainers}, the Arrow vectors in the previous {@link
      *     Iterator#next()} call are closed before creating new instances if the current {@link
      *     Iterator#next()}.
+     * @param pageSkipping If {@code true}, Parquet pages which cannot match the residual filter
+     *     are skipped.
+     * @param lateMaterialization If {@code true}, the Parquet columns referenced by the residual
+     *     filter are read first and the pages of other columns without matching rows are skipped.
      */
     VectorizedCombinedScanIterator(
         CloseableIterable<CombinedScanTask> tasks,
         Schema expectedSchema,
+        Schema tableSchema,
         String nameMapping,
         FileIO io,
         EncryptionManager encryptionManager,
         boolean caseSensitive,
         int batchSize,
-        boolean reuseContainers) {
+        boolean reuseContainers,
+        boolean pageSkipping,
+        boolean lateMaterialization) {
       List<FileScanTask> fileTasks =
           StreamSupport.stream(tasks.spliterator(), false)
               .map(CombinedScanTask::files)
@@ -238,7 +281,7 @@ public class ArrowReader extends CloseableGroup {
               .collect(Collectors.toList());
       this.fileItr = fileTasks.iterator();
 
-      if (fileTasks.stream().anyMatch(TableScanUtil::hasDeletes)) {
+      if (fileTasks.stream().anyMatch(VectorizedCombinedScanIterator::hasUnsupportedDeletes)) {
         throw new UnsupportedOperationException(
             "Cannot read files that require applying delete files");
       }
@@ -280,10 +323,14 @@ public class ArrowReader extends CloseableGroup {
       this.inputFiles = ImmutableMap.copyOf(files);
       this.currentIterator = CloseableIterator.empty();
       this.expectedSchema = expectedSchema;
+      this.tableSchema = tableSchema;
+      this.io = io;
       this.nameMapping = nameMapping;
       this.caseSensitive = caseSensitive;
       this.batchSize = batchSize;
       this.reuseContainers = reuseContainers;
+      this.pageSkipping = pageSkipping;
+      this.lateMaterialization = lateMaterialization;
     }
 
     @Override
@@ -336,7 +383,9 @@ public class ArrowReader extends CloseableGroup {
                             NullCheckingForGet.NULL_CHECKING_ENABLED))
                 .recordsPerBatch(batchSize)
                 .filter(task.residual())
-                .caseSensitive(caseSensitive);
+                .caseSensitive(caseSensitive)
+                .pageSkipping(pageSkipping)
+                .lateMaterialization(lateMaterialization);
 
         if (reuseContainers) {
           builder.reuseContainers();
@@ -346,6 +395,8 @@ public class ArrowReader extends CloseableGroup {
         }
 
         iter = builder.build();
+      } else if (task.file().format() == FileFormat.ORC) {
+        return openOrc(task, location);
       } else {
         throw new UnsupportedOperationException(
             "Format: " + task.file().format() + " not supported for batched reads");
@@ -353,6 +404,61 @@ public class ArrowReader extends CloseableGroup {
       return iter.iterator();
     }
 
+    private static boolean hasUnsupportedDeletes(FileScanTask task) {
+      // deletes are only applied to ORC batches
+      return TableScanUtil.hasDeletes(task) && task.file().format() != FileFormat.ORC;
+    }
+
+    private CloseableIterator<ColumnarBatch> openOrc(FileScanTask task, InputFile location) {
+      ArrowDeleteFilter deleteFilter =
+          task.deletes().isEmpty()
+              ? null
+              : new ArrowDeleteFilter(io, task, tableSchema, expectedSchema);
+      ArrowOrcBatchReader reader =
+          new ArrowOrcBatchReader(expectedSchema, deleteFilter, reuseContainers);
+      Schema readSchema = ArrowOrcBatchReader.readSchema(expectedSchema, deleteFilter);
+
+      ORC.ReadBuilder builder =
+          ORC.read(location)
+              .project(ArrowOrcBatchReader.orcProjection(readSchema))
+              .split(task.start(), task.length())
+              .createBatchedReaderFunc(fileSchema -> reader)
+              .recordsPerBatch(batchSize)
+              .filter(task.residual())
+              .caseSensitive(caseSensitive);
+
+      if (nameMapping != null) {
+        builder.withNameMapping(NameMappingParser.fromJson(nameMapping));
+      }
+
+      // batches may be empty when all of their rows are deleted
+      CloseableIterable<ColumnarBatch> orcBatches = builder.build();
+      CloseableIterable<ColumnarBatch> batches =
+          CloseableIterable.filter(orcBatches, batch -> batch.numRows() > 0);
+      CloseableIterator<ColumnarBatch> iter = batches.iterator();
+
+      return new CloseableIterator<ColumnarBatch>() {
+        @Override
+        public boolean hasNext() {
+          return iter.hasNext();
+        }
+
+        @Override
+        public ColumnarBatch next() {
+          return iter.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+          try (CloseableIterable<ColumnarBatch> toClose = batches) {
+            iter.close();
+          } finally {
+            reader.close();
+          }
+        }
+      };
+    }
+
     @Override
     public void close() throws IOException {
       // close the current iterator
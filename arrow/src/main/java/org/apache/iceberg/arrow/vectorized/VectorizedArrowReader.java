@@ -44,6 +44,7 @@ import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.arrow.ArrowAllocation;
 import org.apache.iceberg.arrow.ArrowSchemaUtil;
 import org.apache.iceberg.arrow.vectorized.parquet.VectorizedColumnIterator;
+import org.apache.iceberg.parquet.ParquetRowPositions;
 import org.apache.iceberg.parquet.ParquetUtil;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -636,7 +637,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     private static final Field ROW_POSITION_ARROW_FIELD =
         ArrowSchemaUtil.convert(MetadataColumns.ROW_POSITION);
     private final boolean setArrowValidityVector;
-    private long rowStart;
+    private ParquetRowPositions positions;
     private int batchSize;
     private NullabilityHolder nulls;
 
@@ -655,6 +656,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         vec.setValueCount(0);
       }
 
+      long rowStart = positions.next(numValsToRead);
       ArrowBuf dataBuffer = vec.getDataBuffer();
       for (int i = 0; i < numValsToRead; i += 1) {
         dataBuffer.setLong((long) i * Long.BYTES, rowStart + i);
@@ -667,7 +669,6 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
         }
       }
 
-      rowStart += numValsToRead;
       vec.setValueCount(numValsToRead);
 
       return new VectorHolder.PositionVectorHolder(vec, MetadataColumns.ROW_POSITION, nulls);
@@ -683,13 +684,7 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     @Override
     public void setRowGroupInfo(
         PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
-      this.rowStart =
-          source
-              .getRowIndexOffset()
-              .orElseThrow(
-                  () ->
-                      new IllegalArgumentException(
-                          "PageReadStore does not contain row index offset"));
+      this.positions = ParquetRowPositions.of(source);
     }
 
     @Override
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.iceberg.transforms.BatchTransforms;
+import org.apache.iceberg.transforms.Transform;
+import org.apache.iceberg.transforms.Transforms;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestArrowTransforms {
+  private static final int NUM_VALUES = 100;
+
+  private BufferAllocator allocator;
+
+  @BeforeEach
+  public void before() {
+    this.allocator = new RootAllocator(Long.MAX_VALUE);
+  }
+
+  @AfterEach
+  public void after() {
+    allocator.close();
+  }
+
+  @Test
+  public void testIntVector() {
+    try (IntVector vector = new IntVector("i", allocator)) {
+      vector.allocateNew(NUM_VALUES);
+      for (int i = 0; i < NUM_VALUES; i += 1) {
+        vector.set(i, i * 7919 - 100_000);
+      }
+      vector.setValueCount(NUM_VALUES);
+
+      assertIntResults(Transforms.bucket(16), Types.IntegerType.get(), vector, vector::get);
+      assertIntResults(Transforms.truncate(10), Types.IntegerType.get(), vector, vector::get);
+    }
+  }
+
+  @Test
+  public void testDateVector() {
+    try (DateDayVector vector = new DateDayVector("d", allocator)) {
+      vector.allocateNew(NUM_VALUES);
+      for (int i = 0; i < NUM_VALUES; i += 1) {
+        vector.set(i, i * 97 - 3_000);
+      }
+      vector.setValueCount(NUM_VALUES);
+
+      assertIntResults(Transforms.month(), Types.DateType.get(), vector, vector::get);
+      assertIntResults(Transforms.bucket(16), Types.DateType.get(), vector, vector::get);
+    }
+  }
+
+  @Test
+  public void testLongVector() {
+    try (BigIntVector vector = new BigIntVector("l", allocator)) {
+      vector.allocateNew(NUM_VALUES);
+      for (int i = 0; i < NUM_VALUES; i += 1) {
+        vector.set(i, i * 1_000_000_007L - 50_000_000_000L);
+      }
+      vector.setValueCount(NUM_VALUES);
+
+      assertIntResults(Transforms.bucket(16), Types.LongType.get(), vector, vector::get);
+
+      Transform<Object, Object> truncate = transform(Transforms.truncate(10));
+      Function<Object, Object> expected = truncate.bind(Types.LongType.get());
+      long[] results = new long[NUM_VALUES];
+      ArrowTransforms.applyToLongs(
+          BatchTransforms.bind(truncate, Types.LongType.get()), vector, results);
+      for (int i = 0; i < NUM_VALUES; i += 1) {
+        assertThat(results[i]).isEqualTo(expected.apply(vector.get(i)));
+      }
+    }
+  }
+
+  @Test
+  public void testTimestampVector() {
+    try (TimeStampMicroVector vector = new TimeStampMicroVector("ts", allocator)) {
+      vector.allocateNew(NUM_VALUES);
+      for (int i = 0; i < NUM_VALUES; i += 1) {
+        vector.set(i, i * 86_399_999_999L - 2_000_000_000_000_000L);
+      }
+      vector.setValueCount(NUM_VALUES);
+
+      Type type = Types.TimestampType.withoutZone();
+      assertIntResults(Transforms.day(), type, vector, vector::get);
+      assertIntResults(Transforms.hour(), type, vector, vector::get);
+    }
+  }
+
+  @Test
+  public void testStringVector() {
+    try (VarCharVector vector = new VarCharVector("s", allocator)) {
+      vector.allocateNew(NUM_VALUES);
+      for (int i = 0; i < NUM_VALUES; i += 1) {
+        if (i % 10 == 3) {
+          vector.setNull(i);
+        } else {
+          vector.set(i, ("value-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      vector.setValueCount(NUM_VALUES);
+
+      assertIntResults(
+          Transforms.bucket(16),
+          Types.StringType.get(),
+          vector,
+          pos -> new String(vector.get(pos), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testUUIDVector() {
+    try (FixedSizeBinaryVector vector = new FixedSizeBinaryVector("u", allocator, 16)) {
+      vector.allocateNew(NUM_VALUES);
+      for (int i = 0; i < NUM_VALUES; i += 1) {
+        vector.set(i, UUIDUtil.convert(UUID.randomUUID()));
+      }
+      vector.setValueCount(NUM_VALUES);
+
+      assertIntResults(
+          Transforms.bucket(16),
+          Types.UUIDType.get(),
+          vector,
+          pos -> UUIDUtil.convert(vector.get(pos)));
+    }
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    try (BitVector vector = new BitVector("b", allocator);
+        IntVector ints = new IntVector("i", allocator)) {
+      vector.allocateNew(1);
+      vector.setValueCount(1);
+      ints.allocateNew(2);
+      ints.setValueCount(2);
+
+      assertThatThrownBy(
+              () ->
+                  ArrowTransforms.applyToInts(
+                      BatchTransforms.bind(Transforms.bucket(16), Types.IntegerType.get()),
+                      vector,
+                      new int[1]))
+          .isInstanceOf(UnsupportedOperationException.class)
+          .hasMessageStartingWith("Cannot transform vector");
+
+      assertThatThrownBy(
+              () ->
+                  ArrowTransforms.applyToInts(
+                      BatchTransforms.bind(Transforms.bucket(16), Types.IntegerType.get()),
+                      ints,
+                      new int[1]))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Invalid results array: length 1 is less than value count 2");
+
+      assertThatThrownBy(
+              () ->
+                  ArrowTransforms.applyToLongs(
+                      BatchTransforms.bind(Transforms.identity(), Types.IntegerType.get()),
+                      ints,
+                      new long[2]))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageStartingWith("Cannot transform vector to long results");
+    }
+  }
+
+  private static void assertIntResults(
+      Transform<?, ?> transform, Type type, FieldVector vector, Function<Integer, Object> valueAt) {
+    Function<Object, Object> expected = transform(transform).bind(type);
+    int[] results = new int[vector.getValueCount()];
+    ArrowTransforms.applyToInts(BatchTransforms.bind(transform, type), vector, results);
+
+    for (int i = 0; i < vector.getValueCount(); i += 1) {
+      if (!vector.isNull(i)) {
+        assertThat(results[i])
+            .as("%s of %s at %s", transform, type, i)
+            .isEqualTo(expected.apply(valueAt.apply(i)));
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Transform<Object, Object> transform(Transform<?, ?> transform) {
+    return (Transform<Object, Object>) transform;
+  }
+}
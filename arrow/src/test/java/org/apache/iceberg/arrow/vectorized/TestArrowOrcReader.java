@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow.vectorized;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.data.FileHelpers;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.UUIDUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestArrowOrcReader {
+  private static final int NUM_ROWS = 100;
+  private static final OffsetDateTime START =
+      OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "data", Types.StringType.get()),
+          optional(3, "price", Types.DecimalType.of(9, 2)),
+          optional(4, "ts", Types.TimestampType.withZone()),
+          optional(5, "uuid", Types.UUIDType.get()),
+          optional(6, "flag", Types.BooleanType.get()),
+          optional(7, "day", Types.DateType.get()));
+
+  @TempDir private File tempDir;
+
+  private Table table;
+  private DataFile dataFile;
+  private List<Record> records;
+
+  @BeforeEach
+  public void createTable() throws IOException {
+    this.table =
+        new HadoopTables()
+            .create(
+                SCHEMA,
+                PartitionSpec.unpartitioned(),
+                ImmutableMap.of(
+                    TableProperties.DEFAULT_FILE_FORMAT,
+                    "orc",
+                    TableProperties.FORMAT_VERSION,
+                    "2"),
+                tempDir.toURI().toString());
+
+    this.records = Lists.newArrayList();
+    for (long id = 0; id < NUM_ROWS; id += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", id);
+      if (id % 10 != 3) {
+        record.setField("data", "row-" + id);
+        record.setField("price", BigDecimal.valueOf(id * 101, 2));
+        record.setField("ts", START.plus(id, ChronoUnit.MILLIS));
+        record.setField("uuid", new UUID(id, id));
+        record.setField("flag", id % 2 == 0);
+        record.setField("day", LocalDate.ofEpochDay(id));
+      }
+
+      records.add(record);
+    }
+
+    this.dataFile = FileHelpers.writeDataFile(table, Files.localOutput(newFile()), records);
+    table.newAppend().appendFile(dataFile).commit();
+  }
+
+  @Test
+  public void testReadAll() throws IOException {
+    List<Long> ids = Lists.newArrayList();
+    try (VectorizedTableScanIterable batches =
+        new VectorizedTableScanIterable(table.newScan(), 16, false)) {
+      for (ColumnarBatch batch : batches) {
+        assertThat(batch.numCols()).isEqualTo(SCHEMA.columns().size());
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          long id = batch.column(0).getLong(row);
+          assertRow(records.get((int) id), batch, row);
+          ids.add(id);
+        }
+      }
+    }
+
+    assertThat(ids).hasSize(NUM_ROWS).isSorted();
+  }
+
+  @Test
+  public void testReuseContainers() throws IOException {
+    long count = 0;
+    try (VectorizedTableScanIterable batches =
+        new VectorizedTableScanIterable(table.newScan(), 16, true)) {
+      for (ColumnarBatch batch : batches) {
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          assertRow(records.get((int) batch.column(0).getLong(row)), batch, row);
+          count += 1;
+        }
+      }
+    }
+
+    assertThat(count).isEqualTo(NUM_ROWS);
+  }
+
+  @Test
+  public void testPositionDeletes() throws IOException {
+    List<Pair<CharSequence, Long>> deletes =
+        Lists.newArrayList(
+            Pair.of(dataFile.location(), 0L),
+            Pair.of(dataFile.location(), 5L),
+            Pair.of(dataFile.location(), 16L),
+            Pair.of(dataFile.location(), 99L));
+    DeleteFile posDeletes =
+        FileHelpers.writeDeleteFile(table, Files.localOutput(newFile()), deletes).first();
+    table.newRowDelta().addDeletes(posDeletes).commit();
+
+    assertThat(readIds(table.newScan().select("id")))
+        .hasSize(NUM_ROWS - deletes.size())
+        .doesNotContain(0L, 5L, 16L, 99L);
+  }
+
+  @Test
+  public void testEqualityDeletes() throws IOException {
+    Schema deleteSchema = SCHEMA.select("data");
+    Record delete = GenericRecord.create(deleteSchema);
+    List<Record> deletes =
+        Lists.newArrayList(
+            delete.copy("data", "row-1"),
+            delete.copy("data", "row-17"),
+            delete.copy("data", "row-50"));
+    DeleteFile eqDeletes =
+        FileHelpers.writeDeleteFile(table, Files.localOutput(newFile()), deletes, deleteSchema);
+    table.newRowDelta().addDeletes(eqDeletes).commit();
+
+    // the equality delete column is read to apply deletes, but is not returned
+    TableScan scan = table.newScan().select("id");
+    try (VectorizedTableScanIterable batches = new VectorizedTableScanIterable(scan, 16, false)) {
+      for (ColumnarBatch batch : batches) {
+        assertThat(batch.numCols()).isEqualTo(1);
+      }
+    }
+
+    assertThat(readIds(scan)).hasSize(NUM_ROWS - deletes.size()).doesNotContain(1L, 17L, 50L);
+  }
+
+  private void assertRow(Record expected, ColumnarBatch batch, int row) {
+    assertThat(batch.column(0).getLong(row)).isEqualTo(expected.getField("id"));
+    assertThat(batch.column(1).getString(row)).isEqualTo(expected.getField("data"));
+    assertThat(batch.column(2).getDecimal(row, 9, 2)).isEqualTo(expected.getField("price"));
+
+    if (expected.getField("ts") == null) {
+      for (int col = 3; col < batch.numCols(); col += 1) {
+        assertThat(batch.column(col).isNullAt(row)).isTrue();
+      }
+    } else {
+      OffsetDateTime ts = (OffsetDateTime) expected.getField("ts");
+      assertThat(batch.column(3).getLong(row))
+          .isEqualTo(ChronoUnit.MICROS.between(Instant.EPOCH, ts.toInstant()));
+      assertThat(UUIDUtil.convert(batch.column(4).getBinary(row)))
+          .isEqualTo(expected.getField("uuid"));
+      assertThat(batch.column(5).getBoolean(row)).isEqualTo(expected.getField("flag"));
+      assertThat(batch.column(6).getInt(row))
+          .isEqualTo((int) ((LocalDate) expected.getField("day")).toEpochDay());
+    }
+  }
+
+  private static List<Long> readIds(TableScan scan) throws IOException {
+    List<Long> ids = Lists.newArrayList();
+    try (VectorizedTableScanIterable batches = new VectorizedTableScanIterable(scan, 16, false)) {
+      for (ColumnarBatch batch : batches) {
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          ids.add(batch.column(0).getLong(row));
+        }
+      }
+    }
+
+    return ids;
+  }
+
+  private File newFile() throws IOException {
+    File file = File.createTempFile("junit", ".orc", tempDir);
+    assertThat(file.delete()).isTrue();
+    return file;
+  }
+}
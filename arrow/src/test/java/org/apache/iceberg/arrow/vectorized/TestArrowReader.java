@@ -292,6 +292,147 @@ public class TestArrowReader {
         scan, NUM_ROWS_PER_MONTH, 12 * NUM_ROWS_PER_MONTH, 2, ALL_COLUMNS);
   }
 
+  /**
+   * Read a file with pages of 100 rows using a filter that matches rows of a single page. The test
+   * asserts that only the rows of that page are returned when page skipping is enabled, and that
+   * all rows are returned otherwise.
+   */
+  @Test
+  public void testReadWithSkippedPages() throws Exception {
+    tables = new HadoopTables();
+    Schema schema = new Schema(Types.NestedField.required(1, "id", Types.LongType.get()));
+    Table table =
+        tables.create(
+            schema,
+            PartitionSpec.unpartitioned(),
+            ImmutableMap.of(TableProperties.PARQUET_PAGE_SKIPPING_ENABLED, "true"),
+            tableLocation);
+
+    File parquetFile = File.createTempFile("junit", null, tempDir);
+    assertThat(parquetFile.delete()).isTrue();
+    FileAppender<Record> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(schema)
+            .createWriterFunc(GenericParquetWriter::create)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "100")
+            .build();
+    try {
+      Record record = GenericRecord.create(schema);
+      for (long id = 0; id < 1000; id += 1) {
+        appender.add(record.copy("id", id));
+      }
+    } finally {
+      appender.close();
+    }
+
+    table
+        .newAppend()
+        .appendFile(
+            DataFiles.builder(PartitionSpec.unpartitioned())
+                .withInputFile(localInput(parquetFile))
+                .withMetrics(appender.metrics())
+                .withFormat(FileFormat.PARQUET)
+                .build())
+        .commit();
+
+    List<Long> ids = readIds(table);
+    assertThat(ids).hasSize(100).startsWith(500L).endsWith(599L).contains(520L, 539L);
+
+    table.updateProperties().set(TableProperties.PARQUET_PAGE_SKIPPING_ENABLED, "false").commit();
+    assertThat(readIds(table)).hasSize(1000);
+  }
+
+  /**
+   * Read a file with pages of 100 rows using a filter on the id column that matches rows of a
+   * single page. The test asserts that only the rows of the data column pages holding matching rows
+   * are returned when late materialization is enabled, and that all rows are returned otherwise.
+   */
+  @Test
+  public void testReadWithLateMaterialization() throws Exception {
+    tables = new HadoopTables();
+    Schema schema =
+        new Schema(
+            Types.NestedField.required(1, "id", Types.LongType.get()),
+            Types.NestedField.required(2, "data", Types.StringType.get()));
+    Table table =
+        tables.create(
+            schema,
+            PartitionSpec.unpartitioned(),
+            ImmutableMap.of(TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED, "true"),
+            tableLocation);
+
+    File parquetFile = File.createTempFile("junit", null, tempDir);
+    assertThat(parquetFile.delete()).isTrue();
+    FileAppender<Record> appender =
+        Parquet.write(Files.localOutput(parquetFile))
+            .schema(schema)
+            .createWriterFunc(GenericParquetWriter::create)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "100")
+            .build();
+    try {
+      Record record = GenericRecord.create(schema);
+      for (long id = 0; id < 1000; id += 1) {
+        appender.add(record.copy("id", id, "data", "row-" + id));
+      }
+    } finally {
+      appender.close();
+    }
+
+    table
+        .newAppend()
+        .appendFile(
+            DataFiles.builder(PartitionSpec.unpartitioned())
+                .withInputFile(localInput(parquetFile))
+                .withMetrics(appender.metrics())
+                .withFormat(FileFormat.PARQUET)
+                .build())
+        .commit();
+
+    TableScan scan =
+        table
+            .newScan()
+            .filter(
+                Expressions.and(
+                    Expressions.greaterThanOrEqual("id", 520L), Expressions.lessThan("id", 540L)));
+    List<Long> ids = Lists.newArrayList();
+    try (VectorizedTableScanIterable itr = new VectorizedTableScanIterable(scan, 64, false)) {
+      for (ColumnarBatch batch : itr) {
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          long id = batch.column(0).getLong(row);
+          assertThat(batch.column(1).getString(row)).isEqualTo("row-" + id);
+          ids.add(id);
+        }
+      }
+    }
+
+    assertThat(ids).hasSize(100).startsWith(500L).endsWith(599L).contains(520L, 539L);
+
+    table
+        .updateProperties()
+        .set(TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED, "false")
+        .commit();
+    assertThat(readIds(table)).hasSize(1000);
+  }
+
+  private static List<Long> readIds(Table table) throws IOException {
+    TableScan scan =
+        table
+            .newScan()
+            .filter(
+                Expressions.and(
+                    Expressions.greaterThanOrEqual("id", 520L), Expressions.lessThan("id", 540L)));
+    List<Long> ids = Lists.newArrayList();
+    try (VectorizedTableScanIterable itr = new VectorizedTableScanIterable(scan, 64, false)) {
+      for (ColumnarBatch batch : itr) {
+        for (int row = 0; row < batch.numRows(); row += 1) {
+          ids.add(batch.column(0).getLong(row));
+        }
+      }
+    }
+
+    return ids;
+  }
+
   /**
    * Run the following verifications:
    *
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeMap;
+import org.apache.iceberg.util.StructLikeUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares {@link InsertedRowIndex} with the map of copied keys that was
+ * previously used to track inserted rows in equality delta writers.
+ *
+ * <p>The insert benchmarks measure throughput. The retained heap benchmarks report the heap that
+ * is retained by each index after inserting all keys in the {@code retainedBytes} counter.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=InsertedRowIndexBenchmark
+ *       -PjmhOutputPath=benchmark/inserted-row-index-benchmark.txt
+ * </code>
+ */
+@Fork(value = 1, jvmArgs = "-Xmx8g")
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 10, timeUnit = TimeUnit.MINUTES)
+public class InsertedRowIndexBenchmark {
+
+  private static final Random RANDOM = new Random();
+  private static final int NUM_KEYS = 5_000_000;
+  private static final int ROWS_PER_FILE = 1_000_000;
+  private static final long SPILL_BUDGET = 64L * 1024 * 1024;
+  private static final Types.StructType KEY_TYPE =
+      Types.StructType.of(
+          required(1, "id", Types.LongType.get()), required(2, "name", Types.StringType.get()));
+
+  private Key[] keys;
+  private String[] paths;
+
+  @Setup
+  public void setupBenchmark() {
+    this.keys = new Key[NUM_KEYS];
+    for (int index = 0; index < NUM_KEYS; index++) {
+      long id = RANDOM.nextLong();
+      keys[index] = new Key(id, "key-" + id);
+    }
+
+    // equality delta writers share the path of the current file between rows
+    this.paths = new String[(NUM_KEYS + ROWS_PER_FILE - 1) / ROWS_PER_FILE];
+    for (int index = 0; index < paths.length; index++) {
+      paths[index] = "data-" + index + ".parquet";
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class HeapCounters {
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.retainedBytes = 0L;
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void insertKeysStructLikeMap(Blackhole blackhole) {
+    blackhole.consume(insertIntoMap());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void insertKeysIndex(Blackhole blackhole) {
+    try (InsertedRowIndex index = insertIntoIndex(Long.MAX_VALUE)) {
+      blackhole.consume(index);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void insertKeysSpillingIndex(Blackhole blackhole) {
+    try (InsertedRowIndex index = insertIntoIndex(SPILL_BUDGET)) {
+      blackhole.consume(index);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void insertAndDeleteKeysStructLikeMap(Blackhole blackhole) {
+    Map<StructLike, PathOffset> map = insertIntoMap();
+    for (Key key : keys) {
+      blackhole.consume(map.remove(key));
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void insertAndDeleteKeysSpillingIndex(Blackhole blackhole) {
+    try (InsertedRowIndex index = insertIntoIndex(SPILL_BUDGET)) {
+      for (Key key : keys) {
+        blackhole.consume(index.remove(key));
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void retainedHeapStructLikeMap(HeapCounters counters, Blackhole blackhole) {
+    long before = usedHeap();
+    Map<StructLike, PathOffset> map = insertIntoMap();
+    counters.retainedBytes = usedHeap() - before;
+    blackhole.consume(map);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void retainedHeapIndex(HeapCounters counters, Blackhole blackhole) {
+    long before = usedHeap();
+    try (InsertedRowIndex index = insertIntoIndex(Long.MAX_VALUE)) {
+      counters.retainedBytes = usedHeap() - before;
+      blackhole.consume(index);
+    }
+  }
+
+  private Map<StructLike, PathOffset> insertIntoMap() {
+    Map<StructLike, PathOffset> map = StructLikeMap.create(KEY_TYPE);
+    for (int index = 0; index < keys.length; index++) {
+      PathOffset pathOffset = new PathOffset(paths[index / ROWS_PER_FILE], index % ROWS_PER_FILE);
+      map.put(StructLikeUtil.copy(keys[index]), pathOffset);
+    }
+
+    return map;
+  }
+
+  private InsertedRowIndex insertIntoIndex(long memoryBudget) {
+    InsertedRowIndex index = new InsertedRowIndex(KEY_TYPE, memoryBudget);
+    for (int pos = 0; pos < keys.length; pos++) {
+      index.put(keys[pos], InsertedRowIndex.value(pos / ROWS_PER_FILE, pos % ROWS_PER_FILE));
+    }
+
+    return index;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /** The value type that was stored for each key by equality delta writers. */
+  private static class PathOffset {
+    private final CharSequence path;
+    private final long rowOffset;
+
+    private PathOffset(CharSequence path, long rowOffset) {
+      this.path = path;
+      this.rowOffset = rowOffset;
+    }
+  }
+
+  private static class Key implements StructLike {
+    private final Object[] values;
+
+    private Key(long id, String name) {
+      this.values = new Object[] {id, name};
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(values[pos]);
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      throw new UnsupportedOperationException("Key is read-only");
+    }
+  }
+}
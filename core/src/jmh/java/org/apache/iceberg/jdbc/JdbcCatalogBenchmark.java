@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.jdbc;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableCommit;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that evaluates listing and committing tables in a {@link JdbcCatalog} backed by an
+ * embedded SQLite database.
+ *
+ * <p>Listed tables are only registered in the catalog table, while committed tables are real
+ * tables.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=JdbcCatalogBenchmark
+ *       -PjmhOutputPath=benchmark/jdbc-catalog-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 10, timeUnit = TimeUnit.MINUTES)
+public class JdbcCatalogBenchmark {
+
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+  private static final Namespace LISTED = Namespace.of("listed");
+  private static final Namespace COMMITTED = Namespace.of("committed");
+  private static final int NUM_COMMITTED_TABLES = 10;
+  private static final int PAGE_SIZE = 100;
+
+  @Param({"1000", "10000", "50000"})
+  private int numTables;
+
+  private Path warehouse;
+  private JdbcCatalog catalog;
+  private List<TableIdentifier> committedTables;
+  private int commitCount = 0;
+
+  @Setup
+  public void setupBenchmark() throws IOException, SQLException, InterruptedException {
+    this.warehouse = Files.createTempDirectory("jdbc-catalog-benchmark");
+    Map<String, String> properties = Maps.newHashMap();
+    properties.put(CatalogProperties.URI, "jdbc:sqlite:" + warehouse.resolve("catalog.db"));
+    properties.put(CatalogProperties.WAREHOUSE_LOCATION, warehouse.toString());
+    properties.put(JdbcUtil.SCHEMA_VERSION_PROPERTY, JdbcUtil.SchemaVersion.V1.name());
+
+    this.catalog = new JdbcCatalog();
+    catalog.setConf(new Configuration());
+    catalog.initialize("benchmark", properties);
+
+    for (int i = 0; i < numTables; i += 1) {
+      JdbcUtil.doCommitCreateTable(
+          JdbcUtil.SchemaVersion.V1,
+          catalog.connectionPool(),
+          "benchmark",
+          LISTED,
+          TableIdentifier.of(LISTED, String.format("tbl_%08d", i)),
+          "unused-metadata-location");
+    }
+
+    this.committedTables = Lists.newArrayList();
+    for (int i = 0; i < NUM_COMMITTED_TABLES; i += 1) {
+      TableIdentifier identifier = TableIdentifier.of(COMMITTED, "tbl_" + i);
+      catalog.createTable(identifier, SCHEMA);
+      committedTables.add(identifier);
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    catalog.close();
+    FileUtils.deleteQuietly(new File(warehouse.toString()));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void listAllTables(Blackhole blackhole) {
+    blackhole.consume(catalog.listTables(LISTED));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void listFirstPage(Blackhole blackhole) {
+    blackhole.consume(catalog.listTables(LISTED, null, PAGE_SIZE));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void listAllPages(Blackhole blackhole) {
+    String pageToken = null;
+    do {
+      Pair<List<TableIdentifier>, String> page = catalog.listTables(LISTED, pageToken, PAGE_SIZE);
+      blackhole.consume(page.first());
+      pageToken = page.second();
+    } while (pageToken != null);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void commitTablesSequentially() {
+    String value = String.valueOf(commitCount++);
+    for (TableIdentifier identifier : committedTables) {
+      catalog.loadTable(identifier).updateProperties().set("commit", value).commit();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void commitTablesInTransaction() {
+    String value = String.valueOf(commitCount++);
+    List<TableCommit> commits = Lists.newArrayList();
+    for (TableIdentifier identifier : committedTables) {
+      TableMetadata base = ((BaseTable) catalog.loadTable(identifier)).operations().current();
+      TableMetadata updated =
+          TableMetadata.buildFrom(base).setProperties(ImmutableMap.of("commit", value)).build();
+      commits.add(TableCommit.create(identifier, base, updated));
+    }
+
+    catalog.commitTransaction(commits);
+  }
+}
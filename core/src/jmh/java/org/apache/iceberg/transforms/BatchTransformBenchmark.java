@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.transforms;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares {@link BatchTransform batch transforms} with applying the bound
+ * transform function to each boxed value.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=BatchTransformBenchmark
+ *       -PjmhOutputPath=benchmark/batch-transform-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@Timeout(time = 5, timeUnit = TimeUnit.MINUTES)
+public class BatchTransformBenchmark {
+
+  private static final Random RANDOM = new Random();
+  private static final int NUM_VALUES = 10_000_000;
+
+  private int[] ints;
+  private long[] longs;
+  private long[] timestamps;
+  private int[] dates;
+  private String[] strings;
+  private byte[] stringData;
+  private int[] stringOffsets;
+  private int[] intResults;
+  private long[] longResults;
+
+  @Setup
+  public void setupBenchmark() {
+    this.ints = new int[NUM_VALUES];
+    this.longs = new long[NUM_VALUES];
+    this.timestamps = new long[NUM_VALUES];
+    this.dates = new int[NUM_VALUES];
+    this.strings = new String[NUM_VALUES];
+    this.stringOffsets = new int[NUM_VALUES + 1];
+
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      ints[i] = RANDOM.nextInt();
+      longs[i] = RANDOM.nextLong();
+      // timestamps between 1970 and 2286
+      timestamps[i] = Math.floorMod(longs[i], 10_000_000_000_000_000L);
+      dates[i] = Math.floorMod(ints[i], 100_000);
+      strings[i] = "value-" + longs[i];
+      stringOffsets[i + 1] = stringOffsets[i] + utf8Length(strings[i]);
+    }
+
+    this.stringData = new byte[stringOffsets[NUM_VALUES]];
+    for (int i = 0; i < NUM_VALUES; i += 1) {
+      byte[] bytes = strings[i].getBytes(StandardCharsets.UTF_8);
+      System.arraycopy(bytes, 0, stringData, stringOffsets[i], bytes.length);
+    }
+
+    this.intResults = new int[NUM_VALUES];
+    this.longResults = new long[NUM_VALUES];
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void bucketIntBoxed(Blackhole blackhole) {
+    applyBoxed(Transforms.bucket(16), Types.IntegerType.get(), ints, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void bucketIntBatch(Blackhole blackhole) {
+    BatchTransform batch = BatchTransforms.bind(Transforms.bucket(16), Types.IntegerType.get());
+    batch.applyInts(ints, intResults, NUM_VALUES);
+    blackhole.consume(intResults);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void bucketLongBoxed(Blackhole blackhole) {
+    applyBoxed(Transforms.bucket(16), Types.LongType.get(), longs, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void bucketLongBatch(Blackhole blackhole) {
+    applyBatch(Transforms.bucket(16), Types.LongType.get(), longs, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void bucketStringBoxed(Blackhole blackhole) {
+    Function<Object, Object> func = bind(Transforms.bucket(16), Types.StringType.get());
+    for (String value : strings) {
+      blackhole.consume(func.apply(value));
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void bucketStringBatch(Blackhole blackhole) {
+    BatchTransform batch = BatchTransforms.bind(Transforms.bucket(16), Types.StringType.get());
+    batch.applyBytes(stringData, stringOffsets, intResults, NUM_VALUES);
+    blackhole.consume(intResults);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void truncateIntBoxed(Blackhole blackhole) {
+    applyBoxed(Transforms.truncate(10), Types.IntegerType.get(), ints, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void truncateIntBatch(Blackhole blackhole) {
+    BatchTransform batch = BatchTransforms.bind(Transforms.truncate(10), Types.IntegerType.get());
+    batch.applyInts(ints, intResults, NUM_VALUES);
+    blackhole.consume(intResults);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void truncateLongBoxed(Blackhole blackhole) {
+    applyBoxed(Transforms.truncate(10), Types.LongType.get(), longs, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void truncateLongBatch(Blackhole blackhole) {
+    BatchTransform batch = BatchTransforms.bind(Transforms.truncate(10), Types.LongType.get());
+    batch.applyLongs(longs, longResults, NUM_VALUES);
+    blackhole.consume(longResults);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void dayTimestampBoxed(Blackhole blackhole) {
+    applyBoxed(Transforms.day(), Types.TimestampType.withZone(), timestamps, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void dayTimestampBatch(Blackhole blackhole) {
+    applyBatch(Transforms.day(), Types.TimestampType.withZone(), timestamps, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void hourTimestampBoxed(Blackhole blackhole) {
+    applyBoxed(Transforms.hour(), Types.TimestampType.withZone(), timestamps, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void hourTimestampBatch(Blackhole blackhole) {
+    applyBatch(Transforms.hour(), Types.TimestampType.withZone(), timestamps, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void monthTimestampBoxed(Blackhole blackhole) {
+    applyBoxed(Transforms.month(), Types.TimestampType.withZone(), timestamps, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void monthTimestampBatch(Blackhole blackhole) {
+    applyBatch(Transforms.month(), Types.TimestampType.withZone(), timestamps, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void yearTimestampBoxed(Blackhole blackhole) {
+    applyBoxed(Transforms.year(), Types.TimestampType.withZone(), timestamps, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void yearTimestampBatch(Blackhole blackhole) {
+    applyBatch(Transforms.year(), Types.TimestampType.withZone(), timestamps, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void monthDateBoxed(Blackhole blackhole) {
+    applyBoxed(Transforms.month(), Types.DateType.get(), dates, blackhole);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void monthDateBatch(Blackhole blackhole) {
+    BatchTransform batch = BatchTransforms.bind(Transforms.month(), Types.DateType.get());
+    batch.applyInts(dates, intResults, NUM_VALUES);
+    blackhole.consume(intResults);
+  }
+
+  private static void applyBoxed(
+      Transform<?, ?> transform, Type type, int[] values, Blackhole blackhole) {
+    Function<Object, Object> func = bind(transform, type);
+    for (int value : values) {
+      blackhole.consume(func.apply(value));
+    }
+  }
+
+  private static void applyBoxed(
+      Transform<?, ?> transform, Type type, long[] values, Blackhole blackhole) {
+    Function<Object, Object> func = bind(transform, type);
+    for (long value : values) {
+      blackhole.consume(func.apply(value));
+    }
+  }
+
+  private void applyBatch(
+      Transform<?, ?> transform, Type type, long[] values, Blackhole blackhole) {
+    BatchTransform batch = BatchTransforms.bind(transform, type);
+    batch.applyLongs(values, intResults, NUM_VALUES);
+    blackhole.consume(intResults);
+  }
+
+  private static int utf8Length(String value) {
+    return value.getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> bind(Transform<?, ?> transform, Type type) {
+    return ((Transform<Object, Object>) transform).bind(type);
+  }
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.PropertyUtil;
+
+/**
+ * Rebases append snapshots onto a newer state of their branch.
+ *
+ * <p>A snapshot can be rebased when it was produced by an append that does not validate the state
+ * of its branch, like a fast append, and only adds data manifests to its parent. Other operations
+ * can also produce append snapshots, such as an overwrite that only adds files, but they may have
+ * validated the state that they were written against and cannot be rebased.
+ *
+ * <p>Rebasing writes a new manifest list with the snapshot's added manifests and the manifests of
+ * the new parent, and keeps the snapshot ID so that the writer that produced the snapshot can find
+ * it after the commit. This has the same result as the writer retrying the append against the new
+ * branch state.
+ */
+public class AppendRebaser {
+  private static final Set<String> TOTAL_PROPERTIES =
+      ImmutableSet.of(
+          SnapshotSummary.TOTAL_RECORDS_PROP,
+          SnapshotSummary.TOTAL_FILE_SIZE_PROP,
+          SnapshotSummary.TOTAL_DATA_FILES_PROP,
+          SnapshotSummary.TOTAL_DELETE_FILES_PROP,
+          SnapshotSummary.TOTAL_POS_DELETES_PROP,
+          SnapshotSummary.TOTAL_EQ_DELETES_PROP);
+
+  private AppendRebaser() {}
+
+  /**
+   * Returns whether a snapshot was produced by an append that opted in to rebasing and only adds
+   * data files to its parent.
+   *
+   * @param metadata table metadata that contains the snapshot's parent
+   * @param snapshot a snapshot that has not been committed
+   * @param io a FileIO to read manifest lists
+   * @return true if the snapshot is marked with {@link SnapshotSummary#REBASEABLE_APPEND_PROP} and
+   *     its manifests are its parent's manifests and new manifests that only contain added data
+   *     files
+   */
+  public static boolean canRebase(TableMetadata metadata, Snapshot snapshot, FileIO io) {
+    if (!DataOperations.APPEND.equals(snapshot.operation())
+        || snapshot.summary() == null
+        || !PropertyUtil.propertyAsBoolean(
+            snapshot.summary(), SnapshotSummary.REBASEABLE_APPEND_PROP, false)) {
+      return false;
+    }
+
+    Set<String> parentManifests = Sets.newHashSet();
+    if (snapshot.parentId() != null) {
+      Snapshot parent = metadata.snapshot(snapshot.parentId());
+      if (parent == null) {
+        return false;
+      }
+
+      parent.allManifests(io).forEach(manifest -> parentManifests.add(manifest.path()));
+    }
+
+    Set<String> retainedManifests = Sets.newHashSet();
+    for (ManifestFile manifest : snapshot.allManifests(io)) {
+      if (Objects.equals(manifest.snapshotId(), snapshot.snapshotId())) {
+        if (manifest.content() != ManifestContent.DATA
+            || manifest.hasExistingFiles()
+            || manifest.hasDeletedFiles()) {
+          return false;
+        }
+      } else {
+        retainedManifests.add(manifest.path());
+      }
+    }
+
+    return retainedManifests.equals(parentManifests);
+  }
+
+  /**
+   * Rebases a snapshot onto the current head of a branch.
+   *
+   * <p>The snapshot must be one for which {@link #canRebase(TableMetadata, Snapshot, FileIO)} is
+   * true. If the snapshot's parent is the branch head and its sequence number is still valid, the
+   * snapshot is returned unchanged.
+   *
+   * @param ops table operations used to write the new manifest list
+   * @param metadata the table metadata to rebase onto
+   * @param snapshot a snapshot that has not been committed
+   * @param branch the branch that the snapshot will be committed to
+   * @return a snapshot with the same ID whose parent is the branch head in the metadata
+   */
+  public static Snapshot rebase(
+      TableOperations ops, TableMetadata metadata, Snapshot snapshot, String branch) {
+    SnapshotRef ref = metadata.ref(branch);
+    Snapshot parent = ref != null ? metadata.snapshot(ref.snapshotId()) : null;
+    Long parentId = parent != null ? parent.snapshotId() : null;
+
+    boolean validSequenceNumber =
+        metadata.formatVersion() == 1
+            || snapshot.sequenceNumber() > metadata.lastSequenceNumber();
+    if (Objects.equals(parentId, snapshot.parentId()) && validSequenceNumber) {
+      return snapshot;
+    }
+
+    long sequenceNumber = metadata.nextSequenceNumber();
+    Long firstRowId = metadata.formatVersion() >= 3 ? metadata.nextRowId() : null;
+    OutputFile manifestList =
+        ops.io()
+            .newOutputFile(
+                ops.metadataFileLocation(
+                    FileFormat.AVRO.addExtension(
+                        String.format(
+                            Locale.ROOT,
+                            "snap-%d-rebased-%s",
+                            snapshot.snapshotId(),
+                            UUID.randomUUID()))));
+
+    ManifestListWriter writer =
+        ManifestLists.write(
+            metadata.formatVersion(),
+            manifestList,
+            ops.encryption(),
+            snapshot.snapshotId(),
+            parentId,
+            sequenceNumber,
+            firstRowId);
+
+    try (writer) {
+      for (ManifestFile manifest : snapshot.allManifests(ops.io())) {
+        if (Objects.equals(manifest.snapshotId(), snapshot.snapshotId())) {
+          writer.add(unassigned(manifest));
+        }
+      }
+
+      if (parent != null) {
+        writer.addAll(parent.allManifests(ops.io()));
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to write manifest list file");
+    }
+
+    Long assignedRows = firstRowId != null ? writer.nextRowId() - firstRowId : null;
+    long timestampMillis =
+        parent != null
+            ? Math.max(snapshot.timestampMillis(), parent.timestampMillis())
+            : snapshot.timestampMillis();
+
+    return new BaseSnapshot(
+        sequenceNumber,
+        snapshot.snapshotId(),
+        parentId,
+        timestampMillis,
+        snapshot.operation(),
+        summary(snapshot, parent),
+        snapshot.schemaId(),
+        manifestList.location(),
+        firstRowId,
+        assignedRows,
+        writer.toManifestListFile().encryptionKeyID());
+  }
+
+  /** Returns a copy of an added manifest that inherits the sequence numbers of the new list. */
+  private static ManifestFile unassigned(ManifestFile manifest) {
+    return new GenericManifestFile(
+        manifest.path(),
+        manifest.length(),
+        manifest.partitionSpecId(),
+        manifest.content(),
+        ManifestWriter.UNASSIGNED_SEQ,
+        ManifestWriter.UNASSIGNED_SEQ,
+        manifest.snapshotId(),
+        manifest.partitions(),
+        manifest.keyMetadata(),
+        manifest.addedFilesCount(),
+        manifest.addedRowsCount(),
+        manifest.existingFilesCount(),
+        manifest.existingRowsCount(),
+        manifest.deletedFilesCount(),
+        manifest.deletedRowsCount(),
+        null /* first row ID is assigned by the manifest list */);
+  }
+
+  /** Returns the snapshot summary with totals that are updated from the new parent. */
+  private static Map<String, String> summary(Snapshot snapshot, Snapshot parent) {
+    Map<String, String> summary = snapshot.summary();
+    if (summary == null) {
+      return ImmutableMap.of();
+    }
+
+    Map<String, String> previousSummary;
+    if (parent == null) {
+      ImmutableMap.Builder<String, String> zeroTotals = ImmutableMap.builder();
+      TOTAL_PROPERTIES.forEach(property -> zeroTotals.put(property, "0"));
+      previousSummary = zeroTotals.build();
+    } else if (parent.summary() != null) {
+      previousSummary = parent.summary();
+    } else {
+      previousSummary = ImmutableMap.of();
+    }
+
+    ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+    summary.forEach(
+        (key, value) -> {
+          if (!TOTAL_PROPERTIES.contains(key)) {
+            builder.put(key, value);
+          }
+        });
+
+    SnapshotProducer.updateTotal(
+        builder,
+        previousSummary,
+        SnapshotSummary.TOTAL_RECORDS_PROP,
+        summary,
+        SnapshotSummary.ADDED_RECORDS_PROP,
+        SnapshotSummary.DELETED_RECORDS_PROP);
+    SnapshotProducer.updateTotal(
+        builder,
+        previousSummary,
+        SnapshotSummary.TOTAL_FILE_SIZE_PROP,
+        summary,
+        SnapshotSummary.ADDED_FILE_SIZE_PROP,
+        SnapshotSummary.REMOVED_FILE_SIZE_PROP);
+    SnapshotProducer.updateTotal(
+        builder,
+        previousSummary,
+        SnapshotSummary.TOTAL_DATA_FILES_PROP,
+        summary,
+        SnapshotSummary.ADDED_FILES_PROP,
+        SnapshotSummary.DELETED_FILES_PROP);
+    SnapshotProducer.updateTotal(
+        builder,
+        previousSummary,
+        SnapshotSummary.TOTAL_DELETE_FILES_PROP,
+        summary,
+        SnapshotSummary.ADDED_DELETE_FILES_PROP,
+        SnapshotSummary.REMOVED_DELETE_FILES_PROP);
+    SnapshotProducer.updateTotal(
+        builder,
+        previousSummary,
+        SnapshotSummary.TOTAL_POS_DELETES_PROP,
+        summary,
+        SnapshotSummary.ADDED_POS_DELETES_PROP,
+        SnapshotSummary.REMOVED_POS_DELETES_PROP);
+    SnapshotProducer.updateTotal(
+        builder,
+        previousSummary,
+        SnapshotSummary.TOTAL_EQ_DELETES_PROP,
+        summary,
+        SnapshotSummary.ADDED_EQ_DELETES_PROP,
+        SnapshotSummary.REMOVED_EQ_DELETES_PROP);
+
+    return builder.build();
+  }
+}
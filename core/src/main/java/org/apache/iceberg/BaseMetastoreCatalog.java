@@ -20,7 +20,9 @@ package org.apache.iceberg;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
@@ -33,6 +35,8 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +74,76 @@ public abstract class BaseMetastoreCatalog implements Catalog, Closeable {
     return result;
   }
 
+  /**
+   * Load several tables.
+   *
+   * <p>Metadata locations are looked up for all of the tables at once using {@link
+   * #metadataLocations(List)} and the metadata files are read in parallel on the {@link
+   * ThreadPools#loadTablesPool() table load pool}. If the catalog does not support looking up
+   * metadata locations for several tables, each table is loaded in parallel.
+   */
+  @Override
+  public Map<TableIdentifier, Table> loadTables(List<TableIdentifier> identifiers) {
+    List<TableIdentifier> distinct = identifiers.stream().distinct().collect(Collectors.toList());
+    List<TableIdentifier> tableIdentifiers =
+        distinct.stream().filter(this::isValidIdentifier).collect(Collectors.toList());
+    Map<TableIdentifier, String> locations =
+        tableIdentifiers.isEmpty() ? ImmutableMap.of() : metadataLocations(tableIdentifiers);
+
+    Map<TableIdentifier, Table> loaded = Maps.newConcurrentMap();
+    Tasks.foreach(distinct)
+        .executeWith(ThreadPools.loadTablesPool())
+        .run(
+            identifier -> {
+              Table table;
+              if (locations != null && locations.containsKey(identifier)) {
+                table = loadTable(identifier, locations.get(identifier));
+              } else if (locations != null
+                  && isValidIdentifier(identifier)
+                  && !isValidMetadataIdentifier(identifier)) {
+                // the table does not exist
+                table = null;
+              } else {
+                table = loadTableIfExists(identifier);
+              }
+
+              if (table != null) {
+                loaded.put(identifier, table);
+              }
+            });
+
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : distinct) {
+      Table table = loaded.get(identifier);
+      if (table != null) {
+        tables.put(identifier, table);
+      }
+    }
+
+    return tables;
+  }
+
+  private Table loadTable(TableIdentifier identifier, String metadataLocation) {
+    TableOperations ops = newTableOps(identifier);
+    if (ops instanceof BaseMetastoreTableOperations) {
+      ((BaseMetastoreTableOperations) ops).refreshFromCatalogMetadataLocation(metadataLocation);
+    } else if (ops.current() == null) {
+      return null;
+    }
+
+    Table result = new BaseTable(ops, fullTableName(name(), identifier), metricsReporter());
+    LOG.info("Table loaded by catalog: {}", result);
+    return result;
+  }
+
+  private Table loadTableIfExists(TableIdentifier identifier) {
+    try {
+      return loadTable(identifier);
+    } catch (NoSuchTableException e) {
+      return null;
+    }
+  }
+
   @Override
   public Table registerTable(TableIdentifier identifier, String metadataFileLocation) {
     Preconditions.checkArgument(
@@ -123,6 +197,21 @@ public abstract class BaseMetastoreCatalog implements Catalog, Closeable {
     return true;
   }
 
+  /**
+   * Returns the current metadata locations of several tables.
+   *
+   * <p>Catalogs that can look up the metadata locations of several tables with fewer requests than
+   * loading each table should override this method to support {@link #loadTables(List)}. Tables
+   * that do not exist must not be included in the result.
+   *
+   * @param identifiers a list of valid table identifiers
+   * @return a map from table identifier to metadata location, or null if the catalog loads each
+   *     table individually
+   */
+  protected Map<TableIdentifier, String> metadataLocations(List<TableIdentifier> identifiers) {
+    return null;
+  }
+
   protected Map<String, String> properties() {
     return ImmutableMap.of();
   }
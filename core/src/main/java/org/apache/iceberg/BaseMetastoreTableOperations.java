@@ -167,6 +167,19 @@ public abstract class BaseMetastoreTableOperations extends BaseMetastoreOperatio
     refreshFromMetadataLocation(newLocation, null, 20);
   }
 
+  /**
+   * Refreshes from a metadata location that the catalog looked up for this table, as when several
+   * tables are loaded at once.
+   *
+   * <p>Implementations that read metadata with a different retry policy in {@link #doRefresh()}
+   * should override this to use the same policy.
+   *
+   * @param newLocation the table's current metadata location
+   */
+  protected void refreshFromCatalogMetadataLocation(String newLocation) {
+    refreshFromMetadataLocation(newLocation);
+  }
+
   protected void refreshFromMetadataLocation(String newLocation, int numRetries) {
     refreshFromMetadataLocation(newLocation, null, numRetries);
   }
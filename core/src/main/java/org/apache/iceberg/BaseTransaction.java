@@ -274,6 +274,50 @@ public class BaseTransaction implements Transaction {
     }
   }
 
+  /**
+   * Applies the pending updates of this transaction to the latest metadata of the table, if the
+   * table was changed since the updates were last applied.
+   *
+   * <p>This is used to retry a commit of the transaction's changes that is not made by {@link
+   * #commitTransaction()}, such as a commit of several tables by a catalog. The manifest lists and
+   * manifests of the previous attempt that are not used by the refreshed updates are deleted,
+   * because the previous attempt was not committed.
+   *
+   * @throws CommitFailedException if the updates cannot be applied to the latest metadata
+   */
+  public void refreshUpdates() {
+    Preconditions.checkState(
+        type == TransactionType.SIMPLE, "Cannot refresh updates of a %s transaction", type);
+    Preconditions.checkState(
+        hasLastOpCommitted, "Cannot refresh updates: last operation has not committed");
+
+    Set<String> previousAttemptFiles = stagedFiles();
+    try {
+      applyUpdates(ops);
+    } catch (PendingUpdateFailedException e) {
+      throw e.wrapped();
+    }
+
+    Set<String> retainedFiles = stagedFiles();
+    deleteUncommittedFiles(
+        previousAttemptFiles.stream()
+            .filter(f -> !retainedFiles.contains(f))
+            .collect(Collectors.toSet()));
+  }
+
+  /**
+   * Deletes the files written by the pending updates of this transaction, when its changes will
+   * not be committed.
+   *
+   * <p>This is used to clean up after a commit of the transaction's changes that is not made by
+   * {@link #commitTransaction()} has failed.
+   */
+  public void cleanUpUncommitted() {
+    Preconditions.checkState(
+        type == TransactionType.SIMPLE, "Cannot clean up a %s transaction", type);
+    cleanUpOnCommitFailure();
+  }
+
   private void commitCreateTransaction() {
     // this operation creates the table. if the commit fails, this cannot retry because another
     // process has created the same table.
@@ -476,6 +520,34 @@ public class BaseTransaction implements Transaction {
     }
   }
 
+  // stagedFiles returns the manifest lists and manifests written for the snapshots that the
+  // pending updates added to the base metadata
+  private Set<String> stagedFiles() {
+    Set<Long> stagedSnapshotIds = Sets.newHashSet();
+    for (Snapshot snapshot : current.snapshots()) {
+      if (base.snapshot(snapshot.snapshotId()) == null) {
+        stagedSnapshotIds.add(snapshot.snapshotId());
+      }
+    }
+
+    Set<String> stagedFiles = Sets.newHashSet();
+    for (long snapshotId : stagedSnapshotIds) {
+      Snapshot snapshot = current.snapshot(snapshotId);
+      if (snapshot.manifestListLocation() != null) {
+        stagedFiles.add(snapshot.manifestListLocation());
+      }
+
+      for (ManifestFile manifest : snapshot.allManifests(ops.io())) {
+        // manifests added by earlier snapshots are part of the table and must be kept
+        if (stagedSnapshotIds.contains(manifest.snapshotId())) {
+          stagedFiles.add(manifest.path());
+        }
+      }
+    }
+
+    return stagedFiles;
+  }
+
   // committedFiles returns null whenever the set of committed files
   // cannot be determined from the provided snapshots
   private static Set<String> committedFiles(TableOperations ops, Set<Long> snapshotIds) {
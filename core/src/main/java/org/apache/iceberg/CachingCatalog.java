@@ -27,13 +27,18 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -169,6 +174,48 @@ public class CachingCatalog implements Catalog {
     return table;
   }
 
+  @Override
+  public Map<TableIdentifier, Table> loadTables(List<TableIdentifier> identifiers) {
+    Map<TableIdentifier, Table> tablesByCanonicalIdent = Maps.newHashMap();
+    Set<TableIdentifier> missing = Sets.newLinkedHashSet();
+    for (TableIdentifier ident : identifiers) {
+      TableIdentifier canonicalized = canonicalizeIdentifier(ident);
+      Table cached = tableCache.getIfPresent(canonicalized);
+      if (cached != null) {
+        tablesByCanonicalIdent.put(canonicalized, cached);
+      } else if (MetadataTableType.from(canonicalized.name()) != null) {
+        // metadata tables share the operations of their cached origin table
+        try {
+          tablesByCanonicalIdent.put(canonicalized, loadTable(canonicalized));
+        } catch (NoSuchTableException e) {
+          // tables that do not exist are not returned
+        }
+      } else {
+        missing.add(canonicalized);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      catalog
+          .loadTables(Lists.newArrayList(missing))
+          .forEach(
+              (canonicalized, table) ->
+                  tablesByCanonicalIdent.put(
+                      canonicalized,
+                      tableCache.asMap().computeIfAbsent(canonicalized, ignored -> table)));
+    }
+
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier ident : identifiers) {
+      Table table = tablesByCanonicalIdent.get(canonicalizeIdentifier(ident));
+      if (table != null) {
+        tables.put(ident, table);
+      }
+    }
+
+    return tables;
+  }
+
   @Override
   public boolean dropTable(TableIdentifier ident, boolean purge) {
     boolean dropped = catalog.dropTable(ident, purge);
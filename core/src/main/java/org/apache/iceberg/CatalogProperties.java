@@ -127,6 +127,15 @@ public class CatalogProperties {
   public static final long CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS_DEFAULT =
       TimeUnit.MINUTES.toMillis(5);
 
+  /**
+   * Controls whether client pools check idle clients before handing them out and reconnect clients
+   * that fail the check.
+   */
+  public static final String CLIENT_POOL_HEALTH_CHECK_ENABLED =
+      "client.pool.health-check.enabled";
+
+  public static final boolean CLIENT_POOL_HEALTH_CHECK_ENABLED_DEFAULT = false;
+
   /**
    * A comma separated list of elements used, in addition to the {@link #URI}, to compose the key of
    * the client pool cache.
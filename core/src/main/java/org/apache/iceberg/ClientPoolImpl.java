@@ -19,13 +19,32 @@
 package org.apache.iceberg;
 
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.iceberg.metrics.DefaultTimer;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A fixed-size pool of clients.
+ *
+ * <p>Threads that wait for a client are served in arrival order. Each waiting thread has its own
+ * condition that is signalled when it is first in line and a client is idle or can be created, so
+ * waiters neither poll nor wake each other needlessly.
+ *
+ * <p>The pool tracks the time spent waiting for clients, the number of active, idle, and waiting
+ * callers, and the number of reconnects. When health checks are enabled, idle clients are checked
+ * with {@link #isHealthy(Object)} before they are handed out and are reconnected if the check
+ * fails.
+ */
 public abstract class ClientPoolImpl<C, E extends Exception>
     implements Closeable, ClientPool<C, E> {
   private static final Logger LOG = LoggerFactory.getLogger(ClientPoolImpl.class);
@@ -33,12 +52,20 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   private final int poolSize;
   private final Deque<C> clients;
   private final Class<? extends E> reconnectExc;
-  private final Object signal = new Object();
   private final boolean retryByDefault;
   private final int maxRetries;
+  private final boolean checkHealth;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Deque<Condition> waiters = new ArrayDeque<>();
+  private final Condition released = lock.newCondition();
+  private final Timer waitTime = new DefaultTimer(TimeUnit.NANOSECONDS);
+  private final AtomicLong maxWaitNanos = new AtomicLong(0L);
+  private final AtomicLong reconnects = new AtomicLong(0L);
 
   private volatile int currentSize;
-  private boolean closed;
+  private volatile int activeCount;
+  private volatile boolean closed;
 
   private static final int CONNECTION_RETRY_WAIT_PERIOD_MS = 1000;
 
@@ -51,13 +78,25 @@ public abstract class ClientPoolImpl<C, E extends Exception>
       Class<? extends E> reconnectExc,
       boolean retryByDefault,
       int maxConnectionRetries) {
+    this(poolSize, reconnectExc, retryByDefault, maxConnectionRetries, false);
+  }
+
+  public ClientPoolImpl(
+      int poolSize,
+      Class<? extends E> reconnectExc,
+      boolean retryByDefault,
+      int maxConnectionRetries,
+      boolean checkHealth) {
+    Preconditions.checkArgument(poolSize > 0, "Invalid pool size: %s (must be > 0)", poolSize);
     this.poolSize = poolSize;
     this.reconnectExc = reconnectExc;
     this.clients = new ArrayDeque<>(poolSize);
     this.currentSize = 0;
+    this.activeCount = 0;
     this.closed = false;
     this.retryByDefault = retryByDefault;
     this.maxRetries = maxConnectionRetries;
+    this.checkHealth = checkHealth;
   }
 
   @Override
@@ -75,7 +114,7 @@ public abstract class ClientPoolImpl<C, E extends Exception>
         int retryAttempts = 0;
         while (retryAttempts < maxRetries) {
           try {
-            client = reconnect(client);
+            client = reconnectClient(client);
             return action.run(client);
           } catch (Exception e) {
             if (isConnectionException(e)) {
@@ -102,66 +141,155 @@ public abstract class ClientPoolImpl<C, E extends Exception>
     return reconnectExc.isInstance(exc);
   }
 
+  /**
+   * Checks whether an idle client can still be used, when health checks are enabled.
+   *
+   * @param client an idle client
+   * @return false if the client should be reconnected before it is used
+   */
+  protected boolean isHealthy(C client) {
+    return true;
+  }
+
   protected abstract void close(C client);
 
   @Override
   public void close() {
-    this.closed = true;
+    lock.lock();
     try {
+      this.closed = true;
+      // wake all waiters so that they fail instead of waiting for a client
+      waiters.forEach(Condition::signal);
+
       while (currentSize > 0) {
-        if (!clients.isEmpty()) {
-          synchronized (this) {
-            if (!clients.isEmpty()) {
-              C client = clients.removeFirst();
-              close(client);
-              currentSize -= 1;
-            }
-          }
+        while (!clients.isEmpty()) {
+          C client = clients.removeFirst();
+          currentSize -= 1;
+          close(client);
         }
-        if (clients.isEmpty() && currentSize > 0) {
-          // wake every second in case this missed the signal
-          synchronized (signal) {
-            signal.wait(1000);
-          }
+
+        if (currentSize > 0) {
+          released.await();
         }
       }
 
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       LOG.warn("Interrupted while shutting down pool. Some clients may not be closed.", e);
+    } finally {
+      lock.unlock();
     }
   }
 
   private C get() throws InterruptedException {
-    Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
-    while (true) {
-      if (!clients.isEmpty() || currentSize < poolSize) {
-        synchronized (this) {
-          if (!clients.isEmpty()) {
-            return clients.removeFirst();
-          } else if (currentSize < poolSize) {
-            C client = newClient();
-            currentSize += 1;
-            return client;
-          }
-        }
+    long startNanos = System.nanoTime();
+    C client = null;
+    boolean create = false;
+
+    lock.lockInterruptibly();
+    try {
+      Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
+      if (!waiters.isEmpty() || !canAcquire()) {
+        awaitTurn();
+      }
+
+      if (clients.isEmpty()) {
+        currentSize += 1;
+        create = true;
+      } else {
+        client = clients.removeFirst();
+      }
+
+      activeCount += 1;
+    } finally {
+      signalNextWaiter();
+      lock.unlock();
+    }
+
+    recordWait(System.nanoTime() - startNanos);
+
+    if (create) {
+      try {
+        return newClient();
+      } catch (RuntimeException e) {
+        discard();
+        throw e;
       }
-      synchronized (signal) {
-        // wake every second in case this missed the signal
-        signal.wait(1000);
+    }
+
+    if (checkHealth && !isHealthy(client)) {
+      LOG.info("Reconnecting unhealthy client");
+      try {
+        return reconnectClient(client);
+      } catch (RuntimeException e) {
+        discard();
+        throw e;
       }
     }
+
+    return client;
+  }
+
+  /** Waits until the current thread is first in line and a client is idle or can be created. */
+  private void awaitTurn() throws InterruptedException {
+    Condition turn = lock.newCondition();
+    waiters.addLast(turn);
+    try {
+      do {
+        turn.await();
+        Preconditions.checkState(!closed, "Cannot get a client from a closed pool");
+      } while (waiters.peekFirst() != turn || !canAcquire());
+    } finally {
+      waiters.remove(turn);
+    }
+  }
+
+  private boolean canAcquire() {
+    return !clients.isEmpty() || currentSize < poolSize;
+  }
+
+  private void signalNextWaiter() {
+    Condition next = waiters.peekFirst();
+    if (next != null && canAcquire()) {
+      next.signal();
+    }
   }
 
   private void release(C client) {
-    synchronized (this) {
+    lock.lock();
+    try {
+      activeCount -= 1;
       clients.addFirst(client);
+      signalNextWaiter();
+      released.signalAll();
+    } finally {
+      lock.unlock();
     }
-    synchronized (signal) {
-      signal.notify();
+  }
+
+  /** Frees the slot of a client that could not be created or reconnected. */
+  private void discard() {
+    lock.lock();
+    try {
+      activeCount -= 1;
+      currentSize -= 1;
+      signalNextWaiter();
+      released.signalAll();
+    } finally {
+      lock.unlock();
     }
   }
 
+  private C reconnectClient(C client) {
+    reconnects.incrementAndGet();
+    return reconnect(client);
+  }
+
+  private void recordWait(long waitNanos) {
+    waitTime.record(waitNanos, TimeUnit.NANOSECONDS);
+    maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+  }
+
   @VisibleForTesting
   Deque<C> clients() {
     return clients;
@@ -174,4 +302,44 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   public boolean isClosed() {
     return closed;
   }
+
+  /** Returns a timer that records the time each caller waited for a client. */
+  public Timer waitTime() {
+    return waitTime;
+  }
+
+  /** Returns the longest time that a caller waited for a client. */
+  public Duration maxWaitTime() {
+    return Duration.ofNanos(maxWaitNanos.get());
+  }
+
+  /** Returns the number of clients that are currently in use. */
+  public int activeCount() {
+    return activeCount;
+  }
+
+  /** Returns the number of open clients that are not in use. */
+  public int idleCount() {
+    lock.lock();
+    try {
+      return clients.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Returns the number of callers that are waiting for a client. */
+  public int waitingCount() {
+    lock.lock();
+    try {
+      return waiters.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Returns the number of times a client was reconnected. */
+  public long reconnectCount() {
+    return reconnects.get();
+  }
 }
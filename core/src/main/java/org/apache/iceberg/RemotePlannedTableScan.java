@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.TypeUtil;
+
+/** A {@link DataTableScan} that plans its files with a {@link RemoteScanPlanner}. */
+class RemotePlannedTableScan extends DataTableScan {
+  private final RemoteScanPlanner planner;
+
+  RemotePlannedTableScan(
+      Table table, Schema schema, TableScanContext context, RemoteScanPlanner planner) {
+    super(table, schema, context);
+    this.planner = planner;
+  }
+
+  @Override
+  protected TableScan newRefinedScan(Table table, Schema schema, TableScanContext context) {
+    return new RemotePlannedTableScan(table, schema, context, planner);
+  }
+
+  @Override
+  public CloseableIterable<FileScanTask> doPlanFiles() {
+    return planner.planFiles(new Planned());
+  }
+
+  private class Planned implements RemoteScanPlanner.PlannedScan {
+    @Override
+    public TableScan scan() {
+      return RemotePlannedTableScan.this;
+    }
+
+    @Override
+    public List<String> selectedColumns() {
+      Collection<String> selected = context().selectedColumns();
+      if (selected != null) {
+        return Lists.newArrayList(selected);
+      } else if (context().projectedSchema() != null) {
+        return columnNames(TypeUtil.getProjectedIds(schema()));
+      }
+
+      return null;
+    }
+
+    @Override
+    public List<String> statsFields() {
+      if (!shouldReturnColumnStats()) {
+        return null;
+      }
+
+      Set<Integer> statsIds = columnsToKeepStats();
+      return columnNames(
+          statsIds != null && !statsIds.isEmpty()
+              ? statsIds
+              : TypeUtil.getProjectedIds(schema()));
+    }
+
+    @Override
+    public boolean useSnapshotSchema() {
+      return snapshotId() != null;
+    }
+
+    @Override
+    public ExecutorService planExecutor() {
+      return shouldPlanWithExecutor() ? RemotePlannedTableScan.this.planExecutor() : null;
+    }
+
+    private List<String> columnNames(Collection<Integer> fieldIds) {
+      return fieldIds.stream().map(schema()::findColumnName).collect(Collectors.toList());
+    }
+  }
+}
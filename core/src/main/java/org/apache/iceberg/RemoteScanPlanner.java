@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.metrics.MetricsReporter;
+
+/**
+ * Plans the files of a table scan outside of the table's manifests, for example on a catalog
+ * server.
+ */
+public interface RemoteScanPlanner {
+
+  /**
+   * Plans the file scan tasks of a scan.
+   *
+   * @param scan the scan to plan
+   * @return the file scan tasks of the scan
+   */
+  CloseableIterable<FileScanTask> planFiles(PlannedScan scan);
+
+  /**
+   * Returns a new scan of a table that plans its files with a {@link RemoteScanPlanner}.
+   *
+   * <p>Scans refined from the returned scan are planned by the same planner.
+   *
+   * @param table the table to scan
+   * @param reporter the metrics reporter of the scan
+   * @param planner the planner to plan files with
+   * @return a table scan
+   */
+  static TableScan newScan(Table table, MetricsReporter reporter, RemoteScanPlanner planner) {
+    return new RemotePlannedTableScan(
+        table,
+        table.schema(),
+        ImmutableTableScanContext.builder().metricsReporter(reporter).build(),
+        planner);
+  }
+
+  /** A scan to plan, with the options of the scan that are not part of {@link TableScan}. */
+  interface PlannedScan {
+    /** Returns the scan to plan. */
+    TableScan scan();
+
+    /** Returns the names of the selected columns, or null if all columns are selected. */
+    List<String> selectedColumns();
+
+    /** Returns the names of the columns to return stats for, or null if stats are not needed. */
+    List<String> statsFields();
+
+    /** Returns whether the scan reads a snapshot that was selected by ID or ref. */
+    boolean useSnapshotSchema();
+
+    /** Returns the executor to plan with, or null if the scan is planned in the caller's thread. */
+    ExecutorService planExecutor();
+  }
+}
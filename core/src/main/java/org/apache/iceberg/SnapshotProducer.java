@@ -789,7 +789,7 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     }
   }
 
-  private static void updateTotal(
+  static void updateTotal(
       ImmutableMap.Builder<String, String> summaryBuilder,
       Map<String, String> previousSummary,
       String totalProperty,
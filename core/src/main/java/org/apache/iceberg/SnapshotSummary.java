@@ -61,6 +61,7 @@ public class SnapshotSummary {
   public static final String PUBLISHED_WAP_ID_PROP = "published-wap-id";
   public static final String SOURCE_SNAPSHOT_ID_PROP = "source-snapshot-id";
   public static final String REPLACE_PARTITIONS_PROP = "replace-partitions";
+  public static final String REBASEABLE_APPEND_PROP = "rebaseable-append";
   public static final String EXTRA_METADATA_PREFIX = "snapshot-property.";
   public static final String CREATED_MANIFESTS_COUNT = "manifests-created";
   public static final String REPLACED_MANIFESTS_COUNT = "manifests-replaced";
@@ -177,6 +177,32 @@ public class TableProperties {
   public static final String PARQUET_COLUMN_STATS_ENABLED_PREFIX =
       "write.parquet.stats-enabled.column.";
 
+  public static final String PARQUET_VARIANT_SHREDDING_INFERENCE_ENABLED =
+      "write.parquet.variant.infer-shredding.enabled";
+  public static final boolean PARQUET_VARIANT_SHREDDING_INFERENCE_ENABLED_DEFAULT = false;
+
+  public static final String PARQUET_VARIANT_SHREDDING_SAMPLE_ROWS =
+      "write.parquet.variant.infer-shredding.sample-rows";
+  public static final int PARQUET_VARIANT_SHREDDING_SAMPLE_ROWS_DEFAULT = 1000;
+
+  /**
+   * Whether Parquet pages are compressed and row groups are written on a worker pool.
+   *
+   * <p>The size of pending pages is estimated when checking the row group size, so row group
+   * boundaries can differ from a write without pipelining.
+   */
+  public static final String PARQUET_PIPELINED_WRITE_ENABLED =
+      "write.parquet.pipelined-write.enabled";
+  public static final boolean PARQUET_PIPELINED_WRITE_ENABLED_DEFAULT = false;
+
+  public static final String PARQUET_ADAPTIVE_ROW_GROUP_ENABLED =
+      "write.parquet.adaptive-row-group.enabled";
+  public static final boolean PARQUET_ADAPTIVE_ROW_GROUP_ENABLED_DEFAULT = false;
+
+  public static final String PARQUET_ADAPTIVE_ROW_GROUP_TOLERANCE =
+      "write.parquet.adaptive-row-group.tolerance";
+  public static final double PARQUET_ADAPTIVE_ROW_GROUP_TOLERANCE_DEFAULT = 0.05;
+
   public static final String AVRO_COMPRESSION = "write.avro.compression-codec";
   public static final String DELETE_AVRO_COMPRESSION = "write.delete.avro.compression-codec";
   public static final String AVRO_COMPRESSION_DEFAULT = "gzip";
@@ -234,6 +260,13 @@ public class TableProperties {
   public static final String PARQUET_BATCH_SIZE = "read.parquet.vectorization.batch-size";
   public static final int PARQUET_BATCH_SIZE_DEFAULT = 5000;
 
+  public static final String PARQUET_PAGE_SKIPPING_ENABLED = "read.parquet.page-skipping.enabled";
+  public static final boolean PARQUET_PAGE_SKIPPING_ENABLED_DEFAULT = false;
+
+  public static final String PARQUET_LATE_MATERIALIZATION_ENABLED =
+      "read.parquet.late-materialization.enabled";
+  public static final boolean PARQUET_LATE_MATERIALIZATION_ENABLED_DEFAULT = false;
+
   public static final String ORC_VECTORIZATION_ENABLED = "read.orc.vectorization.enabled";
   public static final boolean ORC_VECTORIZATION_ENABLED_DEFAULT = false;
 
@@ -385,6 +418,10 @@ public class TableProperties {
   public static final String UPSERT_ENABLED = "write.upsert.enabled";
   public static final boolean UPSERT_ENABLED_DEFAULT = false;
 
+  public static final String DELTA_INSERTED_KEYS_MEMORY_BYTES =
+      "write.delta.inserted-keys.memory-bytes";
+  public static final long DELTA_INSERTED_KEYS_MEMORY_BYTES_DEFAULT = 128 * 1024 * 1024; // 128 MB
+
   public static final String ENCRYPTION_TABLE_KEY = "encryption.key-id";
 
   public static final String ENCRYPTION_DEK_LENGTH = "encryption.data-key-length";
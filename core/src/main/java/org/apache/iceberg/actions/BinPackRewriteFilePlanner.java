@@ -185,6 +185,16 @@ public class BinPackRewriteFilePlanner
     return value;
   }
 
+  /**
+   * Returns the names of columns to load stats for when planning files to rewrite.
+   *
+   * <p>Column stats are not loaded by default. Subclasses may load stats for columns that are
+   * needed to rewrite the planned file groups.
+   */
+  protected Set<String> columnStatsToLoad() {
+    return ImmutableSet.of();
+  }
+
   @Override
   protected Iterable<FileScanTask> filterFiles(Iterable<FileScanTask> tasks) {
     return Iterables.filter(
@@ -291,6 +301,11 @@ public class BinPackRewriteFilePlanner
       scan = scan.useSnapshot(snapshotId);
     }
 
+    Set<String> statsColumns = columnStatsToLoad();
+    if (!statsColumns.isEmpty()) {
+      scan = scan.includeColumnStats(statsColumns);
+    }
+
     CloseableIterable<FileScanTask> fileScanTasks = scan.planFiles();
 
     try {
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.actions;
+
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.actions.RewriteDataFiles.FileGroupFailureResult;
+import org.apache.iceberg.actions.RewriteDataFiles.FileGroupInfo;
+import org.apache.iceberg.actions.RewriteDataFiles.FileGroupRewriteResult;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.math.IntMath;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Functionality used by RewriteDataFile Actions from different platforms to rewrite the file
+ * groups of a plan and commit them.
+ *
+ * <p>Groups are rewritten concurrently by a platform-specific function. With partial progress
+ * enabled, groups are committed in batches as they are rewritten and failed groups are reported in
+ * the result. Otherwise, all groups are committed at once, and the rewrite fails if any group
+ * fails.
+ */
+public class RewriteDataFilesExecutor {
+  private static final Logger LOG = LoggerFactory.getLogger(RewriteDataFilesExecutor.class);
+  private static final Set<String> VALID_OPTIONS =
+      ImmutableSet.of(
+          RewriteDataFiles.MAX_CONCURRENT_FILE_GROUP_REWRITES,
+          RewriteDataFiles.MAX_FILE_GROUP_SIZE_BYTES,
+          RewriteDataFiles.PARTIAL_PROGRESS_ENABLED,
+          RewriteDataFiles.PARTIAL_PROGRESS_MAX_COMMITS,
+          RewriteDataFiles.PARTIAL_PROGRESS_MAX_FAILED_COMMITS,
+          RewriteDataFiles.TARGET_FILE_SIZE_BYTES,
+          RewriteDataFiles.USE_STARTING_SEQUENCE_NUMBER,
+          RewriteDataFiles.REWRITE_JOB_ORDER,
+          RewriteDataFiles.OUTPUT_SPEC_ID,
+          BinPackRewriteFilePlanner.MAX_FILES_TO_REWRITE);
+
+  private final int maxConcurrentFileGroupRewrites;
+  private final int maxCommits;
+  private final int maxFailedCommits;
+  private final boolean partialProgressEnabled;
+  private final boolean useStartingSequenceNumber;
+
+  /**
+   * Validates the rewrite options and initializes the planner and the runner with them.
+   *
+   * @param options the rewrite options
+   * @param actionOptions options that are handled by the action itself
+   * @param planner the planner of the rewrite
+   * @param runner the runner of the rewrite
+   */
+  public RewriteDataFilesExecutor(
+      Map<String, String> options,
+      Set<String> actionOptions,
+      FileRewritePlanner<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> planner,
+      FileRewriteRunner<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> runner) {
+    Set<String> validOptions = Sets.newHashSet(runner.validOptions());
+    validOptions.addAll(VALID_OPTIONS);
+    validOptions.addAll(actionOptions);
+    validOptions.addAll(planner.validOptions());
+
+    Set<String> invalidKeys = Sets.newHashSet(options.keySet());
+    invalidKeys.removeAll(validOptions);
+
+    Preconditions.checkArgument(
+        invalidKeys.isEmpty(),
+        "Cannot use options %s, they are not supported by the action or the rewriter %s",
+        invalidKeys,
+        runner.description());
+
+    planner.init(options);
+    runner.init(options);
+
+    this.maxConcurrentFileGroupRewrites =
+        PropertyUtil.propertyAsInt(
+            options,
+            RewriteDataFiles.MAX_CONCURRENT_FILE_GROUP_REWRITES,
+            RewriteDataFiles.MAX_CONCURRENT_FILE_GROUP_REWRITES_DEFAULT);
+
+    this.maxCommits =
+        PropertyUtil.propertyAsInt(
+            options,
+            RewriteDataFiles.PARTIAL_PROGRESS_MAX_COMMITS,
+            RewriteDataFiles.PARTIAL_PROGRESS_MAX_COMMITS_DEFAULT);
+
+    this.maxFailedCommits =
+        PropertyUtil.propertyAsInt(
+            options, RewriteDataFiles.PARTIAL_PROGRESS_MAX_FAILED_COMMITS, maxCommits);
+
+    this.partialProgressEnabled =
+        PropertyUtil.propertyAsBoolean(
+            options,
+            RewriteDataFiles.PARTIAL_PROGRESS_ENABLED,
+            RewriteDataFiles.PARTIAL_PROGRESS_ENABLED_DEFAULT);
+
+    this.useStartingSequenceNumber =
+        PropertyUtil.propertyAsBoolean(
+            options,
+            RewriteDataFiles.USE_STARTING_SEQUENCE_NUMBER,
+            RewriteDataFiles.USE_STARTING_SEQUENCE_NUMBER_DEFAULT);
+
+    Preconditions.checkArgument(
+        maxConcurrentFileGroupRewrites >= 1,
+        "Cannot set %s to %s, the value must be positive.",
+        RewriteDataFiles.MAX_CONCURRENT_FILE_GROUP_REWRITES,
+        maxConcurrentFileGroupRewrites);
+
+    Preconditions.checkArgument(
+        !partialProgressEnabled || maxCommits > 0,
+        "Cannot set %s to %s, the value must be positive when %s is true",
+        RewriteDataFiles.PARTIAL_PROGRESS_MAX_COMMITS,
+        maxCommits,
+        RewriteDataFiles.PARTIAL_PROGRESS_ENABLED);
+  }
+
+  public boolean useStartingSequenceNumber() {
+    return useStartingSequenceNumber;
+  }
+
+  /**
+   * Rewrites the file groups of a plan and commits them.
+   *
+   * @param plan the plan to rewrite
+   * @param commitManager the commit manager to commit the rewritten groups with
+   * @param rewriteFunc a function that rewrites a group and sets its output files
+   * @return a result builder with the results of the committed groups
+   */
+  public ImmutableRewriteDataFiles.Result.Builder execute(
+      FileRewritePlan<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> plan,
+      RewriteDataFilesCommitManager commitManager,
+      Function<RewriteFileGroup, RewriteFileGroup> rewriteFunc) {
+    return partialProgressEnabled
+        ? doExecuteWithPartialProgress(plan, commitManager, rewriteFunc)
+        : doExecute(plan, commitManager, rewriteFunc);
+  }
+
+  private ExecutorService rewriteService() {
+    return MoreExecutors.getExitingExecutorService(
+        (ThreadPoolExecutor)
+            Executors.newFixedThreadPool(
+                maxConcurrentFileGroupRewrites,
+                new ThreadFactoryBuilder().setNameFormat("Rewrite-Service-%d").build()));
+  }
+
+  private ImmutableRewriteDataFiles.Result.Builder doExecute(
+      FileRewritePlan<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> plan,
+      RewriteDataFilesCommitManager commitManager,
+      Function<RewriteFileGroup, RewriteFileGroup> rewriteFunc) {
+    ExecutorService rewriteService = rewriteService();
+
+    ConcurrentLinkedQueue<RewriteFileGroup> rewrittenGroups = Queues.newConcurrentLinkedQueue();
+
+    Tasks.Builder<RewriteFileGroup> rewriteTaskBuilder =
+        Tasks.foreach(plan.groups())
+            .executeWith(rewriteService)
+            .stopOnFailure()
+            .noRetry()
+            .onFailure(
+                (fileGroup, exception) -> {
+                  LOG.warn(
+                      "Failure during rewrite process for group {}", fileGroup.info(), exception);
+                });
+
+    try {
+      rewriteTaskBuilder.run(
+          fileGroup -> {
+            rewrittenGroups.add(rewriteFunc.apply(fileGroup));
+          });
+    } catch (Exception e) {
+      // At least one rewrite group failed, clean up all completed rewrites
+      LOG.error(
+          "Cannot complete rewrite, {} is not enabled and one of the file set groups failed to "
+              + "be rewritten. This error occurred during the writing of new files, not during "
+              + "the commit process. This indicates something is wrong that doesn't involve "
+              + "conflicts with other Iceberg operations. Enabling {} may help in this case but "
+              + "the root cause should be investigated. Cleaning up {} groups which finished "
+              + "being written.",
+          RewriteDataFiles.PARTIAL_PROGRESS_ENABLED,
+          RewriteDataFiles.PARTIAL_PROGRESS_ENABLED,
+          rewrittenGroups.size(),
+          e);
+
+      Tasks.foreach(rewrittenGroups)
+          .suppressFailureWhenFinished()
+          .run(commitManager::abortFileGroup);
+      throw e;
+    } finally {
+      rewriteService.shutdown();
+    }
+
+    try {
+      commitManager.commitOrClean(Sets.newHashSet(rewrittenGroups));
+    } catch (ValidationException | CommitFailedException e) {
+      String errorMessage =
+          String.format(
+              "Cannot commit rewrite because of a ValidationException or CommitFailedException. "
+                  + "This usually means that this rewrite has conflicted with another concurrent "
+                  + "Iceberg operation. To reduce the likelihood of conflicts, set %s which will "
+                  + "break up the rewrite into multiple smaller commits controlled by %s. "
+                  + "Separate smaller rewrite commits can succeed independently while any "
+                  + "commits that conflict with another Iceberg operation will be ignored. This "
+                  + "mode will create additional snapshots in the table history, one for each "
+                  + "commit.",
+              RewriteDataFiles.PARTIAL_PROGRESS_ENABLED,
+              RewriteDataFiles.PARTIAL_PROGRESS_MAX_COMMITS);
+      throw new RuntimeException(errorMessage, e);
+    }
+
+    return ImmutableRewriteDataFiles.Result.builder()
+        .rewriteResults(toRewriteResults(rewrittenGroups));
+  }
+
+  private ImmutableRewriteDataFiles.Result.Builder doExecuteWithPartialProgress(
+      FileRewritePlan<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> plan,
+      RewriteDataFilesCommitManager commitManager,
+      Function<RewriteFileGroup, RewriteFileGroup> rewriteFunc) {
+    ExecutorService rewriteService = rewriteService();
+
+    // start commit service
+    int groupsPerCommit = IntMath.divide(plan.totalGroupCount(), maxCommits, RoundingMode.CEILING);
+    RewriteDataFilesCommitManager.CommitService commitService =
+        commitManager.service(groupsPerCommit);
+    commitService.start();
+
+    Collection<FileGroupFailureResult> rewriteFailures = new ConcurrentLinkedQueue<>();
+    // start rewrite tasks
+    Tasks.foreach(plan.groups())
+        .suppressFailureWhenFinished()
+        .executeWith(rewriteService)
+        .noRetry()
+        .onFailure(
+            (fileGroup, exception) -> {
+              LOG.error("Failure during rewrite group {}", fileGroup.info(), exception);
+              rewriteFailures.add(
+                  ImmutableRewriteDataFiles.FileGroupFailureResult.builder()
+                      .info(fileGroup.info())
+                      .dataFilesCount(fileGroup.inputFileNum())
+                      .build());
+            })
+        .run(fileGroup -> commitService.offer(rewriteFunc.apply(fileGroup)));
+    rewriteService.shutdown();
+
+    // stop commit service
+    commitService.close();
+
+    int totalCommits = Math.min(plan.totalGroupCount(), maxCommits);
+    int failedCommits = totalCommits - commitService.succeededCommits();
+    if (failedCommits > 0 && failedCommits <= maxFailedCommits) {
+      LOG.warn(
+          "{} is true but {} rewrite commits failed. Check the logs to determine why the "
+              + "individual commits failed. If this is persistent it may help to increase {} "
+              + "which will split the rewrite operation into smaller commits.",
+          RewriteDataFiles.PARTIAL_PROGRESS_ENABLED,
+          failedCommits,
+          RewriteDataFiles.PARTIAL_PROGRESS_MAX_COMMITS);
+    } else if (failedCommits > maxFailedCommits) {
+      String errorMessage =
+          String.format(
+              Locale.ROOT,
+              "%s is true but %d rewrite commits failed. This is more than the maximum allowed "
+                  + "failures of %d. Check the logs to determine why the individual commits "
+                  + "failed. If this is persistent it may help to increase %s which will split "
+                  + "the rewrite operation into smaller commits.",
+              RewriteDataFiles.PARTIAL_PROGRESS_ENABLED,
+              failedCommits,
+              maxFailedCommits,
+              RewriteDataFiles.PARTIAL_PROGRESS_MAX_COMMITS);
+      throw new RuntimeException(errorMessage);
+    }
+
+    return ImmutableRewriteDataFiles.Result.builder()
+        .rewriteResults(toRewriteResults(commitService.results()))
+        .rewriteFailures(rewriteFailures);
+  }
+
+  private static List<FileGroupRewriteResult> toRewriteResults(
+      Collection<RewriteFileGroup> groups) {
+    return groups.stream().map(RewriteFileGroup::asResult).collect(Collectors.toList());
+  }
+}
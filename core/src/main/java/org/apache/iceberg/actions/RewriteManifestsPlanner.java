@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.actions;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFile.PartitionFieldSummary;
+import org.apache.iceberg.PartitionField;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.PropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selects the manifests of a partition spec that should be rewritten, based on their size, their
+ * ratio of live entries, and how well they are clustered by partition.
+ *
+ * <p>A manifest is selected if it is smaller than {@link #MIN_MANIFEST_SIZE_BYTES}, larger than
+ * {@link #MAX_MANIFEST_SIZE_BYTES}, has a ratio of live entries below {@link
+ * #MIN_LIVE_ENTRIES_RATIO}, or if its range of values for the clustering partition field overlaps
+ * the ranges of more than {@link #MAX_OVERLAPPING_MANIFESTS} other manifests. Ranges come from the
+ * partition field summaries stored in the manifest list. Manifests that contain a single value of
+ * the clustering field cannot be clustered better and are not selected for overlapping.
+ *
+ * <p>Rewriting the selected manifests sorted by partition replaces them with right-sized manifests
+ * that cover narrow partition ranges, while manifests that are already well clustered are kept.
+ */
+public class RewriteManifestsPlanner {
+  /**
+   * Overrides other options and selects all provided manifests.
+   *
+   * <p>Defaults to true to keep the behavior of rewriting all manifests that match the rewrite
+   * predicate.
+   */
+  public static final String REWRITE_ALL = "rewrite-all";
+
+  public static final boolean REWRITE_ALL_DEFAULT = true;
+
+  /**
+   * Manifests smaller than this size are selected for rewriting. Defaults to 75% of the target
+   * manifest size.
+   */
+  public static final String MIN_MANIFEST_SIZE_BYTES = "min-manifest-size-bytes";
+
+  public static final double MIN_MANIFEST_SIZE_DEFAULT_RATIO = 0.75;
+
+  /**
+   * Manifests larger than this size are selected for rewriting. Defaults to 180% of the target
+   * manifest size.
+   */
+  public static final String MAX_MANIFEST_SIZE_BYTES = "max-manifest-size-bytes";
+
+  public static final double MAX_MANIFEST_SIZE_DEFAULT_RATIO = 1.80;
+
+  /**
+   * Manifests with a lower ratio of added and existing entries to all entries are selected for
+   * rewriting, which drops their deleted entries.
+   */
+  public static final String MIN_LIVE_ENTRIES_RATIO = "min-live-entries-ratio";
+
+  public static final double MIN_LIVE_ENTRIES_RATIO_DEFAULT = 0.8;
+
+  /**
+   * Manifests with a range of values for the clustering partition field that overlaps the ranges of
+   * more manifests than this are selected for rewriting.
+   */
+  public static final String MAX_OVERLAPPING_MANIFESTS = "max-overlapping-manifests";
+
+  public static final int MAX_OVERLAPPING_MANIFESTS_DEFAULT = 4;
+
+  private static final Logger LOG = LoggerFactory.getLogger(RewriteManifestsPlanner.class);
+
+  private final long targetManifestSizeBytes;
+  private final int clusteringFieldPos;
+  private final Type clusteringFieldType;
+
+  private boolean rewriteAll;
+  private long minManifestSizeBytes;
+  private long maxManifestSizeBytes;
+  private double minLiveEntriesRatio;
+  private int maxOverlappingManifests;
+
+  public RewriteManifestsPlanner(Table table, int specId) {
+    this(table, specId, null);
+  }
+
+  /**
+   * Creates a planner for manifests of the given spec.
+   *
+   * @param table the table to plan for
+   * @param specId the spec ID of manifests to plan
+   * @param clusteringField the name of the partition field that output manifests are clustered by,
+   *     or null to use the first field of the spec
+   */
+  public RewriteManifestsPlanner(Table table, int specId, String clusteringField) {
+    PartitionSpec spec = table.specs().get(specId);
+    Preconditions.checkArgument(spec != null, "Invalid spec id: %s", specId);
+    this.targetManifestSizeBytes =
+        PropertyUtil.propertyAsLong(
+            table.properties(),
+            TableProperties.MANIFEST_TARGET_SIZE_BYTES,
+            TableProperties.MANIFEST_TARGET_SIZE_BYTES_DEFAULT);
+    this.clusteringFieldPos = clusteringFieldPos(spec, clusteringField);
+    this.clusteringFieldType =
+        clusteringFieldPos >= 0
+            ? spec.partitionType().fields().get(clusteringFieldPos).type()
+            : null;
+  }
+
+  public Set<String> validOptions() {
+    return ImmutableSet.of(
+        REWRITE_ALL,
+        MIN_MANIFEST_SIZE_BYTES,
+        MAX_MANIFEST_SIZE_BYTES,
+        MIN_LIVE_ENTRIES_RATIO,
+        MAX_OVERLAPPING_MANIFESTS);
+  }
+
+  public void init(Map<String, String> options) {
+    this.rewriteAll = PropertyUtil.propertyAsBoolean(options, REWRITE_ALL, REWRITE_ALL_DEFAULT);
+    this.minManifestSizeBytes =
+        PropertyUtil.propertyAsLong(
+            options,
+            MIN_MANIFEST_SIZE_BYTES,
+            (long) (targetManifestSizeBytes * MIN_MANIFEST_SIZE_DEFAULT_RATIO));
+    this.maxManifestSizeBytes =
+        PropertyUtil.propertyAsLong(
+            options,
+            MAX_MANIFEST_SIZE_BYTES,
+            (long) (targetManifestSizeBytes * MAX_MANIFEST_SIZE_DEFAULT_RATIO));
+    this.minLiveEntriesRatio =
+        PropertyUtil.propertyAsDouble(
+            options, MIN_LIVE_ENTRIES_RATIO, MIN_LIVE_ENTRIES_RATIO_DEFAULT);
+    this.maxOverlappingManifests =
+        PropertyUtil.propertyAsInt(
+            options, MAX_OVERLAPPING_MANIFESTS, MAX_OVERLAPPING_MANIFESTS_DEFAULT);
+    validateOptions();
+  }
+
+  /**
+   * Selects the manifests to rewrite.
+   *
+   * @param manifests manifests of the planner's spec that match the rewrite predicate
+   * @return the manifests to rewrite
+   */
+  public List<ManifestFile> plan(List<ManifestFile> manifests) {
+    if (rewriteAll) {
+      return manifests;
+    }
+
+    int[] overlaps = overlappingManifests(manifests);
+    List<ManifestFile> selected = Lists.newArrayList();
+    boolean rewritesSingleManifest = false;
+
+    for (int index = 0; index < manifests.size(); index += 1) {
+      ManifestFile manifest = manifests.get(index);
+      boolean tooLarge = manifest.length() > maxManifestSizeBytes;
+      boolean tooFewLiveEntries = liveEntriesRatio(manifest) < minLiveEntriesRatio;
+      if (tooLarge
+          || tooFewLiveEntries
+          || manifest.length() < minManifestSizeBytes
+          || overlaps[index] > maxOverlappingManifests) {
+        selected.add(manifest);
+        rewritesSingleManifest = rewritesSingleManifest || tooLarge || tooFewLiveEntries;
+      }
+    }
+
+    LOG.info(
+        "Selected {} of {} manifests to rewrite (min size: {}, max size: {}, "
+            + "min live entries ratio: {}, max overlapping manifests: {})",
+        selected.size(),
+        manifests.size(),
+        minManifestSizeBytes,
+        maxManifestSizeBytes,
+        minLiveEntriesRatio,
+        maxOverlappingManifests);
+
+    // a single small or overlapping manifest would be rewritten into an equivalent manifest
+    if (selected.size() == 1 && !rewritesSingleManifest) {
+      return ImmutableList.of();
+    }
+
+    return selected;
+  }
+
+  private int[] overlappingManifests(List<ManifestFile> manifests) {
+    int[] overlaps = new int[manifests.size()];
+    if (clusteringFieldType == null) {
+      return overlaps;
+    }
+
+    // nulls sort before other values and a null bound is the null value
+    Comparator<Object> comparator =
+        Comparators.nullsFirst()
+            .thenComparing(Comparators.forType(clusteringFieldType.asPrimitiveType()));
+
+    Object[] lowers = new Object[manifests.size()];
+    Object[] uppers = new Object[manifests.size()];
+    boolean[] hasRange = new boolean[manifests.size()];
+    int numRanges = 0;
+
+    for (int index = 0; index < manifests.size(); index += 1) {
+      PartitionFieldSummary summary = clusteringFieldSummary(manifests.get(index));
+      if (summary != null) {
+        lowers[index] = summary.containsNull() ? null : bound(summary.lowerBound());
+        uppers[index] = bound(summary.upperBound());
+        hasRange[index] = true;
+        numRanges += 1;
+      }
+    }
+
+    // count ranges that start after or end before each range using sorted bounds
+    Object[] sortedLowers = new Object[numRanges];
+    Object[] sortedUppers = new Object[numRanges];
+    int pos = 0;
+    for (int index = 0; index < manifests.size(); index += 1) {
+      if (hasRange[index]) {
+        sortedLowers[pos] = lowers[index];
+        sortedUppers[pos] = uppers[index];
+        pos += 1;
+      }
+    }
+
+    Arrays.sort(sortedLowers, comparator);
+    Arrays.sort(sortedUppers, comparator);
+
+    for (int index = 0; index < manifests.size(); index += 1) {
+      if (hasRange[index] && comparator.compare(lowers[index], uppers[index]) < 0) {
+        int startBeforeEnd = countAtMost(sortedLowers, uppers[index], comparator);
+        int endBeforeStart = countLessThan(sortedUppers, lowers[index], comparator);
+        overlaps[index] = startBeforeEnd - endBeforeStart - 1;
+      }
+    }
+
+    return overlaps;
+  }
+
+  private PartitionFieldSummary clusteringFieldSummary(ManifestFile manifest) {
+    List<PartitionFieldSummary> summaries = manifest.partitions();
+    if (summaries == null || summaries.size() <= clusteringFieldPos) {
+      return null;
+    }
+
+    PartitionFieldSummary summary = summaries.get(clusteringFieldPos);
+    boolean hasValues = summary.lowerBound() != null && summary.upperBound() != null;
+    return hasValues || summary.containsNull() ? summary : null;
+  }
+
+  private Object bound(ByteBuffer bound) {
+    return bound != null ? Conversions.fromByteBuffer(clusteringFieldType, bound) : null;
+  }
+
+  private static double liveEntriesRatio(ManifestFile manifest) {
+    if (manifest.addedFilesCount() == null
+        || manifest.existingFilesCount() == null
+        || manifest.deletedFilesCount() == null) {
+      return 1.0;
+    }
+
+    long liveEntries = manifest.addedFilesCount() + manifest.existingFilesCount();
+    long allEntries = liveEntries + manifest.deletedFilesCount();
+    return allEntries > 0 ? (double) liveEntries / allEntries : 1.0;
+  }
+
+  // returns the number of values in the sorted array that are less than or equal to the value
+  private static int countAtMost(Object[] sorted, Object value, Comparator<Object> comparator) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (comparator.compare(sorted[mid], value) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  // returns the number of values in the sorted array that are less than the value
+  private static int countLessThan(Object[] sorted, Object value, Comparator<Object> comparator) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (comparator.compare(sorted[mid], value) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+
+  private static int clusteringFieldPos(PartitionSpec spec, String clusteringField) {
+    List<PartitionField> fields = spec.fields();
+    if (clusteringField == null) {
+      return fields.isEmpty() ? -1 : 0;
+    }
+
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      if (fields.get(pos).name().equals(clusteringField)) {
+        return pos;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        String.format("Cannot find partition field %s in spec %s", clusteringField, spec));
+  }
+
+  private void validateOptions() {
+    Preconditions.checkArgument(
+        minManifestSizeBytes >= 0,
+        "'%s' is set to %s but must be >= 0",
+        MIN_MANIFEST_SIZE_BYTES,
+        minManifestSizeBytes);
+    Preconditions.checkArgument(
+        maxManifestSizeBytes > minManifestSizeBytes,
+        "'%s' (%s) must be > '%s' (%s)",
+        MAX_MANIFEST_SIZE_BYTES,
+        maxManifestSizeBytes,
+        MIN_MANIFEST_SIZE_BYTES,
+        minManifestSizeBytes);
+    Preconditions.checkArgument(
+        minLiveEntriesRatio >= 0 && minLiveEntriesRatio <= 1,
+        "'%s' is set to %s but must be between 0 and 1",
+        MIN_LIVE_ENTRIES_RATIO,
+        minLiveEntriesRatio);
+    Preconditions.checkArgument(
+        maxOverlappingManifests >= 0,
+        "'%s' is set to %s but must be >= 0",
+        MAX_OVERLAPPING_MANIFESTS,
+        maxOverlappingManifests);
+  }
+}
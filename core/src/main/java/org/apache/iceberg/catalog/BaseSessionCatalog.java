@@ -99,6 +99,11 @@ public abstract class BaseSessionCatalog implements SessionCatalog {
       return BaseSessionCatalog.this.loadTable(context, ident);
     }
 
+    @Override
+    public Map<TableIdentifier, Table> loadTables(List<TableIdentifier> identifiers) {
+      return BaseSessionCatalog.this.loadTables(context, identifiers);
+    }
+
     @Override
     public boolean dropTable(TableIdentifier ident) {
       return BaseSessionCatalog.this.dropTable(context, ident);
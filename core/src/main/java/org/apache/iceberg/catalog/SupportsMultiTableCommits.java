@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.catalog;
+
+import java.util.List;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
+
+/** Catalog methods for committing changes to several tables atomically. */
+public interface SupportsMultiTableCommits {
+  /**
+   * Commits changes to several tables atomically. Either all changes are applied or none are.
+   *
+   * @param commits the changes to apply to each table
+   * @throws CommitFailedException if the requirements of any table are not met, in which case no
+   *     table was changed and the commit can be retried with refreshed changes
+   * @throws CommitStateUnknownException if the state of the commit cannot be determined
+   * @throws UnsupportedOperationException if the catalog cannot commit to several tables
+   */
+  void commitTransaction(List<TableCommit> commits);
+}
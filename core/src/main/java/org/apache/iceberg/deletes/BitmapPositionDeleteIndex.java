@@ -98,6 +98,11 @@ class BitmapPositionDeleteIndex implements PositionDeleteIndex {
     bitmap.forEach(consumer);
   }
 
+  @Override
+  public void forEachRange(long posStart, long posEnd, RangeConsumer consumer) {
+    bitmap.forEachRange(posStart, posEnd, consumer);
+  }
+
   @Override
   public Collection<DeleteFile> deleteFiles() {
     return deleteFiles;
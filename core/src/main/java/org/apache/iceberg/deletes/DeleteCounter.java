@@ -28,6 +28,15 @@ public class DeleteCounter {
     count++;
   }
 
+  /**
+   * Increment the counter by the given number of deletes.
+   *
+   * @param deleteCount the number of deletes
+   */
+  public void increment(long deleteCount) {
+    count += deleteCount;
+  }
+
   /** Return the current value of the counter. */
   public long get() {
     return count;
@@ -48,6 +48,9 @@ class EmptyPositionDeleteIndex implements PositionDeleteIndex {
     return true;
   }
 
+  @Override
+  public void forEachRange(long posStart, long posEnd, RangeConsumer consumer) {}
+
   @Override
   public String toString() {
     return "PositionDeleteIndex{}";
@@ -79,6 +79,35 @@ public interface PositionDeleteIndex {
     }
   }
 
+  /**
+   * Traverses ranges of consecutive deleted positions in ascending order, applying the provided
+   * consumer to each range.
+   *
+   * <p>Only positions between posStart (inclusive) and posEnd (exclusive) are passed to the
+   * consumer, so ranges that cross these bounds are truncated.
+   *
+   * @param posStart inclusive beginning of position range
+   * @param posEnd exclusive ending of position range
+   * @param consumer a consumer for ranges of deleted positions
+   */
+  default void forEachRange(long posStart, long posEnd, RangeConsumer consumer) {
+    long rangeStart = -1L;
+    for (long pos = posStart; pos < posEnd; pos++) {
+      if (isDeleted(pos)) {
+        if (rangeStart < 0) {
+          rangeStart = pos;
+        }
+      } else if (rangeStart >= 0) {
+        consumer.accept(rangeStart, pos);
+        rangeStart = -1L;
+      }
+    }
+
+    if (rangeStart >= 0) {
+      consumer.accept(rangeStart, posEnd);
+    }
+  }
+
   /**
    * Returns delete files that this index was created from or an empty collection if unknown.
    *
@@ -117,4 +146,16 @@ public interface PositionDeleteIndex {
   static PositionDeleteIndex empty() {
     return EmptyPositionDeleteIndex.get();
   }
+
+  /** A consumer for ranges of row positions. */
+  @FunctionalInterface
+  interface RangeConsumer {
+    /**
+     * Accepts a range of row positions.
+     *
+     * @param posStart inclusive beginning of position range
+     * @param posEnd exclusive ending of position range
+     */
+    void accept(long posStart, long posEnd);
+  }
 }
@@ -54,6 +54,7 @@ class RoaringPositionBitmap {
   private static final RoaringBitmap[] EMPTY_BITMAP_ARRAY = new RoaringBitmap[0];
   private static final long BITMAP_COUNT_SIZE_BYTES = 8L;
   private static final long BITMAP_KEY_SIZE_BYTES = 4L;
+  private static final long BITMAP_POSITION_COUNT = 1L << 32;
 
   private RoaringBitmap[] bitmaps;
 
@@ -161,6 +162,64 @@ class RoaringPositionBitmap {
     }
   }
 
+  /**
+   * Iterates over ranges of consecutive positions in the bitmap that are within the given range.
+   *
+   * <p>Ranges are found using the runs of the underlying 32-bit bitmaps, without checking
+   * individual positions that are not set.
+   *
+   * @param posStartInclusive the start position of the range (inclusive)
+   * @param posEndExclusive the end position of the range (exclusive)
+   * @param consumer a consumer for ranges of positions
+   */
+  public void forEachRange(
+      long posStartInclusive, long posEndExclusive, PositionDeleteIndex.RangeConsumer consumer) {
+    if (posStartInclusive >= posEndExclusive) {
+      return;
+    }
+
+    validatePosition(posStartInclusive);
+    long runStart = -1L;
+    long runEnd = -1L;
+    int lastKey = Math.min(key(posEndExclusive - 1), bitmaps.length - 1);
+
+    for (int key = key(posStartInclusive); key <= lastKey; key++) {
+      RoaringBitmap bitmap = bitmaps[key];
+      long keyStart = toPosition(key, 0);
+      long from = Math.max(posStartInclusive, keyStart);
+      long to = Math.min(posEndExclusive, keyStart + BITMAP_POSITION_COUNT);
+
+      while (from < to) {
+        long next = bitmap.nextValue(pos32Bits(from));
+        if (next < 0 || keyStart + next >= to) {
+          break;
+        }
+
+        // the next unset position ends the run, or the run continues to the end of the bitmap
+        long absent = bitmap.nextAbsentValue((int) next);
+        long start = keyStart + next;
+        long end = absent < 0 ? to : Math.min(keyStart + absent, to);
+
+        if (start == runEnd) {
+          runEnd = end; // continues a run from the previous bitmap
+        } else {
+          if (runStart >= 0) {
+            consumer.accept(runStart, runEnd);
+          }
+
+          runStart = start;
+          runEnd = end;
+        }
+
+        from = end;
+      }
+    }
+
+    if (runStart >= 0) {
+      consumer.accept(runStart, runEnd);
+    }
+  }
+
   @VisibleForTesting
   int allocatedBitmapCount() {
     return bitmaps.length;
@@ -18,6 +18,8 @@
  */
 package org.apache.iceberg.hadoop;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -26,6 +28,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
@@ -59,6 +64,10 @@ import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.LocationUtil;
 import org.apache.iceberg.util.LockManagers;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -86,6 +95,32 @@ public class HadoopCatalog extends BaseMetastoreCatalog
   private static final PathFilter TABLE_FILTER =
       path -> path.getName().endsWith(TABLE_METADATA_FILE_EXTENSION);
   private static final String HADOOP_SUPPRESS_PERMISSION_ERROR = "suppress-permission-error";
+  private static final int MAX_CACHED_VERSIONS = 100_000;
+
+  /**
+   * How long the resolved metadata version of a table is reused by later loads, in milliseconds.
+   *
+   * <p>A load with a cached version skips reading the version hint file but still checks for newer
+   * versions, so commits from other processes are seen. Defaults to 0, which disables the cache.
+   */
+  public static final String METADATA_VERSION_CACHE_TTL_MS = "metadata-version-cache.ttl-ms";
+
+  public static final long METADATA_VERSION_CACHE_TTL_MS_DEFAULT = 0L;
+
+  /** Number of threads used to check whether directories are tables when listing a namespace. */
+  public static final String LIST_PARALLELISM = "list.parallelism";
+
+  public static final int LIST_PARALLELISM_DEFAULT = 1;
+
+  /**
+   * Whether to check that each directory in a namespace has table metadata when listing tables.
+   *
+   * <p>When disabled, every directory in a namespace is listed as a table without further calls to
+   * the file system. This should only be used when namespaces do not contain nested namespaces.
+   */
+  public static final String LIST_TABLES_CHECK_METADATA = "list-tables.check-metadata";
+
+  public static final boolean LIST_TABLES_CHECK_METADATA_DEFAULT = true;
 
   private String catalogName;
   private Configuration conf;
@@ -96,6 +131,9 @@ public class HadoopCatalog extends BaseMetastoreCatalog
   private LockManager lockManager;
   private boolean suppressPermissionError = false;
   private Map<String, String> catalogProperties;
+  private Cache<String, Pair<Integer, Path>> versionCache = null;
+  private ExecutorService listPool = null;
+  private boolean listTablesCheckMetadata = LIST_TABLES_CHECK_METADATA_DEFAULT;
 
   public HadoopCatalog() {}
 
@@ -126,6 +164,31 @@ public class HadoopCatalog extends BaseMetastoreCatalog
 
     this.suppressPermissionError =
         Boolean.parseBoolean(properties.get(HADOOP_SUPPRESS_PERMISSION_ERROR));
+
+    long versionCacheTtlMs =
+        PropertyUtil.propertyAsLong(
+            properties, METADATA_VERSION_CACHE_TTL_MS, METADATA_VERSION_CACHE_TTL_MS_DEFAULT);
+    if (versionCacheTtlMs > 0) {
+      this.versionCache =
+          Caffeine.newBuilder()
+              .expireAfterWrite(versionCacheTtlMs, TimeUnit.MILLISECONDS)
+              .maximumSize(MAX_CACHED_VERSIONS)
+              .build();
+    }
+
+    int listParallelism =
+        PropertyUtil.propertyAsInt(properties, LIST_PARALLELISM, LIST_PARALLELISM_DEFAULT);
+    Preconditions.checkArgument(
+        listParallelism > 0, "Invalid %s: %s", LIST_PARALLELISM, listParallelism);
+    if (listParallelism > 1) {
+      ExecutorService pool = ThreadPools.newFixedThreadPool("hadoop-catalog-list", listParallelism);
+      this.listPool = pool;
+      closeableGroup.addCloseable(pool::shutdown);
+    }
+
+    this.listTablesCheckMetadata =
+        PropertyUtil.propertyAsBoolean(
+            properties, LIST_TABLES_CHECK_METADATA, LIST_TABLES_CHECK_METADATA_DEFAULT);
   }
 
   /**
@@ -171,6 +234,27 @@ public class HadoopCatalog extends BaseMetastoreCatalog
     }
   }
 
+  /** Returns the directories that are tables, checking directories in parallel if configured. */
+  private Set<Path> tableDirs(List<Path> dirs) {
+    if (listPool == null) {
+      return dirs.stream().filter(this::isTableDir).collect(Collectors.toSet());
+    }
+
+    Set<Path> tableDirs = Sets.newConcurrentHashSet();
+    Tasks.foreach(dirs)
+        .executeWith(listPool)
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(
+            dir -> {
+              if (isTableDir(dir)) {
+                tableDirs.add(dir);
+              }
+            });
+
+    return tableDirs;
+  }
+
   private boolean isDirectory(Path path) {
     try {
       return fs.getFileStatus(path).isDirectory();
@@ -198,6 +282,8 @@ public class HadoopCatalog extends BaseMetastoreCatalog
       if (!isDirectory(nsPath)) {
         throw new NoSuchNamespaceException("Namespace does not exist: %s", namespace);
       }
+
+      List<Path> dirs = Lists.newArrayList();
       RemoteIterator<FileStatus> it = fs.listStatusIterator(nsPath);
       while (it.hasNext()) {
         FileStatus status = it.next();
@@ -206,11 +292,12 @@ public class HadoopCatalog extends BaseMetastoreCatalog
           continue;
         }
 
-        Path path = status.getPath();
-        if (isTableDir(path)) {
-          TableIdentifier tblIdent = TableIdentifier.of(namespace, path.getName());
-          tblIdents.add(tblIdent);
-        }
+        dirs.add(status.getPath());
+      }
+
+      for (Path path : listTablesCheckMetadata ? tableDirs(dirs) : dirs) {
+        TableIdentifier tblIdent = TableIdentifier.of(namespace, path.getName());
+        tblIdents.add(tblIdent);
       }
     } catch (IOException ioe) {
       throw new RuntimeIOException(ioe, "Failed to list tables under: %s", namespace);
@@ -227,7 +314,7 @@ public class HadoopCatalog extends BaseMetastoreCatalog
   @Override
   protected TableOperations newTableOps(TableIdentifier identifier) {
     return new HadoopTableOperations(
-        new Path(defaultWarehouseLocation(identifier)), fileIO, conf, lockManager);
+        new Path(defaultWarehouseLocation(identifier)), fileIO, conf, lockManager, versionCache);
   }
 
   @Override
@@ -263,6 +350,10 @@ public class HadoopCatalog extends BaseMetastoreCatalog
           // so it has to call dropTableData to force delete the data file.
           CatalogUtil.dropTableData(ops.io(), lastMetadata);
         }
+        if (versionCache != null) {
+          versionCache.invalidate(new Path(tablePath, "metadata").toString());
+        }
+
         return fs.delete(tablePath, true /* recursive */);
       }
     } catch (IOException e) {
@@ -311,14 +402,24 @@ public class HadoopCatalog extends BaseMetastoreCatalog
     try {
       // using the iterator listing allows for paged downloads
       // from HDFS and prefetching from object storage.
-      List<Namespace> namespaces = Lists.newArrayList();
+      List<Path> dirs = Lists.newArrayList();
       RemoteIterator<FileStatus> it = fs.listStatusIterator(nsPath);
       while (it.hasNext()) {
-        Path path = it.next().getPath();
-        if (isNamespace(path)) {
+        // the listing already has the file status, so directories do not need another call
+        FileStatus status = it.next();
+        if (status.isDirectory()) {
+          dirs.add(status.getPath());
+        }
+      }
+
+      Set<Path> tableDirs = tableDirs(dirs);
+      List<Namespace> namespaces = Lists.newArrayList();
+      for (Path path : dirs) {
+        if (!tableDirs.contains(path)) {
           namespaces.add(append(namespace, path.getName()));
         }
       }
+
       return namespaces;
     } catch (IOException ioe) {
       throw new RuntimeIOException(ioe, "Failed to list namespace under: %s", namespace);
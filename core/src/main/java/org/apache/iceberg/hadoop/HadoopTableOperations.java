@@ -18,11 +18,16 @@
  */
 package org.apache.iceberg.hadoop;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.hadoop.conf.Configuration;
@@ -39,13 +44,16 @@ import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.LocationProvider;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +72,7 @@ public class HadoopTableOperations implements TableOperations {
   private final Path location;
   private final FileIO fileIO;
   private final LockManager lockManager;
+  private final Cache<String, Pair<Integer, Path>> versionCache;
 
   private volatile TableMetadata currentMetadata = null;
   private volatile Integer version = null;
@@ -71,10 +80,26 @@ public class HadoopTableOperations implements TableOperations {
 
   protected HadoopTableOperations(
       Path location, FileIO fileIO, Configuration conf, LockManager lockManager) {
+    this(location, fileIO, conf, lockManager, null);
+  }
+
+  /**
+   * Creates table operations that share resolved metadata versions with other instances.
+   *
+   * @param versionCache a cache of recently resolved versions and metadata files, keyed by metadata
+   *     directory, or null to resolve the version of a new instance from the version hint file
+   */
+  HadoopTableOperations(
+      Path location,
+      FileIO fileIO,
+      Configuration conf,
+      LockManager lockManager,
+      Cache<String, Pair<Integer, Path>> versionCache) {
     this.conf = conf;
     this.location = location;
     this.fileIO = fileIO;
     this.lockManager = lockManager;
+    this.versionCache = versionCache;
   }
 
   @Override
@@ -100,6 +125,21 @@ public class HadoopTableOperations implements TableOperations {
 
   @Override
   public TableMetadata refresh() {
+    Pair<Integer, Path> cached =
+        version == null && versionCache != null
+            ? versionCache.getIfPresent(metadataRoot().toString())
+            : null;
+    if (cached != null) {
+      try {
+        // the cached version skips reading the version hint; newer versions are still probed
+        return refreshFrom(cached.first(), cached.second());
+      } catch (NotFoundException e) {
+        // the table was dropped or its old metadata was removed, resolve the version again
+        LOG.debug("Cached metadata file {} is missing", cached.second(), e);
+        versionCache.invalidate(metadataRoot().toString());
+      }
+    }
+
     int ver = version != null ? version : findVersion();
     try {
       Path metadataFile = getMetadataFile(ver);
@@ -111,20 +151,37 @@ public class HadoopTableOperations implements TableOperations {
             "Metadata file for version %d is missing under %s", ver, metadataRoot());
       }
 
-      Path nextMetadataFile = getMetadataFile(ver + 1);
+      return refreshFrom(ver, metadataFile);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to refresh the table");
+    }
+  }
+
+  private TableMetadata refreshFrom(int knownVersion, Path knownMetadataFile) {
+    int ver = knownVersion;
+    Path metadataFile = knownMetadataFile;
+    try {
+      Path nextMetadataFile = probeMetadataFile(ver + 1);
       while (nextMetadataFile != null) {
         ver += 1;
         metadataFile = nextMetadataFile;
-        nextMetadataFile = getMetadataFile(ver + 1);
+        nextMetadataFile = probeMetadataFile(ver + 1);
       }
-
-      updateVersionAndMetadata(ver, metadataFile.toString());
-
-      this.shouldRefresh = false;
-      return currentMetadata;
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to refresh the table");
     }
+
+    updateVersionAndMetadata(ver, metadataFile.toString());
+    cacheVersion(ver, metadataFile);
+
+    this.shouldRefresh = false;
+    return currentMetadata;
+  }
+
+  private void cacheVersion(int ver, Path metadataFile) {
+    if (versionCache != null) {
+      versionCache.put(metadataRoot().toString(), Pair.of(ver, metadataFile));
+    }
   }
 
   @Override
@@ -162,6 +219,7 @@ public class HadoopTableOperations implements TableOperations {
     renameToFinal(fs, tempMetadataFile, finalMetadataFile, nextVersion);
 
     LOG.info("Committed a new metadata file {}", finalMetadataFile);
+    cacheVersion(nextVersion, finalMetadataFile);
 
     // update the best-effort version pointer
     writeVersionHint(nextVersion);
@@ -235,24 +293,72 @@ public class HadoopTableOperations implements TableOperations {
 
   @VisibleForTesting
   Path getMetadataFile(int metadataVersion) throws IOException {
-    for (TableMetadataParser.Codec codec : TABLE_METADATA_PARSER_CODEC_VALUES) {
-      Path metadataFile = metadataFilePath(metadataVersion, codec);
+    for (Path metadataFile : metadataFileCandidates(metadataVersion)) {
       FileSystem fs = getFileSystem(metadataFile, conf);
       if (fs.exists(metadataFile)) {
         return metadataFile;
       }
+    }
 
+    return null;
+  }
+
+  /**
+   * Returns the same file as {@link #getMetadataFile(int)}, but checks all candidate files in
+   * parallel.
+   *
+   * <p>This is used to probe for versions that usually do not exist, where checking the candidates
+   * one by one would cost a round trip to the file system for each of them.
+   */
+  private Path probeMetadataFile(int metadataVersion) throws IOException {
+    List<Path> candidates = metadataFileCandidates(metadataVersion);
+    List<Future<Boolean>> exists = Lists.newArrayListWithExpectedSize(candidates.size());
+    for (Path candidate : candidates) {
+      exists.add(
+          ProbePoolHolder.POOL.submit(() -> getFileSystem(candidate, conf).exists(candidate)));
+    }
+
+    try {
+      for (int i = 0; i < candidates.size(); i += 1) {
+        if (exists.get(i).get()) {
+          return candidates.get(i);
+        }
+      }
+
+      return null;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+
+      throw new RuntimeException("Failed to check metadata file", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while checking metadata files", e);
+    } finally {
+      // interrupting file system calls can close channels that are shared by cached file systems
+      exists.forEach(future -> future.cancel(false));
+    }
+  }
+
+  // a separate pool, so that refreshing in a thread of the shared worker pool cannot starve it
+  private static class ProbePoolHolder {
+    private static final ExecutorService POOL =
+        ThreadPools.newExitingWorkerPool(
+            "hadoop-metadata-probe", ThreadPools.WORKER_THREAD_POOL_SIZE);
+  }
+
+  private List<Path> metadataFileCandidates(int metadataVersion) {
+    List<Path> candidates = Lists.newArrayList();
+    for (TableMetadataParser.Codec codec : TABLE_METADATA_PARSER_CODEC_VALUES) {
+      candidates.add(metadataFilePath(metadataVersion, codec));
       if (codec.equals(TableMetadataParser.Codec.GZIP)) {
         // we have to be backward-compatible with .metadata.json.gz files
-        metadataFile = oldMetadataFilePath(metadataVersion, codec);
-        fs = getFileSystem(metadataFile, conf);
-        if (fs.exists(metadataFile)) {
-          return metadataFile;
-        }
+        candidates.add(oldMetadataFilePath(metadataVersion, codec));
       }
     }
 
-    return null;
+    return candidates;
   }
 
   private Path metadataFilePath(int metadataVersion, TableMetadataParser.Codec codec) {
@@ -336,8 +442,10 @@ public class HadoopTableOperations implements TableOperations {
         int maxVersion = 0;
 
         for (FileStatus file : files) {
-          int currentVersion = version(file.getPath().getName());
-          if (currentVersion > maxVersion && getMetadataFile(currentVersion) != null) {
+          // the listing shows which files exist, so only check that this is a metadata file name
+          String name = file.getPath().getName();
+          int currentVersion = version(name);
+          if (currentVersion > maxVersion && isMetadataFileName(currentVersion, name)) {
             maxVersion = currentVersion;
           }
         }
@@ -350,6 +458,11 @@ public class HadoopTableOperations implements TableOperations {
     }
   }
 
+  private boolean isMetadataFileName(int metadataVersion, String name) {
+    return metadataFileCandidates(metadataVersion).stream()
+        .anyMatch(candidate -> candidate.getName().equals(name));
+  }
+
   /**
    * Renames the source file to destination, using the provided file system. If the rename failed,
    * an attempt will be made to delete the source file.
@@ -21,7 +21,6 @@ package org.apache.iceberg.io;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileFormat;
@@ -33,13 +32,11 @@ import org.apache.iceberg.deletes.EqualityDeleteWriter;
 import org.apache.iceberg.deletes.PositionDelete;
 import org.apache.iceberg.deletes.SortingPositionOnlyDeleteWriter;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
-import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.CharSequenceSet;
-import org.apache.iceberg.util.StructLikeMap;
-import org.apache.iceberg.util.StructLikeUtil;
 import org.apache.iceberg.util.StructProjection;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
@@ -59,6 +56,7 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
   private final OutputFileFactory fileFactory;
   private final FileIO io;
   private final long targetFileSize;
+  private final InsertedRowIndex.MemoryBudget insertedKeysBudget;
   private Throwable failure;
 
   protected BaseTaskWriter(
@@ -68,12 +66,42 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
       OutputFileFactory fileFactory,
       FileIO io,
       long targetFileSize) {
+    this(spec, format, appenderFactory, fileFactory, io, targetFileSize, Long.MAX_VALUE);
+  }
+
+  /**
+   * Creates a task writer whose equality delta writers keep the keys of inserted rows in memory up
+   * to a budget.
+   *
+   * <p>The budget is shared by the delta writers for all partitions of this task. When the keys of
+   * the rows inserted by the delta writers are larger than the budget, the keys of the largest
+   * writer are spilled to local disk so that later deletes of the same keys can still be written as
+   * position deletes.
+   *
+   * @param spec the partition spec of the written files
+   * @param format the file format of the written files
+   * @param appenderFactory a factory for data and delete writers
+   * @param fileFactory a factory for output files
+   * @param io the table's FileIO
+   * @param targetFileSize the target size of data and delete files
+   * @param insertedKeysMemoryBudget the heap size in bytes of the inserted keys of this task, see
+   *     {@link org.apache.iceberg.TableProperties#DELTA_INSERTED_KEYS_MEMORY_BYTES}
+   */
+  protected BaseTaskWriter(
+      PartitionSpec spec,
+      FileFormat format,
+      FileAppenderFactory<T> appenderFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSize,
+      long insertedKeysMemoryBudget) {
     this.spec = spec;
     this.format = format;
     this.appenderFactory = appenderFactory;
     this.fileFactory = fileFactory;
     this.io = io;
     this.targetFileSize = targetFileSize;
+    this.insertedKeysBudget = new InsertedRowIndex.MemoryBudget(insertedKeysMemoryBudget);
   }
 
   protected PartitionSpec spec() {
@@ -111,6 +139,11 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
         .build();
   }
 
+  @VisibleForTesting
+  long insertedKeysSize() {
+    return insertedKeysBudget.used();
+  }
+
   /** Base equality delta writer to write both insert records and equality-deletes. */
   protected abstract class BaseEqualityDeltaWriter implements Closeable {
     private final StructProjection structProjection;
@@ -118,7 +151,8 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     private RollingFileWriter dataWriter;
     private RollingEqDeleteWriter eqDeleteWriter;
     private FileWriter<PositionDelete<T>, DeleteWriteResult> posDeleteWriter;
-    private Map<StructLike, PathOffset> insertedRowMap;
+    private InsertedRowIndex insertedRowIndex;
+    private final List<CharSequence> insertedFilePaths = Lists.newArrayList();
 
     protected BaseEqualityDeltaWriter(StructLike partition, Schema schema, Schema deleteSchema) {
       this(partition, schema, deleteSchema, DeleteGranularity.PARTITION);
@@ -140,24 +174,26 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
           new SortingPositionOnlyDeleteWriter<>(
               () -> appenderFactory.newPosDeleteWriter(newOutputFile(partition), format, partition),
               deleteGranularity);
-      this.insertedRowMap = StructLikeMap.create(deleteSchema.asStruct());
+      this.insertedRowIndex = new InsertedRowIndex(deleteSchema.asStruct(), insertedKeysBudget);
     }
 
     /** Wrap the data as a {@link StructLike}. */
     protected abstract StructLike asStructLike(T data);
 
+    @VisibleForTesting
+    int spilledInsertedKeyRuns() {
+      return insertedRowIndex.spilledRuns();
+    }
+
     /** Wrap the passed in key of a row as a {@link StructLike} */
     protected abstract StructLike asStructLikeKey(T key);
 
     public void write(T row) throws IOException {
-      PathOffset pathOffset = PathOffset.of(dataWriter.currentPath(), dataWriter.currentRows());
-
-      // Create a copied key from this row.
-      StructLike copiedKey = StructLikeUtil.copy(structProjection.wrap(asStructLike(row)));
+      long pathOffset = InsertedRowIndex.value(currentFileOrdinal(), dataWriter.currentRows());
 
       // Adding a pos-delete to replace the old path-offset.
-      PathOffset previous = insertedRowMap.put(copiedKey, pathOffset);
-      if (previous != null) {
+      long previous = insertedRowIndex.put(structProjection.wrap(asStructLike(row)), pathOffset);
+      if (previous != InsertedRowIndex.NONE) {
         // TODO attach the previous row if has a positional-delete row schema in appender factory.
         writePosDelete(previous);
       }
@@ -173,8 +209,22 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
       }
     }
 
-    private void writePosDelete(PathOffset pathOffset) {
-      positionDelete.set(pathOffset.path, pathOffset.rowOffset, null);
+    private int currentFileOrdinal() {
+      CharSequence path = dataWriter.currentPath();
+      int last = insertedFilePaths.size() - 1;
+      if (last < 0 || !insertedFilePaths.get(last).toString().equals(path.toString())) {
+        insertedFilePaths.add(path);
+        return last + 1;
+      }
+
+      return last;
+    }
+
+    private void writePosDelete(long pathOffset) {
+      positionDelete.set(
+          insertedFilePaths.get(InsertedRowIndex.fileOrdinal(pathOffset)),
+          InsertedRowIndex.position(pathOffset),
+          null);
       posDeleteWriter.write(positionDelete);
     }
 
@@ -184,9 +234,9 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
      * @param key has the same columns with the equality fields.
      */
     private boolean internalPosDelete(StructLike key) {
-      PathOffset previous = insertedRowMap.remove(key);
+      long previous = insertedRowIndex.remove(key);
 
-      if (previous != null) {
+      if (previous != InsertedRowIndex.NONE) {
         // TODO attach the previous row if has a positional-delete row schema in appender factory.
         writePosDelete(previous);
         return true;
@@ -240,9 +290,13 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
           }
         }
 
-        if (insertedRowMap != null) {
-          insertedRowMap.clear();
-          insertedRowMap = null;
+        if (insertedRowIndex != null) {
+          try {
+            insertedRowIndex.close();
+          } finally {
+            insertedRowIndex = null;
+            insertedFilePaths.clear();
+          }
         }
 
         // Add the completed pos-delete files.
@@ -264,28 +318,6 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     }
   }
 
-  private static class PathOffset {
-    private final CharSequence path;
-    private final long rowOffset;
-
-    private PathOffset(CharSequence path, long rowOffset) {
-      this.path = path;
-      this.rowOffset = rowOffset;
-    }
-
-    private static PathOffset of(CharSequence path, long rowOffset) {
-      return new PathOffset(path, rowOffset);
-    }
-
-    @Override
-    public String toString() {
-      return MoreObjects.toStringHelper(this)
-          .add("path", path)
-          .add("row_offset", rowOffset)
-          .toString();
-    }
-  }
-
   private abstract class BaseRollingWriter<W extends Closeable> implements Closeable {
     private static final int ROWS_DIVISOR = 1000;
     private final StructLike partitionKey;
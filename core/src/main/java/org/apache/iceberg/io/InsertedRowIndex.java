@@ -0,0 +1,722 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * An index from equality keys to the position of the last row that was written with each key.
+ *
+ * <p>Keys are encoded to bytes and stored in pages, and positions are stored as a primitive long
+ * that combines a file ordinal and a row position, so that each key uses a few bytes more than its
+ * encoded size instead of a copied struct and a path per row.
+ *
+ * <p>Indexes share a {@link MemoryBudget}, so that the delta writers for all partitions of a task
+ * are bounded together. The in-memory table and key pages of an index start small and grow as keys
+ * are added, so that an index with few keys uses little memory. When the indexes that share a budget
+ * are larger than it, the entries of the largest index are written to a sorted run file on local
+ * disk and its in-memory table is cleared. Later lookups that miss the in-memory table check the
+ * runs from newest to oldest using a bloom filter and a sparse index of each run, and keys that are
+ * removed after they were spilled are shadowed by an in-memory tombstone.
+ *
+ * <p>Removed keys are kept as tombstones, which count toward the memory budget. When most entries
+ * are tombstones, the in-memory table is compacted to drop the tombstones that do not shadow a key
+ * in a spilled run.
+ */
+class InsertedRowIndex implements Closeable {
+  static final long NONE = -1L;
+
+  private static final long TOMBSTONE = -2L;
+  private static final int POSITION_BITS = 40;
+  private static final long POSITION_MASK = (1L << POSITION_BITS) - 1;
+  private static final int MAX_FILE_ORDINAL = (1 << (Long.SIZE - POSITION_BITS - 1)) - 1;
+  private static final int MAX_PAGE_SIZE = 1 << 20;
+  private static final int INITIAL_PAGE_SIZE = 1 << 8;
+  private static final int INITIAL_CAPACITY = 1 << 4;
+  // minimum number of entries to spill and of tombstones to compact
+  private static final int MIN_ENTRIES = 1 << 10;
+  private static final int ENTRY_SIZE = Integer.BYTES * 2 + Long.BYTES * 2;
+
+  private final Types.StructType keyType;
+  private final MemoryBudget budget;
+  private final int maxPageSize;
+  private final KeyEncoder encoder = new KeyEncoder();
+  private final List<SpilledRun> runs = Lists.newArrayList();
+  private File spillDir = null;
+
+  // in-memory hash table: slots hold entry index + 1, or 0 when empty
+  private int[] slots;
+  private int[] entryHashes;
+  private long[] entryKeyRefs;
+  private int[] entryKeyLengths;
+  private long[] entryValues;
+  private int numEntries;
+  private int numTombstones;
+  private int compactionThreshold;
+  private final List<byte[]> pages = Lists.newArrayList();
+  private int pageOffset;
+  private long pageBytes;
+  private long reservedSize = 0L;
+
+  InsertedRowIndex(Types.StructType keyType) {
+    this(keyType, Long.MAX_VALUE);
+  }
+
+  InsertedRowIndex(Types.StructType keyType, long memoryBudget) {
+    this(keyType, new MemoryBudget(memoryBudget));
+  }
+
+  InsertedRowIndex(Types.StructType keyType, MemoryBudget budget) {
+    this.keyType = keyType;
+    this.budget = budget;
+    this.maxPageSize =
+        (int) Math.max(INITIAL_PAGE_SIZE, Math.min(MAX_PAGE_SIZE, budget.budget() / 8));
+    resetTable();
+    budget.register(this);
+    updateReservation();
+  }
+
+  /** Combines a file ordinal and a row position into an index value. */
+  static long value(int fileOrdinal, long position) {
+    Preconditions.checkArgument(
+        fileOrdinal >= 0 && fileOrdinal <= MAX_FILE_ORDINAL,
+        "Invalid file ordinal: %s",
+        fileOrdinal);
+    Preconditions.checkArgument(
+        position >= 0 && position <= POSITION_MASK, "Invalid position: %s", position);
+    return ((long) fileOrdinal << POSITION_BITS) | position;
+  }
+
+  static int fileOrdinal(long value) {
+    return (int) (value >>> POSITION_BITS);
+  }
+
+  static long position(long value) {
+    return value & POSITION_MASK;
+  }
+
+  /**
+   * Sets the value for a key.
+   *
+   * @param key a key struct, which is not referenced after this call
+   * @param value a value created by {@link #value(int, long)}
+   * @return the previous value for the key, or {@link #NONE}
+   */
+  long put(StructLike key, long value) {
+    encoder.encode(keyType, key);
+    long previous = lookup();
+    upsert(value);
+    return previous;
+  }
+
+  /**
+   * Removes a key.
+   *
+   * @param key a key struct
+   * @return the value that was removed, or {@link #NONE}
+   */
+  long remove(StructLike key) {
+    encoder.encode(keyType, key);
+    long previous = lookup();
+    if (previous != NONE) {
+      upsert(TOMBSTONE);
+      if (numTombstones >= compactionThreshold && numTombstones * 2L > numEntries) {
+        compact();
+        updateReservation();
+      }
+    }
+
+    return previous;
+  }
+
+  /** Returns the number of runs that were spilled to disk. */
+  int spilledRuns() {
+    return runs.size();
+  }
+
+  /** Returns the estimated heap size of the in-memory table. */
+  long estimatedSize() {
+    return pageBytes + (long) slots.length * Integer.BYTES + (long) entryHashes.length * ENTRY_SIZE;
+  }
+
+  @Override
+  public void close() {
+    try {
+      for (SpilledRun run : runs) {
+        run.close();
+      }
+    } finally {
+      runs.clear();
+      if (spillDir != null) {
+        spillDir.delete();
+        this.spillDir = null;
+      }
+
+      resetTable();
+      budget.unregister(this);
+      budget.reserve(-reservedSize);
+      this.reservedSize = 0L;
+    }
+  }
+
+  private long lookup() {
+    int entry = findEntry();
+    if (entry >= 0) {
+      long value = entryValues[entry];
+      return value != TOMBSTONE ? value : NONE;
+    }
+
+    for (int i = runs.size() - 1; i >= 0; i -= 1) {
+      long value = runs.get(i).get(encoder.hash, encoder.bytes, encoder.length);
+      if (value != NONE) {
+        return value != TOMBSTONE ? value : NONE;
+      }
+    }
+
+    return NONE;
+  }
+
+  private int findEntry() {
+    int mask = slots.length - 1;
+    for (int slot = encoder.hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+      int entry = slots[slot] - 1;
+      if (entryHashes[entry] == encoder.hash && keyEquals(entry)) {
+        return entry;
+      }
+    }
+
+    return -1;
+  }
+
+  private void upsert(long value) {
+    int mask = slots.length - 1;
+    int slot = encoder.hash & mask;
+    for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+      int entry = slots[slot] - 1;
+      if (entryHashes[entry] == encoder.hash && keyEquals(entry)) {
+        updateTombstones(entryValues[entry], value);
+        entryValues[entry] = value;
+        return;
+      }
+    }
+
+    int entry = addEntry(encoder.hash, encoder.bytes, 0, encoder.length, value);
+    slots[slot] = entry + 1;
+
+    if (numEntries * 4L > slots.length * 3L) {
+      rehash(slots.length * 2);
+    }
+
+    updateReservation();
+    budget.release();
+  }
+
+  private void updateReservation() {
+    long size = estimatedSize();
+    budget.reserve(size - reservedSize);
+    this.reservedSize = size;
+  }
+
+  private void updateTombstones(long previousValue, long value) {
+    if (previousValue == TOMBSTONE) {
+      this.numTombstones -= 1;
+    }
+
+    if (value == TOMBSTONE) {
+      this.numTombstones += 1;
+    }
+  }
+
+  private int addEntry(int hash, byte[] key, int keyOffset, int keyLength, long value) {
+    if (numEntries == entryHashes.length) {
+      int capacity = entryHashes.length * 2;
+      this.entryHashes = Arrays.copyOf(entryHashes, capacity);
+      this.entryKeyRefs = Arrays.copyOf(entryKeyRefs, capacity);
+      this.entryKeyLengths = Arrays.copyOf(entryKeyLengths, capacity);
+      this.entryValues = Arrays.copyOf(entryValues, capacity);
+    }
+
+    int entry = numEntries;
+    entryHashes[entry] = hash;
+    entryKeyRefs[entry] = storeKey(key, keyOffset, keyLength);
+    entryKeyLengths[entry] = keyLength;
+    entryValues[entry] = value;
+    updateTombstones(NONE, value);
+    this.numEntries += 1;
+    return entry;
+  }
+
+  private long storeKey(byte[] bytes, int offset, int length) {
+    byte[] page = pages.isEmpty() ? null : pages.get(pages.size() - 1);
+    if (page == null || page.length - pageOffset < length) {
+      // grow pages so that an index with few keys does not allocate a full page
+      int size = page == null ? INITIAL_PAGE_SIZE : Math.min(maxPageSize, page.length * 2);
+      page = new byte[Math.max(size, length)];
+      pages.add(page);
+      this.pageOffset = 0;
+      this.pageBytes += page.length;
+    }
+
+    System.arraycopy(bytes, offset, page, pageOffset, length);
+    long ref = ((long) (pages.size() - 1) << 32) | pageOffset;
+    this.pageOffset += length;
+    return ref;
+  }
+
+  private boolean keyEquals(int entry) {
+    int length = entryKeyLengths[entry];
+    if (length != encoder.length) {
+      return false;
+    }
+
+    long ref = entryKeyRefs[entry];
+    byte[] page = pages.get((int) (ref >>> 32));
+    int offset = (int) ref;
+    return Arrays.equals(page, offset, offset + length, encoder.bytes, 0, length);
+  }
+
+  private void rehash(int capacity) {
+    this.slots = new int[capacity];
+    int mask = capacity - 1;
+    for (int entry = 0; entry < numEntries; entry += 1) {
+      int slot = entryHashes[entry] & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+
+      slots[slot] = entry + 1;
+    }
+  }
+
+  private void resetTable() {
+    this.slots = new int[INITIAL_CAPACITY * 2];
+    this.entryHashes = new int[INITIAL_CAPACITY];
+    this.entryKeyRefs = new long[INITIAL_CAPACITY];
+    this.entryKeyLengths = new int[INITIAL_CAPACITY];
+    this.entryValues = new long[INITIAL_CAPACITY];
+    this.numEntries = 0;
+    this.numTombstones = 0;
+    this.compactionThreshold = MIN_ENTRIES;
+    pages.clear();
+    this.pageOffset = 0;
+    this.pageBytes = 0L;
+  }
+
+  /** Rebuilds the in-memory table without the tombstones that do not shadow a spilled key. */
+  private void compact() {
+    int[] hashes = entryHashes;
+    long[] keyRefs = entryKeyRefs;
+    int[] keyLengths = entryKeyLengths;
+    long[] values = entryValues;
+    int count = numEntries;
+    List<byte[]> keyPages = Lists.newArrayList(pages);
+
+    resetTable();
+    for (int entry = 0; entry < count; entry += 1) {
+      if (values[entry] != TOMBSTONE || mightBeSpilled(hashes[entry])) {
+        long ref = keyRefs[entry];
+        byte[] page = keyPages.get((int) (ref >>> 32));
+        addEntry(hashes[entry], page, (int) ref, keyLengths[entry], values[entry]);
+      }
+    }
+
+    int capacity = slots.length;
+    while (numEntries * 4L > capacity * 3L) {
+      capacity *= 2;
+    }
+
+    rehash(capacity);
+
+    // avoid compacting again until enough new tombstones are added
+    this.compactionThreshold = Math.max(MIN_ENTRIES, numTombstones * 2);
+  }
+
+  private boolean mightBeSpilled(int hash) {
+    for (SpilledRun run : runs) {
+      if (run.mightContain(hash)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void spill() {
+    // tombstones only need to be kept to shadow keys in older runs
+    boolean keepTombstones = !runs.isEmpty();
+
+    // sort entries by hash so that a run can be searched with a sparse index
+    long[] order = new long[numEntries];
+    int numSpilled = 0;
+    for (int entry = 0; entry < numEntries; entry += 1) {
+      if (keepTombstones || entryValues[entry] != TOMBSTONE) {
+        order[numSpilled] = ((long) entryHashes[entry] << 32) | entry;
+        numSpilled += 1;
+      }
+    }
+
+    order = Arrays.copyOf(order, numSpilled);
+    Arrays.sort(order);
+
+    try {
+      if (spillDir == null) {
+        this.spillDir = Files.createTempDirectory("iceberg-inserted-rows-").toFile();
+      }
+
+      File file = new File(spillDir, "run-" + runs.size() + ".bin");
+      runs.add(SpilledRun.write(file, order, this));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill inserted row index", e);
+    }
+
+    resetTable();
+    updateReservation();
+  }
+
+  /**
+   * A memory budget that is shared by a group of indexes, such as the indexes of all delta writers
+   * in a task.
+   *
+   * <p>When the indexes are larger than the budget, the largest index is spilled to disk. Indexes
+   * with fewer than a minimum number of entries are not spilled to avoid writing many small runs,
+   * so the budget may be exceeded by a small amount per index.
+   */
+  static class MemoryBudget {
+    private final long budget;
+    private final List<InsertedRowIndex> indexes = Lists.newArrayList();
+    private long used = 0L;
+
+    MemoryBudget(long budget) {
+      Preconditions.checkArgument(budget > 0, "Invalid memory budget: %s", budget);
+      this.budget = budget;
+    }
+
+    long budget() {
+      return budget;
+    }
+
+    /** Returns the estimated heap size of the in-memory tables of all indexes. */
+    long used() {
+      return used;
+    }
+
+    private void register(InsertedRowIndex index) {
+      indexes.add(index);
+    }
+
+    private void unregister(InsertedRowIndex index) {
+      indexes.remove(index);
+    }
+
+    private void reserve(long bytes) {
+      this.used += bytes;
+    }
+
+    private void release() {
+      if (used <= budget) {
+        return;
+      }
+
+      InsertedRowIndex largest = null;
+      for (InsertedRowIndex index : indexes) {
+        if (index.numEntries >= MIN_ENTRIES
+            && (largest == null || index.reservedSize > largest.reservedSize)) {
+          largest = index;
+        }
+      }
+
+      if (largest != null) {
+        largest.spill();
+      }
+    }
+  }
+
+  /** A sorted run of entries on local disk. */
+  private static class SpilledRun implements Closeable {
+    private static final int BLOCK_SIZE = 64;
+    private static final int BLOOM_BITS_PER_ENTRY = 10;
+    private static final int BLOOM_HASHES = 3;
+
+    private final File file;
+    private final RandomAccessFile input;
+    private final int[] blockHashes;
+    private final long[] blockOffsets;
+    private final long length;
+    private final long[] bloom;
+    private byte[] buffer = new byte[1024];
+
+    private SpilledRun(File file, int[] blockHashes, long[] blockOffsets, long[] bloom)
+        throws IOException {
+      this.file = file;
+      this.input = new RandomAccessFile(file, "r");
+      this.blockHashes = blockHashes;
+      this.blockOffsets = blockOffsets;
+      this.length = input.length();
+      this.bloom = bloom;
+    }
+
+    private static SpilledRun write(File file, long[] order, InsertedRowIndex index)
+        throws IOException {
+      int numBlocks = (order.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+      int[] blockHashes = new int[numBlocks];
+      long[] blockOffsets = new long[numBlocks];
+      int bloomWords = Math.max(1, (order.length * BLOOM_BITS_PER_ENTRY + 63) / 64);
+      long[] bloom = new long[bloomWords];
+
+      long offset = 0L;
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+        for (int i = 0; i < order.length; i += 1) {
+          int entry = (int) order[i];
+          int hash = index.entryHashes[entry];
+          int keyLength = index.entryKeyLengths[entry];
+          long ref = index.entryKeyRefs[entry];
+
+          if (i % BLOCK_SIZE == 0) {
+            blockHashes[i / BLOCK_SIZE] = hash;
+            blockOffsets[i / BLOCK_SIZE] = offset;
+          }
+
+          out.writeInt(hash);
+          out.writeInt(keyLength);
+          out.write(index.pages.get((int) (ref >>> 32)), (int) ref, keyLength);
+          out.writeLong(index.entryValues[entry]);
+          offset += Integer.BYTES * 2 + keyLength + Long.BYTES;
+
+          addToBloom(bloom, hash);
+        }
+      }
+
+      return new SpilledRun(file, blockHashes, blockOffsets, bloom);
+    }
+
+    private static void addToBloom(long[] bloom, int hash) {
+      long numBits = (long) bloom.length * 64;
+      int secondHash = secondHash(hash);
+      for (int i = 0; i < BLOOM_HASHES; i += 1) {
+        long bit = Integer.toUnsignedLong(hash + i * secondHash) % numBits;
+        bloom[(int) (bit >>> 6)] |= 1L << bit;
+      }
+    }
+
+    private boolean mightContain(int hash) {
+      long numBits = (long) bloom.length * 64;
+      int secondHash = secondHash(hash);
+      for (int i = 0; i < BLOOM_HASHES; i += 1) {
+        long bit = Integer.toUnsignedLong(hash + i * secondHash) % numBits;
+        if ((bloom[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    private static int secondHash(int hash) {
+      int mixed = hash * 0x9E3779B9;
+      return (mixed ^ (mixed >>> 16)) | 1;
+    }
+
+    private long get(int hash, byte[] key, int keyLength) {
+      if (blockHashes.length == 0 || !mightContain(hash)) {
+        return NONE;
+      }
+
+      // entries with the hash may start in the block before the first block with a larger hash
+      int block = Arrays.binarySearch(blockHashes, hash);
+      if (block < 0) {
+        block = -block - 2;
+      } else {
+        while (block > 0 && blockHashes[block - 1] == hash) {
+          block -= 1;
+        }
+
+        block -= 1;
+      }
+
+      try {
+        for (block = Math.max(block, 0); block < blockHashes.length; block += 1) {
+          if (blockHashes[block] > hash) {
+            return NONE;
+          }
+
+          long start = blockOffsets[block];
+          long end = block + 1 < blockOffsets.length ? blockOffsets[block + 1] : length;
+          int size = (int) (end - start);
+          if (buffer.length < size) {
+            this.buffer = new byte[size];
+          }
+
+          input.seek(start);
+          input.readFully(buffer, 0, size);
+
+          ByteBuffer entries = ByteBuffer.wrap(buffer, 0, size);
+          while (entries.hasRemaining()) {
+            int entryHash = entries.getInt();
+            int entryLength = entries.getInt();
+            if (entryHash > hash) {
+              return NONE;
+            }
+
+            int keyOffset = entries.position();
+            entries.position(keyOffset + entryLength);
+            long value = entries.getLong();
+            if (entryHash == hash
+                && entryLength == keyLength
+                && Arrays.equals(buffer, keyOffset, keyOffset + entryLength, key, 0, keyLength)) {
+              return value;
+            }
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read spilled inserted row index: " + file, e);
+      }
+
+      return NONE;
+    }
+
+    @Override
+    public void close() {
+      try {
+        input.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to close spilled inserted row index: " + file, e);
+      } finally {
+        file.delete();
+      }
+    }
+  }
+
+  /** Encodes keys into a reusable buffer and hashes the encoded bytes. */
+  private static class KeyEncoder {
+    private byte[] bytes = new byte[64];
+    private int length = 0;
+    private int hash = 0;
+
+    private void encode(Types.StructType type, StructLike key) {
+      this.length = 0;
+      writeStruct(type, key);
+
+      int result = 1;
+      for (int i = 0; i < length; i += 1) {
+        result = 31 * result + bytes[i];
+      }
+
+      // spread the bits so that the low bits can be used for slots
+      result ^= result >>> 16;
+      result *= 0x85EBCA6B;
+      result ^= result >>> 13;
+      this.hash = result;
+    }
+
+    private void writeStruct(Types.StructType type, StructLike struct) {
+      List<Types.NestedField> fields = type.fields();
+      for (int pos = 0; pos < fields.size(); pos += 1) {
+        Object value = struct.get(pos, Object.class);
+        if (value == null) {
+          writeByte(0);
+        } else {
+          writeByte(1);
+          writeValue(fields.get(pos).type(), value);
+        }
+      }
+    }
+
+    private void writeValue(Type type, Object value) {
+      switch (type.typeId()) {
+        case BOOLEAN:
+          writeByte((Boolean) value ? 1 : 0);
+          break;
+        case INTEGER:
+        case DATE:
+          writeLong((Integer) value, Integer.BYTES);
+          break;
+        case LONG:
+        case TIME:
+        case TIMESTAMP:
+        case TIMESTAMP_NANO:
+          writeLong((Long) value, Long.BYTES);
+          break;
+        case FLOAT:
+          writeLong(Float.floatToIntBits((Float) value), Integer.BYTES);
+          break;
+        case DOUBLE:
+          writeLong(Double.doubleToLongBits((Double) value), Long.BYTES);
+          break;
+        case STRING:
+          writeBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+          break;
+        case STRUCT:
+          writeStruct(type.asStructType(), (StructLike) value);
+          break;
+        default:
+          ByteBuffer buffer = Conversions.toByteBuffer(type, value);
+          byte[] valueBytes = new byte[buffer.remaining()];
+          buffer.duplicate().get(valueBytes);
+          writeBytes(valueBytes);
+      }
+    }
+
+    private void writeBytes(byte[] value) {
+      writeLong(value.length, Integer.BYTES);
+      ensureCapacity(value.length);
+      System.arraycopy(value, 0, bytes, length, value.length);
+      this.length += value.length;
+    }
+
+    private void writeLong(long value, int size) {
+      ensureCapacity(size);
+      for (int i = 0; i < size; i += 1) {
+        bytes[length + i] = (byte) (value >>> (8 * i));
+      }
+
+      this.length += size;
+    }
+
+    private void writeByte(int value) {
+      ensureCapacity(1);
+      bytes[length] = (byte) value;
+      this.length += 1;
+    }
+
+    private void ensureCapacity(int size) {
+      if (length + size > bytes.length) {
+        this.bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + size));
+      }
+    }
+  }
+}
@@ -46,9 +46,12 @@ import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.SupportsMultiTableCommits;
 import org.apache.iceberg.catalog.SupportsNamespaces;
+import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
@@ -65,6 +68,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.LocationUtil;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.view.BaseMetastoreViewCatalog;
 import org.apache.iceberg.view.ViewMetadata;
@@ -73,12 +77,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class JdbcCatalog extends BaseMetastoreViewCatalog
-    implements Configurable<Object>, SupportsNamespaces {
+    implements Configurable<Object>, SupportsNamespaces, SupportsMultiTableCommits {
 
   public static final String PROPERTY_PREFIX = "jdbc.";
   private static final String NAMESPACE_EXISTS_PROPERTY = "exists";
   private static final Logger LOG = LoggerFactory.getLogger(JdbcCatalog.class);
   private static final Joiner SLASH = Joiner.on("/");
+  // limits the number of names in an IN list, which some databases restrict to 1000
+  private static final int MAX_TABLES_PER_QUERY = 1000;
   static final String VIEW_WARNING_LOG_MESSAGE =
       "JDBC catalog is initialized without view support. To auto-migrate the database's schema and enable view support, set jdbc.schema-version=V1";
 
@@ -270,6 +276,39 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
         connections, io, catalogName, tableIdentifier, catalogProperties, schemaVersion);
   }
 
+  @Override
+  protected Map<TableIdentifier, String> metadataLocations(List<TableIdentifier> identifiers) {
+    Map<Namespace, List<String>> namesByNamespace = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : identifiers) {
+      namesByNamespace
+          .computeIfAbsent(identifier.namespace(), namespace -> Lists.newArrayList())
+          .add(identifier.name());
+    }
+
+    Map<TableIdentifier, String> locations = Maps.newHashMap();
+    namesByNamespace.forEach(
+        (namespace, names) -> {
+          for (List<String> batch : Lists.partition(names, MAX_TABLES_PER_QUERY)) {
+            List<String> args =
+                Lists.newArrayList(catalogName, JdbcUtil.namespaceToString(namespace));
+            args.addAll(batch);
+
+            fetch(
+                    row ->
+                        new AbstractMap.SimpleImmutableEntry<>(
+                            TableIdentifier.of(namespace, row.getString(JdbcUtil.TABLE_NAME)),
+                            row.getString(JdbcTableOperations.METADATA_LOCATION_PROP)),
+                    JdbcUtil.loadTablesStatement(schemaVersion, batch.size()),
+                    args.toArray(new String[0]))
+                .stream()
+                .filter(entry -> entry.getValue() != null)
+                .forEach(entry -> locations.put(entry.getKey(), entry.getValue()));
+          }
+        });
+
+    return locations;
+  }
+
   @Override
   protected ViewOperations newViewOps(TableIdentifier viewIdentifier) {
     if (schemaVersion != JdbcUtil.SchemaVersion.V1) {
@@ -337,6 +376,120 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
         JdbcUtil.namespaceToString(namespace));
   }
 
+  /**
+   * Lists a page of the tables in a namespace, ordered by name.
+   *
+   * <p>Pages are read using the table name as a key rather than an offset, so that each page is a
+   * range scan of the catalog table's primary key.
+   *
+   * @param namespace a namespace
+   * @param pageToken null or an empty string for the first page, or the token returned with the
+   *     previous page
+   * @param pageSize the maximum number of tables to return
+   * @return a page of table identifiers and the token for the next page, or null if this is the
+   *     last page
+   * @throws NoSuchNamespaceException if the namespace does not exist
+   */
+  public Pair<List<TableIdentifier>, String> listTables(
+      Namespace namespace, String pageToken, int pageSize) {
+    if (!namespaceExists(namespace)) {
+      throw new NoSuchNamespaceException("Namespace does not exist: %s", namespace);
+    }
+
+    return fetchPage(
+        namespace,
+        (schemaVersion == JdbcUtil.SchemaVersion.V1)
+            ? JdbcUtil.V1_LIST_TABLE_PAGE_SQL
+            : JdbcUtil.V0_LIST_TABLE_PAGE_SQL,
+        pageToken,
+        pageSize);
+  }
+
+  /**
+   * Commits changes to several tables atomically.
+   *
+   * <p>New metadata files are written for all tables and then the metadata locations of all tables
+   * are swapped in a single JDBC transaction, using one batched statement. If any table was changed
+   * concurrently, no table is updated and {@link CommitFailedException} is thrown.
+   *
+   * @param commits the changes to apply to each table
+   * @throws NoSuchTableException if a table does not exist
+   * @throws CommitFailedException if a table's requirements are not met or a table was changed
+   *     concurrently
+   */
+  @Override
+  public void commitTransaction(List<TableCommit> commits) {
+    Preconditions.checkArgument(
+        commits != null && !commits.isEmpty(), "Invalid table commits: null or empty");
+    Preconditions.checkArgument(
+        commits.stream().map(TableCommit::identifier).distinct().count() == commits.size(),
+        "Invalid table commits: duplicate table identifiers");
+
+    List<TableIdentifier> identifiers = Lists.newArrayList();
+    List<JdbcTableOperations> tableOps = Lists.newArrayList();
+    List<TableMetadata> bases = Lists.newArrayList();
+    List<TableMetadata> updates = Lists.newArrayList();
+    for (TableCommit commit : commits) {
+      JdbcTableOperations ops = (JdbcTableOperations) newTableOps(commit.identifier());
+      TableMetadata base = ops.current();
+      if (base == null) {
+        throw new NoSuchTableException("Table does not exist: %s", commit.identifier());
+      }
+
+      commit.requirements().forEach(requirement -> requirement.validate(base));
+      TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+      commit.updates().forEach(update -> update.applyTo(builder));
+      TableMetadata updated = builder.build();
+      if (!updated.changes().isEmpty()) {
+        identifiers.add(commit.identifier());
+        tableOps.add(ops);
+        bases.add(base);
+        updates.add(updated);
+      }
+    }
+
+    if (identifiers.isEmpty()) {
+      return;
+    }
+
+    List<String> newMetadataLocations = Lists.newArrayList();
+    List<String> oldMetadataLocations = Lists.newArrayList();
+    for (int i = 0; i < identifiers.size(); i += 1) {
+      // use the refreshed operations so that new metadata files continue the version sequence
+      newMetadataLocations.add(tableOps.get(i).writeCommitMetadata(updates.get(i)));
+      oldMetadataLocations.add(bases.get(i).metadataFileLocation());
+    }
+
+    List<TableIdentifier> conflicts;
+    try {
+      conflicts =
+          JdbcUtil.updateTables(
+              schemaVersion,
+              connections,
+              catalogName,
+              identifiers,
+              newMetadataLocations,
+              oldMetadataLocations);
+    } catch (SQLException e) {
+      throw new UncheckedSQLException(e, "Failed to commit tables: %s", identifiers);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedInterruptedException(e, "Interrupted during commit");
+    }
+
+    if (!conflicts.isEmpty()) {
+      newMetadataLocations.forEach(io::deleteFile);
+      throw new CommitFailedException(
+          "Cannot commit tables: metadata location has changed for %s", conflicts);
+    }
+
+    for (int i = 0; i < identifiers.size(); i += 1) {
+      CatalogUtil.deleteRemovedMetadataFiles(io, bases.get(i), updates.get(i));
+    }
+
+    LOG.info("Committed tables {} in catalog {}", identifiers, catalogName);
+  }
+
   @SuppressWarnings("checkstyle:CyclomaticComplexity")
   @Override
   public void renameTable(TableIdentifier from, TableIdentifier to) {
@@ -676,6 +829,54 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
         JdbcUtil.namespaceToString(namespace));
   }
 
+  /**
+   * Lists a page of the views in a namespace, ordered by name.
+   *
+   * @param namespace a namespace
+   * @param pageToken null or an empty string for the first page, or the token returned with the
+   *     previous page
+   * @param pageSize the maximum number of views to return
+   * @return a page of view identifiers and the token for the next page, or null if this is the last
+   *     page
+   * @throws NoSuchNamespaceException if the namespace does not exist
+   * @see #listTables(Namespace, String, int)
+   */
+  public Pair<List<TableIdentifier>, String> listViews(
+      Namespace namespace, String pageToken, int pageSize) {
+    if (schemaVersion != JdbcUtil.SchemaVersion.V1) {
+      throw new UnsupportedOperationException(VIEW_WARNING_LOG_MESSAGE);
+    }
+
+    if (!namespaceExists(namespace)) {
+      throw new NoSuchNamespaceException("Namespace does not exist: %s", namespace);
+    }
+
+    return fetchPage(namespace, JdbcUtil.LIST_VIEW_PAGE_SQL, pageToken, pageSize);
+  }
+
+  private Pair<List<TableIdentifier>, String> fetchPage(
+      Namespace namespace, String sql, String pageToken, int pageSize) {
+    Preconditions.checkArgument(pageSize > 0, "Invalid page size: %s", pageSize);
+    // fetch one extra row to detect whether there is a next page
+    List<TableIdentifier> identifiers =
+        fetch(
+            row ->
+                JdbcUtil.stringToTableIdentifier(
+                    row.getString(JdbcUtil.TABLE_NAMESPACE), row.getString(JdbcUtil.TABLE_NAME)),
+            pageSize + 1,
+            sql,
+            catalogName,
+            JdbcUtil.namespaceToString(namespace),
+            pageToken != null ? pageToken : "");
+
+    if (identifiers.size() <= pageSize) {
+      return Pair.of(identifiers, null);
+    }
+
+    List<TableIdentifier> page = identifiers.subList(0, pageSize);
+    return Pair.of(page, page.get(pageSize - 1).name());
+  }
+
   @Override
   public void renameView(TableIdentifier from, TableIdentifier to) {
     if (schemaVersion != JdbcUtil.SchemaVersion.V1) {
@@ -764,14 +965,20 @@ public class JdbcCatalog extends BaseMetastoreViewCatalog
     R apply(ResultSet result) throws SQLException;
   }
 
-  @SuppressWarnings("checkstyle:NestedTryDepth")
   private <R> List<R> fetch(RowProducer<R> toRow, String sql, String... args) {
+    return fetch(toRow, 0, sql, args);
+  }
+
+  @SuppressWarnings("checkstyle:NestedTryDepth")
+  private <R> List<R> fetch(RowProducer<R> toRow, int maxRows, String sql, String... args) {
     try {
       return connections.run(
           conn -> {
             List<R> result = Lists.newArrayList();
 
             try (PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
+              // 0 means no limit; a limit lets the driver stop reading rows early
+              preparedStatement.setMaxRows(maxRows);
               for (int pos = 0; pos < args.length; pos += 1) {
                 preparedStatement.setString(pos + 1, args[pos]);
               }
@@ -31,6 +31,7 @@ import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.ClientPoolImpl;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.PropertyUtil;
 
 public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
 
@@ -50,6 +51,8 @@ public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
   static final Set<String> COMMON_RETRYABLE_CONNECTION_SQL_STATES =
       ImmutableSet.of("08000", "08003", "08006", "08007", "40001");
 
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
   private final String dbUrl;
   private final Map<String, String> properties;
 
@@ -66,7 +69,15 @@ public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
   }
 
   public JdbcClientPool(int poolSize, String dbUrl, Map<String, String> props) {
-    super(poolSize, SQLTransientException.class, true);
+    super(
+        poolSize,
+        SQLTransientException.class,
+        true,
+        1,
+        PropertyUtil.propertyAsBoolean(
+            props,
+            CatalogProperties.CLIENT_POOL_HEALTH_CHECK_ENABLED,
+            CatalogProperties.CLIENT_POOL_HEALTH_CHECK_ENABLED_DEFAULT));
     properties = props;
     retryableStatusCodes = Sets.newHashSet();
     retryableStatusCodes.addAll(COMMON_RETRYABLE_CONNECTION_SQL_STATES);
@@ -97,6 +108,15 @@ public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
     return newClient();
   }
 
+  @Override
+  protected boolean isHealthy(Connection client) {
+    try {
+      return client.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
   @Override
   protected void close(Connection client) {
     try {
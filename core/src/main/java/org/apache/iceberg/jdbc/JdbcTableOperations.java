@@ -105,15 +105,11 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
     boolean newTable = base == null;
     String newMetadataLocation = writeNewMetadataIfRequired(newTable, metadata);
     try {
-      Map<String, String> table =
-          JdbcUtil.loadTable(schemaVersion, connections, catalogName, tableIdentifier);
-
       if (base != null) {
-        validateMetadataLocation(table, base);
         String oldMetadataLocation = base.metadataFileLocation();
-        // Start atomic update
+        // Start atomic update, the table is only loaded if the update fails
         LOG.debug("Committing existing table: {}", tableName());
-        updateTable(newMetadataLocation, oldMetadataLocation);
+        updateTable(newMetadataLocation, oldMetadataLocation, base);
       } else {
         // table not exists create it
         LOG.debug("Committing new table: {}", tableName());
@@ -149,7 +145,8 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
     }
   }
 
-  private void updateTable(String newMetadataLocation, String oldMetadataLocation)
+  private void updateTable(
+      String newMetadataLocation, String oldMetadataLocation, TableMetadata base)
       throws SQLException, InterruptedException {
     int updatedRecords =
         JdbcUtil.updateTable(
@@ -163,6 +160,8 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
     if (updatedRecords == 1) {
       LOG.debug("Successfully committed to existing table: {}", tableIdentifier);
     } else {
+      validateMetadataLocation(
+          JdbcUtil.loadTable(schemaVersion, connections, catalogName, tableIdentifier), base);
       throw new CommitFailedException(
           "Failed to update table %s from catalog %s", tableIdentifier, catalogName);
     }
@@ -203,6 +202,11 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
     }
   }
 
+  /** Writes a new metadata file for a commit that is applied by {@link JdbcCatalog}. */
+  String writeCommitMetadata(TableMetadata metadata) {
+    return writeNewMetadataIfRequired(false, metadata);
+  }
+
   private void validateMetadataLocation(Map<String, String> table, TableMetadata base) {
     String catalogMetadataLocation = table.get(METADATA_LOCATION_PROP);
     String baseMetadataLocation = base != null ? base.metadataFileLocation() : null;
@@ -18,10 +18,13 @@
  */
 package org.apache.iceberg.jdbc;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -32,6 +35,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Splitter;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 
 final class JdbcUtil {
@@ -227,6 +231,40 @@ final class JdbcUtil {
           + " = ? AND "
           + TABLE_NAMESPACE
           + " = ?";
+  // keyset pagination: the primary key orders rows by table name within a namespace
+  private static final String PAGE_SUFFIX_SQL =
+      " AND " + TABLE_NAME + " > ? ORDER BY " + TABLE_NAME;
+  static final String LIST_VIEW_PAGE_SQL = LIST_VIEW_SQL + PAGE_SUFFIX_SQL;
+  static final String V1_LIST_TABLE_PAGE_SQL = V1_LIST_TABLE_SQL + PAGE_SUFFIX_SQL;
+  static final String V0_LIST_TABLE_PAGE_SQL = V0_LIST_TABLE_SQL + PAGE_SUFFIX_SQL;
+  private static final String V1_LOAD_TABLES_SQL =
+      "SELECT * FROM "
+          + CATALOG_TABLE_VIEW_NAME
+          + " WHERE "
+          + CATALOG_NAME
+          + " = ? AND "
+          + TABLE_NAMESPACE
+          + " = ? AND ("
+          + RECORD_TYPE
+          + " = "
+          + "'"
+          + TABLE_RECORD_TYPE
+          + "'"
+          + " OR "
+          + RECORD_TYPE
+          + " IS NULL) AND "
+          + TABLE_NAME
+          + " IN ";
+  private static final String V0_LOAD_TABLES_SQL =
+      "SELECT * FROM "
+          + CATALOG_TABLE_VIEW_NAME
+          + " WHERE "
+          + CATALOG_NAME
+          + " = ? AND "
+          + TABLE_NAMESPACE
+          + " = ? AND "
+          + TABLE_NAME
+          + " IN ";
   static final String RENAME_VIEW_SQL =
       "UPDATE "
           + CATALOG_TABLE_VIEW_NAME
@@ -575,6 +613,99 @@ final class JdbcUtil {
         oldMetadataLocation);
   }
 
+  /**
+   * Updates the metadata location of several tables in a single transaction.
+   *
+   * <p>Each table is only updated if its metadata location is still the old location. If any table
+   * was changed concurrently, the transaction is rolled back and no table is updated.
+   *
+   * @return identifiers of the tables that were changed concurrently, or an empty list if all
+   *     tables were updated
+   */
+  static List<TableIdentifier> updateTables(
+      SchemaVersion schemaVersion,
+      JdbcClientPool connections,
+      String catalogName,
+      List<TableIdentifier> identifiers,
+      List<String> newMetadataLocations,
+      List<String> oldMetadataLocations)
+      throws SQLException, InterruptedException {
+    return connections.run(
+        conn -> {
+          boolean autoCommit = conn.getAutoCommit();
+          conn.setAutoCommit(false);
+          try {
+            List<TableIdentifier> conflicts = Lists.newArrayList();
+            try (PreparedStatement sql =
+                conn.prepareStatement(
+                    (schemaVersion == SchemaVersion.V1)
+                        ? V1_DO_COMMIT_TABLE_SQL
+                        : V0_DO_COMMIT_SQL)) {
+              for (int i = 0; i < identifiers.size(); i += 1) {
+                TableIdentifier identifier = identifiers.get(i);
+                // UPDATE
+                sql.setString(1, newMetadataLocations.get(i));
+                sql.setString(2, oldMetadataLocations.get(i));
+                // WHERE
+                sql.setString(3, catalogName);
+                sql.setString(4, namespaceToString(identifier.namespace()));
+                sql.setString(5, identifier.name());
+                sql.setString(6, oldMetadataLocations.get(i));
+                sql.addBatch();
+              }
+
+              int[] updatedRecords = sql.executeBatch();
+              for (int i = 0; i < identifiers.size(); i += 1) {
+                TableIdentifier identifier = identifiers.get(i);
+                boolean updated;
+                if (updatedRecords[i] == Statement.SUCCESS_NO_INFO) {
+                  // some drivers do not report counts for batches, check the row instead
+                  String location = metadataLocation(conn, schemaVersion, catalogName, identifier);
+                  updated = newMetadataLocations.get(i).equals(location);
+                } else {
+                  updated = updatedRecords[i] == 1;
+                }
+
+                if (!updated) {
+                  conflicts.add(identifier);
+                }
+              }
+            }
+
+            if (conflicts.isEmpty()) {
+              conn.commit();
+            } else {
+              conn.rollback();
+            }
+
+            return conflicts;
+          } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+          } finally {
+            conn.setAutoCommit(autoCommit);
+          }
+        });
+  }
+
+  private static String metadataLocation(
+      Connection conn,
+      SchemaVersion schemaVersion,
+      String catalogName,
+      TableIdentifier identifier)
+      throws SQLException {
+    try (PreparedStatement sql =
+        conn.prepareStatement(
+            (schemaVersion == SchemaVersion.V1) ? V1_GET_TABLE_SQL : V0_GET_TABLE_SQL)) {
+      sql.setString(1, catalogName);
+      sql.setString(2, namespaceToString(identifier.namespace()));
+      sql.setString(3, identifier.name());
+      try (ResultSet rs = sql.executeQuery()) {
+        return rs.next() ? rs.getString(JdbcTableOperations.METADATA_LOCATION_PROP) : null;
+      }
+    }
+  }
+
   static int updateView(
       JdbcClientPool connections,
       String catalogName,
@@ -785,6 +916,16 @@ final class JdbcUtil {
     return sqlStatement.toString();
   }
 
+  static String loadTablesStatement(SchemaVersion schemaVersion, int size) {
+    StringBuilder sqlStatement =
+        new StringBuilder(
+            schemaVersion == SchemaVersion.V1 ? V1_LOAD_TABLES_SQL : V0_LOAD_TABLES_SQL);
+    String values = String.join(",", Collections.nCopies(size, String.valueOf('?')));
+    sqlStatement.append("(").append(values).append(")");
+
+    return sqlStatement.toString();
+  }
+
   static boolean namespaceExists(
       String catalogName, JdbcClientPool connections, Namespace namespace) {
 
@@ -23,6 +23,8 @@ import static org.apache.iceberg.TableProperties.COMMIT_MIN_RETRY_WAIT_MS_DEFAUL
 import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES_DEFAULT;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Collections;
@@ -30,13 +32,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import org.apache.iceberg.BaseMetadataTable;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.BaseTransaction;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MetadataUpdate.UpgradeFormatVersion;
 import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Scan;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
@@ -54,23 +62,32 @@ import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NoSuchViewException;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateNamespacePropertiesRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.BaseScanTaskResponse;
 import org.apache.iceberg.rest.responses.CreateNamespaceResponse;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.GetNamespaceResponse;
 import org.apache.iceberg.rest.responses.ImmutableLoadViewResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.Tasks;
@@ -81,10 +98,14 @@ import org.apache.iceberg.view.ViewBuilder;
 import org.apache.iceberg.view.ViewMetadata;
 import org.apache.iceberg.view.ViewOperations;
 import org.apache.iceberg.view.ViewRepresentation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class CatalogHandlers {
   private static final Schema EMPTY_SCHEMA = new Schema();
   private static final String INITIAL_PAGE_TOKEN = "";
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogHandlers.class);
+  private static final int DEFAULT_TASKS_PER_PLAN_TASK = 1000;
 
   private CatalogHandlers() {}
 
@@ -368,6 +389,35 @@ public class CatalogHandlers {
     return LoadTableResponse.builder().withTableMetadata(finalMetadata).build();
   }
 
+  /**
+   * Updates a table, committing append-only updates together with concurrent appends to the same
+   * table through a {@link CommitQueue}.
+   *
+   * @param catalog a catalog
+   * @param ident the table identifier
+   * @param request the update request
+   * @param commitQueue a commit queue that is shared by the requests for the catalog
+   * @return a response with the table metadata after the update
+   */
+  public static LoadTableResponse updateTable(
+      Catalog catalog,
+      TableIdentifier ident,
+      UpdateTableRequest request,
+      CommitQueue commitQueue) {
+    if (isCreate(request)) {
+      return updateTable(catalog, ident, request);
+    }
+
+    Table table = catalog.loadTable(ident);
+    if (table instanceof BaseTable) {
+      TableOperations ops = ((BaseTable) table).operations();
+      TableMetadata finalMetadata = commitQueue.commit(ident, ops, request);
+      return LoadTableResponse.builder().withTableMetadata(finalMetadata).build();
+    }
+
+    throw new IllegalStateException("Cannot wrap catalog that does not produce BaseTable");
+  }
+
   public static void renameTable(Catalog catalog, RenameTableRequest request) {
     catalog.renameTable(request.source(), request.destination());
   }
@@ -458,6 +508,187 @@ public class CatalogHandlers {
     return (BaseView) view;
   }
 
+  public static PlanTableScanResponse planTableScan(
+      Catalog catalog,
+      TableIdentifier ident,
+      PlanTableScanRequest request,
+      ScanPlanCache planCache) {
+    return planTableScan(catalog, ident, request, planCache, false, DEFAULT_TASKS_PER_PLAN_TASK);
+  }
+
+  /**
+   * Plans a table scan.
+   *
+   * <p>When there are more than {@code tasksPerPlanTask} file scan tasks, they are returned in plan
+   * tasks that must be fetched using {@link #fetchScanTasks(ScanPlanCache, TableIdentifier,
+   * FetchScanTasksRequest)}. Plans and plan tasks are kept in the plan cache until they are
+   * fetched, cancelled or expire.
+   *
+   * @param catalog the catalog to load the table from
+   * @param ident the table to scan
+   * @param request the scan to plan
+   * @param planCache the cache to keep plans and plan tasks in until they are fetched
+   * @param async whether to plan in the background and return a plan id to poll for the result
+   * @param tasksPerPlanTask the maximum number of file scan tasks to return in a response
+   * @return a response with the scan tasks, or the plan id if planning is asynchronous
+   */
+  public static PlanTableScanResponse planTableScan(
+      Catalog catalog,
+      TableIdentifier ident,
+      PlanTableScanRequest request,
+      ScanPlanCache planCache,
+      boolean async,
+      int tasksPerPlanTask) {
+    Preconditions.checkArgument(
+        tasksPerPlanTask > 0, "Invalid tasks per plan task: %s (must be > 0)", tasksPerPlanTask);
+    Table table = catalog.loadTable(ident);
+
+    if (async) {
+      String planId =
+          planCache.submitPlan(
+              ident, () -> plan(table, ident, request, planCache, tasksPerPlanTask));
+      return PlanTableScanResponse.builder()
+          .withPlanStatus(PlanStatus.SUBMITTED)
+          .withPlanId(planId)
+          .withSpecsById(table.specs())
+          .build();
+    }
+
+    return plan(table, ident, request, planCache, tasksPerPlanTask)
+        .addTo(PlanTableScanResponse.builder().withPlanStatus(PlanStatus.COMPLETED))
+        .build();
+  }
+
+  public static FetchPlanningResultResponse fetchPlanningResult(
+      ScanPlanCache planCache, TableIdentifier ident, String planId) {
+    Future<ScanPlan> future = planCache.plan(ident, planId);
+    if (future == null) {
+      throw new NotFoundException("Plan %s does not exist for table %s", planId, ident);
+    } else if (!future.isDone()) {
+      return FetchPlanningResultResponse.builder().withPlanStatus(PlanStatus.SUBMITTED).build();
+    }
+
+    planCache.removePlan(ident, planId);
+    try {
+      return future
+          .get()
+          .addTo(FetchPlanningResultResponse.builder().withPlanStatus(PlanStatus.COMPLETED))
+          .build();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while fetching plan " + planId, e);
+    } catch (ExecutionException | CancellationException e) {
+      LOG.warn("Failed to plan scan {} for table {}", planId, ident, e);
+      return FetchPlanningResultResponse.builder().withPlanStatus(PlanStatus.FAILED).build();
+    }
+  }
+
+  public static void cancelPlanning(ScanPlanCache planCache, TableIdentifier ident, String planId) {
+    Future<ScanPlan> future = planCache.removePlan(ident, planId);
+    if (future == null) {
+      throw new NotFoundException("Plan %s does not exist for table %s", planId, ident);
+    }
+
+    future.cancel(true);
+  }
+
+  public static FetchScanTasksResponse fetchScanTasks(
+      ScanPlanCache planCache, TableIdentifier ident, FetchScanTasksRequest request) {
+    ScanPlan planTask = planCache.removePlanTask(ident, request.planTask());
+    if (planTask == null) {
+      throw new NotFoundException(
+          "Plan task %s does not exist for table %s", request.planTask(), ident);
+    }
+
+    return planTask.addTo(FetchScanTasksResponse.builder()).build();
+  }
+
+  private static ScanPlan plan(
+      Table table,
+      TableIdentifier ident,
+      PlanTableScanRequest request,
+      ScanPlanCache planCache,
+      int tasksPerPlanTask) {
+    List<FileScanTask> tasks;
+    if (request.startSnapshotId() != null) {
+      tasks =
+          planFiles(
+              table
+                  .newIncrementalAppendScan()
+                  .fromSnapshotExclusive(request.startSnapshotId())
+                  .toSnapshot(request.endSnapshotId()),
+              request);
+    } else {
+      tasks = planFiles(table.newScan().useSnapshot(request.snapshotId()), request);
+    }
+
+    if (tasks.size() <= tasksPerPlanTask) {
+      return new ScanPlan(table.specs(), tasks, null);
+    }
+
+    List<String> planTasks = Lists.newArrayList();
+    for (List<FileScanTask> partition : Lists.partition(tasks, tasksPerPlanTask)) {
+      planTasks.add(planCache.addPlanTask(ident, new ScanPlan(table.specs(), partition, null)));
+    }
+
+    return new ScanPlan(table.specs(), null, planTasks);
+  }
+
+  private static <T extends Scan<T, FileScanTask, ?>> List<FileScanTask> planFiles(
+      T scan, PlanTableScanRequest request) {
+    T configured = scan.caseSensitive(request.caseSensitive());
+    if (request.filter() != null) {
+      configured = configured.filter(request.filter());
+    }
+
+    if (request.select() != null) {
+      configured = configured.select(request.select());
+    }
+
+    if (request.statsFields() != null) {
+      configured = configured.includeColumnStats(request.statsFields());
+    }
+
+    try (CloseableIterable<FileScanTask> tasks = configured.planFiles()) {
+      return Lists.newArrayList(tasks);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close scan tasks", e);
+    }
+  }
+
+  /** Scan tasks, or the plan tasks to fetch them with, for a planning response. */
+  static class ScanPlan {
+    private final Map<Integer, PartitionSpec> specsById;
+    private final List<FileScanTask> fileScanTasks;
+    private final List<String> planTasks;
+
+    private ScanPlan(
+        Map<Integer, PartitionSpec> specsById,
+        List<FileScanTask> fileScanTasks,
+        List<String> planTasks) {
+      this.specsById = specsById;
+      this.fileScanTasks = fileScanTasks;
+      this.planTasks = planTasks;
+    }
+
+    private <B extends BaseScanTaskResponse.Builder<B, ?>> B addTo(B builder) {
+      builder.withSpecsById(specsById).withPlanTasks(planTasks);
+      if (fileScanTasks != null) {
+        // delete files are shared by tasks and are sent once, referenced by path
+        Map<String, DeleteFile> deleteFiles = Maps.newLinkedHashMap();
+        for (FileScanTask task : fileScanTasks) {
+          task.deletes().forEach(file -> deleteFiles.putIfAbsent(file.location(), file));
+        }
+
+        builder
+            .withFileScanTasks(fileScanTasks)
+            .withDeleteFiles(Lists.newArrayList(deleteFiles.values()));
+      }
+
+      return builder;
+    }
+  }
+
   public static ListTablesResponse listViews(ViewCatalog catalog, Namespace namespace) {
     return ListTablesResponse.builder().addAll(catalog.listViews(namespace)).build();
   }
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import static org.apache.iceberg.TableProperties.COMMIT_MAX_RETRY_WAIT_MS_DEFAULT;
+import static org.apache.iceberg.TableProperties.COMMIT_MIN_RETRY_WAIT_MS_DEFAULT;
+import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES_DEFAULT;
+import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.iceberg.AppendRebaser;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.SnapshotRefType;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.UpdateRequirement;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits concurrent append-only table updates together.
+ *
+ * <p>Updates that only add a snapshot and set it as the head of a branch, like the updates sent by
+ * a fast append, are queued per table. The first waiting request commits every queued request for
+ * the table in a single metadata update. Requests are applied in order and each appended snapshot
+ * is rebased onto the branch head left by the previous request with {@link AppendRebaser}, so
+ * concurrent appends do not fail the branch requirement and retry on the client. The other
+ * requirements of each request are validated against the metadata left by the previous request,
+ * and a request that fails validation is reported individually without failing the others.
+ *
+ * <p>Only snapshots from appends that opt in are rebased. Appends are not marked by default, and a
+ * writer opts in by setting the {@link org.apache.iceberg.SnapshotSummary#REBASEABLE_APPEND_PROP}
+ * summary property to true, for example with {@code table.newAppend().set("rebaseable-append",
+ * "true")}. Snapshots that cannot be rebased, for example because they were validated against the
+ * branch head by an overwrite or because they rewrite existing manifests, are validated and applied
+ * with all of their requirements. Other updates are not queued and are committed individually.
+ */
+public class CommitQueue {
+  private static final Logger LOG = LoggerFactory.getLogger(CommitQueue.class);
+
+  private final LoadingCache<TableIdentifier, TableQueue> queues =
+      Caffeine.newBuilder().weakValues().build(ident -> new TableQueue());
+
+  /**
+   * Commits a table update, together with concurrent append-only updates to the same table.
+   *
+   * @param ident the table identifier
+   * @param ops the table's operations
+   * @param request the update request
+   * @return the table metadata after the update is committed
+   */
+  TableMetadata commit(TableIdentifier ident, TableOperations ops, UpdateTableRequest request) {
+    Append append = Append.from(request);
+    if (append == null) {
+      return CatalogHandlers.commit(ops, request);
+    }
+
+    TableQueue queue = queues.get(ident);
+    queue.pending.add(append);
+
+    synchronized (queue) {
+      if (!append.result.isDone()) {
+        List<Append> batch = Lists.newArrayList();
+        Append next;
+        while ((next = queue.pending.poll()) != null) {
+          batch.add(next);
+        }
+
+        commitBatch(ops, batch);
+      }
+    }
+
+    try {
+      return append.result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+
+  private static void commitBatch(TableOperations ops, List<Append> batch) {
+    AtomicBoolean isRetry = new AtomicBoolean(false);
+    List<String> rebasedManifestLists = Lists.newArrayList();
+    Map<Append, RuntimeException> failures = Maps.newIdentityHashMap();
+    try {
+      Tasks.foreach(ops)
+          .retry(COMMIT_NUM_RETRIES_DEFAULT)
+          .exponentialBackoff(
+              COMMIT_MIN_RETRY_WAIT_MS_DEFAULT,
+              COMMIT_MAX_RETRY_WAIT_MS_DEFAULT,
+              COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT,
+              2.0 /* exponential */)
+          .onlyRetryOn(CommitFailedException.class)
+          .run(
+              taskOps -> {
+                TableMetadata base = isRetry.get() ? taskOps.refresh() : taskOps.current();
+                isRetry.set(true);
+
+                // manifest lists from a failed attempt are not referenced
+                deleteAll(taskOps, rebasedManifestLists);
+                failures.clear();
+
+                TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+                TableMetadata current = base;
+                for (Append append : batch) {
+                  try {
+                    List<MetadataUpdate> updates =
+                        append.updates(taskOps, current, rebasedManifestLists);
+                    TableMetadata.Builder next = TableMetadata.buildFrom(current);
+                    updates.forEach(update -> update.applyTo(next));
+                    current = next.build();
+                    updates.forEach(update -> update.applyTo(builder));
+                  } catch (CommitFailedException | ValidationException e) {
+                    failures.put(append, e);
+                  }
+                }
+
+                TableMetadata updated = builder.build();
+                if (!updated.changes().isEmpty()) {
+                  taskOps.commit(base, updated);
+                }
+              });
+
+    } catch (CommitFailedException e) {
+      deleteAll(ops, rebasedManifestLists);
+      batch.forEach(append -> append.result.completeExceptionally(e));
+      return;
+
+    } catch (RuntimeException e) {
+      // the commit state may be unknown, so the rebased manifest lists are not deleted
+      batch.forEach(append -> append.result.completeExceptionally(e));
+      return;
+    }
+
+    TableMetadata committed = ops.current();
+    for (Append append : batch) {
+      RuntimeException failure = failures.get(append);
+      if (failure != null) {
+        append.result.completeExceptionally(failure);
+      } else {
+        append.result.complete(committed);
+      }
+    }
+  }
+
+  private static void deleteAll(TableOperations ops, List<String> locations) {
+    Tasks.foreach(locations)
+        .suppressFailureWhenFinished()
+        .onFailure((location, exc) -> LOG.warn("Failed to delete manifest list: {}", location, exc))
+        .run(location -> ops.io().deleteFile(location));
+    locations.clear();
+  }
+
+  private static class TableQueue {
+    private final Queue<Append> pending = new ConcurrentLinkedQueue<>();
+  }
+
+  /** An update request that adds a snapshot and sets it as the head of a branch. */
+  private static class Append {
+    private final UpdateTableRequest request;
+    private final Snapshot snapshot;
+    private final MetadataUpdate.SetSnapshotRef setRef;
+    private final CompletableFuture<TableMetadata> result = new CompletableFuture<>();
+    private Boolean canRebase = null;
+
+    private Append(
+        UpdateTableRequest request, Snapshot snapshot, MetadataUpdate.SetSnapshotRef setRef) {
+      this.request = request;
+      this.snapshot = snapshot;
+      this.setRef = setRef;
+    }
+
+    private static Append from(UpdateTableRequest request) {
+      if (request.updates().size() != 2
+          || !(request.updates().get(0) instanceof MetadataUpdate.AddSnapshot)
+          || !(request.updates().get(1) instanceof MetadataUpdate.SetSnapshotRef)) {
+        return null;
+      }
+
+      Snapshot snapshot = ((MetadataUpdate.AddSnapshot) request.updates().get(0)).snapshot();
+      MetadataUpdate.SetSnapshotRef setRef =
+          (MetadataUpdate.SetSnapshotRef) request.updates().get(1);
+      boolean isBranch = SnapshotRefType.BRANCH.name().equalsIgnoreCase(setRef.type());
+      if (!isBranch || setRef.snapshotId() != snapshot.snapshotId()) {
+        return null;
+      }
+
+      return new Append(request, snapshot, setRef);
+    }
+
+    /**
+     * Validates the request against the current metadata and returns its updates.
+     *
+     * <p>When the snapshot can be rebased, the requirement for the branch head is not validated
+     * and the snapshot is rebased onto the current branch head.
+     */
+    private List<MetadataUpdate> updates(
+        TableOperations ops, TableMetadata current, List<String> rebasedManifestLists) {
+      if (canRebase == null) {
+        this.canRebase = AppendRebaser.canRebase(current, snapshot, ops.io());
+      }
+
+      if (!canRebase) {
+        request.requirements().forEach(requirement -> requirement.validate(current));
+        return request.updates();
+      }
+
+      for (UpdateRequirement requirement : request.requirements()) {
+        if (!isBranchRequirement(requirement)) {
+          requirement.validate(current);
+        }
+      }
+
+      Snapshot rebased = AppendRebaser.rebase(ops, current, snapshot, setRef.name());
+      if (rebased != snapshot) {
+        rebasedManifestLists.add(rebased.manifestListLocation());
+      }
+
+      return List.of(
+          new MetadataUpdate.AddSnapshot(rebased),
+          new MetadataUpdate.SetSnapshotRef(
+              setRef.name(),
+              rebased.snapshotId(),
+              SnapshotRefType.BRANCH,
+              setRef.minSnapshotsToKeep(),
+              setRef.maxSnapshotAgeMs(),
+              setRef.maxRefAgeMs()));
+    }
+
+    private boolean isBranchRequirement(UpdateRequirement requirement) {
+      return requirement instanceof UpdateRequirement.AssertRefSnapshotID
+          && setRef.name().equals(((UpdateRequirement.AssertRefSnapshotID) requirement).refName());
+    }
+  }
+}
@@ -29,6 +29,7 @@ import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NoSuchViewException;
 import org.apache.iceberg.exceptions.NotAuthorizedException;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.RESTException;
 import org.apache.iceberg.exceptions.ServiceFailureException;
 import org.apache.iceberg.exceptions.ServiceUnavailableException;
@@ -61,6 +62,10 @@ public class ErrorHandlers {
     return TableErrorHandler.INSTANCE;
   }
 
+  public static Consumer<ErrorResponse> planErrorHandler() {
+    return PlanErrorHandler.INSTANCE;
+  }
+
   public static Consumer<ErrorResponse> viewErrorHandler() {
     return ViewErrorHandler.INSTANCE;
   }
@@ -125,6 +130,21 @@ public class ErrorHandlers {
     }
   }
 
+  /** Scan planning error handler. */
+  private static class PlanErrorHandler extends TableErrorHandler {
+    private static final ErrorHandler INSTANCE = new PlanErrorHandler();
+
+    @Override
+    public void accept(ErrorResponse error) {
+      if (error.code() == 404 && NotFoundException.class.getSimpleName().equals(error.type())) {
+        // the plan or plan task does not exist, for example because it expired
+        throw new NotFoundException("%s", error.message());
+      }
+
+      super.accept(error);
+    }
+  }
+
   /** View commit error handler. */
   private static class ViewCommitErrorHandler extends DefaultErrorHandler {
     private static final ErrorHandler INSTANCE = new ViewCommitErrorHandler();
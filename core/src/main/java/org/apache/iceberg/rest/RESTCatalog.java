@@ -32,6 +32,7 @@ import org.apache.iceberg.Transaction;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.SessionCatalog;
+import org.apache.iceberg.catalog.SupportsMultiTableCommits;
 import org.apache.iceberg.catalog.SupportsNamespaces;
 import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
@@ -45,7 +46,12 @@ import org.apache.iceberg.view.View;
 import org.apache.iceberg.view.ViewBuilder;
 
 public class RESTCatalog
-    implements Catalog, ViewCatalog, SupportsNamespaces, Configurable<Object>, Closeable {
+    implements Catalog,
+        ViewCatalog,
+        SupportsNamespaces,
+        SupportsMultiTableCommits,
+        Configurable<Object>,
+        Closeable {
   private final RESTSessionCatalog sessionCatalog;
   private final Catalog delegate;
   private final SupportsNamespaces nsDelegate;
@@ -106,6 +112,11 @@ public class RESTCatalog
     return delegate.loadTable(ident);
   }
 
+  @Override
+  public Map<TableIdentifier, Table> loadTables(List<TableIdentifier> identifiers) {
+    return delegate.loadTables(identifiers);
+  }
+
   @Override
   public void invalidateTable(TableIdentifier ident) {
     delegate.invalidateTable(ident);
@@ -268,6 +279,7 @@ public class RESTCatalog
     sessionCatalog.close();
   }
 
+  @Override
   public void commitTransaction(List<TableCommit> commits) {
     sessionCatalog.commitTransaction(context, commits);
   }
@@ -35,6 +35,10 @@ public final class RESTCatalogProperties {
 
   public static final String PAGE_SIZE = "rest-page-size";
 
+  // plans table scans on the server when it supports the scan planning endpoints
+  public static final String SCAN_PLANNING_ENABLED = "rest-scan-planning-enabled";
+  public static final boolean SCAN_PLANNING_ENABLED_DEFAULT = false;
+
   public enum SnapshotMode {
     ALL,
     REFS
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.RemoteScanPlanner;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.RESTException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.apache.iceberg.util.ParallelIterable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans the files of a {@link TableScan} using the scan planning endpoints of the REST catalog.
+ *
+ * <p>Planning is submitted to the server and, when the server plans asynchronously, the plan status
+ * is polled until planning completes. Plan tasks returned by the server are fetched lazily, in
+ * parallel when the scan plans with a worker pool, and their file scan tasks are streamed to the
+ * caller as they arrive. Plan tasks returned when fetching a plan task are fetched by the worker
+ * that fetched their parent, so that a worker never waits on tasks queued behind it in the pool.
+ */
+class RESTScanPlanner implements RemoteScanPlanner {
+  private static final Logger LOG = LoggerFactory.getLogger(RESTScanPlanner.class);
+  private static final long MIN_POLL_WAIT_MS = 100L;
+  private static final long MAX_POLL_WAIT_MS = 5_000L;
+
+  private final RESTClient client;
+  private final ResourcePaths paths;
+  private final TableIdentifier ident;
+  private final Supplier<Map<String, String>> headers;
+  private final Set<Endpoint> endpoints;
+
+  RESTScanPlanner(
+      RESTClient client,
+      ResourcePaths paths,
+      TableIdentifier ident,
+      Supplier<Map<String, String>> headers,
+      Set<Endpoint> endpoints) {
+    this.client = client;
+    this.paths = paths;
+    this.ident = ident;
+    this.headers = headers;
+    this.endpoints = endpoints;
+  }
+
+  @Override
+  public CloseableIterable<FileScanTask> planFiles(PlannedScan planned) {
+    TableScan scan = planned.scan();
+    PlanTableScanRequest request =
+        new PlanTableScanRequest.Builder()
+            .withSnapshotId(scan.snapshot().snapshotId())
+            .withSelect(planned.selectedColumns())
+            .withFilter(scan.filter())
+            .withCaseSensitive(scan.isCaseSensitive())
+            .withUseSnapshotSchema(planned.useSnapshotSchema())
+            .withStatsFields(planned.statsFields())
+            .build();
+    ExecutorService planExecutor = planned.planExecutor();
+
+    PlanTableScanResponse response =
+        client.post(
+            paths.planTableScan(ident),
+            request,
+            PlanTableScanResponse.class,
+            headers.get(),
+            ErrorHandlers.planErrorHandler(),
+            responseHeaders -> {},
+            parserContext(scan));
+
+    switch (response.planStatus()) {
+      case COMPLETED:
+        return scanTasks(scan, planExecutor, response.fileScanTasks(), response.planTasks());
+      case SUBMITTED:
+        return awaitPlan(scan, planExecutor, response.planId());
+      default:
+        throw new RESTException(
+            "Failed to plan scan of table %s: unexpected status %s",
+            ident, response.planStatus().status());
+    }
+  }
+
+  private CloseableIterable<FileScanTask> awaitPlan(
+      TableScan scan, ExecutorService planExecutor, String planId) {
+    Endpoint.check(endpoints, Endpoint.V1_FETCH_TABLE_SCAN_PLAN);
+    long waitMs = MIN_POLL_WAIT_MS;
+    boolean completed = false;
+    try {
+      while (true) {
+        FetchPlanningResultResponse response =
+            client.get(
+                paths.plan(ident, planId),
+                Map.of(),
+                FetchPlanningResultResponse.class,
+                headers.get(),
+                ErrorHandlers.planErrorHandler(),
+                parserContext(scan));
+
+        switch (response.planStatus()) {
+          case COMPLETED:
+            completed = true;
+            return scanTasks(scan, planExecutor, response.fileScanTasks(), response.planTasks());
+          case SUBMITTED:
+            Thread.sleep(waitMs);
+            waitMs = Math.min(waitMs * 2, MAX_POLL_WAIT_MS);
+            break;
+          default:
+            // the plan is no longer running and does not need to be cancelled
+            completed = true;
+            throw new RESTException(
+                "Failed to plan scan of table %s: plan %s is %s",
+                ident, planId, response.planStatus().status());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RESTException(e, "Interrupted while waiting for plan %s", planId);
+    } finally {
+      if (!completed) {
+        cancelPlan(planId);
+      }
+    }
+  }
+
+  private void cancelPlan(String planId) {
+    if (endpoints.contains(Endpoint.V1_CANCEL_TABLE_SCAN_PLAN)) {
+      try {
+        client.delete(
+            paths.plan(ident, planId), null, headers.get(), ErrorHandlers.planErrorHandler());
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to cancel plan {} for table {}", planId, ident, e);
+      }
+    }
+  }
+
+  private CloseableIterable<FileScanTask> scanTasks(
+      TableScan scan,
+      ExecutorService planExecutor,
+      List<FileScanTask> fileScanTasks,
+      List<String> planTasks) {
+    List<CloseableIterable<FileScanTask>> results = Lists.newArrayList();
+    if (fileScanTasks != null) {
+      results.add(CloseableIterable.withNoopClose(fileScanTasks));
+    }
+
+    if (planTasks != null) {
+      for (String planTask : planTasks) {
+        results.add(fetchScanTasks(scan, planTask));
+      }
+    }
+
+    if (planExecutor != null && results.size() > 1) {
+      return new ParallelIterable<>(results, planExecutor);
+    }
+
+    return CloseableIterable.concat(results);
+  }
+
+  /** Returns the tasks of a plan task, which are fetched from the server when iterated. */
+  private CloseableIterable<FileScanTask> fetchScanTasks(TableScan scan, String planTask) {
+    return CloseableIterable.withNoopClose(
+        () -> {
+          Endpoint.check(endpoints, Endpoint.V1_FETCH_TABLE_SCAN_PLAN_TASKS);
+          FetchScanTasksResponse response =
+              client.post(
+                  paths.fetchScanTasks(ident),
+                  new FetchScanTasksRequest(planTask),
+                  FetchScanTasksResponse.class,
+                  headers.get(),
+                  ErrorHandlers.planErrorHandler(),
+                  responseHeaders -> {},
+                  parserContext(scan));
+
+          // this may already run on a plan worker, so nested plan tasks are fetched sequentially
+          return scanTasks(scan, null, response.fileScanTasks(), response.planTasks()).iterator();
+        });
+  }
+
+  private static ParserContext parserContext(TableScan scan) {
+    return ParserContext.builder()
+        .add("specsById", scan.table().specs())
+        .add("caseSensitive", scan.isCaseSensitive())
+        .build();
+  }
+}
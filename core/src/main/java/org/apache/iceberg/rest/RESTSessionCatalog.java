@@ -89,6 +89,8 @@ import org.apache.iceberg.rest.responses.LoadViewResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
 import org.apache.iceberg.util.EnvironmentUtil;
 import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 import org.apache.iceberg.view.BaseView;
 import org.apache.iceberg.view.ImmutableSQLViewRepresentation;
 import org.apache.iceberg.view.ImmutableViewVersion;
@@ -157,6 +159,7 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
   private MetricsReporter reporter = null;
   private boolean reportingViaRestEnabled;
   private Integer pageSize = null;
+  private boolean scanPlanningEnabled;
   private CloseableGroup closeables = null;
   private Set<Endpoint> endpoints;
 
@@ -234,6 +237,14 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
           RESTCatalogProperties.PAGE_SIZE);
     }
 
+    this.scanPlanningEnabled =
+        PropertyUtil.propertyAsBoolean(
+                mergedProps,
+                RESTCatalogProperties.SCAN_PLANNING_ENABLED,
+                RESTCatalogProperties.SCAN_PLANNING_ENABLED_DEFAULT)
+            && endpoints.contains(Endpoint.V1_SUBMIT_TABLE_SCAN_PLAN)
+            && endpoints.contains(Endpoint.V1_FETCH_TABLE_SCAN_PLAN_TASKS);
+
     this.io = newFileIO(SessionContext.createEmpty(), mergedProps);
 
     this.fileIOTracker = new FileIOTracker();
@@ -460,11 +471,26 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
 
     trackFileIO(ops);
 
-    BaseTable table =
-        new BaseTable(
-            ops,
-            fullTableName(finalIdentifier),
-            metricsReporter(paths.metrics(finalIdentifier), tableClient));
+    BaseTable table;
+    if (scanPlanningEnabled) {
+      table =
+          new RESTTable(
+              ops,
+              fullTableName(finalIdentifier),
+              metricsReporter(paths.metrics(finalIdentifier), tableClient),
+              tableClient,
+              paths,
+              finalIdentifier,
+              Map::of,
+              endpoints);
+    } else {
+      table =
+          new BaseTable(
+              ops,
+              fullTableName(finalIdentifier),
+              metricsReporter(paths.metrics(finalIdentifier), tableClient));
+    }
+
     if (metadataType != null) {
       return MetadataTableUtils.createMetadataTableInstance(table, metadataType);
     }
@@ -472,6 +498,39 @@ public class RESTSessionCatalog extends BaseViewSessionCatalog
     return table;
   }
 
+  /**
+   * Load several tables.
+   *
+   * <p>The REST protocol loads one table per request, so the tables are loaded with concurrent
+   * requests.
+   */
+  @Override
+  public Map<TableIdentifier, Table> loadTables(
+      SessionContext context, List<TableIdentifier> identifiers) {
+    List<TableIdentifier> distinct = identifiers.stream().distinct().collect(Collectors.toList());
+    Map<TableIdentifier, Table> loaded = Maps.newConcurrentMap();
+    Tasks.foreach(distinct)
+        .executeWith(ThreadPools.loadTablesPool())
+        .run(
+            identifier -> {
+              try {
+                loaded.put(identifier, loadTable(context, identifier));
+              } catch (NoSuchTableException e) {
+                // tables that do not exist are not returned
+              }
+            });
+
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : distinct) {
+      Table table = loaded.get(identifier);
+      if (table != null) {
+        tables.put(identifier, table);
+      }
+    }
+
+    return tables;
+  }
+
   private void trackFileIO(RESTTableOperations ops) {
     if (io != ops.io()) {
       fileIOTracker.track(ops);
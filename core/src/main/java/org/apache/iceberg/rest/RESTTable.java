@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.RemoteScanPlanner;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.metrics.MetricsReporter;
+
+/** A {@link BaseTable} that plans table scans on the REST server using {@link RESTScanPlanner}. */
+class RESTTable extends BaseTable {
+  private final RESTClient client;
+  private final ResourcePaths paths;
+  private final TableIdentifier ident;
+  private final Supplier<Map<String, String>> headers;
+  private final Set<Endpoint> endpoints;
+
+  RESTTable(
+      TableOperations ops,
+      String name,
+      MetricsReporter reporter,
+      RESTClient client,
+      ResourcePaths paths,
+      TableIdentifier ident,
+      Supplier<Map<String, String>> headers,
+      Set<Endpoint> endpoints) {
+    super(ops, name, reporter);
+    this.client = client;
+    this.paths = paths;
+    this.ident = ident;
+    this.headers = headers;
+    this.endpoints = endpoints;
+  }
+
+  @Override
+  public TableScan newScan() {
+    return RemoteScanPlanner.newScan(
+        this, reporter(), new RESTScanPlanner(client, paths, ident, headers, endpoints));
+  }
+}
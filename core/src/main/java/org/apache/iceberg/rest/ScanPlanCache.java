@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.ThreadPools;
+
+/**
+ * Scan plans and plan tasks of a REST server that have not been fetched by the client yet.
+ *
+ * <p>Plans and plan tasks are kept for a table and are only returned for that table. Entries that
+ * are not fetched expire after a fixed time, and entries are evicted when the cache is full. Plans
+ * that are still running when they are evicted are cancelled.
+ */
+public class ScanPlanCache implements Closeable {
+  private static final Duration DEFAULT_EXPIRATION = Duration.ofMinutes(30);
+  private static final long DEFAULT_MAX_ENTRIES = 10_000L;
+  private static final int PLANNING_POOL_SIZE = 4;
+
+  private final ExecutorService planningPool;
+  private final Cache<String, Entry<Future<CatalogHandlers.ScanPlan>>> plans;
+  private final Cache<String, Entry<CatalogHandlers.ScanPlan>> planTasks;
+
+  public ScanPlanCache() {
+    this(DEFAULT_EXPIRATION, DEFAULT_MAX_ENTRIES);
+  }
+
+  /**
+   * Creates a cache of scan plans and plan tasks.
+   *
+   * @param expiration how long plans and plan tasks are kept when they are not fetched
+   * @param maxEntries the maximum number of plans, and of plan tasks, that are kept
+   */
+  public ScanPlanCache(Duration expiration, long maxEntries) {
+    Preconditions.checkArgument(
+        maxEntries > 0, "Invalid max entries: %s (must be > 0)", maxEntries);
+    this.planningPool = ThreadPools.newFixedThreadPool("rest-scan-planning", PLANNING_POOL_SIZE);
+    this.plans =
+        Caffeine.newBuilder()
+            .expireAfterWrite(expiration)
+            .maximumSize(maxEntries)
+            .removalListener(ScanPlanCache::cancelEvicted)
+            .build();
+    this.planTasks =
+        Caffeine.newBuilder().expireAfterWrite(expiration).maximumSize(maxEntries).build();
+  }
+
+  /** Starts planning a scan of a table in the background and returns its plan ID. */
+  String submitPlan(TableIdentifier ident, Callable<CatalogHandlers.ScanPlan> planning) {
+    String planId = UUID.randomUUID().toString();
+    plans.put(planId, new Entry<>(ident, planningPool.submit(planning)));
+    return planId;
+  }
+
+  /** Returns the running or completed plan of a table, or null if it does not exist. */
+  Future<CatalogHandlers.ScanPlan> plan(TableIdentifier ident, String planId) {
+    Entry<Future<CatalogHandlers.ScanPlan>> entry = plans.getIfPresent(planId);
+    return entry != null && entry.ident.equals(ident) ? entry.value : null;
+  }
+
+  /** Removes and returns the plan of a table, or null if it does not exist. */
+  Future<CatalogHandlers.ScanPlan> removePlan(TableIdentifier ident, String planId) {
+    Entry<Future<CatalogHandlers.ScanPlan>> entry = plans.getIfPresent(planId);
+    if (entry != null && entry.ident.equals(ident) && plans.asMap().remove(planId, entry)) {
+      return entry.value;
+    }
+
+    return null;
+  }
+
+  /** Adds a plan task of a table and returns its ID. */
+  String addPlanTask(TableIdentifier ident, CatalogHandlers.ScanPlan planTask) {
+    String planTaskId = UUID.randomUUID().toString();
+    planTasks.put(planTaskId, new Entry<>(ident, planTask));
+    return planTaskId;
+  }
+
+  /** Removes and returns a plan task of a table, or null if it does not exist. */
+  CatalogHandlers.ScanPlan removePlanTask(TableIdentifier ident, String planTaskId) {
+    Entry<CatalogHandlers.ScanPlan> entry = planTasks.getIfPresent(planTaskId);
+    if (entry != null && entry.ident.equals(ident) && planTasks.asMap().remove(planTaskId, entry)) {
+      return entry.value;
+    }
+
+    return null;
+  }
+
+  @Override
+  public void close() {
+    planningPool.shutdownNow();
+    plans.asMap().values().forEach(entry -> entry.value.cancel(true));
+    plans.invalidateAll();
+    planTasks.invalidateAll();
+  }
+
+  private static void cancelEvicted(
+      String planId, Entry<Future<CatalogHandlers.ScanPlan>> entry, RemovalCause cause) {
+    if (entry != null && cause.wasEvicted()) {
+      entry.value.cancel(true);
+    }
+  }
+
+  private static class Entry<T> {
+    private final TableIdentifier ident;
+    private final T value;
+
+    private Entry(TableIdentifier ident, T value) {
+      this.ident = ident;
+      this.value = value;
+    }
+  }
+}
@@ -27,7 +27,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
-import java.util.stream.Collectors;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
@@ -62,11 +61,16 @@ public class SortedMerge<T> extends CloseableGroup implements CloseableIterable<
 
   @Override
   public CloseableIterator<T> iterator() {
-    List<CloseableIterator<T>> iterators =
-        iterables.stream()
-            .map(CloseableIterable::iterator)
-            .filter(Iterator::hasNext)
-            .collect(Collectors.toList());
+    List<CloseableIterator<T>> iterators = Lists.newArrayList();
+    for (CloseableIterable<T> iterable : iterables) {
+      CloseableIterator<T> iterator = iterable.iterator();
+      if (iterator.hasNext()) {
+        iterators.add(iterator);
+      } else {
+        // empty iterators may still hold resources, like open files
+        addCloseable(iterator);
+      }
+    }
 
     if (iterators.size() == 1) {
       addCloseable(iterators.get(0));
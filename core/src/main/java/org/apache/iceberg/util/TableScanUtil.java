@@ -19,20 +19,27 @@
 package org.apache.iceberg.util;
 
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import org.apache.iceberg.BaseCombinedScanTask;
 import org.apache.iceberg.BaseScanTaskGroup;
 import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileContent;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MergeableScanTask;
+import org.apache.iceberg.NullOrder;
 import org.apache.iceberg.PartitionData;
 import org.apache.iceberg.PartitionScanTask;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.ScanTask;
 import org.apache.iceberg.ScanTaskGroup;
+import org.apache.iceberg.SortDirection;
+import org.apache.iceberg.SortField;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.SplittableScanTask;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.io.CloseableIterable;
@@ -43,6 +50,9 @@ import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.math.LongMath;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 
 public class TableScanUtil {
@@ -199,6 +209,82 @@ public class TableScanUtil {
         combinedTasks -> new BaseScanTaskGroup<>(groupingKey, mergeTasks(combinedTasks)));
   }
 
+  /**
+   * Groups file tasks into ranges of files that must be merged to read them in sort order.
+   *
+   * <p>Files are ordered by their bounds for the first field of the sort order and a file is added
+   * to the current group when its range overlaps the range of any file already in the group.
+   * Groups are returned in sort order, so reading each group with a sorted merge and concatenating
+   * the groups produces sorted output. Files without bounds for the field or that may contain nulls
+   * or NaN values are treated as unbounded on the side where those values sort. If the first field
+   * does not use an identity transform, all tasks are returned in a single group.
+   *
+   * @param tasks file scan tasks for files that are sorted by the sort order
+   * @param sortOrder the sort order of the files
+   * @return task groups of overlapping files, in sort order
+   */
+  public static List<ScanTaskGroup<FileScanTask>> planMergeGroups(
+      List<FileScanTask> tasks, SortOrder sortOrder) {
+    Preconditions.checkArgument(sortOrder.isSorted(), "Invalid sort order: unsorted");
+
+    if (tasks.isEmpty()) {
+      return ImmutableList.of();
+    }
+
+    SortField field = sortOrder.fields().get(0);
+    Type type = sortOrder.schema().findType(field.sourceId());
+    if (!field.transform().isIdentity() || type == null || !type.isPrimitiveType()) {
+      return ImmutableList.of(new BaseScanTaskGroup<>(tasks));
+    }
+
+    Comparator<Object> comparator = Comparators.forType(type.asPrimitiveType());
+    if (field.direction() == SortDirection.DESC) {
+      comparator = comparator.reversed();
+    }
+
+    List<MergeRange> ranges = Lists.newArrayListWithExpectedSize(tasks.size());
+    for (FileScanTask task : tasks) {
+      ranges.add(MergeRange.of(task, field, type));
+    }
+
+    // a null lower bound is unbounded and sorts first
+    ranges.sort(
+        Comparator.comparing(
+            range -> range.low, Comparators.nullsFirst().thenComparing(comparator)));
+
+    List<ScanTaskGroup<FileScanTask>> groups = Lists.newArrayList();
+    List<FileScanTask> group = Lists.newArrayList();
+    Object groupHigh = null;
+
+    for (MergeRange range : ranges) {
+      boolean overlaps =
+          group.isEmpty()
+              || groupHigh == null
+              || range.low == null
+              || comparator.compare(range.low, groupHigh) <= 0;
+
+      if (!overlaps) {
+        groups.add(new BaseScanTaskGroup<>(group));
+        group = Lists.newArrayList();
+      }
+
+      if (group.isEmpty()) {
+        groupHigh = range.high;
+      } else if (groupHigh != null) {
+        groupHigh =
+            range.high == null || comparator.compare(range.high, groupHigh) > 0
+                ? range.high
+                : groupHigh;
+      }
+
+      group.add(range.task);
+    }
+
+    groups.add(new BaseScanTaskGroup<>(group));
+
+    return groups;
+  }
+
   @SuppressWarnings("unchecked")
   public static <T extends ScanTask> List<T> mergeTasks(List<T> tasks) {
     List<T> mergedTasks = Lists.newArrayList();
@@ -249,4 +335,58 @@ public class TableScanUtil {
     Preconditions.checkArgument(lookback > 0, "Split planning lookback must be > 0: %s", lookback);
     Preconditions.checkArgument(openFileCost >= 0, "File open cost must be >= 0: %s", openFileCost);
   }
+
+  /** The range of a file's values for a sort field, in sort order; null bounds are unbounded. */
+  private static class MergeRange {
+    private final FileScanTask task;
+    private final Object low;
+    private final Object high;
+
+    private MergeRange(FileScanTask task, Object low, Object high) {
+      this.task = task;
+      this.low = low;
+      this.high = high;
+    }
+
+    private static MergeRange of(FileScanTask task, SortField field, Type type) {
+      DataFile file = task.file();
+      int fieldId = field.sourceId();
+      Object lower = bound(file.lowerBounds(), fieldId, type);
+      Object upper = bound(file.upperBounds(), fieldId, type);
+
+      // NaN sorts after all other values and is not included in bounds
+      if (type.typeId() == Type.TypeID.FLOAT || type.typeId() == Type.TypeID.DOUBLE) {
+        if (mayContain(file.nanValueCounts(), fieldId)) {
+          upper = null;
+        }
+      }
+
+      Object low = field.direction() == SortDirection.ASC ? lower : upper;
+      Object high = field.direction() == SortDirection.ASC ? upper : lower;
+
+      if (mayContain(file.nullValueCounts(), fieldId)) {
+        if (field.nullOrder() == NullOrder.NULLS_FIRST) {
+          low = null;
+        } else {
+          high = null;
+        }
+      }
+
+      return new MergeRange(task, low, high);
+    }
+
+    private static boolean mayContain(Map<Integer, Long> counts, int fieldId) {
+      if (counts == null) {
+        return true;
+      }
+
+      Long count = counts.get(fieldId);
+      return count == null || count > 0;
+    }
+
+    private static Object bound(Map<Integer, ByteBuffer> bounds, int fieldId, Type type) {
+      ByteBuffer bound = bounds != null ? bounds.get(fieldId) : null;
+      return bound != null ? Conversions.fromByteBuffer(type, bound) : null;
+    }
+  }
 }
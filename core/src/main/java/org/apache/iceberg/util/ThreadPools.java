@@ -101,6 +101,25 @@ public class ThreadPools {
             "auth-session-refresh", AUTH_REFRESH_THREAD_POOL_SIZE, Duration.ZERO);
   }
 
+  /**
+   * A shared {@link ExecutorService} that catalogs can use to load several tables in parallel.
+   *
+   * <p>Tables are often loaded by tasks that run on the {@link #getWorkerPool() worker pool}. Those
+   * tasks would wait for loads that are queued behind them if the loads ran on the same pool.
+   *
+   * <p>The size of this thread-pool is the size of the worker pool.
+   *
+   * @return an {@link ExecutorService} that uses the table load pool
+   */
+  public static ExecutorService loadTablesPool() {
+    return LoadTablesPoolHolder.INSTANCE;
+  }
+
+  private static class LoadTablesPoolHolder {
+    private static final ExecutorService INSTANCE =
+        newExitingWorkerPool("iceberg-load-tables-pool", WORKER_THREAD_POOL_SIZE);
+  }
+
   /**
    * Creates a fixed-size thread pool that uses daemon threads. The pool is wrapped with {@link
    * MoreExecutors#getExitingExecutorService(ThreadPoolExecutor)}, which registers a shutdown hook
@@ -22,7 +22,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
 public class TestClientPoolImpl {
@@ -134,6 +141,115 @@ public class TestClientPoolImpl {
     }
   }
 
+  @Test
+  public void testWaitersAreServedInArrivalOrder() throws Exception {
+    int numWaiters = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(numWaiters + 1);
+    try (MockClientPoolImpl mockClientPool =
+        new MockClientPoolImpl(1, RetryableException.class, false, 1)) {
+      CountDownLatch holding = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      Future<?> holder =
+          executor.submit(
+              () ->
+                  mockClientPool.run(
+                      client -> {
+                        holding.countDown();
+                        return release.await(1, TimeUnit.MINUTES);
+                      }));
+      holding.await();
+
+      List<Integer> order = Lists.newCopyOnWriteArrayList();
+      List<Future<?>> waiters = Lists.newArrayList();
+      for (int i = 0; i < numWaiters; i += 1) {
+        int waiter = i;
+        waiters.add(executor.submit(() -> mockClientPool.run(client -> order.add(waiter))));
+        Awaitility.await()
+            .atMost(10, TimeUnit.SECONDS)
+            .until(() -> mockClientPool.waitingCount() == waiter + 1);
+      }
+
+      assertThat(mockClientPool.activeCount()).isEqualTo(1);
+      assertThat(mockClientPool.idleCount()).isEqualTo(0);
+
+      release.countDown();
+      holder.get();
+      for (Future<?> waiter : waiters) {
+        waiter.get();
+      }
+
+      assertThat(order).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+      assertThat(mockClientPool.waitingCount()).isEqualTo(0);
+      assertThat(mockClientPool.activeCount()).isEqualTo(0);
+      assertThat(mockClientPool.idleCount()).isEqualTo(1);
+      assertThat(mockClientPool.waitTime().count()).isEqualTo(numWaiters + 1);
+      assertThat(mockClientPool.maxWaitTime()).isPositive();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCloseFailsWaiters() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      MockClientPoolImpl mockClientPool =
+          new MockClientPoolImpl(1, RetryableException.class, false, 1);
+      CountDownLatch holding = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      Future<?> holder =
+          executor.submit(
+              () ->
+                  mockClientPool.run(
+                      client -> {
+                        holding.countDown();
+                        return release.await(1, TimeUnit.MINUTES);
+                      }));
+      holding.await();
+
+      Future<?> waiter = executor.submit(() -> mockClientPool.run(MockClient::successfulAction));
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> mockClientPool.waitingCount() == 1);
+
+      Future<?> close = executor.submit(() -> mockClientPool.close());
+      assertThatThrownBy(waiter::get)
+          .hasCauseInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("Cannot get a client from a closed pool");
+
+      // close waits for the active client to be returned
+      assertThat(close).isNotDone();
+      release.countDown();
+      holder.get();
+      close.get();
+
+      assertThat(mockClientPool.isClosed()).isTrue();
+      assertThat(mockClientPool.idleCount()).isEqualTo(0);
+      assertThat(mockClientPool.activeCount()).isEqualTo(0);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testUnhealthyClientIsReconnected() throws Exception {
+    try (MockClientPoolImpl mockClientPool =
+        new MockClientPoolImpl(1, RetryableException.class, false, 1, true)) {
+      MockClient firstClient = mockClientPool.newClient();
+      firstClient.close();
+      mockClientPool.clients().add(firstClient);
+
+      mockClientPool.run(MockClient::successfulAction);
+      assertThat(mockClientPool.reconnectionAttempts()).isEqualTo(1);
+      assertThat(mockClientPool.reconnectCount()).isEqualTo(1);
+      assertThat(mockClientPool.clients()).first().isNotEqualTo(firstClient);
+
+      // healthy clients are not reconnected
+      mockClientPool.run(MockClient::successfulAction);
+      assertThat(mockClientPool.reconnectCount()).isEqualTo(1);
+    }
+  }
+
   static class RetryableException extends RuntimeException {}
 
   static class NonRetryableException extends RuntimeException {}
@@ -212,7 +328,16 @@ public class TestClientPoolImpl {
         Class<? extends Exception> reconnectExc,
         boolean retryByDefault,
         int numRetries) {
-      super(poolSize, reconnectExc, retryByDefault, numRetries);
+      this(poolSize, reconnectExc, retryByDefault, numRetries, false);
+    }
+
+    MockClientPoolImpl(
+        int poolSize,
+        Class<? extends Exception> reconnectExc,
+        boolean retryByDefault,
+        int numRetries,
+        boolean checkHealth) {
+      super(poolSize, reconnectExc, retryByDefault, numRetries, checkHealth);
     }
 
     @Override
@@ -226,6 +351,11 @@ public class TestClientPoolImpl {
       return new MockClient(reconnectionAttempts);
     }
 
+    @Override
+    protected boolean isHealthy(MockClient client) {
+      return !client.closed;
+    }
+
     @Override
     protected void close(MockClient client) {
       client.close();
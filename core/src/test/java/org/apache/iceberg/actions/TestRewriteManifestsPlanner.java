@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.actions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TestBase;
+import org.apache.iceberg.TestHelpers;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestRewriteManifestsPlanner {
+  private static final long TARGET_SIZE = 1000;
+  private static final Map<String, String> INCREMENTAL =
+      ImmutableMap.of(
+          RewriteManifestsPlanner.REWRITE_ALL,
+          "false",
+          RewriteManifestsPlanner.MAX_OVERLAPPING_MANIFESTS,
+          "2");
+
+  @TempDir private File tableDir = null;
+  private TestTables.TestTable table = null;
+
+  @BeforeEach
+  public void setupTable() throws Exception {
+    this.table = TestTables.create(tableDir, "test", TestBase.SCHEMA, TestBase.SPEC, 3);
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_TARGET_SIZE_BYTES, String.valueOf(TARGET_SIZE))
+        .commit();
+  }
+
+  @AfterEach
+  public void cleanupTables() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  void testRewriteAllByDefault() {
+    RewriteManifestsPlanner planner = new RewriteManifestsPlanner(table, 0);
+    planner.init(ImmutableMap.of());
+
+    List<ManifestFile> manifests =
+        ImmutableList.of(manifest("m1", TARGET_SIZE, 0, 0), manifest("m2", TARGET_SIZE, 1, 1));
+    assertThat(planner.plan(manifests)).isEqualTo(manifests);
+  }
+
+  @Test
+  void testSelectManifestsBySize() {
+    RewriteManifestsPlanner planner = new RewriteManifestsPlanner(table, 0);
+    planner.init(INCREMENTAL);
+
+    ManifestFile good = manifest("good", TARGET_SIZE, 0, 0);
+    ManifestFile small1 = manifest("small-1", TARGET_SIZE / 10, 1, 1);
+    ManifestFile small2 = manifest("small-2", TARGET_SIZE / 10, 2, 2);
+    ManifestFile large = manifest("large", TARGET_SIZE * 2, 3, 3);
+
+    assertThat(planner.plan(ImmutableList.of(good, small1, small2, large)))
+        .containsExactly(small1, small2, large);
+  }
+
+  @Test
+  void testSelectManifestsWithDeletedEntries() {
+    RewriteManifestsPlanner planner = new RewriteManifestsPlanner(table, 0);
+    planner.init(INCREMENTAL);
+
+    ManifestFile good = manifest("good", TARGET_SIZE, 0, 0);
+    ManifestFile deleted =
+        new TestHelpers.TestManifestFile(
+            "deleted", TARGET_SIZE, 0, 1L, 2, 2, 6, ImmutableList.of(summary(1, 1)), null);
+
+    assertThat(planner.plan(ImmutableList.of(good, deleted))).containsExactly(deleted);
+  }
+
+  @Test
+  void testSelectOverlappingManifests() {
+    RewriteManifestsPlanner planner = new RewriteManifestsPlanner(table, 0);
+    planner.init(INCREMENTAL);
+
+    ManifestFile point1 = manifest("point-1", TARGET_SIZE, 0, 0);
+    ManifestFile point2 = manifest("point-2", TARGET_SIZE, 1, 1);
+    ManifestFile range = manifest("range", TARGET_SIZE, 1, 2);
+    ManifestFile wide = manifest("wide", TARGET_SIZE, 0, 15);
+    ManifestFile separate = manifest("separate", TARGET_SIZE, 14, 15);
+
+    // the wide range overlaps 4 manifests and all ranges that only overlap 2 others are kept
+    assertThat(planner.plan(ImmutableList.of(point1, point2, range, wide, separate)))
+        .containsExactly(wide);
+  }
+
+  @Test
+  void testSkipSingleSmallManifest() {
+    RewriteManifestsPlanner planner = new RewriteManifestsPlanner(table, 0);
+    planner.init(INCREMENTAL);
+
+    ManifestFile good = manifest("good", TARGET_SIZE, 0, 0);
+    ManifestFile small = manifest("small", TARGET_SIZE / 10, 1, 1);
+
+    assertThat(planner.plan(ImmutableList.of(good, small))).isEmpty();
+  }
+
+  @Test
+  void testInvalidOptions() {
+    RewriteManifestsPlanner planner = new RewriteManifestsPlanner(table, 0);
+
+    assertThatThrownBy(
+            () ->
+                planner.init(
+                    ImmutableMap.of(RewriteManifestsPlanner.MIN_LIVE_ENTRIES_RATIO, "2")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("'min-live-entries-ratio' is set to 2.0 but must be between 0 and 1");
+
+    assertThatThrownBy(
+            () ->
+                planner.init(
+                    ImmutableMap.of(
+                        RewriteManifestsPlanner.MIN_MANIFEST_SIZE_BYTES,
+                        "100",
+                        RewriteManifestsPlanner.MAX_MANIFEST_SIZE_BYTES,
+                        "50")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("'max-manifest-size-bytes' (50) must be > 'min-manifest-size-bytes'");
+
+    assertThatThrownBy(() -> new RewriteManifestsPlanner(table, 0, "unknown"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Cannot find partition field unknown");
+  }
+
+  private static ManifestFile manifest(String path, long length, int lower, int upper) {
+    return new TestHelpers.TestManifestFile(
+        path, length, 0, 1L, 10, 0, 0, ImmutableList.of(summary(lower, upper)), null);
+  }
+
+  private static ManifestFile.PartitionFieldSummary summary(int lower, int upper) {
+    return new TestHelpers.TestFieldSummary(
+        false,
+        Conversions.toByteBuffer(Types.IntegerType.get(), lower),
+        Conversions.toByteBuffer(Types.IntegerType.get(), upper));
+  }
+}
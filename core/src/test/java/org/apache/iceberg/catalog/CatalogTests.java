@@ -31,6 +31,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.iceberg.AppendFiles;
@@ -79,6 +81,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.relocated.com.google.common.collect.Streams;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.CharSequenceSet;
+import org.apache.iceberg.util.ThreadPools;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -959,6 +962,63 @@ public abstract class CatalogTests<C extends Catalog & SupportsNamespaces> {
         .hasMessageStartingWith("Table does not exist: ns.tbl");
   }
 
+  @Test
+  public void testLoadTables() {
+    C catalog = catalog();
+
+    TableIdentifier first = TableIdentifier.of("ns", "first");
+    TableIdentifier second = TableIdentifier.of("ns", "second");
+    TableIdentifier missing = TableIdentifier.of("ns", "missing");
+    TableIdentifier metaIdent = TableIdentifier.of("ns", "first", "files");
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(first.namespace());
+    }
+
+    catalog.buildTable(first, SCHEMA).create();
+    catalog.buildTable(second, SCHEMA).withPartitionSpec(SPEC).create();
+
+    Map<TableIdentifier, Table> tables =
+        catalog.loadTables(ImmutableList.of(second, missing, metaIdent, first));
+    assertThat(tables.keySet()).containsExactly(second, metaIdent, first);
+    assertThat(tables.get(first).name()).isEqualTo(catalog.name() + "." + first);
+    assertThat(tables.get(first).spec().isUnpartitioned()).isTrue();
+    assertThat(tables.get(second).spec().fields()).hasSize(1);
+    assertThat(tables.get(metaIdent)).isInstanceOf(FilesTable.class);
+
+    // check that the loaded tables can be refreshed
+    tables.values().forEach(Table::refresh);
+
+    assertThat(catalog.loadTables(ImmutableList.of(missing))).isEmpty();
+  }
+
+  @Test
+  public void testLoadTablesFromWorkerPool() throws Exception {
+    C catalog = catalog();
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(NS);
+    }
+
+    TableIdentifier first = TableIdentifier.of(NS, "first");
+    TableIdentifier second = TableIdentifier.of(NS, "second");
+    catalog.buildTable(first, SCHEMA).create();
+    catalog.buildTable(second, SCHEMA).create();
+
+    // loads must not wait for worker pool threads that are busy loading tables
+    List<CompletableFuture<Map<TableIdentifier, Table>>> futures = Lists.newArrayList();
+    for (int i = 0; i < ThreadPools.WORKER_THREAD_POOL_SIZE; i += 1) {
+      futures.add(
+          CompletableFuture.supplyAsync(
+              () -> catalog.loadTables(ImmutableList.of(first, second)),
+              ThreadPools.getWorkerPool()));
+    }
+
+    for (CompletableFuture<Map<TableIdentifier, Table>> future : futures) {
+      assertThat(future.get(30, TimeUnit.SECONDS).keySet()).containsExactly(first, second);
+    }
+  }
+
   @Test
   public void testRenameTable() {
     C catalog = catalog();
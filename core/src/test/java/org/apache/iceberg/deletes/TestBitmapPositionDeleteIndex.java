@@ -27,6 +27,7 @@ import java.util.List;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.io.Resources;
+import org.apache.iceberg.util.Pair;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -73,6 +74,37 @@ public class TestBitmapPositionDeleteIndex {
     assertThat(positions).isEmpty();
   }
 
+  @Test
+  public void testForEachRange() {
+    PositionDeleteIndex index = new BitmapPositionDeleteIndex();
+    index.delete(10L, 20L);
+    index.delete(25L);
+    index.delete(CONTAINER_OFFSET - 2L, CONTAINER_OFFSET + 2L);
+
+    // the default implementation checks each position
+    PositionDeleteIndex positionIndex =
+        Mockito.mock(PositionDeleteIndex.class, Mockito.CALLS_REAL_METHODS);
+    Mockito.doAnswer(invocation -> index.isDeleted(invocation.getArgument(0)))
+        .when(positionIndex)
+        .isDeleted(Mockito.anyLong());
+
+    for (PositionDeleteIndex idx : Lists.newArrayList(index, positionIndex)) {
+      assertThat(collectRanges(idx, 0L, CONTAINER_OFFSET + 10L))
+          .containsExactly(
+              Pair.of(10L, 20L),
+              Pair.of(25L, 26L),
+              Pair.of(CONTAINER_OFFSET - 2L, CONTAINER_OFFSET + 2L));
+      assertThat(collectRanges(idx, 15L, CONTAINER_OFFSET - 1L))
+          .containsExactly(
+              Pair.of(15L, 20L),
+              Pair.of(25L, 26L),
+              Pair.of(CONTAINER_OFFSET - 2L, CONTAINER_OFFSET - 1L));
+      assertThat(collectRanges(idx, 20L, 25L)).isEmpty();
+    }
+
+    assertThat(collectRanges(PositionDeleteIndex.empty(), 0L, 100L)).isEmpty();
+  }
+
   @Test
   public void testMergeBitmapIndexWithNonEmpty() {
     long pos1 = 10L; // Container 0 (high bits = 0)
@@ -188,6 +220,13 @@ public class TestBitmapPositionDeleteIndex {
     assertEqual(index, goldenIndex);
   }
 
+  private static List<Pair<Long, Long>> collectRanges(
+      PositionDeleteIndex index, long posStart, long posEnd) {
+    List<Pair<Long, Long>> ranges = Lists.newArrayList();
+    index.forEachRange(posStart, posEnd, (start, end) -> ranges.add(Pair.of(start, end)));
+    return ranges;
+  }
+
   private static DeleteFile mockDV(long contentSize, long cardinality) {
     DeleteFile mock = Mockito.mock(DeleteFile.class);
     Mockito.when(mock.contentSizeInBytes()).thenReturn(contentSize);
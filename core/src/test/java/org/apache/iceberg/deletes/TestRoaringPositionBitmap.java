@@ -25,12 +25,14 @@ import java.io.IOException;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import org.apache.iceberg.Parameter;
 import org.apache.iceberg.ParameterizedTestExtension;
 import org.apache.iceberg.Parameters;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
@@ -153,6 +155,69 @@ public class TestRoaringPositionBitmap {
     assertThat(bitmap.isEmpty()).isTrue();
   }
 
+  @TestTemplate
+  public void testForEachRange() {
+    RoaringPositionBitmap bitmap = new RoaringPositionBitmap();
+    bitmap.setRange(10L, 20L);
+    bitmap.set(25L);
+    bitmap.setRange(CONTAINER_OFFSET - 5L, CONTAINER_OFFSET + 5L); // across containers
+    bitmap.setRange(BITMAP_OFFSET - 5L, BITMAP_OFFSET + 5L); // across keys
+
+    List<Pair<Long, Long>> expected =
+        ImmutableList.of(
+            Pair.of(10L, 20L),
+            Pair.of(25L, 26L),
+            Pair.of(CONTAINER_OFFSET - 5L, CONTAINER_OFFSET + 5L),
+            Pair.of(BITMAP_OFFSET - 5L, BITMAP_OFFSET + 5L));
+    assertThat(ranges(bitmap, 0L, 2 * BITMAP_OFFSET)).isEqualTo(expected);
+
+    bitmap.runLengthEncode();
+    assertThat(ranges(bitmap, 0L, 2 * BITMAP_OFFSET)).isEqualTo(expected);
+
+    // ranges are truncated to the requested range
+    assertThat(ranges(bitmap, 15L, 26L)).containsExactly(Pair.of(15L, 20L), Pair.of(25L, 26L));
+    assertThat(ranges(bitmap, BITMAP_OFFSET, BITMAP_OFFSET + 2L))
+        .containsExactly(Pair.of(BITMAP_OFFSET, BITMAP_OFFSET + 2L));
+    assertThat(ranges(bitmap, 20L, 25L)).isEmpty();
+    assertThat(ranges(bitmap, 10L, 10L)).isEmpty();
+    assertThat(ranges(bitmap, 3 * BITMAP_OFFSET, 4 * BITMAP_OFFSET)).isEmpty();
+  }
+
+  @TestTemplate
+  public void testForEachRangeRandomBitmap() {
+    Pair<RoaringPositionBitmap, Set<Long>> bitmapAndPositions = generateDenseBitmap(3);
+    RoaringPositionBitmap bitmap = bitmapAndPositions.first();
+    Set<Long> positions = bitmapAndPositions.second();
+    List<Long> sortedPositions = Lists.newArrayList(positions);
+    Collections.sort(sortedPositions);
+    Random random = new Random(validationSeed);
+
+    for (int ordinal = 0; ordinal < 50; ordinal++) {
+      // start near a set position so that ranges usually overlap runs
+      long position = sortedPositions.get(random.nextInt(sortedPositions.size()));
+      long start = Math.max(0L, position - random.nextInt(100_000));
+      long end = start + random.nextInt(200_000);
+      Set<Long> expected = Sets.newHashSet();
+      for (long pos = start; pos < end; pos++) {
+        if (positions.contains(pos)) {
+          expected.add(pos);
+        }
+      }
+
+      Set<Long> actual = Sets.newHashSet();
+      bitmap.forEachRange(
+          start,
+          end,
+          (rangeStart, rangeEnd) -> {
+            for (long pos = rangeStart; pos < rangeEnd; pos++) {
+              actual.add(pos);
+            }
+          });
+
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
   @TestTemplate
   public void testAddAll() {
     RoaringPositionBitmap bitmap1 = new RoaringPositionBitmap();
@@ -476,6 +541,13 @@ public class TestRoaringPositionBitmap {
     return bitmapIndex * BITMAP_OFFSET + containerIndex * CONTAINER_OFFSET + value;
   }
 
+  private static List<Pair<Long, Long>> ranges(
+      RoaringPositionBitmap bitmap, long posStart, long posEnd) {
+    List<Pair<Long, Long>> ranges = Lists.newArrayList();
+    bitmap.forEachRange(posStart, posEnd, (start, end) -> ranges.add(Pair.of(start, end)));
+    return ranges;
+  }
+
   private static RoaringPositionBitmap roundTripSerialize(RoaringPositionBitmap bitmap) {
     ByteBuffer buffer = ByteBuffer.allocate((int) bitmap.serializedSizeInBytes());
     buffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -23,8 +23,10 @@ import static org.apache.iceberg.SortDirection.ASC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.Set;
 import org.apache.hadoop.conf.Configuration;
@@ -314,6 +316,63 @@ public class TestHadoopCatalog extends HadoopTableTestBase {
         .hasMessage("Namespace does not exist: db.ns1.ns2");
   }
 
+  @Test
+  public void testListInParallel() throws Exception {
+    HadoopCatalog catalog = hadoopCatalog(ImmutableMap.of(HadoopCatalog.LIST_PARALLELISM, "4"));
+
+    List<TableIdentifier> tables = Lists.newArrayList();
+    for (int i = 0; i < 10; i += 1) {
+      tables.add(TableIdentifier.of("db", "tbl" + i));
+    }
+
+    tables.forEach(t -> catalog.createTable(t, SCHEMA, PartitionSpec.unpartitioned()));
+    catalog.createTable(TableIdentifier.of("db", "ns1", "tbl"), SCHEMA);
+
+    assertThat(catalog.listTables(Namespace.of("db"))).containsExactlyInAnyOrderElementsOf(tables);
+    assertThat(catalog.listNamespaces(Namespace.of("db")))
+        .containsExactly(Namespace.of("db", "ns1"));
+    catalog.close();
+
+    HadoopCatalog uncheckedCatalog =
+        hadoopCatalog(ImmutableMap.of(HadoopCatalog.LIST_TABLES_CHECK_METADATA, "false"));
+    // without metadata checks, nested namespaces are listed as tables
+    assertThat(uncheckedCatalog.listTables(Namespace.of("db")))
+        .hasSize(11)
+        .containsAll(tables)
+        .contains(TableIdentifier.of("db", "ns1"));
+    uncheckedCatalog.close();
+  }
+
+  @Test
+  public void testMetadataVersionCache() throws Exception {
+    HadoopCatalog catalog =
+        hadoopCatalog(ImmutableMap.of(HadoopCatalog.METADATA_VERSION_CACHE_TTL_MS, "60000"));
+    HadoopCatalog otherCatalog = hadoopCatalog();
+
+    TableIdentifier tableIdent = TableIdentifier.of("db", "tbl");
+    catalog.createTable(tableIdent, SCHEMA);
+
+    // commits from other processes are found by checking for newer versions
+    otherCatalog.loadTable(tableIdent).newFastAppend().appendFile(FILE_A).commit();
+    Table table = catalog.loadTable(tableIdent);
+    assertThat(table.currentSnapshot()).isNotNull();
+
+    // loads with a cached version do not read the version hint
+    File versionHint = new File(table.location(), "metadata/" + Util.VERSION_HINT_FILENAME);
+    Files.write(versionHint.toPath(), "5".getBytes(StandardCharsets.UTF_8));
+    assertThatThrownBy(() -> otherCatalog.loadTable(tableIdent))
+        .isInstanceOf(ValidationException.class)
+        .hasMessageStartingWith("Metadata file for version 5 is missing");
+    assertThat(catalog.loadTable(tableIdent).currentSnapshot())
+        .isEqualTo(table.currentSnapshot());
+
+    // a table that is dropped and created again by another process is resolved again
+    assertThat(versionHint.delete()).isTrue();
+    assertThat(otherCatalog.dropTable(tableIdent, false)).isTrue();
+    otherCatalog.createTable(tableIdent, SCHEMA);
+    assertThat(catalog.loadTable(tableIdent).currentSnapshot()).isNull();
+  }
+
   @Test
   public void testCallingLocationProviderWhenNoCurrentMetadata() throws IOException {
     HadoopCatalog catalog = hadoopCatalog();
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.io;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+
+public class TestInsertedRowIndex {
+  private static final Types.StructType KEY_TYPE =
+      Types.StructType.of(
+          required(1, "id", Types.LongType.get()),
+          optional(2, "name", Types.StringType.get()),
+          optional(
+              3,
+              "location",
+              Types.StructType.of(
+                  required(4, "zone", Types.IntegerType.get()),
+                  optional(5, "data", Types.BinaryType.get()))));
+
+  @Test
+  public void testValueEncoding() {
+    long value = InsertedRowIndex.value(12, 1L << 35);
+    assertThat(InsertedRowIndex.fileOrdinal(value)).isEqualTo(12);
+    assertThat(InsertedRowIndex.position(value)).isEqualTo(1L << 35);
+    assertThat(value).isNotEqualTo(InsertedRowIndex.NONE);
+  }
+
+  @Test
+  public void testPutAndRemove() {
+    try (InsertedRowIndex index = new InsertedRowIndex(KEY_TYPE)) {
+      StructLike key = key(1L, "a", 7);
+      assertThat(index.put(key, InsertedRowIndex.value(0, 0L))).isEqualTo(InsertedRowIndex.NONE);
+      assertThat(index.put(key(1L, "a", 7), InsertedRowIndex.value(0, 1L)))
+          .isEqualTo(InsertedRowIndex.value(0, 0L));
+
+      // keys that differ only in a nested or null field are different keys
+      assertThat(index.put(key(1L, "a", 8), InsertedRowIndex.value(1, 0L)))
+          .isEqualTo(InsertedRowIndex.NONE);
+      assertThat(index.put(Row.of(1L, null, null), InsertedRowIndex.value(1, 1L)))
+          .isEqualTo(InsertedRowIndex.NONE);
+
+      assertThat(index.remove(key(1L, "a", 7))).isEqualTo(InsertedRowIndex.value(0, 1L));
+      assertThat(index.remove(key(1L, "a", 7))).isEqualTo(InsertedRowIndex.NONE);
+      assertThat(index.remove(Row.of(1L, null, null))).isEqualTo(InsertedRowIndex.value(1, 1L));
+      assertThat(index.put(key(1L, "a", 7), InsertedRowIndex.value(2, 0L)))
+          .isEqualTo(InsertedRowIndex.NONE);
+    }
+  }
+
+  @Test
+  public void testSpillToDisk() {
+    Map<Long, Long> expected = Maps.newHashMap();
+    Random random = new Random(8265);
+
+    try (InsertedRowIndex index = new InsertedRowIndex(KEY_TYPE, 2L * 1024 * 1024)) {
+      for (int i = 0; i < 200_000; i += 1) {
+        long id = random.nextInt(50_000);
+        StructLike key = key(id, "name-" + id, (int) (id % 13));
+        if (random.nextInt(4) == 0) {
+          assertThat(index.remove(key)).isEqualTo(orNone(expected.remove(id)));
+        } else {
+          long value = InsertedRowIndex.value(i / 10_000, i);
+          assertThat(index.put(key, value)).isEqualTo(orNone(expected.put(id, value)));
+        }
+      }
+
+      assertThat(index.spilledRuns()).isGreaterThan(0);
+
+      for (long id = 0; id < 50_000; id += 1) {
+        assertThat(index.remove(key(id, "name-" + id, (int) (id % 13))))
+            .isEqualTo(orNone(expected.get(id)));
+      }
+    }
+  }
+
+  @Test
+  public void testCompactTombstones() {
+    try (InsertedRowIndex index = new InsertedRowIndex(KEY_TYPE)) {
+      for (long id = 0; id < 50_000; id += 1) {
+        index.put(key(id, "name-" + id, 1), InsertedRowIndex.value(0, id));
+      }
+
+      long fullSize = index.estimatedSize();
+      for (long id = 0; id < 49_000; id += 1) {
+        assertThat(index.remove(key(id, "name-" + id, 1))).isEqualTo(InsertedRowIndex.value(0, id));
+      }
+
+      // tombstones that do not shadow a spilled key are dropped
+      assertThat(index.estimatedSize()).isLessThan(fullSize / 2);
+
+      for (long id = 0; id < 50_000; id += 1) {
+        long expected = id < 49_000 ? InsertedRowIndex.NONE : InsertedRowIndex.value(0, id);
+        assertThat(index.remove(key(id, "name-" + id, 1))).isEqualTo(expected);
+      }
+    }
+  }
+
+  @Test
+  public void testTombstonesShadowSpilledKeysAfterCompaction() {
+    try (InsertedRowIndex index = new InsertedRowIndex(KEY_TYPE, 64L * 1024)) {
+      for (long id = 0; id < 20_000; id += 1) {
+        index.put(key(id, "name-" + id, 1), InsertedRowIndex.value(0, id));
+      }
+
+      assertThat(index.spilledRuns()).isGreaterThan(0);
+
+      for (long id = 0; id < 20_000; id += 1) {
+        assertThat(index.remove(key(id, "name-" + id, 1))).isEqualTo(InsertedRowIndex.value(0, id));
+      }
+
+      for (long id = 0; id < 20_000; id += 1) {
+        assertThat(index.remove(key(id, "name-" + id, 1))).isEqualTo(InsertedRowIndex.NONE);
+      }
+    }
+  }
+
+  @Test
+  public void testManySmallPartitionsShareBudget() {
+    InsertedRowIndex.MemoryBudget budget = new InsertedRowIndex.MemoryBudget(128L * 1024 * 1024);
+    List<InsertedRowIndex> indexes = Lists.newArrayList();
+    try {
+      for (int partition = 0; partition < 1000; partition += 1) {
+        InsertedRowIndex index = new InsertedRowIndex(KEY_TYPE, budget);
+        indexes.add(index);
+        for (long id = 0; id < 3; id += 1) {
+          index.put(key(id, "name-" + id, partition), InsertedRowIndex.value(0, id));
+        }
+      }
+
+      // indexes with a few keys do not allocate full pages or hash tables
+      assertThat(budget.used()).isLessThan(1024L * 1024);
+      assertThat(indexes).allSatisfy(index -> assertThat(index.spilledRuns()).isZero());
+    } finally {
+      indexes.forEach(InsertedRowIndex::close);
+    }
+
+    assertThat(budget.used()).isZero();
+  }
+
+  @Test
+  public void testPartitionsSpillWithinSharedBudget() {
+    long memoryBudget = 1024L * 1024;
+    InsertedRowIndex.MemoryBudget budget = new InsertedRowIndex.MemoryBudget(memoryBudget);
+    List<InsertedRowIndex> indexes = Lists.newArrayList();
+    try {
+      for (int partition = 0; partition < 8; partition += 1) {
+        indexes.add(new InsertedRowIndex(KEY_TYPE, budget));
+      }
+
+      for (long id = 0; id < 5000; id += 1) {
+        for (int partition = 0; partition < indexes.size(); partition += 1) {
+          InsertedRowIndex index = indexes.get(partition);
+          index.put(key(id, "name-" + id, partition), InsertedRowIndex.value(0, id));
+          assertThat(budget.used()).isLessThanOrEqualTo(2 * memoryBudget);
+        }
+      }
+
+      assertThat(indexes.stream().mapToInt(InsertedRowIndex::spilledRuns).sum()).isGreaterThan(0);
+
+      for (long id = 0; id < 5000; id += 1) {
+        for (int partition = 0; partition < indexes.size(); partition += 1) {
+          assertThat(indexes.get(partition).remove(key(id, "name-" + id, partition)))
+              .isEqualTo(InsertedRowIndex.value(0, id));
+        }
+      }
+    } finally {
+      indexes.forEach(InsertedRowIndex::close);
+    }
+  }
+
+  private static long orNone(Long value) {
+    return value != null ? value : InsertedRowIndex.NONE;
+  }
+
+  private static StructLike key(long id, String name, int zone) {
+    return Row.of(id, name, Row.of(zone, ByteBuffer.wrap(new byte[] {(byte) zone, 1, 2})));
+  }
+}
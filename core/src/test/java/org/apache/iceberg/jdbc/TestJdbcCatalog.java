@@ -51,6 +51,7 @@ import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SnapshotRef;
 import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
@@ -59,12 +60,15 @@ import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.catalog.CatalogTests;
 import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.hadoop.Util;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -73,6 +77,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.transforms.Transform;
 import org.apache.iceberg.transforms.Transforms;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -1062,6 +1067,104 @@ public class TestJdbcCatalog extends CatalogTests<JdbcCatalog> {
     assertThat(catalog.namespaceExists(testNamespace)).isTrue();
   }
 
+  @Test
+  public void testListTablesWithPagination() {
+    Namespace namespace = Namespace.of("db");
+    List<TableIdentifier> expected = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      TableIdentifier identifier = TableIdentifier.of(namespace, "tbl" + i);
+      catalog.createTable(identifier, SCHEMA);
+      expected.add(identifier);
+    }
+
+    catalog.createTable(TableIdentifier.of("other", "tbl"), SCHEMA);
+
+    List<TableIdentifier> listed = Lists.newArrayList();
+    List<Integer> pageSizes = Lists.newArrayList();
+    String pageToken = "";
+    do {
+      Pair<List<TableIdentifier>, String> page = catalog.listTables(namespace, pageToken, 2);
+      listed.addAll(page.first());
+      pageSizes.add(page.first().size());
+      pageToken = page.second();
+    } while (pageToken != null);
+
+    assertThat(pageSizes).containsExactly(2, 2, 1);
+    assertThat(listed).containsExactlyElementsOf(expected);
+    assertThat(catalog.listTables(namespace, null, 5)).isEqualTo(Pair.of(expected, null));
+
+    assertThatThrownBy(() -> catalog.listTables(namespace, null, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid page size: 0");
+    assertThatThrownBy(() -> catalog.listTables(Namespace.of("missing"), null, 2))
+        .isInstanceOf(NoSuchNamespaceException.class)
+        .hasMessage("Namespace does not exist: missing");
+  }
+
+  @Test
+  public void testCommitTransaction() {
+    TableIdentifier identOne = TableIdentifier.of("db", "tbl1");
+    TableIdentifier identTwo = TableIdentifier.of("db", "tbl2");
+    Table tableOne = catalog.createTable(identOne, SCHEMA);
+    Table tableTwo = catalog.createTable(identTwo, SCHEMA);
+
+    TableMetadata baseOne = ((BaseTable) tableOne).operations().current();
+    TableMetadata baseTwo = ((BaseTable) tableTwo).operations().current();
+    TableMetadata updatedOne =
+        TableMetadata.buildFrom(baseOne).setProperties(ImmutableMap.of("k", "1")).build();
+    TableMetadata updatedTwo =
+        TableMetadata.buildFrom(baseTwo).setProperties(ImmutableMap.of("k", "2")).build();
+    catalog.commitTransaction(
+        ImmutableList.of(
+            TableCommit.create(identOne, baseOne, updatedOne),
+            TableCommit.create(identTwo, baseTwo, updatedTwo)));
+
+    assertThat(catalog.loadTable(identOne).properties()).containsEntry("k", "1");
+    assertThat(catalog.loadTable(identTwo).properties()).containsEntry("k", "2");
+
+    // new metadata files continue the version sequence of each table
+    for (TableIdentifier ident : ImmutableList.of(identOne, identTwo)) {
+      String location =
+          ((BaseTable) catalog.loadTable(ident)).operations().current().metadataFileLocation();
+      assertThat(location.substring(location.lastIndexOf('/') + 1))
+          .startsWith("00001-")
+          .endsWith(".metadata.json");
+    }
+  }
+
+  @Test
+  public void testCommitTransactionWithFailedRequirement() {
+    TableIdentifier identOne = TableIdentifier.of("db", "tbl1");
+    TableIdentifier identTwo = TableIdentifier.of("db", "tbl2");
+    Table tableOne = catalog.createTable(identOne, SCHEMA);
+    Table tableTwo = catalog.createTable(identTwo, SCHEMA);
+
+    TableMetadata baseOne = ((BaseTable) tableOne).operations().current();
+    TableMetadata baseTwo = ((BaseTable) tableTwo).operations().current();
+    TableCommit commitOne =
+        TableCommit.create(
+            identOne,
+            baseOne,
+            TableMetadata.buildFrom(baseOne).setProperties(ImmutableMap.of("k", "1")).build());
+    tableTwo.newAppend().appendFile(FILE_A).commit();
+    TableCommit commitTwo =
+        TableCommit.create(
+            identTwo,
+            baseTwo,
+            TableMetadata.buildFrom(baseTwo)
+                .setBranchSnapshot(tableTwo.currentSnapshot(), SnapshotRef.MAIN_BRANCH)
+                .build());
+
+    // the second table has changed since the commit was created, so neither table is updated
+    assertThatThrownBy(() -> catalog.commitTransaction(ImmutableList.of(commitOne, commitTwo)))
+        .isInstanceOf(CommitFailedException.class)
+        .hasMessageContaining("branch main was created concurrently");
+
+    assertThat(catalog.loadTable(identOne).properties()).doesNotContainKey("k");
+    assertThat(catalog.loadTable(identTwo).currentSnapshot())
+        .isEqualTo(tableTwo.currentSnapshot());
+  }
+
   @Test
   public void testConversions() {
     Namespace ns = Namespace.of("db", "db2", "ns2");
@@ -23,10 +23,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.nio.file.Files;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.junit.jupiter.api.Test;
 import org.sqlite.SQLiteDataSource;
@@ -144,9 +146,62 @@ public class TestJdbcUtil {
     }
   }
 
+  @Test
+  public void testUpdateTables() throws Exception {
+    java.nio.file.Path dbFile = Files.createTempFile("icebergUpdateTables", "db");
+    String jdbcUrl = "jdbc:sqlite:" + dbFile.toAbsolutePath();
+
+    try (JdbcClientPool connections = new JdbcClientPool(jdbcUrl, Maps.newHashMap())) {
+      connections.newClient().prepareStatement(JdbcUtil.V0_CREATE_CATALOG_SQL).executeUpdate();
+      connections.newClient().prepareStatement(JdbcUtil.V1_UPDATE_CATALOG_SQL).execute();
+
+      Namespace namespace = Namespace.of("namespace1");
+      List<TableIdentifier> tables =
+          ImmutableList.of(
+              TableIdentifier.of(namespace, "table1"), TableIdentifier.of(namespace, "table2"));
+      for (TableIdentifier table : tables) {
+        JdbcUtil.doCommitCreateTable(
+            JdbcUtil.SchemaVersion.V1, connections, "TEST", namespace, table, "location1");
+      }
+
+      // the second table has a stale metadata location, so neither table is updated
+      List<TableIdentifier> conflicts =
+          JdbcUtil.updateTables(
+              JdbcUtil.SchemaVersion.V1,
+              connections,
+              "TEST",
+              tables,
+              ImmutableList.of("location2", "location2"),
+              ImmutableList.of("location1", "location0"));
+      assertThat(conflicts).containsExactly(tables.get(1));
+      for (TableIdentifier table : tables) {
+        assertThat(metadataLocation(connections, table)).isEqualTo("location1");
+      }
+
+      conflicts =
+          JdbcUtil.updateTables(
+              JdbcUtil.SchemaVersion.V1,
+              connections,
+              "TEST",
+              tables,
+              ImmutableList.of("location2", "location2"),
+              ImmutableList.of("location1", "location1"));
+      assertThat(conflicts).isEmpty();
+      for (TableIdentifier table : tables) {
+        assertThat(metadataLocation(connections, table)).isEqualTo("location2");
+      }
+    }
+  }
+
   @Test
   public void emptyNamespaceInIdentifier() {
     assertThat(JdbcUtil.stringToTableIdentifier("", "tblName"))
         .isEqualTo(TableIdentifier.of(Namespace.empty(), "tblName"));
   }
+
+  private static String metadataLocation(JdbcClientPool connections, TableIdentifier table)
+      throws Exception {
+    return JdbcUtil.loadTable(JdbcUtil.SchemaVersion.V1, connections, "TEST", table)
+        .get(JdbcTableOperations.METADATA_LOCATION_PROP);
+  }
 }
@@ -24,6 +24,7 @@ import static org.mockito.ArgumentMatchers.any;
 
 import java.io.File;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.apache.hadoop.conf.Configuration;
@@ -33,7 +34,9 @@ import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.view.BaseView;
 import org.apache.iceberg.view.ViewCatalogTests;
 import org.apache.iceberg.view.ViewMetadata;
@@ -145,6 +148,31 @@ public class TestJdbcViewCatalog extends ViewCatalogTests<JdbcCatalog> {
     }
   }
 
+  @Test
+  public void testListViewsWithPagination() {
+    Namespace namespace = Namespace.of("ns");
+    catalog.createNamespace(namespace);
+    List<TableIdentifier> expected = Lists.newArrayList();
+    for (int i = 0; i < 3; i += 1) {
+      TableIdentifier identifier = TableIdentifier.of(namespace, "view" + i);
+      catalog
+          .buildView(identifier)
+          .withQuery("spark", "select * from tbl")
+          .withSchema(SCHEMA)
+          .withDefaultNamespace(namespace)
+          .create();
+      expected.add(identifier);
+    }
+
+    Pair<List<TableIdentifier>, String> first = catalog.listViews(namespace, null, 2);
+    assertThat(first.first()).containsExactlyElementsOf(expected.subList(0, 2));
+    assertThat(first.second()).isNotNull();
+
+    Pair<List<TableIdentifier>, String> second = catalog.listViews(namespace, first.second(), 2);
+    assertThat(second.first()).containsExactly(expected.get(2));
+    assertThat(second.second()).isNull();
+  }
+
   @Test
   public void dropViewShouldNotDropMetadataFileIfGcNotEnabled() {
     TableIdentifier identifier = TableIdentifier.of("namespace1", "view");
@@ -47,6 +47,7 @@ import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.NoSuchViewException;
 import org.apache.iceberg.exceptions.NotAuthorizedException;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.RESTException;
 import org.apache.iceberg.exceptions.UnprocessableEntityException;
 import org.apache.iceberg.exceptions.ValidationException;
@@ -59,6 +60,8 @@ import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RegisterTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
@@ -67,12 +70,15 @@ import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ConfigResponse;
 import org.apache.iceberg.rest.responses.CreateNamespaceResponse;
 import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.FetchPlanningResultResponse;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.GetNamespaceResponse;
 import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.LoadViewResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
@@ -92,6 +98,7 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
           .put(NoSuchTableException.class, 404)
           .put(NoSuchViewException.class, 404)
           .put(NoSuchIcebergTableException.class, 404)
+          .put(NotFoundException.class, 404)
           .put(UnsupportedOperationException.class, 406)
           .put(AlreadyExistsException.class, 409)
           .put(CommitFailedException.class, 409)
@@ -102,6 +109,7 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
   private final Catalog catalog;
   private final SupportsNamespaces asNamespaceCatalog;
   private final ViewCatalog asViewCatalog;
+  private final ScanPlanCache planCache = new ScanPlanCache();
 
   private AuthSession authSession = AuthSession.EMPTY;
 
@@ -164,7 +172,20 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
     UPDATE_VIEW(
         HTTPMethod.POST, ResourcePaths.V1_VIEW, UpdateTableRequest.class, LoadViewResponse.class),
     RENAME_VIEW(HTTPMethod.POST, ResourcePaths.V1_VIEW_RENAME, RenameTableRequest.class, null),
-    DROP_VIEW(HTTPMethod.DELETE, ResourcePaths.V1_VIEW);
+    DROP_VIEW(HTTPMethod.DELETE, ResourcePaths.V1_VIEW),
+    PLAN_TABLE_SCAN(
+        HTTPMethod.POST,
+        ResourcePaths.V1_TABLE_SCAN_PLAN_SUBMIT,
+        PlanTableScanRequest.class,
+        PlanTableScanResponse.class),
+    FETCH_PLANNING_RESULT(
+        HTTPMethod.GET, ResourcePaths.V1_TABLE_SCAN_PLAN, null, FetchPlanningResultResponse.class),
+    CANCEL_PLANNING(HTTPMethod.DELETE, ResourcePaths.V1_TABLE_SCAN_PLAN),
+    FETCH_SCAN_TASKS(
+        HTTPMethod.POST,
+        ResourcePaths.V1_TABLE_SCAN_PLAN_TASKS,
+        FetchScanTasksRequest.class,
+        FetchScanTasksResponse.class);
 
     private final HTTPMethod method;
     private final int requiredLength;
@@ -560,6 +581,43 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
           break;
         }
 
+      case PLAN_TABLE_SCAN:
+        {
+          PlanTableScanRequest request = castRequest(PlanTableScanRequest.class, body);
+          return castResponse(
+              responseType,
+              CatalogHandlers.planTableScan(
+                  catalog,
+                  tableIdentFromPathVars(vars),
+                  request,
+                  planCache,
+                  planScansAsync(),
+                  tasksPerPlanTask()));
+        }
+
+      case FETCH_PLANNING_RESULT:
+        return castResponse(
+            responseType,
+            CatalogHandlers.fetchPlanningResult(
+                planCache,
+                tableIdentFromPathVars(vars),
+                RESTUtil.decodeString(vars.get("plan-id"))));
+
+      case CANCEL_PLANNING:
+        {
+          CatalogHandlers.cancelPlanning(
+              planCache, tableIdentFromPathVars(vars), RESTUtil.decodeString(vars.get("plan-id")));
+          return null;
+        }
+
+      case FETCH_SCAN_TASKS:
+        {
+          FetchScanTasksRequest request = castRequest(FetchScanTasksRequest.class, body);
+          return castResponse(
+              responseType,
+              CatalogHandlers.fetchScanTasks(planCache, tableIdentFromPathVars(vars), request));
+        }
+
       default:
         if (responseType == OAuthTokenResponse.class) {
           return castResponse(responseType, handleOAuthRequest(body));
@@ -569,6 +627,16 @@ public class RESTCatalogAdapter extends BaseHTTPClient {
     return null;
   }
 
+  /** Returns whether scans are planned in the background; tests override this to poll plans. */
+  protected boolean planScansAsync() {
+    return false;
+  }
+
+  /** Returns the maximum number of file scan tasks returned in a planning response. */
+  protected int tasksPerPlanTask() {
+    return 1000;
+  }
+
   /**
    * This is a very simplistic approach that only validates the requirements for each table and does
    * not do any other conflict detection. Therefore, it does not guarantee true transactional
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataOperations;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.SnapshotRef;
+import org.apache.iceberg.SnapshotSummary;
+import org.apache.iceberg.SnapshotUpdate;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.UpdateRequirement;
+import org.apache.iceberg.UpdateRequirements;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.SnapshotUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCommitQueue {
+  private static final Schema SCHEMA = new Schema(required(1, "id", Types.IntegerType.get()));
+  private static final TableIdentifier IDENT = TableIdentifier.of("db", "tbl");
+
+  private InMemoryCatalog catalog;
+  private Table table;
+
+  @BeforeEach
+  public void before() {
+    this.catalog = new InMemoryCatalog();
+    catalog.initialize("test", ImmutableMap.of());
+    catalog.createNamespace(Namespace.of("db"));
+    this.table =
+        catalog.createTable(
+            IDENT,
+            SCHEMA,
+            PartitionSpec.unpartitioned(),
+            ImmutableMap.of(TableProperties.FORMAT_VERSION, "2"));
+  }
+
+  @Test
+  public void testStaleAppendFailsWithoutQueue() {
+    UpdateTableRequest first = appendRequest(newFile(0));
+    UpdateTableRequest second = appendRequest(newFile(1));
+
+    CatalogHandlers.updateTable(catalog, IDENT, first);
+    assertThatThrownBy(() -> CatalogHandlers.updateTable(catalog, IDENT, second))
+        .isInstanceOf(CommitFailedException.class)
+        .hasMessageContaining("branch main has changed");
+  }
+
+  @Test
+  public void testStaleAppendsAreRebased() throws IOException {
+    CommitQueue queue = new CommitQueue();
+    List<UpdateTableRequest> requests = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      requests.add(appendRequest(newFile(i)));
+    }
+
+    for (UpdateTableRequest request : requests) {
+      CatalogHandlers.updateTable(catalog, IDENT, request, queue);
+    }
+
+    assertAppended(requests);
+  }
+
+  @Test
+  public void testConcurrentAppends() throws Exception {
+    CommitQueue queue = new CommitQueue();
+    List<UpdateTableRequest> requests = Lists.newArrayList();
+    for (int i = 0; i < 16; i += 1) {
+      requests.add(appendRequest(newFile(i)));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<LoadTableResponse>> responses = Lists.newArrayList();
+      for (UpdateTableRequest request : requests) {
+        responses.add(
+            executor.submit(() -> CatalogHandlers.updateTable(catalog, IDENT, request, queue)));
+      }
+
+      for (int i = 0; i < requests.size(); i += 1) {
+        TableMetadata committed = responses.get(i).get().tableMetadata();
+        assertThat(committed.snapshot(snapshot(requests.get(i)).snapshotId())).isNotNull();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertAppended(requests);
+  }
+
+  @Test
+  public void testAppendWithoutOptInIsNotRebased() {
+    table.newFastAppend().appendFile(newFile(0)).commit();
+
+    CommitQueue queue = new CommitQueue();
+    UpdateTableRequest first = appendRequest(newFile(1));
+    UpdateTableRequest second = updateRequest(table.newFastAppend().appendFile(newFile(2)));
+
+    // appends are only marked as rebaseable when the writer asks for it
+    assertThat(table.currentSnapshot().summary())
+        .doesNotContainKey(SnapshotSummary.REBASEABLE_APPEND_PROP);
+    assertThat(snapshot(second).summary())
+        .doesNotContainKey(SnapshotSummary.REBASEABLE_APPEND_PROP);
+
+    CatalogHandlers.updateTable(catalog, IDENT, first, queue);
+    assertThatThrownBy(() -> CatalogHandlers.updateTable(catalog, IDENT, second, queue))
+        .isInstanceOf(CommitFailedException.class)
+        .hasMessageContaining("branch main has changed");
+  }
+
+  @Test
+  public void testFailedRequirementIsReported() throws IOException {
+    CommitQueue queue = new CommitQueue();
+    UpdateTableRequest valid = appendRequest(newFile(0));
+    UpdateTableRequest append = appendRequest(newFile(1));
+    UpdateTableRequest invalid =
+        new UpdateTableRequest(
+            ImmutableList.of(new UpdateRequirement.AssertTableUUID("not-the-table-uuid")),
+            append.updates());
+
+    assertThatThrownBy(() -> CatalogHandlers.updateTable(catalog, IDENT, invalid, queue))
+        .isInstanceOf(CommitFailedException.class)
+        .hasMessageContaining("UUID does not match");
+
+    CatalogHandlers.updateTable(catalog, IDENT, valid, queue);
+    assertAppended(ImmutableList.of(valid));
+  }
+
+  @Test
+  public void testValidatedOverwriteFailsOnConcurrentCommit() {
+    table.newFastAppend().appendFile(newFile(0)).commit();
+    long startingSnapshotId = table.currentSnapshot().snapshotId();
+
+    CommitQueue queue = new CommitQueue();
+    UpdateTableRequest append = appendRequest(newFile(1));
+    UpdateTableRequest overwrite =
+        updateRequest(
+            table
+                .newOverwrite()
+                .addFile(newFile(2))
+                .validateFromSnapshot(startingSnapshotId)
+                .conflictDetectionFilter(Expressions.alwaysTrue())
+                .validateNoConflictingData());
+
+    // an overwrite that only adds files produces an append snapshot
+    assertThat(snapshot(overwrite).operation()).isEqualTo(DataOperations.APPEND);
+    assertThat(snapshot(overwrite).summary())
+        .doesNotContainKey(SnapshotSummary.REBASEABLE_APPEND_PROP);
+
+    CatalogHandlers.updateTable(catalog, IDENT, append, queue);
+    assertThatThrownBy(() -> CatalogHandlers.updateTable(catalog, IDENT, overwrite, queue))
+        .isInstanceOf(CommitFailedException.class)
+        .hasMessageContaining("branch main has changed");
+
+    table.refresh();
+    assertThat(table.currentSnapshot().snapshotId()).isEqualTo(snapshot(append).snapshotId());
+  }
+
+  private void assertAppended(List<UpdateTableRequest> requests) throws IOException {
+    table.refresh();
+
+    List<Long> expectedIds =
+        requests.stream()
+            .map(request -> snapshot(request).snapshotId())
+            .collect(Collectors.toList());
+    assertThat(SnapshotUtil.currentAncestorIds(table))
+        .containsExactlyInAnyOrderElementsOf(expectedIds);
+
+    assertThat(table.currentSnapshot().summary())
+        .containsEntry(SnapshotSummary.TOTAL_DATA_FILES_PROP, String.valueOf(requests.size()));
+
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      assertThat(tasks).hasSize(requests.size());
+    }
+  }
+
+  /** Returns an update request for a rebaseable fast append, as a REST client would send it. */
+  private UpdateTableRequest appendRequest(DataFile file) {
+    return updateRequest(
+        table
+            .newFastAppend()
+            .appendFile(file)
+            .set(SnapshotSummary.REBASEABLE_APPEND_PROP, "true"));
+  }
+
+  /** Returns an update request for a snapshot update, as a REST client would send it. */
+  private UpdateTableRequest updateRequest(SnapshotUpdate<?> update) {
+    TableMetadata base = ((BaseTable) table).operations().current();
+    Snapshot snapshot = update.apply();
+    List<MetadataUpdate> updates =
+        TableMetadata.buildFrom(base)
+            .setBranchSnapshot(snapshot, SnapshotRef.MAIN_BRANCH)
+            .build()
+            .changes();
+    return new UpdateTableRequest(UpdateRequirements.forUpdateTable(base, updates), updates);
+  }
+
+  private static Snapshot snapshot(UpdateTableRequest request) {
+    return ((MetadataUpdate.AddSnapshot) request.updates().get(0)).snapshot();
+  }
+
+  private static DataFile newFile(int index) {
+    return DataFiles.builder(PartitionSpec.unpartitioned())
+        .withPath("/path/to/data-" + index + ".parquet")
+        .withFileSizeInBytes(10)
+        .withRecordCount(1)
+        .build();
+  }
+}
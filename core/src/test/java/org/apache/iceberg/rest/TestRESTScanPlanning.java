@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TableScan;
+import org.apache.iceberg.TestBase;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.SessionCatalog;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.apache.iceberg.transforms.Transforms;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.SerializableFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestRESTScanPlanning {
+  private static final TableIdentifier TABLE = TableIdentifier.of(Namespace.of("ns"), "tbl");
+  private static final TableIdentifier OTHER_TABLE =
+      TableIdentifier.of(Namespace.of("ns"), "other");
+
+  private static final SerializableFunction<String, Integer> BUCKET =
+      Transforms.<String>bucket(16).bind(Types.StringType.get());
+
+  private static final DataFile FILE_A = dataFile("a");
+  private static final DataFile FILE_B = dataFile("b");
+  private static final DataFile FILE_C = dataFile("c");
+  private static final DeleteFile FILE_A_DELETES =
+      FileMetadata.deleteFileBuilder(TestBase.SPEC)
+          .ofPositionDeletes()
+          .withPath("/path/to/data-a-deletes.parquet")
+          .withFileSizeInBytes(10)
+          .withPartitionPath("data_bucket=" + BUCKET.apply("a"))
+          .withRecordCount(1)
+          .build();
+
+  @TempDir private Path temp;
+
+  private InMemoryCatalog backendCatalog;
+  private boolean planAsync = false;
+  private int tasksPerPlanTask = 1000;
+  private boolean nestPlanTasks = false;
+  private final Map<String, List<String>> nestedPlanTasks = Maps.newConcurrentMap();
+  private long firstSnapshotId;
+  private final AtomicInteger planRequests = new AtomicInteger();
+
+  @BeforeEach
+  public void before() {
+    this.backendCatalog = new InMemoryCatalog();
+    backendCatalog.initialize(
+        "in-memory",
+        ImmutableMap.of(CatalogProperties.WAREHOUSE_LOCATION, temp.toFile().getAbsolutePath()));
+    backendCatalog.createNamespace(TABLE.namespace());
+
+    Table table =
+        backendCatalog
+            .buildTable(TABLE, TestBase.SCHEMA)
+            .withPartitionSpec(TestBase.SPEC)
+            .withProperty(TableProperties.FORMAT_VERSION, "2")
+            .create();
+    table.newFastAppend().appendFile(FILE_A).commit();
+    this.firstSnapshotId = table.currentSnapshot().snapshotId();
+    table.newFastAppend().appendFile(FILE_B).appendFile(FILE_C).commit();
+    table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+  }
+
+  @AfterEach
+  public void after() throws IOException {
+    backendCatalog.close();
+  }
+
+  @Test
+  public void testScanPlanningDisabledByDefault() throws IOException {
+    Table table = catalog(ImmutableMap.of()).loadTable(TABLE);
+    assertThat(table).isNotInstanceOf(RESTTable.class);
+
+    assertThat(paths(planFiles(table.newScan())))
+        .containsExactlyInAnyOrder(paths(FILE_A, FILE_B, FILE_C));
+    assertThat(planRequests).hasValue(0);
+  }
+
+  @Test
+  public void testPlanFiles() throws IOException {
+    List<FileScanTask> tasks = planFiles(restTable().newScan());
+    assertThat(planRequests).hasValue(1);
+    assertThat(paths(tasks)).containsExactlyInAnyOrder(paths(FILE_A, FILE_B, FILE_C));
+
+    FileScanTask taskA =
+        tasks.stream()
+            .filter(task -> task.file().location().equals(FILE_A.location()))
+            .findFirst()
+            .orElseThrow();
+    assertThat(taskA.deletes()).hasSize(1);
+    assertThat(taskA.deletes().get(0).location()).isEqualTo(FILE_A_DELETES.location());
+  }
+
+  @Test
+  public void testPlanFilesWithFilterAndSnapshot() throws IOException {
+    Table table = restTable();
+
+    // files are only pruned by partition as they have no column metrics
+    int bucket = BUCKET.apply("b");
+    String[] expected =
+        Stream.of(FILE_A, FILE_B, FILE_C)
+            .filter(file -> file.partition().get(0, Integer.class) == bucket)
+            .map(DataFile::location)
+            .toArray(String[]::new);
+    assertThat(paths(planFiles(table.newScan().filter(Expressions.equal("data", "b")))))
+        .containsExactlyInAnyOrder(expected);
+
+    assertThat(paths(planFiles(table.newScan().useSnapshot(firstSnapshotId))))
+        .containsExactly(FILE_A.location());
+  }
+
+  @Test
+  public void testFetchPlanTasks() throws IOException {
+    this.tasksPerPlanTask = 1;
+
+    List<FileScanTask> tasks = planFiles(restTable().newScan());
+    assertThat(paths(tasks)).containsExactlyInAnyOrder(paths(FILE_A, FILE_B, FILE_C));
+  }
+
+  @Test
+  public void testAsyncPlanning() throws IOException {
+    this.planAsync = true;
+    this.tasksPerPlanTask = 2;
+
+    List<FileScanTask> tasks = planFiles(restTable().newScan());
+    assertThat(paths(tasks)).containsExactlyInAnyOrder(paths(FILE_A, FILE_B, FILE_C));
+  }
+
+  @Test
+  @Timeout(30)
+  public void testFetchNestedPlanTasksWithBoundedPool() throws IOException {
+    this.tasksPerPlanTask = 1;
+    this.nestPlanTasks = true;
+
+    ExecutorService planExecutor = Executors.newSingleThreadExecutor();
+    try {
+      List<FileScanTask> tasks = planFiles(restTable().newScan().planWith(planExecutor));
+      assertThat(paths(tasks)).containsExactlyInAnyOrder(paths(FILE_A, FILE_B, FILE_C));
+      assertThat(nestedPlanTasks).hasSize(2);
+    } finally {
+      planExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testPlanTasksAreScopedToTheirTable() {
+    backendCatalog.buildTable(OTHER_TABLE, TestBase.SCHEMA).create();
+    ScanPlanCache planCache = new ScanPlanCache();
+
+    PlanTableScanResponse response =
+        CatalogHandlers.planTableScan(backendCatalog, TABLE, scanRequest(), planCache, false, 1);
+    assertThat(response.planTasks()).hasSize(3);
+    FetchScanTasksRequest request = new FetchScanTasksRequest(response.planTasks().get(0));
+
+    assertThatThrownBy(() -> CatalogHandlers.fetchScanTasks(planCache, OTHER_TABLE, request))
+        .isInstanceOf(NotFoundException.class)
+        .hasMessageStartingWith("Plan task");
+
+    assertThat(CatalogHandlers.fetchScanTasks(planCache, TABLE, request).fileScanTasks())
+        .hasSize(1);
+
+    planCache.close();
+  }
+
+  @Test
+  public void testAsyncPlansAreScopedToTheirTable() {
+    ScanPlanCache planCache = new ScanPlanCache();
+    PlanTableScanResponse response =
+        CatalogHandlers.planTableScan(backendCatalog, TABLE, scanRequest(), planCache, true, 10);
+    String planId = response.planId();
+
+    assertThatThrownBy(() -> CatalogHandlers.fetchPlanningResult(planCache, OTHER_TABLE, planId))
+        .isInstanceOf(NotFoundException.class);
+    assertThatThrownBy(() -> CatalogHandlers.cancelPlanning(planCache, OTHER_TABLE, planId))
+        .isInstanceOf(NotFoundException.class);
+
+    CatalogHandlers.cancelPlanning(planCache, TABLE, planId);
+    planCache.close();
+  }
+
+  @Test
+  public void testUnfetchedPlanTasksExpire() {
+    ScanPlanCache planCache = new ScanPlanCache(Duration.ZERO, 100);
+
+    PlanTableScanResponse response =
+        CatalogHandlers.planTableScan(backendCatalog, TABLE, scanRequest(), planCache, false, 1);
+    assertThat(response.planTasks()).hasSize(3);
+
+    FetchScanTasksRequest request = new FetchScanTasksRequest(response.planTasks().get(0));
+    assertThatThrownBy(() -> CatalogHandlers.fetchScanTasks(planCache, TABLE, request))
+        .isInstanceOf(NotFoundException.class);
+
+    planCache.close();
+  }
+
+  private PlanTableScanRequest scanRequest() {
+    return new PlanTableScanRequest.Builder()
+        .withSnapshotId(backendCatalog.loadTable(TABLE).currentSnapshot().snapshotId())
+        .build();
+  }
+
+  private Table restTable() {
+    Table table =
+        catalog(ImmutableMap.of(RESTCatalogProperties.SCAN_PLANNING_ENABLED, "true"))
+            .loadTable(TABLE);
+    assertThat(table).isInstanceOf(RESTTable.class);
+    return table;
+  }
+
+  private RESTCatalog catalog(Map<String, String> properties) {
+    RESTCatalogAdapter adapter =
+        new RESTCatalogAdapter(backendCatalog) {
+          @Override
+          protected boolean planScansAsync() {
+            return planAsync;
+          }
+
+          @Override
+          protected int tasksPerPlanTask() {
+            return tasksPerPlanTask;
+          }
+
+          @Override
+          public <T extends RESTResponse> T handleRequest(
+              Route route,
+              Map<String, String> vars,
+              HTTPRequest httpRequest,
+              Class<T> responseType,
+              Consumer<Map<String, String>> responseHeaders) {
+            if (route == Route.PLAN_TABLE_SCAN) {
+              planRequests.incrementAndGet();
+            }
+
+            if (nestPlanTasks && route == Route.FETCH_SCAN_TASKS) {
+              List<String> nested =
+                  nestedPlanTasks.get(((FetchScanTasksRequest) httpRequest.body()).planTask());
+              if (nested != null) {
+                return responseType.cast(
+                    FetchScanTasksResponse.builder().withPlanTasks(nested).build());
+              }
+            }
+
+            T response =
+                super.handleRequest(route, vars, httpRequest, responseType, responseHeaders);
+            if (nestPlanTasks && route == Route.PLAN_TABLE_SCAN) {
+              return responseType.cast(nest((PlanTableScanResponse) response));
+            }
+
+            return response;
+          }
+        };
+
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), config -> adapter);
+    catalog.initialize(
+        "test",
+        ImmutableMap.<String, String>builder()
+            .put(CatalogProperties.URI, "ignored")
+            .putAll(properties)
+            .buildOrThrow());
+    return catalog;
+  }
+
+  /** Moves the plan tasks of a response under two plan tasks that return them when fetched. */
+  private PlanTableScanResponse nest(PlanTableScanResponse response) {
+    List<String> planTasks = response.planTasks();
+    assertThat(planTasks).hasSizeGreaterThan(2);
+    nestedPlanTasks.put("nested-0", planTasks.subList(0, 2));
+    nestedPlanTasks.put("nested-1", planTasks.subList(2, planTasks.size()));
+    return PlanTableScanResponse.builder()
+        .withPlanStatus(PlanStatus.COMPLETED)
+        .withPlanTasks(List.of("nested-0", "nested-1"))
+        .withSpecsById(response.specsById())
+        .build();
+  }
+
+  private static List<FileScanTask> planFiles(TableScan scan) throws IOException {
+    try (CloseableIterable<FileScanTask> tasks = scan.planFiles()) {
+      return Lists.newArrayList(tasks);
+    }
+  }
+
+  private static Set<String> paths(List<FileScanTask> tasks) {
+    return tasks.stream().map(task -> task.file().location()).collect(Collectors.toSet());
+  }
+
+  private static String[] paths(DataFile... files) {
+    return Stream.of(files).map(DataFile::location).toArray(String[]::new);
+  }
+
+  private static DataFile dataFile(String name) {
+    return DataFiles.builder(TestBase.SPEC)
+        .withPath("/path/to/data-" + name + ".parquet")
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=" + BUCKET.apply(name))
+        .withRecordCount(1)
+        .build();
+  }
+}
@@ -35,6 +35,7 @@ import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MergeableScanTask;
 import org.apache.iceberg.MockFileScanTask;
+import org.apache.iceberg.NullOrder;
 import org.apache.iceberg.PartitionScanTask;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.PartitionSpecParser;
@@ -42,6 +43,7 @@ import org.apache.iceberg.ScanTask;
 import org.apache.iceberg.ScanTaskGroup;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.SchemaParser;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.SplittableScanTask;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.TestBase;
@@ -49,7 +51,9 @@ import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.expressions.ResidualEvaluator;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
 import org.apache.iceberg.types.Types;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -332,6 +336,71 @@ public class TestTableScanUtil {
         .hasMessageStartingWith("Parallelism must be > 0: 0");
   }
 
+  @Test
+  public void testMergeGroupPlanning() {
+    SortOrder ascending = SortOrder.builderFor(TEST_SCHEMA).asc("c1").build();
+    FileScanTask task1 = taskWithBounds(1, 10, 0L);
+    FileScanTask task2 = taskWithBounds(5, 20, 0L);
+    FileScanTask task3 = taskWithBounds(21, 30, 0L);
+    FileScanTask task4 = taskWithBounds(30, 40, 0L);
+    FileScanTask task5 = taskWithBounds(50, 60, 0L);
+
+    // tasks are grouped by transitive overlap and returned in sort order
+    List<ScanTaskGroup<FileScanTask>> groups =
+        TableScanUtil.planMergeGroups(
+            ImmutableList.of(task5, task3, task1, task4, task2), ascending);
+    assertThat(groups).hasSize(3);
+    assertThat(groups.get(0).tasks()).containsExactly(task1, task2);
+    assertThat(groups.get(1).tasks()).containsExactly(task3, task4);
+    assertThat(groups.get(2).tasks()).containsExactly(task5);
+
+    SortOrder descending = SortOrder.builderFor(TEST_SCHEMA).desc("c1").build();
+    groups =
+        TableScanUtil.planMergeGroups(
+            ImmutableList.of(task1, task2, task3, task4, task5), descending);
+    assertThat(groups).hasSize(3);
+    assertThat(groups.get(0).tasks()).containsExactly(task5);
+    assertThat(groups.get(1).tasks()).containsExactly(task4, task3);
+    assertThat(groups.get(2).tasks()).containsExactly(task2, task1);
+
+    // nulls sort first, so a file with nulls overlaps all files before its upper bound
+    FileScanTask taskWithNulls = taskWithBounds(22, 25, 3L);
+    groups =
+        TableScanUtil.planMergeGroups(
+            ImmutableList.of(task1, task2, task3, task4, task5, taskWithNulls), ascending);
+    assertThat(groups).hasSize(2);
+    assertThat(groups.get(0).tasks()).containsExactly(taskWithNulls, task1, task2, task3, task4);
+    assertThat(groups.get(1).tasks()).containsExactly(task5);
+
+    // files with unknown null counts may contain nulls
+    FileScanTask taskWithoutCounts = taskWithBounds(55, 56, null);
+    SortOrder nullsLast = SortOrder.builderFor(TEST_SCHEMA).asc("c1", NullOrder.NULLS_LAST).build();
+    groups =
+        TableScanUtil.planMergeGroups(
+            ImmutableList.of(task1, taskWithoutCounts, task3, task5), nullsLast);
+    assertThat(groups).hasSize(3);
+    assertThat(groups.get(0).tasks()).containsExactly(task1);
+    assertThat(groups.get(1).tasks()).containsExactly(task3);
+    assertThat(groups.get(2).tasks()).containsExactly(task5, taskWithoutCounts);
+
+    // ranges cannot be compared for transformed fields
+    SortOrder bucketed = SortOrder.builderFor(TEST_SCHEMA).asc(Expressions.bucket("c1", 4)).build();
+    groups = TableScanUtil.planMergeGroups(ImmutableList.of(task1, task3, task5), bucketed);
+    assertThat(groups).hasSize(1);
+    assertThat(groups.get(0).tasks()).containsExactly(task1, task3, task5);
+  }
+
+  private FileScanTask taskWithBounds(int lower, int upper, Long nullCount) {
+    DataFile mockFile = Mockito.mock(DataFile.class);
+    Mockito.when(mockFile.lowerBounds())
+        .thenReturn(ImmutableMap.of(1, Conversions.toByteBuffer(Types.IntegerType.get(), lower)));
+    Mockito.when(mockFile.upperBounds())
+        .thenReturn(ImmutableMap.of(1, Conversions.toByteBuffer(Types.IntegerType.get(), upper)));
+    Mockito.when(mockFile.nullValueCounts())
+        .thenReturn(nullCount != null ? ImmutableMap.of(1, nullCount) : null);
+    return new MockFileScanTask(mockFile);
+  }
+
   private PartitionScanTask taskWithPartition(
       PartitionSpec spec, StructLike partition, long sizeBytes) {
     PartitionScanTask task = Mockito.mock(PartitionScanTask.class);
@@ -142,6 +142,10 @@ public abstract class DeleteFilter<T> {
     counter.increment();
   }
 
+  public void incrementDeleteCount(long deleteCount) {
+    counter.increment(deleteCount);
+  }
+
   Accessor<StructLike> posAccessor() {
     return posAccessor;
   }
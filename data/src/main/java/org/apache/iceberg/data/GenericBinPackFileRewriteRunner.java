@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableUtil;
+import org.apache.iceberg.actions.FileRewriteRunner;
+import org.apache.iceberg.actions.RewriteDataFiles.FileGroupInfo;
+import org.apache.iceberg.actions.RewriteFileGroup;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriteResult;
+import org.apache.iceberg.io.FanoutDataWriter;
+import org.apache.iceberg.io.FileWriter;
+import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.io.RollingDataWriter;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link FileRewriteRunner} that bin-packs data files in the current JVM using generic records.
+ *
+ * <p>Each group is rewritten by streaming the records of its files, with deletes applied, into
+ * rolling output files of the group's maximum output file size. Only one record is in flight at a
+ * time, so memory is bounded by the open writers: one for groups whose files all use the output
+ * spec, and one per output partition for groups that are repartitioned to a different spec. The
+ * runner is thread-safe and groups can be rewritten concurrently.
+ *
+ * <p>The runner reports the number of rewritten records and bytes, the number of added files, and
+ * the time spent rewriting groups to the {@link MetricsContext} it is created with.
+ */
+public class GenericBinPackFileRewriteRunner
+    implements FileRewriteRunner<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> {
+  private static final Logger LOG = LoggerFactory.getLogger(GenericBinPackFileRewriteRunner.class);
+
+  private final Table table;
+  private final String operationId = UUID.randomUUID().toString();
+  private final AtomicInteger groupIds = new AtomicInteger(0);
+  private final Counter rewrittenRecords;
+  private final Counter rewrittenBytes;
+  private final Counter addedFiles;
+  private final Timer rewriteDuration;
+
+  public GenericBinPackFileRewriteRunner(Table table) {
+    this(table, MetricsContext.nullMetrics());
+  }
+
+  public GenericBinPackFileRewriteRunner(Table table, MetricsContext metricsContext) {
+    this.table = table;
+    this.rewrittenRecords =
+        metricsContext.counter("rewritten-records", MetricsContext.Unit.COUNT);
+    this.rewrittenBytes = metricsContext.counter("rewritten-bytes", MetricsContext.Unit.BYTES);
+    this.addedFiles = metricsContext.counter("added-files", MetricsContext.Unit.COUNT);
+    this.rewriteDuration = metricsContext.timer("rewrite-duration", TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public String description() {
+    return "BIN-PACK";
+  }
+
+  @Override
+  public Set<String> validOptions() {
+    return ImmutableSet.of();
+  }
+
+  @Override
+  public void init(Map<String, String> options) {}
+
+  @Override
+  public Set<DataFile> rewrite(RewriteFileGroup group) {
+    long startNanos = System.nanoTime();
+    int groupId = groupIds.incrementAndGet();
+    Schema schema = writeSchema();
+    PartitionSpec spec = table.specs().get(group.outputSpecId());
+
+    GenericReader reader = new GenericReader(table.newScan().project(schema), false);
+    GenericFileWriterFactory writerFactory =
+        GenericFileWriterFactory.builderFor(table).dataSchema(schema).build();
+    OutputFileFactory fileFactory =
+        OutputFileFactory.builderFor(table, groupId, 0)
+            .defaultSpec(spec)
+            .operationId(operationId)
+            .build();
+
+    GroupWriter writer =
+        requiresRepartition(group, spec)
+            ? new RepartitioningWriter(
+                new FanoutDataWriter<>(
+                    writerFactory, fileFactory, table.io(), group.maxOutputFileSize()),
+                spec,
+                schema)
+            : new RollingWriter(
+                new RollingDataWriter<>(
+                    writerFactory,
+                    fileFactory,
+                    table.io(),
+                    group.maxOutputFileSize(),
+                    spec,
+                    group.fileScanTasks().get(0).file().partition()));
+
+    long numRecords = 0L;
+    try {
+      for (FileScanTask task : group.fileScanTasks()) {
+        try (CloseableIterable<Record> records = reader.open(task)) {
+          for (Record record : records) {
+            writer.write(record);
+            numRecords += 1;
+          }
+        }
+      }
+
+      writer.close();
+    } catch (IOException | RuntimeException e) {
+      abort(writer);
+      if (e instanceof IOException) {
+        throw new UncheckedIOException("Failed to rewrite file group " + group.info(), e);
+      }
+
+      throw (RuntimeException) e;
+    }
+
+    Set<DataFile> newFiles = Sets.newHashSet(writer.result().dataFiles());
+
+    long durationNanos = System.nanoTime() - startNanos;
+    rewrittenRecords.increment(numRecords);
+    rewrittenBytes.increment(group.inputFilesSizeInBytes());
+    addedFiles.increment(newFiles.size());
+    rewriteDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+
+    LOG.info(
+        "Rewrote {} files ({} records, {} bytes) into {} files in {} ms ({} records/s, {} MB/s) "
+            + "for group {} in {}",
+        group.rewrittenFiles().size(),
+        numRecords,
+        group.inputFilesSizeInBytes(),
+        newFiles.size(),
+        TimeUnit.NANOSECONDS.toMillis(durationNanos),
+        perSecond(numRecords, durationNanos),
+        perSecond(group.inputFilesSizeInBytes() / (1024.0 * 1024.0), durationNanos),
+        group.info(),
+        table.name());
+
+    return newFiles;
+  }
+
+  // rewrites carry over row lineage so that row IDs are kept
+  private Schema writeSchema() {
+    return TableUtil.supportsRowLineage(table)
+        ? MetadataColumns.schemaWithRowLineage(table.schema())
+        : table.schema();
+  }
+
+  // records must be repartitioned unless all files belong to the same partition of the output spec
+  private static boolean requiresRepartition(RewriteFileGroup group, PartitionSpec spec) {
+    Comparator<StructLike> comparator = Comparators.forType(spec.partitionType());
+    StructLike partition = group.fileScanTasks().get(0).file().partition();
+    return group.fileScanTasks().stream()
+        .anyMatch(
+            task ->
+                task.file().specId() != spec.specId()
+                    || comparator.compare(task.file().partition(), partition) != 0);
+  }
+
+  private void abort(GroupWriter writer) {
+    try {
+      writer.close();
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to close writer while aborting rewrite", e);
+      return;
+    }
+
+    Tasks.foreach(writer.result().dataFiles())
+        .noRetry()
+        .suppressFailureWhenFinished()
+        .onFailure((file, exc) -> LOG.warn("Failed to delete: {}", file.location(), exc))
+        .run(file -> table.io().deleteFile(file.location()));
+  }
+
+  private static long perSecond(double amount, long durationNanos) {
+    return durationNanos > 0 ? (long) (amount * TimeUnit.SECONDS.toNanos(1) / durationNanos) : 0L;
+  }
+
+  private interface GroupWriter {
+    void write(Record record);
+
+    void close() throws IOException;
+
+    DataWriteResult result();
+  }
+
+  private static class RollingWriter implements GroupWriter {
+    private final FileWriter<Record, DataWriteResult> delegate;
+
+    private RollingWriter(FileWriter<Record, DataWriteResult> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(Record record) {
+      delegate.write(record);
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    @Override
+    public DataWriteResult result() {
+      return delegate.result();
+    }
+  }
+
+  private static class RepartitioningWriter implements GroupWriter {
+    private final FanoutDataWriter<Record> delegate;
+    private final PartitionSpec spec;
+    private final PartitionKey partitionKey;
+    private final InternalRecordWrapper wrapper;
+
+    private RepartitioningWriter(
+        FanoutDataWriter<Record> delegate, PartitionSpec spec, Schema schema) {
+      this.delegate = delegate;
+      this.spec = spec;
+      this.partitionKey = new PartitionKey(spec, schema);
+      this.wrapper = new InternalRecordWrapper(schema.asStruct());
+    }
+
+    @Override
+    public void write(Record record) {
+      StructLike partition = null;
+      if (spec.isPartitioned()) {
+        partitionKey.partition(wrapper.wrap(record));
+        partition = partitionKey;
+      }
+
+      delegate.write(record, spec, partition);
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    @Override
+    public DataWriteResult result() {
+      return delegate.result();
+    }
+  }
+}
@@ -34,6 +34,7 @@ import org.apache.iceberg.data.parquet.GenericParquetWriter;
 import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.variants.Variant;
 
 class GenericFileWriterFactory extends BaseFileWriterFactory<Record> {
 
@@ -81,6 +82,10 @@ class GenericFileWriterFactory extends BaseFileWriterFactory<Record> {
   @Override
   protected void configureDataWrite(Parquet.DataWriteBuilder builder) {
     builder.createWriterFunc(GenericParquetWriter::create);
+    builder.variantShreddingInference(
+        Record::copy,
+        (row, pos) -> row.get(pos, Variant.class),
+        GenericParquetWriter::createWithInferredShredding);
   }
 
   @Override
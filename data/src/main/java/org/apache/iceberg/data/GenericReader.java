@@ -24,6 +24,7 @@ import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.data.avro.PlannedDataReader;
@@ -43,6 +44,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.util.PartitionUtil;
+import org.apache.iceberg.util.PropertyUtil;
 
 class GenericReader implements Serializable {
   private final FileIO io;
@@ -50,6 +52,8 @@ class GenericReader implements Serializable {
   private final Schema projection;
   private final boolean caseSensitive;
   private final boolean reuseContainers;
+  private final boolean pageSkipping;
+  private final boolean lateMaterialization;
 
   GenericReader(TableScan scan, boolean reuseContainers) {
     this.io = scan.table().io();
@@ -57,6 +61,16 @@ class GenericReader implements Serializable {
     this.projection = scan.schema();
     this.caseSensitive = scan.isCaseSensitive();
     this.reuseContainers = reuseContainers;
+    this.pageSkipping =
+        PropertyUtil.propertyAsBoolean(
+            scan.table().properties(),
+            TableProperties.PARQUET_PAGE_SKIPPING_ENABLED,
+            TableProperties.PARQUET_PAGE_SKIPPING_ENABLED_DEFAULT);
+    this.lateMaterialization =
+        PropertyUtil.propertyAsBoolean(
+            scan.table().properties(),
+            TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED,
+            TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED_DEFAULT);
   }
 
   CloseableIterator<Record> open(CloseableIterable<CombinedScanTask> tasks) {
@@ -119,7 +133,9 @@ class GenericReader implements Serializable {
                         GenericParquetReaders.buildReader(fileProjection, fileSchema, partition))
                 .split(task.start(), task.length())
                 .caseSensitive(caseSensitive)
-                .filter(task.residual());
+                .filter(task.residual())
+                .pageSkipping(pageSkipping)
+                .lateMaterialization(lateMaterialization);
 
         if (reuseContainers) {
           parquet.reuseContainers();
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.BinPackRewriteFilePlanner;
+import org.apache.iceberg.actions.FileRewritePlan;
+import org.apache.iceberg.actions.ImmutableRewriteDataFiles;
+import org.apache.iceberg.actions.RewriteDataFiles;
+import org.apache.iceberg.actions.RewriteDataFilesCommitManager;
+import org.apache.iceberg.actions.RewriteDataFilesExecutor;
+import org.apache.iceberg.actions.RewriteFileGroup;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RewriteDataFiles} implementation that compacts data files in the current JVM, without a
+ * distributed engine.
+ *
+ * <p>Files are planned by {@link BinPackRewriteFilePlanner} and each group is rewritten by a {@link
+ * GenericBinPackFileRewriteRunner}. Up to {@link #MAX_CONCURRENT_FILE_GROUP_REWRITES} groups are
+ * rewritten concurrently, which also bounds the memory used by the rewrite. Partial progress and
+ * the other commit options behave as in the engine-specific implementations. Only the bin-pack
+ * strategy is supported.
+ */
+public class GenericRewriteDataFilesAction implements RewriteDataFiles {
+  private static final Logger LOG = LoggerFactory.getLogger(GenericRewriteDataFilesAction.class);
+  private static final Result EMPTY_RESULT =
+      ImmutableRewriteDataFiles.Result.builder().rewriteResults(ImmutableList.of()).build();
+
+  private final Table table;
+  private final Map<String, String> options = Maps.newHashMap();
+  private final Map<String, String> snapshotProperties = Maps.newHashMap();
+
+  private Expression filter = Expressions.alwaysTrue();
+  private MetricsContext metricsContext = MetricsContext.nullMetrics();
+  private GenericBinPackFileRewriteRunner runner = null;
+
+  public GenericRewriteDataFilesAction(Table table) {
+    this.table = table;
+  }
+
+  @Override
+  public GenericRewriteDataFilesAction option(String name, String value) {
+    options.put(name, value);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFilesAction options(Map<String, String> newOptions) {
+    options.putAll(newOptions);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFilesAction snapshotProperty(String property, String value) {
+    snapshotProperties.put(property, value);
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFilesAction binPack() {
+    return this;
+  }
+
+  @Override
+  public GenericRewriteDataFilesAction sort(SortOrder sortOrder) {
+    throw new UnsupportedOperationException("Cannot sort data files in a local rewrite");
+  }
+
+  @Override
+  public GenericRewriteDataFilesAction sort() {
+    throw new UnsupportedOperationException("Cannot sort data files in a local rewrite");
+  }
+
+  @Override
+  public GenericRewriteDataFilesAction zOrder(String... columnNames) {
+    throw new UnsupportedOperationException("Cannot z-order data files in a local rewrite");
+  }
+
+  @Override
+  public GenericRewriteDataFilesAction filter(Expression expression) {
+    filter = Expressions.and(filter, expression);
+    return this;
+  }
+
+  /**
+   * Sets the {@link MetricsContext} that the rewrite reports the number of rewritten records and
+   * bytes, the number of added files, and the rewrite duration to.
+   *
+   * @param newMetricsContext a metrics context
+   * @return this for method chaining
+   */
+  public GenericRewriteDataFilesAction metricsContext(MetricsContext newMetricsContext) {
+    this.metricsContext = newMetricsContext;
+    return this;
+  }
+
+  @Override
+  public Result execute() {
+    if (table.currentSnapshot() == null) {
+      return EMPTY_RESULT;
+    }
+
+    long startingSnapshotId = table.currentSnapshot().snapshotId();
+    BinPackRewriteFilePlanner planner =
+        new BinPackRewriteFilePlanner(table, filter, startingSnapshotId, true);
+    this.runner = new GenericBinPackFileRewriteRunner(table, metricsContext);
+    RewriteDataFilesExecutor executor =
+        new RewriteDataFilesExecutor(options, ImmutableSet.of(), planner, runner);
+
+    FileRewritePlan<FileGroupInfo, FileScanTask, DataFile, RewriteFileGroup> plan = planner.plan();
+
+    if (plan.totalGroupCount() == 0) {
+      LOG.info("Nothing found to rewrite in {}", table.name());
+      return EMPTY_RESULT;
+    }
+
+    RewriteDataFilesCommitManager commitManager =
+        new RewriteDataFilesCommitManager(
+            table,
+            startingSnapshotId,
+            executor.useStartingSequenceNumber(),
+            ImmutableMap.copyOf(snapshotProperties));
+
+    long startNanos = System.nanoTime();
+    Result result = executor.execute(plan, commitManager, this::rewriteFiles).build();
+    long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    LOG.info(
+        "Rewrote {} data files ({} bytes) into {} data files in {} ms ({} MB/s) in {}",
+        result.rewrittenDataFilesCount(),
+        result.rewrittenBytesCount(),
+        result.addedDataFilesCount(),
+        durationMillis,
+        durationMillis > 0
+            ? result.rewrittenBytesCount() * 1000 / durationMillis / (1024 * 1024)
+            : 0,
+        table.name());
+
+    return result;
+  }
+
+  private RewriteFileGroup rewriteFiles(RewriteFileGroup fileGroup) {
+    fileGroup.setOutputFiles(runner.rewrite(fileGroup));
+    return fileGroup;
+  }
+}
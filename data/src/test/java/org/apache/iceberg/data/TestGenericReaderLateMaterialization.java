@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestGenericReaderLateMaterialization {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+  private static final int NUM_RECORDS = 1000;
+
+  @TempDir private File tableDir;
+  @TempDir private Path temp;
+
+  @AfterEach
+  public void cleanupTables() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testPositionDeletesWithLateMaterialization() throws IOException {
+    Table table = TestTables.create(tableDir, "test", SCHEMA, PartitionSpec.unpartitioned(), 2);
+    table
+        .updateProperties()
+        .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "100")
+        .set(TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED, "true")
+        .commit();
+
+    List<Record> records = Lists.newArrayList();
+    for (long id = 0; id < NUM_RECORDS; id += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", id);
+      record.setField("data", "row-" + id);
+      records.add(record);
+    }
+
+    DataFile dataFile =
+        FileHelpers.writeDataFile(
+            table, Files.localOutput(temp.resolve("data.parquet").toFile()), records);
+    table.newAppend().appendFile(dataFile).commit();
+
+    // the id column is read first, the data column is only read for the page of the matching rows
+    // and deleted positions are only matched if positions account for the skipped pages
+    List<Pair<CharSequence, Long>> deletes =
+        ImmutableList.of(
+            Pair.of(dataFile.location(), 525L),
+            Pair.of(dataFile.location(), 530L),
+            Pair.of(dataFile.location(), 610L));
+    DeleteFile deleteFile =
+        FileHelpers.writeDeleteFile(
+                table, Files.localOutput(temp.resolve("deletes.parquet").toFile()), deletes)
+            .first();
+    table.newRowDelta().addDeletes(deleteFile).commit();
+
+    List<Long> ids = Lists.newArrayList();
+    try (CloseableIterable<Record> rows =
+        IcebergGenerics.read(table)
+            .where(
+                Expressions.and(
+                    Expressions.greaterThanOrEqual("id", 520L), Expressions.lessThan("id", 540L)))
+            .build()) {
+      for (Record row : rows) {
+        assertThat(row.getField("data")).isEqualTo("row-" + row.getField("id"));
+        ids.add((Long) row.getField("id"));
+      }
+    }
+
+    List<Long> expected = Lists.newArrayList();
+    for (long id = 520; id < 540; id += 1) {
+      if (id != 525 && id != 530) {
+        expected.add(id);
+      }
+    }
+
+    assertThat(ids).isEqualTo(expected);
+  }
+}
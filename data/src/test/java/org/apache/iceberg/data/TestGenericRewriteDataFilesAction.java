@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.data;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.TestTables;
+import org.apache.iceberg.actions.BinPackRewriteFilePlanner;
+import org.apache.iceberg.actions.RewriteDataFiles;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestGenericRewriteDataFilesAction {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), required(2, "data", Types.StringType.get()));
+
+  @TempDir private File tableDir;
+  @TempDir private Path temp;
+
+  @AfterEach
+  public void cleanupTables() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testRewriteAppliesDeletes() throws IOException {
+    Table table = TestTables.create(tableDir, "test", SCHEMA, PartitionSpec.unpartitioned(), 2);
+    GenericAppenderHelper appender = new GenericAppenderHelper(table, FileFormat.PARQUET, temp);
+
+    List<DataFile> dataFiles = Lists.newArrayList();
+    for (int fileIndex = 0; fileIndex < 3; fileIndex += 1) {
+      DataFile dataFile = appender.writeFile(records(fileIndex * 10, 10, "a"));
+      appender.appendToTable(dataFile);
+      dataFiles.add(dataFile);
+    }
+
+    List<Pair<CharSequence, Long>> deletes =
+        ImmutableList.of(
+            Pair.of(dataFiles.get(0).location(), 0L), Pair.of(dataFiles.get(0).location(), 1L));
+    DeleteFile deleteFile =
+        FileHelpers.writeDeleteFile(
+                table, Files.localOutput(temp.resolve("deletes.parquet").toFile()), deletes)
+            .first();
+    table.newRowDelta().addDeletes(deleteFile).commit();
+
+    RewriteDataFiles.Result result =
+        new GenericRewriteDataFilesAction(table)
+            .option(BinPackRewriteFilePlanner.REWRITE_ALL, "true")
+            .execute();
+
+    assertThat(result.rewrittenDataFilesCount()).isEqualTo(3);
+    assertThat(result.addedDataFilesCount()).isEqualTo(1);
+
+    table.refresh();
+    assertThat(table.currentSnapshot().addedDataFiles(table.io())).hasSize(1);
+    assertThat(ids(table)).isEqualTo(expectedIds(2, 30));
+  }
+
+  @Test
+  public void testRewriteWithPartialProgress() throws IOException {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("data").build();
+    Table table = TestTables.create(tableDir, "test", SCHEMA, spec, 2);
+    GenericAppenderHelper appender = new GenericAppenderHelper(table, FileFormat.PARQUET, temp);
+
+    for (int fileIndex = 0; fileIndex < 4; fileIndex += 1) {
+      String data = fileIndex % 2 == 0 ? "a" : "b";
+      appender.appendToTable(Row.of(data), records(fileIndex * 10, 10, data));
+    }
+
+    long snapshotsBeforeRewrite = Iterables.size(table.snapshots());
+
+    RewriteDataFiles.Result result =
+        new GenericRewriteDataFilesAction(table)
+            .option(BinPackRewriteFilePlanner.REWRITE_ALL, "true")
+            .option(RewriteDataFiles.PARTIAL_PROGRESS_ENABLED, "true")
+            .option(RewriteDataFiles.PARTIAL_PROGRESS_MAX_COMMITS, "2")
+            .option(RewriteDataFiles.MAX_CONCURRENT_FILE_GROUP_REWRITES, "2")
+            .execute();
+
+    assertThat(result.rewriteResults()).hasSize(2);
+    assertThat(result.rewriteFailures()).isEmpty();
+    assertThat(result.rewrittenDataFilesCount()).isEqualTo(4);
+    assertThat(result.addedDataFilesCount()).isEqualTo(2);
+
+    table.refresh();
+    assertThat(table.snapshots()).hasSize((int) snapshotsBeforeRewrite + 2);
+    assertThat(ids(table)).isEqualTo(expectedIds(0, 40));
+  }
+
+  @Test
+  public void testUnsupportedOptions() {
+    Table table = TestTables.create(tableDir, "test", SCHEMA, PartitionSpec.unpartitioned(), 2);
+    table.newAppend().commit();
+
+    assertThatThrownBy(
+            () ->
+                new GenericRewriteDataFilesAction(table)
+                    .option(RewriteDataFiles.REMOVE_DANGLING_DELETES, "true")
+                    .execute())
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Cannot use options [remove-dangling-deletes]");
+
+    assertThatThrownBy(() -> new GenericRewriteDataFilesAction(table).sort())
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Cannot sort data files in a local rewrite");
+  }
+
+  private static List<Record> records(int firstId, int count, String data) {
+    List<Record> records = Lists.newArrayList();
+    for (int id = firstId; id < firstId + count; id += 1) {
+      Record record = GenericRecord.create(SCHEMA);
+      record.setField("id", id);
+      record.setField("data", data);
+      records.add(record);
+    }
+
+    return records;
+  }
+
+  private static Set<Integer> ids(Table table) throws IOException {
+    Set<Integer> ids = Sets.newHashSet();
+    try (CloseableIterable<Record> records = IcebergGenerics.read(table).build()) {
+      for (Record record : records) {
+        ids.add((Integer) record.getField("id"));
+      }
+    }
+
+    return ids;
+  }
+
+  private static Set<Integer> expectedIds(int firstId, int lastId) {
+    Set<Integer> ids = Sets.newHashSet();
+    for (int id = firstId; id < lastId; id += 1) {
+      ids.add(id);
+    }
+
+    return ids;
+  }
+}
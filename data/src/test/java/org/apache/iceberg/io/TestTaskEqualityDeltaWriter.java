@@ -474,6 +474,59 @@ public class TestTaskEqualityDeltaWriter extends TestBase {
         .isEqualTo(expectedRowSet(expected.values()));
   }
 
+  @TestTemplate
+  public void testUpsertAfterSpillingInsertedKeys() throws IOException {
+    List<Integer> eqDeleteFieldIds = Lists.newArrayList(idFieldId);
+    Schema eqDeleteRowSchema = table.schema().select("id");
+
+    // a small budget spills the keys of inserted rows to disk every 1024 keys
+    GenericTaskDeltaWriter deltaWriter =
+        createTaskWriter(eqDeleteFieldIds, eqDeleteRowSchema, DeleteGranularity.PARTITION, 1L);
+    Map<Integer, Record> expected = Maps.newHashMap();
+    for (int i = 0; i < 5000; i += 1) {
+      Record record = createRecord(i, "aaa" + i);
+      deltaWriter.write(record);
+      expected.put(i, record);
+    }
+
+    assertThat(deltaWriter.deltaWriter.spilledInsertedKeyRuns()).isGreaterThan(0);
+
+    // upsert and delete keys that were spilled and keys that are still in memory
+    GenericRecord keyRecord = GenericRecord.create(eqDeleteRowSchema);
+    int expectedDeleteCount = 0;
+    for (int i = 0; i < 5000; i += 7) {
+      deltaWriter.deleteKey(keyRecord.copy("id", i));
+      expectedDeleteCount += 1;
+      if (i % 2 == 0) {
+        Record record = createRecord(i, "bbb" + i);
+        deltaWriter.write(record);
+        expected.put(i, record);
+      } else {
+        expected.remove(i);
+      }
+    }
+
+    // delete upserted keys again, after they were spilled
+    for (int i = 0; i < 5000; i += 14) {
+      deltaWriter.deleteKey(keyRecord.copy("id", i));
+      expectedDeleteCount += 1;
+      expected.remove(i);
+    }
+
+    WriteResult result = deltaWriter.complete();
+    assertThat(result.deleteFiles())
+        .as("Should only have pos-delete files")
+        .allSatisfy(
+            deleteFile -> assertThat(deleteFile.content()).isEqualTo(FileContent.POSITION_DELETES));
+    assertThat(Arrays.stream(result.deleteFiles()).mapToLong(DeleteFile::recordCount).sum())
+        .isEqualTo(expectedDeleteCount);
+
+    commitTransaction(result);
+    assertThat(actualRowSet("*"))
+        .as("Should have expected records")
+        .isEqualTo(expectedRowSet(expected.values()));
+  }
+
   private void commitTransaction(WriteResult result) {
     RowDelta rowDelta = table.newRowDelta();
     Arrays.stream(result.dataFiles()).forEach(rowDelta::addRows);
@@ -510,6 +563,15 @@ public class TestTaskEqualityDeltaWriter extends TestBase {
       List<Integer> equalityFieldIds,
       Schema eqDeleteRowSchema,
       DeleteGranularity deleteGranularity) {
+    return createTaskWriter(
+        equalityFieldIds, eqDeleteRowSchema, deleteGranularity, Long.MAX_VALUE);
+  }
+
+  private GenericTaskDeltaWriter createTaskWriter(
+      List<Integer> equalityFieldIds,
+      Schema eqDeleteRowSchema,
+      DeleteGranularity deleteGranularity,
+      long insertedKeysMemoryBytes) {
     FileAppenderFactory<Record> appenderFactory =
         new GenericAppenderFactory(
             table.schema(),
@@ -533,7 +595,8 @@ public class TestTaskEqualityDeltaWriter extends TestBase {
         fileFactory,
         table.io(),
         TARGET_FILE_SIZE,
-        deleteGranularity);
+        deleteGranularity,
+        insertedKeysMemoryBytes);
   }
 
   private static class GenericTaskDeltaWriter extends BaseTaskWriter<Record> {
@@ -548,8 +611,10 @@ public class TestTaskEqualityDeltaWriter extends TestBase {
         OutputFileFactory fileFactory,
         FileIO io,
         long targetFileSize,
-        DeleteGranularity deleteGranularity) {
-      super(spec, format, appenderFactory, fileFactory, io, targetFileSize);
+        DeleteGranularity deleteGranularity,
+        long insertedKeysMemoryBytes) {
+      super(
+          spec, format, appenderFactory, fileFactory, io, targetFileSize, insertedKeysMemoryBytes);
       this.deltaWriter =
           new GenericEqualityDeltaWriter(null, schema, deleteSchema, deleteGranularity);
     }
@@ -221,6 +221,54 @@ public class FlinkWriteConf {
         .parse();
   }
 
+  /**
+   * NOTE: This may be removed or changed in a future release. When enabled, the files committer
+   * commits completed checkpoints on a background thread so that a slow catalog does not block the
+   * committer operator.
+   *
+   * @return true if commits are performed asynchronously
+   */
+  @Experimental
+  public boolean asyncCommitEnabled() {
+    return confParser
+        .booleanConf()
+        .option(FlinkWriteOptions.ASYNC_COMMIT_ENABLED.key())
+        .flinkConfig(FlinkWriteOptions.ASYNC_COMMIT_ENABLED)
+        .defaultValue(FlinkWriteOptions.ASYNC_COMMIT_ENABLED.defaultValue())
+        .parse();
+  }
+
+  /**
+   * NOTE: This may be removed or changed in a future release. This value specifies the minimum
+   * interval between commits of the files committer. Checkpoints completed within the interval are
+   * committed together in a single snapshot. If not specified then every checkpoint is committed.
+   *
+   * @return the minimum interval between commits
+   */
+  @Experimental
+  public Duration commitInterval() {
+    return confParser
+        .durationConf()
+        .option(FlinkWriteOptions.COMMIT_INTERVAL.key())
+        .flinkConfig(FlinkWriteOptions.COMMIT_INTERVAL)
+        .parseOptional();
+  }
+
+  /**
+   * NOTE: This may be removed or changed in a future release. When a commit interval is set, this
+   * value specifies the number of pending files that triggers a commit before the interval elapsed.
+   *
+   * @return the max number of files pending commit
+   */
+  @Experimental
+  public Integer commitMaxPendingFiles() {
+    return confParser
+        .intConf()
+        .option(FlinkWriteOptions.COMMIT_MAX_PENDING_FILES.key())
+        .flinkConfig(FlinkWriteOptions.COMMIT_MAX_PENDING_FILES)
+        .parseOptional();
+  }
+
   /**
    * NOTE: This may be removed or changed in a future release. This value specifies the interval for
    * refreshing the table instances in sink writer subtasks. If not specified then the default
@@ -84,6 +84,22 @@ public class FlinkWriteOptions {
   public static final ConfigOption<Boolean> COMPACTION_ENABLE =
       ConfigOptions.key("compaction-enabled").booleanType().defaultValue(false);
 
+  // Commit completed checkpoints on a background thread instead of the operator thread
+  @Experimental
+  public static final ConfigOption<Boolean> ASYNC_COMMIT_ENABLED =
+      ConfigOptions.key("async-commit-enabled").booleanType().defaultValue(false);
+
+  // Minimum interval between commits, write results of checkpoints completed in between are
+  // accumulated and committed together
+  @Experimental
+  public static final ConfigOption<Duration> COMMIT_INTERVAL =
+      ConfigOptions.key("commit-interval").durationType().noDefaultValue();
+
+  // Commit before the commit interval elapsed once this many files are pending
+  @Experimental
+  public static final ConfigOption<Integer> COMMIT_MAX_PENDING_FILES =
+      ConfigOptions.key("commit-max-pending-files").intType().noDefaultValue();
+
   @Experimental
   public static final ConfigOption<Duration> TABLE_REFRESH_INTERVAL =
       ConfigOptions.key("table-refresh-interval").durationType().noDefaultValue();
@@ -57,8 +57,9 @@ abstract class BaseDeltaTaskWriter extends BaseTaskWriter<RowData> {
       Schema schema,
       RowType flinkSchema,
       Set<Integer> equalityFieldIds,
-      boolean upsert) {
-    super(spec, format, appenderFactory, fileFactory, io, targetFileSize);
+      boolean upsert,
+      long insertedKeysMemoryBytes) {
+    super(spec, format, appenderFactory, fileFactory, io, targetFileSize, insertedKeysMemoryBytes);
     this.schema = schema;
     this.deleteSchema = TypeUtil.select(schema, Sets.newHashSet(equalityFieldIds));
     this.wrapper = new RowDataWrapper(flinkSchema, schema.asStruct());
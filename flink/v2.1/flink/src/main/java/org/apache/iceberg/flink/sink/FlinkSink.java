@@ -529,6 +529,8 @@ public class FlinkSink {
 
     private SingleOutputStreamOperator<Void> appendCommitter(
         SingleOutputStreamOperator<FlinkWriteResult> writerStream) {
+      Duration commitInterval = flinkWriteConf.commitInterval();
+      Integer commitMaxPendingFiles = flinkWriteConf.commitMaxPendingFiles();
       OneInputStreamOperatorFactory<FlinkWriteResult, Void> filesCommitterFactory =
           new IcebergFilesCommitterFactory(
               tableLoader,
@@ -536,7 +538,10 @@ public class FlinkSink {
               snapshotProperties,
               flinkWriteConf.workerPoolSize(),
               flinkWriteConf.branch(),
-              table.spec());
+              table.spec(),
+              flinkWriteConf.asyncCommitEnabled(),
+              commitInterval != null ? commitInterval.toMillis() : 0L,
+              commitMaxPendingFiles != null ? commitMaxPendingFiles : 0);
       SingleOutputStreamOperator<Void> committerStream =
           writerStream
               .transform(
@@ -19,14 +19,18 @@
 package org.apache.iceberg.flink.sink;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import org.apache.flink.api.common.operators.MailboxExecutor;
 import org.apache.flink.api.common.state.ListState;
 import org.apache.flink.api.common.state.ListStateDescriptor;
 import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
@@ -71,6 +75,7 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
   private static final Logger LOG = LoggerFactory.getLogger(IcebergFilesCommitter.class);
   private static final String FLINK_JOB_ID = "flink.job-id";
   private static final String OPERATOR_ID = "flink.operator-id";
+  private static final long ASYNC_COMMIT_CLOSE_TIMEOUT_MINUTES = 5L;
 
   // The max checkpoint id we've committed to iceberg table. As the flink's checkpoint is always
   // increasing, so we could correctly commit all the data files whose checkpoint id is greater than
@@ -101,7 +106,8 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
   // It will have an unique identifier for one job.
   private transient String flinkJobId;
   private transient String operatorUniqueId;
-  private transient Table table;
+  // Reloaded by the commit thread when commits are asynchronous.
+  private transient volatile Table table;
   private transient IcebergFilesCommitterMetrics committerMetrics;
   private transient ManifestOutputFileFactory manifestOutputFileFactory;
   private transient long maxCommittedCheckpointId;
@@ -124,6 +130,30 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
   private final PartitionSpec spec;
   private transient ExecutorService workerPool;
 
+  // When commits are asynchronous, completed checkpoints are committed in order by a single
+  // background thread. The pending files of a checkpoint stay in 'dataFilesPerCheckpoint' (and so
+  // in the operator state) until the background commit has finished, then they are removed on the
+  // operator thread through the mailbox.
+  private final boolean asyncCommit;
+  private final transient MailboxExecutor mailboxExecutor;
+  private transient ExecutorService commitExecutor;
+  private transient CompletableFuture<Void> lastAsyncCommit;
+  // The max checkpoint id queued for commit, only accessed by the operator thread.
+  private transient long maxQueuedCheckpointId;
+  // The max checkpoint id committed by the background thread, only accessed by the commit thread.
+  private transient long asyncCommittedCheckpointId;
+  private transient volatile boolean asyncCommitFailed;
+  private transient volatile boolean closing;
+
+  // When a commit interval is set, the files of completed checkpoints are accumulated in
+  // 'dataFilesPerCheckpoint' and committed together once the interval elapsed or enough files are
+  // pending. Appends of several checkpoints become a single snapshot. On restore, the uncommitted
+  // checkpoints stay pending and their files are counted again.
+  private final long commitIntervalMs;
+  private final int commitMaxPendingFiles;
+  private transient long lastCommitTimeMs;
+  private transient long pendingFilesCount;
+
   IcebergFilesCommitter(
       StreamOperatorParameters<Void> parameters,
       TableLoader tableLoader,
@@ -131,7 +161,10 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
       Map<String, String> snapshotProperties,
       Integer workerPoolSize,
       String branch,
-      PartitionSpec spec) {
+      PartitionSpec spec,
+      boolean asyncCommit,
+      long commitIntervalMs,
+      int commitMaxPendingFiles) {
     super(parameters);
     this.tableLoader = tableLoader;
     this.replacePartitions = replacePartitions;
@@ -139,6 +172,10 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
     this.workerPoolSize = workerPoolSize;
     this.branch = branch;
     this.spec = spec;
+    this.asyncCommit = asyncCommit;
+    this.mailboxExecutor = parameters.getMailboxExecutor();
+    this.commitIntervalMs = commitIntervalMs;
+    this.commitMaxPendingFiles = commitMaxPendingFiles;
   }
 
   @Override
@@ -163,6 +200,8 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
         FlinkManifestUtil.createOutputFileFactory(
             () -> table, table.properties(), flinkJobId, operatorUniqueId, subTaskId, attemptId);
     this.maxCommittedCheckpointId = INITIAL_CHECKPOINT_ID;
+    this.lastCommitTimeMs = System.currentTimeMillis();
+    this.pendingFilesCount = 0L;
 
     this.checkpointsState = context.getOperatorStateStore().getListState(STATE_DESCRIPTOR);
     this.jobIdState = context.getOperatorStateStore().getListState(JOB_ID_DESCRIPTOR);
@@ -193,7 +232,16 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
       NavigableMap<Long, byte[]> uncommittedDataFiles =
           Maps.newTreeMap(checkpointsState.get().iterator().next())
               .tailMap(maxCommittedCheckpointId, false);
-      if (!uncommittedDataFiles.isEmpty()) {
+      if (uncommittedDataFiles.isEmpty()) {
+        return;
+      }
+
+      if (commitIntervalMs > 0) {
+        // Keep deferring the uncommitted data files, they are committed with the next commit of
+        // this flink job.
+        dataFilesPerCheckpoint.putAll(uncommittedDataFiles);
+        this.pendingFilesCount = pendingFilesCount(uncommittedDataFiles);
+      } else {
         // Committed all uncommitted data files from the old flink job to iceberg table.
         long maxUncommittedCheckpointId = uncommittedDataFiles.lastKey();
         commitUpToCheckpoint(
@@ -237,6 +285,23 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
     // For step#4, we don't need to commit iceberg table again because in step#3 we've committed all
     // the files,
     // Besides, we need to maintain the max-committed-checkpoint-id to be increasing.
+    if (deferCommit()) {
+      LOG.info(
+          "Checkpoint {} completed. Deferring commit of {} pending files, last commit {} ms ago.",
+          checkpointId,
+          pendingFilesCount,
+          System.currentTimeMillis() - lastCommitTimeMs);
+      return;
+    }
+
+    this.lastCommitTimeMs = System.currentTimeMillis();
+    this.pendingFilesCount = 0L;
+
+    if (asyncCommit) {
+      queueCommit(checkpointId);
+      return;
+    }
+
     if (checkpointId > maxCommittedCheckpointId) {
       LOG.info("Checkpoint {} completed. Attempting commit.", checkpointId);
       commitUpToCheckpoint(dataFilesPerCheckpoint, flinkJobId, operatorUniqueId, checkpointId);
@@ -252,6 +317,133 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
     this.table = tableLoader.loadTable();
   }
 
+  private static long pendingFilesCount(NavigableMap<Long, byte[]> manifestsPerCheckpoint)
+      throws IOException {
+    long count = 0L;
+    for (byte[] manifestData : manifestsPerCheckpoint.values()) {
+      if (Arrays.equals(EMPTY_MANIFEST_DATA, manifestData)) {
+        continue;
+      }
+
+      DeltaManifests deltaManifests =
+          SimpleVersionedSerialization.readVersionAndDeSerialize(
+              DeltaManifestsSerializer.INSTANCE, manifestData);
+      for (ManifestFile manifest : deltaManifests.manifests()) {
+        if (manifest.addedFilesCount() != null) {
+          count += manifest.addedFilesCount();
+        }
+      }
+    }
+
+    return count;
+  }
+
+  private boolean deferCommit() {
+    if (commitIntervalMs <= 0) {
+      return false;
+    }
+
+    if (commitMaxPendingFiles > 0 && pendingFilesCount >= commitMaxPendingFiles) {
+      return false;
+    }
+
+    return System.currentTimeMillis() - lastCommitTimeMs < commitIntervalMs;
+  }
+
+  private void queueCommit(long checkpointId) {
+    if (checkpointId <= maxQueuedCheckpointId) {
+      LOG.info(
+          "Skipping committing checkpoint {}. {} is already queued for commit.",
+          checkpointId,
+          maxQueuedCheckpointId);
+      return;
+    }
+
+    LOG.info("Checkpoint {} completed. Queueing commit.", checkpointId);
+    this.maxQueuedCheckpointId = checkpointId;
+
+    // the background thread works on a copy, the operator thread keeps adding checkpoints
+    NavigableMap<Long, byte[]> pendingMap =
+        Maps.newTreeMap(dataFilesPerCheckpoint.headMap(checkpointId, true));
+    long queuedNano = System.nanoTime();
+    committerMetrics.commitQueued();
+
+    CompletableFuture<Void> commitFuture =
+        CompletableFuture.runAsync(
+            () -> commitInBackground(pendingMap, checkpointId), commitExecutor);
+    this.lastAsyncCommit = commitFuture;
+
+    commitFuture.whenComplete(
+        (ignored, error) -> {
+          committerMetrics.commitDequeued(
+              TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedNano));
+          try {
+            mailboxExecutor.execute(
+                () -> asyncCommitComplete(checkpointId, error),
+                "Iceberg commit complete for checkpoint %s",
+                checkpointId);
+          } catch (RejectedExecutionException e) {
+            LOG.info(
+                "Operator is closing, skipping commit completion for checkpoint {}", checkpointId);
+          }
+        });
+  }
+
+  private void commitInBackground(NavigableMap<Long, byte[]> pendingMap, long checkpointId) {
+    if (closing) {
+      // queued commits that did not start are retried from the operator state after a restart
+      LOG.info("Operator is closing, skipping queued commit for checkpoint {}", checkpointId);
+      return;
+    }
+
+    // the operator fails after a failed commit, do not commit later checkpoints in the meantime
+    Preconditions.checkState(
+        !asyncCommitFailed, "Cannot commit checkpoint %s after a failed commit", checkpointId);
+
+    try {
+      // earlier queued commits may have already committed some of the pending checkpoints
+      NavigableMap<Long, byte[]> uncommitted =
+          pendingMap.tailMap(asyncCommittedCheckpointId, false);
+      commitUpToCheckpoint(uncommitted, flinkJobId, operatorUniqueId, checkpointId);
+      this.asyncCommittedCheckpointId = checkpointId;
+      // reload the table in case new configuration is needed
+      this.table = tableLoader.loadTable();
+    } catch (IOException e) {
+      this.asyncCommitFailed = true;
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      this.asyncCommitFailed = true;
+      throw e;
+    }
+  }
+
+  private void asyncCommitComplete(long checkpointId, Throwable error) {
+    if (closing) {
+      // skipped commits must not clear the pending checkpoints
+      return;
+    }
+
+    if (error != null) {
+      Throwable cause = error.getCause() != null ? error.getCause() : error;
+      throw new IllegalStateException(
+          String.format("Failed to commit checkpoint %s to table %s", checkpointId, table.name()),
+          cause);
+    }
+
+    if (checkpointId > maxCommittedCheckpointId) {
+      this.maxCommittedCheckpointId = checkpointId;
+    }
+
+    dataFilesPerCheckpoint.headMap(checkpointId, true).clear();
+  }
+
+  private void waitForAsyncCommits() {
+    if (lastAsyncCommit != null) {
+      // commits run in order, so the last queued commit finishes after all others
+      lastAsyncCommit.join();
+    }
+  }
+
   private void commitUpToCheckpoint(
       NavigableMap<Long, byte[]> deltaManifestsMap,
       String newFlinkJobId,
@@ -418,7 +610,14 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
     // Flush the buffered data files into 'dataFilesPerCheckpoint' firstly.
     long currentCheckpointId = IcebergStreamWriter.END_INPUT_CHECKPOINT_ID;
     writeToManifestUptoLatestCheckpoint(currentCheckpointId);
-    commitUpToCheckpoint(dataFilesPerCheckpoint, flinkJobId, operatorUniqueId, currentCheckpointId);
+    if (asyncCommit) {
+      // the end of input commit must be visible when the operator finishes
+      queueCommit(currentCheckpointId);
+      waitForAsyncCommits();
+    } else {
+      commitUpToCheckpoint(
+          dataFilesPerCheckpoint, flinkJobId, operatorUniqueId, currentCheckpointId);
+    }
   }
 
   private void writeToManifestUptoLatestCheckpoint(long checkpointId) throws IOException {
@@ -444,6 +643,7 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
   private byte[] writeToManifest(long checkpointId, List<WriteResult> writeResults)
       throws IOException {
     WriteResult result = WriteResult.builder().addAll(writeResults).build();
+    pendingFilesCount += result.dataFiles().length + result.deleteFiles().length;
     DeltaManifests deltaManifests =
         FlinkManifestUtil.writeCompletedFiles(
             result, () -> manifestOutputFileFactory.create(checkpointId), spec);
@@ -459,10 +659,27 @@ class IcebergFilesCommitter extends AbstractStreamOperator<Void>
     final String operatorID = getRuntimeContext().getOperatorUniqueID();
     this.workerPool =
         ThreadPools.newFixedThreadPool("iceberg-worker-pool-" + operatorID, workerPoolSize);
+
+    if (asyncCommit) {
+      this.maxQueuedCheckpointId = maxCommittedCheckpointId;
+      this.asyncCommittedCheckpointId = maxCommittedCheckpointId;
+      this.commitExecutor = ThreadPools.newFixedThreadPool("iceberg-committer-" + operatorID, 1);
+    }
   }
 
   @Override
   public void close() throws Exception {
+    if (commitExecutor != null) {
+      // drop queued commits, they are retried from the operator state after a restart. A running
+      // commit must finish before the table loader is closed and before a restarted job commits,
+      // so it is not interrupted.
+      this.closing = true;
+      commitExecutor.shutdown();
+      if (!commitExecutor.awaitTermination(ASYNC_COMMIT_CLOSE_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+        LOG.warn("Timed out waiting for the running commit of table {} to finish", table.name());
+      }
+    }
+
     if (tableLoader != null) {
       tableLoader.close();
     }
@@ -35,6 +35,9 @@ class IcebergFilesCommitterFactory
   private final int workerPoolSize;
   private final String branch;
   private final PartitionSpec spec;
+  private final boolean asyncCommit;
+  private final long commitIntervalMs;
+  private final int commitMaxPendingFiles;
 
   IcebergFilesCommitterFactory(
       TableLoader tableLoader,
@@ -42,19 +45,34 @@ class IcebergFilesCommitterFactory
       Map<String, String> snapshotProperties,
       int workerPoolSize,
       String branch,
-      PartitionSpec spec) {
+      PartitionSpec spec,
+      boolean asyncCommit,
+      long commitIntervalMs,
+      int commitMaxPendingFiles) {
     this.tableLoader = tableLoader;
     this.overwriteMode = overwriteMode;
     this.snapshotProperties = snapshotProperties;
     this.workerPoolSize = workerPoolSize;
     this.branch = branch;
     this.spec = spec;
+    this.asyncCommit = asyncCommit;
+    this.commitIntervalMs = commitIntervalMs;
+    this.commitMaxPendingFiles = commitMaxPendingFiles;
   }
 
   @Override
   public StreamOperator createStreamOperator(StreamOperatorParameters parameters) {
     return new IcebergFilesCommitter(
-        parameters, tableLoader, overwriteMode, snapshotProperties, workerPoolSize, branch, spec);
+        parameters,
+        tableLoader,
+        overwriteMode,
+        snapshotProperties,
+        workerPoolSize,
+        branch,
+        spec,
+        asyncCommit,
+        commitIntervalMs,
+        commitMaxPendingFiles);
   }
 
   @Override
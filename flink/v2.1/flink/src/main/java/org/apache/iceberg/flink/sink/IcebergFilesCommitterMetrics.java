@@ -29,6 +29,8 @@ import org.apache.iceberg.flink.util.ElapsedTimeGauge;
 public class IcebergFilesCommitterMetrics {
   private final AtomicLong lastCheckpointDurationMs = new AtomicLong();
   private final AtomicLong lastCommitDurationMs = new AtomicLong();
+  private final AtomicLong pendingCommits = new AtomicLong();
+  private final AtomicLong lastCommitLagMs = new AtomicLong();
   private final ElapsedTimeGauge elapsedSecondsSinceLastSuccessfulCommit;
   private final Counter committedDataFilesCount;
   private final Counter committedDataFilesRecordCount;
@@ -42,6 +44,8 @@ public class IcebergFilesCommitterMetrics {
         metrics.addGroup("IcebergFilesCommitter").addGroup("table", fullTableName);
     committerMetrics.gauge("lastCheckpointDurationMs", lastCheckpointDurationMs::get);
     committerMetrics.gauge("lastCommitDurationMs", lastCommitDurationMs::get);
+    committerMetrics.gauge("pendingCommits", pendingCommits::get);
+    committerMetrics.gauge("lastCommitLagMs", lastCommitLagMs::get);
     this.elapsedSecondsSinceLastSuccessfulCommit = new ElapsedTimeGauge(TimeUnit.SECONDS);
     committerMetrics.gauge(
         "elapsedSecondsSinceLastSuccessfulCommit", elapsedSecondsSinceLastSuccessfulCommit);
@@ -62,6 +66,20 @@ public class IcebergFilesCommitterMetrics {
     lastCommitDurationMs.set(commitDurationMs);
   }
 
+  /** This is called when the commit of a completed checkpoint is queued. */
+  public void commitQueued() {
+    pendingCommits.incrementAndGet();
+  }
+
+  /**
+   * This is called when a queued commit finished, with the time elapsed since the checkpoint
+   * completed.
+   */
+  public void commitDequeued(long commitLagMs) {
+    pendingCommits.decrementAndGet();
+    lastCommitLagMs.set(commitLagMs);
+  }
+
   /** This is called upon a successful commit. */
   public void updateCommitSummary(CommitSummary stats) {
     elapsedSecondsSinceLastSuccessfulCommit.refreshLastRecordedTime();
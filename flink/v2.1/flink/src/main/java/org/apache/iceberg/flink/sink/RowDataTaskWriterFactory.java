@@ -29,6 +29,7 @@ import org.apache.iceberg.PartitionKey;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.flink.RowDataWrapper;
 import org.apache.iceberg.io.FileAppenderFactory;
 import org.apache.iceberg.io.FileIO;
@@ -40,6 +41,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.util.ArrayUtil;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.SerializableSupplier;
 
 public class RowDataTaskWriterFactory implements TaskWriterFactory<RowData> {
@@ -51,6 +53,7 @@ public class RowDataTaskWriterFactory implements TaskWriterFactory<RowData> {
   private final FileFormat format;
   private final Set<Integer> equalityFieldIds;
   private final boolean upsert;
+  private final long insertedKeysMemoryBytes;
   private final FileAppenderFactory<RowData> appenderFactory;
 
   private transient OutputFileFactory outputFileFactory;
@@ -120,6 +123,14 @@ public class RowDataTaskWriterFactory implements TaskWriterFactory<RowData> {
     this.format = format;
     this.equalityFieldIds = equalityFieldIds != null ? Sets.newHashSet(equalityFieldIds) : null;
     this.upsert = upsert;
+    this.insertedKeysMemoryBytes =
+        PropertyUtil.propertyAsLong(
+            writeProperties,
+            TableProperties.DELTA_INSERTED_KEYS_MEMORY_BYTES,
+            PropertyUtil.propertyAsLong(
+                table.properties(),
+                TableProperties.DELTA_INSERTED_KEYS_MEMORY_BYTES,
+                TableProperties.DELTA_INSERTED_KEYS_MEMORY_BYTES_DEFAULT));
 
     if (equalityFieldIds == null || equalityFieldIds.isEmpty()) {
       this.appenderFactory =
@@ -217,7 +228,8 @@ public class RowDataTaskWriterFactory implements TaskWriterFactory<RowData> {
             schema,
             flinkSchema,
             equalityFieldIds,
-            upsert);
+            upsert,
+            insertedKeysMemoryBytes);
       } else {
         return new PartitionedDeltaWriter(
             spec,
@@ -229,7 +241,8 @@ public class RowDataTaskWriterFactory implements TaskWriterFactory<RowData> {
             schema,
             flinkSchema,
             equalityFieldIds,
-            upsert);
+            upsert,
+            insertedKeysMemoryBytes);
       }
     }
   }
@@ -42,7 +42,8 @@ class UnpartitionedDeltaWriter extends BaseDeltaTaskWriter {
       Schema schema,
       RowType flinkSchema,
       Set<Integer> equalityFieldIds,
-      boolean upsert) {
+      boolean upsert,
+      long insertedKeysMemoryBytes) {
     super(
         spec,
         format,
@@ -53,7 +54,8 @@ class UnpartitionedDeltaWriter extends BaseDeltaTaskWriter {
         schema,
         flinkSchema,
         equalityFieldIds,
-        upsert);
+        upsert,
+        insertedKeysMemoryBytes);
     this.writer = new RowDataDeltaWriter(null);
   }
 
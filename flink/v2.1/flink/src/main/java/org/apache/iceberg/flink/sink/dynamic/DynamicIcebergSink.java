@@ -84,6 +84,8 @@ public class DynamicIcebergSink
   private final boolean overwriteMode;
   private final int workerPoolSize;
   private final int cacheMaximumSize;
+  private final long cacheRefreshMs;
+  private final boolean shareTableMetadataCache;
 
   DynamicIcebergSink(
       CatalogLoader catalogLoader,
@@ -91,7 +93,9 @@ public class DynamicIcebergSink
       String uidPrefix,
       Map<String, String> writeProperties,
       FlinkWriteConf flinkWriteConf,
-      int cacheMaximumSize) {
+      int cacheMaximumSize,
+      long cacheRefreshMs,
+      boolean shareTableMetadataCache) {
     this.catalogLoader = catalogLoader;
     this.snapshotProperties = snapshotProperties;
     this.uidPrefix = uidPrefix;
@@ -102,6 +106,8 @@ public class DynamicIcebergSink
     this.overwriteMode = flinkWriteConf.overwriteMode();
     this.workerPoolSize = flinkWriteConf.workerPoolSize();
     this.cacheMaximumSize = cacheMaximumSize;
+    this.cacheRefreshMs = cacheRefreshMs;
+    this.shareTableMetadataCache = shareTableMetadataCache;
     // We generate a random UUID every time when a sink is created.
     // This is used to separate files generated by different sinks writing the same table.
     // Also used to generate the aggregator operator name
@@ -110,8 +116,13 @@ public class DynamicIcebergSink
 
   @Override
   public SinkWriter<DynamicRecordInternal> createWriter(WriterInitContext context) {
+    SharedTableMetadataCache sharedTableCache =
+        shareTableMetadataCache
+            ? SharedTableMetadataCache.acquire(catalogLoader, cacheMaximumSize, cacheRefreshMs)
+            : null;
     return new DynamicWriter(
         catalogLoader.loadCatalog(),
+        sharedTableCache,
         dataFileFormat,
         targetDataFileSize,
         writeProperties,
@@ -189,6 +200,7 @@ public class DynamicIcebergSink
     private int cacheMaximumSize = 100;
     private long cacheRefreshMs = 1_000;
     private int inputSchemasPerTableCacheMaximumSize = 10;
+    private boolean shareTableMetadataCache = false;
 
     Builder() {}
 
@@ -326,6 +338,17 @@ public class DynamicIcebergSink
       return this;
     }
 
+    /**
+     * Share the table metadata cache between the Dynamic Sink operators running in the same
+     * TaskManager. Tables are then loaded from the catalog once per TaskManager and refresh
+     * interval, instead of once per operator instance, and table changes done by one operator are
+     * propagated to the others.
+     */
+    public Builder<T> shareTableMetadataCache(boolean newShareTableMetadataCache) {
+      this.shareTableMetadataCache = newShareTableMetadataCache;
+      return this;
+    }
+
     private String operatorName(String suffix) {
       return uidPrefix != null ? uidPrefix + "-" + suffix : suffix;
     }
@@ -353,7 +376,9 @@ public class DynamicIcebergSink
           uidPrefix,
           writeProperties,
           flinkWriteConf,
-          cacheMaximumSize);
+          cacheMaximumSize,
+          cacheRefreshMs,
+          shareTableMetadataCache);
     }
 
     /**
@@ -374,7 +399,8 @@ public class DynamicIcebergSink
                       immediateUpdate,
                       cacheMaximumSize,
                       cacheRefreshMs,
-                      inputSchemasPerTableCacheMaximumSize))
+                      inputSchemasPerTableCacheMaximumSize,
+                      shareTableMetadataCache))
               .uid(prefixIfNotNull(uidPrefix, "-generator"))
               .name(operatorName("generator"))
               .returns(type);
@@ -391,7 +417,8 @@ public class DynamicIcebergSink
                       catalogLoader,
                       cacheMaximumSize,
                       cacheRefreshMs,
-                      inputSchemasPerTableCacheMaximumSize))
+                      inputSchemasPerTableCacheMaximumSize,
+                      shareTableMetadataCache))
               .uid(prefixIfNotNull(uidPrefix, "-updater"))
               .name(operatorName("Updater"))
               .returns(type)
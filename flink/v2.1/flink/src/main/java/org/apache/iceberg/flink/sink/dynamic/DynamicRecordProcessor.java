@@ -43,7 +43,9 @@ class DynamicRecordProcessor<T> extends ProcessFunction<T, DynamicRecordInternal
   private final int cacheMaximumSize;
   private final long cacheRefreshMs;
   private final int inputSchemasPerTableCacheMaximumSize;
+  private final boolean shareTableMetadataCache;
 
+  private transient SharedTableMetadataCache sharedTableCache;
   private transient TableMetadataCache tableCache;
   private transient HashKeyGenerator hashKeyGenerator;
   private transient TableUpdater updater;
@@ -57,22 +59,34 @@ class DynamicRecordProcessor<T> extends ProcessFunction<T, DynamicRecordInternal
       boolean immediateUpdate,
       int cacheMaximumSize,
       long cacheRefreshMs,
-      int inputSchemasPerTableCacheMaximumSize) {
+      int inputSchemasPerTableCacheMaximumSize,
+      boolean shareTableMetadataCache) {
     this.generator = generator;
     this.catalogLoader = catalogLoader;
     this.immediateUpdate = immediateUpdate;
     this.cacheMaximumSize = cacheMaximumSize;
     this.cacheRefreshMs = cacheRefreshMs;
     this.inputSchemasPerTableCacheMaximumSize = inputSchemasPerTableCacheMaximumSize;
+    this.shareTableMetadataCache = shareTableMetadataCache;
   }
 
   @Override
   public void open(OpenContext openContext) throws Exception {
     super.open(openContext);
     Catalog catalog = catalogLoader.loadCatalog();
+    if (shareTableMetadataCache) {
+      this.sharedTableCache =
+          SharedTableMetadataCache.acquire(catalogLoader, cacheMaximumSize, cacheRefreshMs);
+      sharedTableCache.registerMetrics(getRuntimeContext().getMetricGroup());
+    }
+
     this.tableCache =
         new TableMetadataCache(
-            catalog, cacheMaximumSize, cacheRefreshMs, inputSchemasPerTableCacheMaximumSize);
+            catalog,
+            cacheMaximumSize,
+            cacheRefreshMs,
+            inputSchemasPerTableCacheMaximumSize,
+            sharedTableCache);
     this.hashKeyGenerator =
         new HashKeyGenerator(
             cacheMaximumSize, getRuntimeContext().getTaskInfo().getMaxNumberOfParallelSubtasks());
@@ -179,6 +193,15 @@ class DynamicRecordProcessor<T> extends ProcessFunction<T, DynamicRecordInternal
       super.close();
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      if (tableCache != null) {
+        tableCache.close();
+      }
+
+      if (sharedTableCache != null) {
+        sharedTableCache.release();
+        sharedTableCache = null;
+      }
     }
   }
 }
@@ -41,7 +41,10 @@ class DynamicTableUpdateOperator
   private final int cacheMaximumSize;
   private final long cacheRefreshMs;
   private final int inputSchemasPerTableCacheMaximumSize;
+  private final boolean shareTableMetadataCache;
 
+  private transient SharedTableMetadataCache sharedTableCache;
+  private transient TableMetadataCache tableCache;
   private transient TableUpdater updater;
 
   DynamicTableUpdateOperator(
@@ -49,21 +52,61 @@ class DynamicTableUpdateOperator
       int cacheMaximumSize,
       long cacheRefreshMs,
       int inputSchemasPerTableCacheMaximumSize) {
+    this(
+        catalogLoader,
+        cacheMaximumSize,
+        cacheRefreshMs,
+        inputSchemasPerTableCacheMaximumSize,
+        false);
+  }
+
+  DynamicTableUpdateOperator(
+      CatalogLoader catalogLoader,
+      int cacheMaximumSize,
+      long cacheRefreshMs,
+      int inputSchemasPerTableCacheMaximumSize,
+      boolean shareTableMetadataCache) {
     this.catalogLoader = catalogLoader;
     this.cacheMaximumSize = cacheMaximumSize;
     this.cacheRefreshMs = cacheRefreshMs;
     this.inputSchemasPerTableCacheMaximumSize = inputSchemasPerTableCacheMaximumSize;
+    this.shareTableMetadataCache = shareTableMetadataCache;
   }
 
   @Override
   public void open(OpenContext openContext) throws Exception {
     super.open(openContext);
     Catalog catalog = catalogLoader.loadCatalog();
-    this.updater =
-        new TableUpdater(
-            new TableMetadataCache(
-                catalog, cacheMaximumSize, cacheRefreshMs, inputSchemasPerTableCacheMaximumSize),
-            catalog);
+    if (shareTableMetadataCache) {
+      this.sharedTableCache =
+          SharedTableMetadataCache.acquire(catalogLoader, cacheMaximumSize, cacheRefreshMs);
+      sharedTableCache.registerMetrics(getRuntimeContext().getMetricGroup());
+    }
+
+    this.tableCache =
+        new TableMetadataCache(
+            catalog,
+            cacheMaximumSize,
+            cacheRefreshMs,
+            inputSchemasPerTableCacheMaximumSize,
+            sharedTableCache);
+    this.updater = new TableUpdater(tableCache, catalog);
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      super.close();
+    } finally {
+      if (tableCache != null) {
+        tableCache.close();
+      }
+
+      if (sharedTableCache != null) {
+        sharedTableCache.release();
+        sharedTableCache = null;
+      }
+    }
   }
 
   @Override
@@ -60,6 +60,7 @@ class DynamicWriter implements CommittingSinkWriter<DynamicRecordInternal, Dynam
   private final int subTaskId;
   private final int attemptId;
   private final Catalog catalog;
+  private final SharedTableMetadataCache sharedTableCache;
   private final FileFormat dataFileFormat;
   private final long targetDataFileSize;
   private final Map<String, String> commonWriteProperties;
@@ -73,7 +74,34 @@ class DynamicWriter implements CommittingSinkWriter<DynamicRecordInternal, Dynam
       DynamicWriterMetrics metrics,
       int subTaskId,
       int attemptId) {
+    this(
+        catalog,
+        null,
+        dataFileFormat,
+        targetDataFileSize,
+        commonWriteProperties,
+        cacheMaximumSize,
+        metrics,
+        subTaskId,
+        attemptId);
+  }
+
+  /**
+   * Creates a writer which loads tables through the given shared table cache, if it is not null.
+   * The writer releases the shared cache when it is closed.
+   */
+  DynamicWriter(
+      Catalog catalog,
+      SharedTableMetadataCache sharedTableCache,
+      FileFormat dataFileFormat,
+      long targetDataFileSize,
+      Map<String, String> commonWriteProperties,
+      int cacheMaximumSize,
+      DynamicWriterMetrics metrics,
+      int subTaskId,
+      int attemptId) {
     this.catalog = catalog;
+    this.sharedTableCache = sharedTableCache;
     this.dataFileFormat = dataFileFormat;
     this.targetDataFileSize = targetDataFileSize;
     this.commonWriteProperties = commonWriteProperties;
@@ -103,8 +131,7 @@ class DynamicWriter implements CommittingSinkWriter<DynamicRecordInternal, Dynam
                   taskWriterFactories.computeIfAbsent(
                       writerKey,
                       factoryKey -> {
-                        Table table =
-                            catalog.loadTable(TableIdentifier.parse(factoryKey.tableName()));
+                        Table table = loadTable(factoryKey);
 
                         Map<String, String> tableWriteProperties =
                             Maps.newHashMap(table.properties());
@@ -151,10 +178,36 @@ class DynamicWriter implements CommittingSinkWriter<DynamicRecordInternal, Dynam
     // flush is used to handle flush/endOfInput, so no action is taken here.
   }
 
+  /**
+   * Loads the table of a write target. When the table is loaded from the shared cache and the
+   * cached version does not have the target's schema or spec yet, it is reloaded from the catalog.
+   */
+  private Table loadTable(WriteTarget target) {
+    TableIdentifier identifier = TableIdentifier.parse(target.tableName());
+    if (sharedTableCache == null) {
+      return catalog.loadTable(identifier);
+    }
+
+    Table table = sharedTableCache.load(identifier);
+    if (!table.schemas().containsKey(target.schemaId())
+        || !table.specs().containsKey(target.specId())) {
+      sharedTableCache.invalidate(identifier, null);
+      table = sharedTableCache.load(identifier);
+    }
+
+    return table;
+  }
+
   @Override
   public void close() throws Exception {
-    for (TaskWriter<RowData> writer : writers.values()) {
-      writer.close();
+    try {
+      for (TaskWriter<RowData> writer : writers.values()) {
+        writer.close();
+      }
+    } finally {
+      if (sharedTableCache != null) {
+        sharedTableCache.release();
+      }
     }
   }
 
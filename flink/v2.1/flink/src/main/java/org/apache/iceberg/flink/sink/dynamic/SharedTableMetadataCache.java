@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.flink.sink.dynamic;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.flink.annotation.Internal;
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.flink.CatalogLoader;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.io.BaseEncoding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Table cache shared by all the Dynamic Sink operators of a TaskManager which use the same catalog.
+ *
+ * <p>The {@link TableMetadataCache} of every operator instance falls back to this cache when it
+ * needs to refresh a table, so a table is loaded from the catalog at most once per refresh interval
+ * in a TaskManager instead of once per operator instance. Concurrent loads of the same table are
+ * collapsed into a single catalog call.
+ *
+ * <p>When a table is updated or invalidated through one of the operator caches, the change is
+ * published here and the other operator caches are notified, so they drop their stale entries on
+ * their next access. Notifications are queued per operator cache, as the operator caches are not
+ * thread-safe.
+ *
+ * <p>Instances are reference counted, and released when the last operator using them is closed.
+ * The catalog is closed along with the cache.
+ */
+@Internal
+class SharedTableMetadataCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SharedTableMetadataCache.class);
+  private static final Map<String, SharedTableMetadataCache> INSTANCES = Maps.newHashMap();
+
+  private final String key;
+  private final Catalog catalog;
+  private final Cache<TableIdentifier, LoadResult> tables;
+  private final Set<Queue<TableIdentifier>> listeners = Sets.newConcurrentHashSet();
+  private final AtomicLong lookups = new AtomicLong();
+  private final AtomicLong catalogLoads = new AtomicLong();
+  private final AtomicLong totalLoadDurationMs = new AtomicLong();
+  private final AtomicLong lastLoadDurationMs = new AtomicLong();
+  private int references = 0;
+
+  @VisibleForTesting
+  SharedTableMetadataCache(String key, Catalog catalog, int maximumSize, long refreshMs) {
+    this.key = key;
+    this.catalog = catalog;
+    this.tables =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(refreshMs))
+            .build();
+  }
+
+  /**
+   * Returns the shared cache for the given catalog, creating it if this is the first operator of
+   * the TaskManager which uses the catalog. Catalogs are identified by the class and a hash of the
+   * serialized form of their {@link CatalogLoader}, so only loaders with the same configuration
+   * share a cache. Every call should be paired with a call to {@link #release()}.
+   */
+  static SharedTableMetadataCache acquire(
+      CatalogLoader catalogLoader, int maximumSize, long refreshMs) {
+    String key = cacheKey(catalogLoader);
+    synchronized (INSTANCES) {
+      SharedTableMetadataCache cache =
+          INSTANCES.computeIfAbsent(
+              key,
+              k -> {
+                LOG.info(
+                    "Creating shared table metadata cache for {}",
+                    catalogLoader.getClass().getSimpleName());
+                return new SharedTableMetadataCache(
+                    k, catalogLoader.loadCatalog(), maximumSize, refreshMs);
+              });
+      cache.references += 1;
+      return cache;
+    }
+  }
+
+  void release() {
+    synchronized (INSTANCES) {
+      Preconditions.checkState(references > 0, "Shared table metadata cache already released");
+      references -= 1;
+      if (references == 0 && INSTANCES.get(key) == this) {
+        LOG.info("Releasing shared table metadata cache");
+        INSTANCES.remove(key);
+        tables.invalidateAll();
+        closeCatalog();
+      }
+    }
+  }
+
+  private void closeCatalog() {
+    if (catalog instanceof Closeable) {
+      try {
+        ((Closeable) catalog).close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close catalog of the shared table metadata cache", e);
+      }
+    }
+  }
+
+  /**
+   * Returns the cached table, or loads it from the catalog. Only a single load is issued for
+   * concurrent requests of the same table.
+   *
+   * @throws NoSuchTableException if the table doesn't exist
+   */
+  Table load(TableIdentifier identifier) {
+    lookups.incrementAndGet();
+    LoadResult result = tables.get(identifier, this::loadFromCatalog);
+    if (result.notFound != null) {
+      throw result.notFound;
+    }
+
+    return result.table;
+  }
+
+  /** Publishes a table which was changed by one of the operators to every other operator. */
+  void update(TableIdentifier identifier, Table table, Queue<TableIdentifier> source) {
+    tables.put(identifier, new LoadResult(table, null));
+    notifyListeners(identifier, source);
+  }
+
+  /** Drops the table from the shared cache and from the cache of every other operator. */
+  void invalidate(TableIdentifier identifier, Queue<TableIdentifier> source) {
+    tables.invalidate(identifier);
+    notifyListeners(identifier, source);
+  }
+
+  /**
+   * Registers a queue which receives the identifiers of the tables changed by other operators.
+   *
+   * @return the registered queue
+   */
+  Queue<TableIdentifier> register() {
+    Queue<TableIdentifier> queue = new ConcurrentLinkedQueue<>();
+    listeners.add(queue);
+    return queue;
+  }
+
+  void unregister(Queue<TableIdentifier> queue) {
+    listeners.remove(queue);
+  }
+
+  void registerMetrics(MetricGroup metricGroup) {
+    MetricGroup cacheMetrics = metricGroup.addGroup("sharedTableMetadataCache");
+    cacheMetrics.gauge("hitRate", this::hitRate);
+    cacheMetrics.gauge("catalogLoads", catalogLoads::get);
+    cacheMetrics.gauge("lastRefreshDurationMs", lastLoadDurationMs::get);
+    cacheMetrics.gauge("avgRefreshDurationMs", this::averageLoadDurationMs);
+  }
+
+  @VisibleForTesting
+  long catalogLoads() {
+    return catalogLoads.get();
+  }
+
+  @VisibleForTesting
+  double hitRate() {
+    long total = lookups.get();
+    return total == 0 ? 1.0 : (double) (total - catalogLoads.get()) / total;
+  }
+
+  private long averageLoadDurationMs() {
+    long loads = catalogLoads.get();
+    return loads == 0 ? 0L : totalLoadDurationMs.get() / loads;
+  }
+
+  // the loader's string representation may contain credentials and does not cover the whole
+  // configuration, so the key is derived from the serialized loader instead
+  @VisibleForTesting
+  static String cacheKey(CatalogLoader catalogLoader) {
+    try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(catalogLoader);
+      out.flush();
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes.toByteArray());
+      return catalogLoader.getClass().getName() + "@" + BaseEncoding.base16().encode(digest);
+    } catch (IOException | NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Failed to compute the identity of the catalog loader", e);
+    }
+  }
+
+  private void notifyListeners(TableIdentifier identifier, Queue<TableIdentifier> source) {
+    for (Queue<TableIdentifier> listener : listeners) {
+      if (listener != source) {
+        listener.add(identifier);
+      }
+    }
+  }
+
+  private LoadResult loadFromCatalog(TableIdentifier identifier) {
+    long start = System.nanoTime();
+    try {
+      return new LoadResult(catalog.loadTable(identifier), null);
+    } catch (NoSuchTableException e) {
+      return new LoadResult(null, e);
+    } finally {
+      long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      catalogLoads.incrementAndGet();
+      totalLoadDurationMs.addAndGet(durationMs);
+      lastLoadDurationMs.set(durationMs);
+    }
+  }
+
+  private static class LoadResult {
+    private final Table table;
+    private final NoSuchTableException notFound;
+
+    private LoadResult(Table table, NoSuchTableException notFound) {
+      this.table = table;
+      this.notFound = notFound;
+    }
+  }
+}
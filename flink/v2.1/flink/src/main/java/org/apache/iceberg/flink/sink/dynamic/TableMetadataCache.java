@@ -19,6 +19,7 @@
 package org.apache.iceberg.flink.sink.dynamic;
 
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import org.apache.flink.annotation.Internal;
 import org.apache.flink.annotation.VisibleForTesting;
@@ -37,6 +38,9 @@ import org.slf4j.LoggerFactory;
  * TableMetadataCache is responsible for caching table metadata to avoid hitting the catalog too
  * frequently. We store table identifier, schema, partition spec, and a set of past schema
  * comparison results of the active table schema against the last input schemas.
+ *
+ * <p>When a {@link SharedTableMetadataCache} is provided, tables are refreshed through it instead
+ * of the catalog, and local changes are published to the other operators sharing it.
  */
 @Internal
 class TableMetadataCache {
@@ -52,17 +56,30 @@ class TableMetadataCache {
   private final long refreshMs;
   private final int inputSchemasPerTableCacheMaximumSize;
   private final Map<TableIdentifier, CacheItem> tableCache;
+  private final SharedTableMetadataCache sharedCache;
+  private final Queue<TableIdentifier> sharedChanges;
 
   TableMetadataCache(
       Catalog catalog, int maximumSize, long refreshMs, int inputSchemasPerTableCacheMaximumSize) {
+    this(catalog, maximumSize, refreshMs, inputSchemasPerTableCacheMaximumSize, null);
+  }
+
+  TableMetadataCache(
+      Catalog catalog,
+      int maximumSize,
+      long refreshMs,
+      int inputSchemasPerTableCacheMaximumSize,
+      SharedTableMetadataCache sharedCache) {
     this.catalog = catalog;
     this.refreshMs = refreshMs;
     this.inputSchemasPerTableCacheMaximumSize = inputSchemasPerTableCacheMaximumSize;
     this.tableCache = new LRUCache<>(maximumSize);
+    this.sharedCache = sharedCache;
+    this.sharedChanges = sharedCache != null ? sharedCache.register() : null;
   }
 
   Tuple2<Boolean, Exception> exists(TableIdentifier identifier) {
-    CacheItem cached = tableCache.get(identifier);
+    CacheItem cached = cached(identifier);
     if (cached != null && Boolean.TRUE.equals(cached.tableExists)) {
       return EXISTS;
     } else if (needsRefresh(cached, true)) {
@@ -85,6 +102,13 @@ class TableMetadataCache {
   }
 
   void update(TableIdentifier identifier, Table table) {
+    cache(identifier, table);
+    if (sharedCache != null) {
+      sharedCache.update(identifier, table, sharedChanges);
+    }
+  }
+
+  private void cache(TableIdentifier identifier, Table table) {
     tableCache.put(
         identifier,
         new CacheItem(
@@ -96,7 +120,7 @@ class TableMetadataCache {
   }
 
   private String branch(TableIdentifier identifier, String branch, boolean allowRefresh) {
-    CacheItem cached = tableCache.get(identifier);
+    CacheItem cached = cached(identifier);
     if (cached != null && cached.tableExists && cached.branches.contains(branch)) {
       return branch;
     }
@@ -111,7 +135,7 @@ class TableMetadataCache {
 
   private ResolvedSchemaInfo schema(
       TableIdentifier identifier, Schema input, boolean allowRefresh) {
-    CacheItem cached = tableCache.get(identifier);
+    CacheItem cached = cached(identifier);
     Schema compatible = null;
     if (cached != null && cached.tableExists) {
       // This only works if the {@link Schema#equals(Object)} returns true for the old schema
@@ -162,7 +186,7 @@ class TableMetadataCache {
   }
 
   private PartitionSpec spec(TableIdentifier identifier, PartitionSpec spec, boolean allowRefresh) {
-    CacheItem cached = tableCache.get(identifier);
+    CacheItem cached = cached(identifier);
     if (cached != null && cached.tableExists) {
       for (PartitionSpec tableSpec : cached.specs.values()) {
         if (PartitionSpecEvolution.checkCompatibility(tableSpec, spec)) {
@@ -181,8 +205,9 @@ class TableMetadataCache {
 
   private Tuple2<Boolean, Exception> refreshTable(TableIdentifier identifier) {
     try {
-      Table table = catalog.loadTable(identifier);
-      update(identifier, table);
+      Table table =
+          sharedCache != null ? sharedCache.load(identifier) : catalog.loadTable(identifier);
+      cache(identifier, table);
       return EXISTS;
     } catch (NoSuchTableException e) {
       LOG.debug("Table doesn't exist {}", identifier, e);
@@ -198,6 +223,27 @@ class TableMetadataCache {
 
   public void invalidate(TableIdentifier identifier) {
     tableCache.remove(identifier);
+    if (sharedCache != null) {
+      sharedCache.invalidate(identifier, sharedChanges);
+    }
+  }
+
+  /** Stops receiving changes from the shared cache, if any. */
+  void close() {
+    if (sharedCache != null) {
+      sharedCache.unregister(sharedChanges);
+    }
+  }
+
+  private CacheItem cached(TableIdentifier identifier) {
+    if (sharedChanges != null && !sharedChanges.isEmpty()) {
+      TableIdentifier changed;
+      while ((changed = sharedChanges.poll()) != null) {
+        tableCache.remove(changed);
+      }
+    }
+
+    return tableCache.get(identifier);
   }
 
   /** Handles timeout for missing items only. Caffeine performance causes noticeable delays. */
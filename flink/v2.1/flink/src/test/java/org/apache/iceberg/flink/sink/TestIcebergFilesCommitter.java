@@ -28,11 +28,13 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.flink.api.common.ExecutionConfig;
 import org.apache.flink.api.common.JobID;
@@ -76,6 +78,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.ThreadPools;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -730,6 +733,178 @@ public class TestIcebergFilesCommitter extends TestBase {
     }
   }
 
+  @TestTemplate
+  public void testAsyncCommit() throws Exception {
+    long timestamp = 0;
+    JobID jobId = new JobID();
+    OperatorID operatorId;
+    try (OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> harness =
+        createStreamSink(jobId, true)) {
+      harness.setup();
+      harness.open();
+      operatorId = harness.getOperator().getOperatorID();
+
+      assertSnapshotSize(0);
+
+      List<RowData> rows = Lists.newArrayListWithExpectedSize(3);
+      for (int i = 1; i <= 3; i++) {
+        RowData rowData = SimpleDataUtil.createRowData(i, "hello" + i);
+        DataFile dataFile = writeDataFile("data-" + i, ImmutableList.of(rowData));
+        harness.processElement(of(i, dataFile), ++timestamp);
+        rows.add(rowData);
+
+        harness.snapshot(i, ++timestamp);
+        harness.notifyOfCompletedCheckpoint(i);
+
+        int expectedSnapshots = i;
+        Awaitility.await()
+            .atMost(Duration.ofSeconds(30))
+            .untilAsserted(() -> assertSnapshotSize(expectedSnapshots));
+
+        SimpleDataUtil.assertTableRows(table, ImmutableList.copyOf(rows), branch);
+        assertMaxCommittedCheckpointId(jobId, operatorId, i);
+      }
+
+      // a late notification for an already committed checkpoint must not commit again
+      harness.notifyOfCompletedCheckpoint(2);
+      assertSnapshotSize(3);
+    }
+  }
+
+  @TestTemplate
+  public void testAsyncCommitBoundedStream() throws Exception {
+    JobID jobId = new JobID();
+    OperatorID operatorId;
+    try (OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> harness =
+        createStreamSink(jobId, true)) {
+      harness.setup();
+      harness.open();
+      operatorId = harness.getOperator().getOperatorID();
+
+      List<RowData> tableRows = Lists.newArrayList(SimpleDataUtil.createRowData(1, "word-1"));
+
+      DataFile dataFile = writeDataFile("data-1", tableRows);
+      harness.processElement(of(IcebergStreamWriter.END_INPUT_CHECKPOINT_ID, dataFile), 1);
+      ((BoundedOneInput) harness.getOneInputOperator()).endInput();
+
+      // the end of input commit is complete when endInput returns
+      assertFlinkManifests(0);
+      SimpleDataUtil.assertTableRows(table, tableRows, branch);
+      assertSnapshotSize(1);
+      assertMaxCommittedCheckpointId(
+          jobId, operatorId, IcebergStreamWriter.END_INPUT_CHECKPOINT_ID);
+    }
+  }
+
+  @TestTemplate
+  public void testCommitInterval() throws Exception {
+    long timestamp = 0;
+    JobID jobId = new JobID();
+    OperatorID operatorId;
+    try (OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> harness =
+        createStreamSink(jobId, false, TimeUnit.HOURS.toMillis(1), 2)) {
+      harness.setup();
+      harness.open();
+      operatorId = harness.getOperator().getOperatorID();
+
+      RowData row1 = SimpleDataUtil.createRowData(1, "hello");
+      harness.processElement(of(1, writeDataFile("data-1", ImmutableList.of(row1))), ++timestamp);
+      harness.snapshot(1, ++timestamp);
+      harness.notifyOfCompletedCheckpoint(1);
+
+      // the commit is deferred, the files stay in the committer state
+      assertSnapshotSize(0);
+      assertFlinkManifests(1);
+
+      RowData row2 = SimpleDataUtil.createRowData(2, "world");
+      harness.processElement(of(2, writeDataFile("data-2", ImmutableList.of(row2))), ++timestamp);
+      harness.snapshot(2, ++timestamp);
+      harness.notifyOfCompletedCheckpoint(2);
+
+      // reaching the pending files threshold commits both checkpoints in a single snapshot
+      assertSnapshotSize(1);
+      assertFlinkManifests(0);
+      SimpleDataUtil.assertTableRows(table, ImmutableList.of(row1, row2), branch);
+      assertMaxCommittedCheckpointId(jobId, operatorId, 2);
+    }
+  }
+
+  @TestTemplate
+  public void testRecoveryWithDeferredCommit() throws Exception {
+    long timestamp = 0;
+    JobID jobId = new JobID();
+    OperatorID operatorId;
+    OperatorSubtaskState snapshot;
+    RowData row1 = SimpleDataUtil.createRowData(1, "hello");
+    try (OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> harness =
+        createStreamSink(jobId, false, TimeUnit.HOURS.toMillis(1), 2)) {
+      harness.setup();
+      harness.open();
+      operatorId = harness.getOperator().getOperatorID();
+
+      harness.processElement(of(1, writeDataFile("data-1", ImmutableList.of(row1))), ++timestamp);
+      snapshot = harness.snapshot(1, ++timestamp);
+      harness.notifyOfCompletedCheckpoint(1);
+      assertSnapshotSize(0);
+    }
+
+    // the deferred files and their count are restored from the checkpoint
+    try (OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> harness =
+        createStreamSink(jobId, false, TimeUnit.HOURS.toMillis(1), 2)) {
+      harness.getStreamConfig().setOperatorID(operatorId);
+      harness.setup();
+      harness.initializeState(snapshot);
+      harness.open();
+
+      assertSnapshotSize(0);
+      assertFlinkManifests(1);
+
+      RowData row2 = SimpleDataUtil.createRowData(2, "world");
+      harness.processElement(of(2, writeDataFile("data-2", ImmutableList.of(row2))), ++timestamp);
+      harness.snapshot(2, ++timestamp);
+      harness.notifyOfCompletedCheckpoint(2);
+
+      // the restored file counts towards the pending files threshold
+      assertSnapshotSize(1);
+      assertFlinkManifests(0);
+      SimpleDataUtil.assertTableRows(table, ImmutableList.of(row1, row2), branch);
+      assertMaxCommittedCheckpointId(jobId, operatorId, 2);
+    }
+  }
+
+  @TestTemplate
+  public void testRecoveryCommitsWithoutCommitInterval() throws Exception {
+    long timestamp = 0;
+    JobID jobId = new JobID();
+    OperatorID operatorId;
+    OperatorSubtaskState snapshot;
+    RowData row = SimpleDataUtil.createRowData(1, "hello");
+    try (OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> harness =
+        createStreamSink(jobId, false, TimeUnit.HOURS.toMillis(1), 0)) {
+      harness.setup();
+      harness.open();
+      operatorId = harness.getOperator().getOperatorID();
+
+      harness.processElement(of(1, writeDataFile("data-1", ImmutableList.of(row))), ++timestamp);
+      snapshot = harness.snapshot(1, ++timestamp);
+      harness.notifyOfCompletedCheckpoint(1);
+      assertSnapshotSize(0);
+    }
+
+    // without a commit interval, the deferred files are committed when restoring
+    try (OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> harness =
+        createStreamSink(jobId, false)) {
+      harness.getStreamConfig().setOperatorID(operatorId);
+      harness.setup();
+      harness.initializeState(snapshot);
+      harness.open();
+
+      assertSnapshotSize(1);
+      SimpleDataUtil.assertTableRows(table, ImmutableList.of(row), branch);
+      assertMaxCommittedCheckpointId(jobId, operatorId, 1);
+    }
+  }
+
   @TestTemplate
   public void testFlinkManifests() throws Exception {
     long timestamp = 0;
@@ -1181,7 +1356,25 @@ public class TestIcebergFilesCommitter extends TestBase {
 
   private OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> createStreamSink(JobID jobID)
       throws Exception {
-    TestOperatorFactory factory = TestOperatorFactory.of(table.location(), branch, table.spec());
+    return createStreamSink(jobID, false);
+  }
+
+  private OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> createStreamSink(
+      JobID jobID, boolean asyncCommit) throws Exception {
+    return createStreamSink(jobID, asyncCommit, 0L, 0);
+  }
+
+  private OneInputStreamOperatorTestHarness<FlinkWriteResult, Void> createStreamSink(
+      JobID jobID, boolean asyncCommit, long commitIntervalMs, int commitMaxPendingFiles)
+      throws Exception {
+    TestOperatorFactory factory =
+        TestOperatorFactory.of(
+            table.location(),
+            branch,
+            table.spec(),
+            asyncCommit,
+            commitIntervalMs,
+            commitMaxPendingFiles);
     return new OneInputStreamOperatorTestHarness<>(factory, createEnvironment(jobID));
   }
 
@@ -1203,15 +1396,34 @@ public class TestIcebergFilesCommitter extends TestBase {
     private final String tablePath;
     private final String branch;
     private final PartitionSpec spec;
-
-    private TestOperatorFactory(String tablePath, String branch, PartitionSpec spec) {
+    private final boolean asyncCommit;
+    private final long commitIntervalMs;
+    private final int commitMaxPendingFiles;
+
+    private TestOperatorFactory(
+        String tablePath,
+        String branch,
+        PartitionSpec spec,
+        boolean asyncCommit,
+        long commitIntervalMs,
+        int commitMaxPendingFiles) {
       this.tablePath = tablePath;
       this.branch = branch;
       this.spec = spec;
+      this.asyncCommit = asyncCommit;
+      this.commitIntervalMs = commitIntervalMs;
+      this.commitMaxPendingFiles = commitMaxPendingFiles;
     }
 
-    private static TestOperatorFactory of(String tablePath, String branch, PartitionSpec spec) {
-      return new TestOperatorFactory(tablePath, branch, spec);
+    private static TestOperatorFactory of(
+        String tablePath,
+        String branch,
+        PartitionSpec spec,
+        boolean asyncCommit,
+        long commitIntervalMs,
+        int commitMaxPendingFiles) {
+      return new TestOperatorFactory(
+          tablePath, branch, spec, asyncCommit, commitIntervalMs, commitMaxPendingFiles);
     }
 
     @Override
@@ -1226,7 +1438,10 @@ public class TestIcebergFilesCommitter extends TestBase {
               Collections.singletonMap("flink.test", TestIcebergFilesCommitter.class.getName()),
               ThreadPools.WORKER_THREAD_POOL_SIZE,
               branch,
-              spec);
+              spec,
+              asyncCommit,
+              commitIntervalMs,
+              commitMaxPendingFiles);
       return (T) committer;
     }
 
@@ -706,7 +706,9 @@ class TestDynamicIcebergSink extends TestFlinkIcebergSinkBase {
           "uidPrefix",
           writeProperties,
           flinkWriteConf,
-          100);
+          100,
+          1_000L,
+          false);
     }
   }
 
@@ -721,14 +723,18 @@ class TestDynamicIcebergSink extends TestFlinkIcebergSinkBase {
         String uidPrefix,
         Map<String, String> writeProperties,
         FlinkWriteConf flinkWriteConf,
-        int cacheMaximumSize) {
+        int cacheMaximumSize,
+        long cacheRefreshMs,
+        boolean shareTableMetadataCache) {
       super(
           catalogLoader,
           snapshotProperties,
           uidPrefix,
           writeProperties,
           flinkWriteConf,
-          cacheMaximumSize);
+          cacheMaximumSize,
+          cacheRefreshMs,
+          shareTableMetadataCache);
       this.commitHook = commitHook;
     }
 
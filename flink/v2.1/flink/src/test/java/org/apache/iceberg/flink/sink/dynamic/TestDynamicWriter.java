@@ -186,6 +186,33 @@ class TestDynamicWriter extends TestFlinkIcebergSinkBase {
         .isEqualTo(1);
   }
 
+  @Test
+  void testDynamicWritersLoadTablesThroughSharedCache() throws Exception {
+    Catalog catalog = CATALOG_EXTENSION.catalog();
+    Table table1 = catalog.createTable(TABLE1, SimpleDataUtil.SCHEMA);
+
+    SharedTableMetadataCache sharedCache1 =
+        SharedTableMetadataCache.acquire(CATALOG_EXTENSION.catalogLoader(), 10, Long.MAX_VALUE);
+    SharedTableMetadataCache sharedCache2 =
+        SharedTableMetadataCache.acquire(CATALOG_EXTENSION.catalogLoader(), 10, Long.MAX_VALUE);
+    assertThat(sharedCache2).isSameAs(sharedCache1);
+
+    DynamicWriter writer1 = createDynamicWriter(catalog, sharedCache1, 0);
+    DynamicWriter writer2 = createDynamicWriter(catalog, sharedCache2, 1);
+    try {
+      writer1.write(getDynamicRecordInternal(table1), null);
+      writer2.write(getDynamicRecordInternal(table1), null);
+      assertThat(writer1.prepareCommit()).hasSize(1);
+      assertThat(writer2.prepareCommit()).hasSize(1);
+
+      // the table is loaded from the catalog once for both writer subtasks
+      assertThat(sharedCache1.catalogLoads()).isEqualTo(1);
+    } finally {
+      writer1.close();
+      writer2.close();
+    }
+  }
+
   @Test
   void testDynamicWriterUpsertNoEqualityFields() {
     Catalog catalog = CATALOG_EXTENSION.catalog();
@@ -216,6 +243,20 @@ class TestDynamicWriter extends TestFlinkIcebergSinkBase {
     return dynamicWriter;
   }
 
+  private static @NotNull DynamicWriter createDynamicWriter(
+      Catalog catalog, SharedTableMetadataCache sharedTableCache, int subTaskId) {
+    return new DynamicWriter(
+        catalog,
+        sharedTableCache,
+        FileFormat.PARQUET,
+        1024L,
+        Map.of(),
+        100,
+        new DynamicWriterMetrics(new UnregisteredMetricsGroup()),
+        subTaskId,
+        0);
+  }
+
   private static @NotNull DynamicWriter createDynamicWriter(Catalog catalog) {
     return createDynamicWriter(catalog, Map.of());
   }
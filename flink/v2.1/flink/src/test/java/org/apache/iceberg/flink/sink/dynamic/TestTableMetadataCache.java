@@ -20,12 +20,18 @@ package org.apache.iceberg.flink.sink.dynamic;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.SerializationUtils;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.flink.CatalogLoader;
 import org.apache.iceberg.flink.sink.TestFlinkIcebergSinkBase;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.types.Types;
 import org.junit.jupiter.api.Test;
 
@@ -91,4 +97,112 @@ public class TestTableMetadataCache extends TestFlinkIcebergSinkBase {
 
     assertThat(cache.getInternalCache()).isEmpty();
   }
+
+  @Test
+  void testSharedCacheLoadsTableOnce() {
+    Catalog catalog = CATALOG_EXTENSION.catalog();
+    TableIdentifier tableIdentifier = TableIdentifier.parse("default.myTable");
+    catalog.createTable(tableIdentifier, SCHEMA);
+    SharedTableMetadataCache sharedCache =
+        new SharedTableMetadataCache("test", catalog, 10, Long.MAX_VALUE);
+    TableMetadataCache cache1 =
+        new TableMetadataCache(catalog, 10, Long.MAX_VALUE, 10, sharedCache);
+    TableMetadataCache cache2 =
+        new TableMetadataCache(catalog, 10, Long.MAX_VALUE, 10, sharedCache);
+
+    assertThat(cache1.schema(tableIdentifier, SCHEMA).resolvedTableSchema().sameSchema(SCHEMA))
+        .isTrue();
+    assertThat(cache2.schema(tableIdentifier, SCHEMA).resolvedTableSchema().sameSchema(SCHEMA))
+        .isTrue();
+    assertThat(sharedCache.catalogLoads()).isEqualTo(1);
+    assertThat(sharedCache.hitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  void testSharedCacheKeyCoversLoaderConfiguration() {
+    Configuration conf = new Configuration();
+    CatalogLoader loader =
+        CatalogLoader.custom(
+            "catalog", ImmutableMap.of("uri", "uri1", "token", "secret"), conf, "impl");
+    CatalogLoader sameConfig =
+        CatalogLoader.custom(
+            "catalog", ImmutableMap.of("uri", "uri1", "token", "secret"), conf, "impl");
+    CatalogLoader otherConfig =
+        CatalogLoader.custom(
+            "catalog", ImmutableMap.of("uri", "uri2", "token", "secret"), conf, "impl");
+
+    String key = SharedTableMetadataCache.cacheKey(loader);
+    assertThat(SharedTableMetadataCache.cacheKey(sameConfig)).isEqualTo(key);
+    assertThat(SharedTableMetadataCache.cacheKey(otherConfig)).isNotEqualTo(key);
+    assertThat(key).doesNotContain("secret");
+  }
+
+  @Test
+  void testSharedCacheClosesCatalogOnLastRelease() {
+    CatalogLoader loader = new ClosingCatalogLoader();
+    SharedTableMetadataCache cache1 = SharedTableMetadataCache.acquire(loader, 10, Long.MAX_VALUE);
+    SharedTableMetadataCache cache2 = SharedTableMetadataCache.acquire(loader, 10, Long.MAX_VALUE);
+    assertThat(cache2).isSameAs(cache1);
+
+    cache1.release();
+    assertThat(ClosingCatalogLoader.CLOSED_CATALOGS).hasValue(0);
+
+    cache2.release();
+    assertThat(ClosingCatalogLoader.CLOSED_CATALOGS).hasValue(1);
+  }
+
+  @Test
+  void testSharedCachePropagatesChanges() {
+    Catalog catalog = CATALOG_EXTENSION.catalog();
+    TableIdentifier tableIdentifier = TableIdentifier.parse("default.myTable");
+    catalog.createTable(tableIdentifier, SCHEMA);
+    SharedTableMetadataCache sharedCache =
+        new SharedTableMetadataCache("test", catalog, 10, Long.MAX_VALUE);
+    TableMetadataCache cache1 =
+        new TableMetadataCache(catalog, 10, Long.MAX_VALUE, 10, sharedCache);
+    TableMetadataCache cache2 =
+        new TableMetadataCache(catalog, 10, Long.MAX_VALUE, 10, sharedCache);
+    TableUpdater tableUpdater = new TableUpdater(cache1, catalog);
+
+    assertThat(cache1.schema(tableIdentifier, SCHEMA).resolvedTableSchema().sameSchema(SCHEMA))
+        .isTrue();
+    assertThat(cache2.schema(tableIdentifier, SCHEMA).resolvedTableSchema().sameSchema(SCHEMA))
+        .isTrue();
+    assertThat(cache2.getInternalCache()).containsKey(tableIdentifier);
+
+    tableUpdater.update(tableIdentifier, "main", SCHEMA2, PartitionSpec.unpartitioned());
+
+    // The second cache picks up the new schema from the shared cache without loading the table
+    Schema schema2 = cache2.schema(tableIdentifier, SCHEMA2).resolvedTableSchema();
+    assertThat(schema2.sameSchema(SCHEMA2)).isTrue();
+    assertThat(sharedCache.catalogLoads()).isEqualTo(1);
+
+    cache2.close();
+    cache1.invalidate(tableIdentifier);
+    assertThat(cache2.getInternalCache()).containsKey(tableIdentifier);
+  }
+
+  private static class ClosingCatalogLoader implements CatalogLoader {
+    private static final AtomicInteger CLOSED_CATALOGS = new AtomicInteger(0);
+
+    @Override
+    public Catalog loadCatalog() {
+      InMemoryCatalog catalog =
+          new InMemoryCatalog() {
+            @Override
+            public void close() throws IOException {
+              CLOSED_CATALOGS.incrementAndGet();
+              super.close();
+            }
+          };
+      catalog.initialize("closing", ImmutableMap.of());
+      return catalog;
+    }
+
+    @Override
+    @SuppressWarnings({"checkstyle:NoClone", "checkstyle:SuperClone"})
+    public CatalogLoader clone() {
+      return new ClosingCatalogLoader();
+    }
+  }
 }
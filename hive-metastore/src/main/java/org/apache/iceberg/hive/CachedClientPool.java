@@ -72,6 +72,7 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
   private final Configuration conf;
   private final int clientPoolSize;
+  private final boolean checkHealth;
   private final long evictionInterval;
   private final Key key;
 
@@ -82,18 +83,24 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
             properties,
             CatalogProperties.CLIENT_POOL_SIZE,
             CatalogProperties.CLIENT_POOL_SIZE_DEFAULT);
+    this.checkHealth =
+        PropertyUtil.propertyAsBoolean(
+            properties,
+            CatalogProperties.CLIENT_POOL_HEALTH_CHECK_ENABLED,
+            CatalogProperties.CLIENT_POOL_HEALTH_CHECK_ENABLED_DEFAULT);
     this.evictionInterval =
         PropertyUtil.propertyAsLong(
             properties,
             CatalogProperties.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS,
             CatalogProperties.CLIENT_POOL_CACHE_EVICTION_INTERVAL_MS_DEFAULT);
-    this.key = extractKey(properties.get(CatalogProperties.CLIENT_POOL_CACHE_KEYS), conf);
+    this.key =
+        extractKey(properties.get(CatalogProperties.CLIENT_POOL_CACHE_KEYS), conf, checkHealth);
     init();
   }
 
   @VisibleForTesting
   HiveClientPool clientPool() {
-    return clientPoolCache.get(key, k -> new HiveClientPool(clientPoolSize, conf));
+    return clientPoolCache.get(key, k -> new HiveClientPool(clientPoolSize, conf, checkHealth));
   }
 
   private synchronized void init() {
@@ -130,10 +137,18 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
 
   @VisibleForTesting
   static Key extractKey(String cacheKeys, Configuration conf) {
+    return extractKey(
+        cacheKeys, conf, CatalogProperties.CLIENT_POOL_HEALTH_CHECK_ENABLED_DEFAULT);
+  }
+
+  @VisibleForTesting
+  static Key extractKey(String cacheKeys, Configuration conf, boolean checkHealth) {
     // generate key elements in a certain order, so that the Key instances are comparable
     List<Object> elements = Lists.newArrayList();
     elements.add(conf.get(HiveConf.ConfVars.METASTOREURIS.varname, ""));
     elements.add(conf.get(HiveCatalog.HIVE_CONF_CATALOG, "hive"));
+    // pools are created with the health check setting, so it must not be shared across settings
+    elements.add(checkHealth);
     if (cacheKeys == null || cacheKeys.isEmpty()) {
       return Key.of(elements);
     }
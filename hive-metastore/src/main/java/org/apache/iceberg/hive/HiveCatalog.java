@@ -19,6 +19,7 @@
 package org.apache.iceberg.hive;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -314,6 +315,68 @@ public class HiveCatalog extends BaseMetastoreViewCatalog
     renameTableOrView(from, to, HiveOperationsBase.ContentType.VIEW);
   }
 
+  @Override
+  protected Map<TableIdentifier, String> metadataLocations(List<TableIdentifier> identifiers) {
+    Map<String, List<TableIdentifier>> identifiersByDatabase = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : identifiers) {
+      identifiersByDatabase
+          .computeIfAbsent(identifier.namespace().level(0), database -> Lists.newArrayList())
+          .add(identifier);
+    }
+
+    Map<TableIdentifier, String> locations = Maps.newHashMap();
+    identifiersByDatabase.forEach(
+        (database, databaseIdentifiers) -> {
+          // HMS stores lower case table names
+          Map<String, String> locationsByName = Maps.newHashMap();
+          List<String> tableNames =
+              databaseIdentifiers.stream()
+                  .map(identifier -> identifier.name().toLowerCase(Locale.ROOT))
+                  .distinct()
+                  .collect(Collectors.toList());
+
+          // Retrieving the Table objects from HMS in batches to avoid OOM
+          for (List<String> tableNameSet : Iterables.partition(tableNames, 100)) {
+            for (Table table : tableObjects(database, tableNameSet)) {
+              Map<String, String> parameters = table.getParameters();
+              if (parameters != null
+                  && BaseMetastoreTableOperations.ICEBERG_TABLE_TYPE_VALUE.equalsIgnoreCase(
+                      parameters.get(BaseMetastoreTableOperations.TABLE_TYPE_PROP))
+                  && parameters.get(BaseMetastoreTableOperations.METADATA_LOCATION_PROP) != null) {
+                locationsByName.put(
+                    table.getTableName().toLowerCase(Locale.ROOT),
+                    parameters.get(BaseMetastoreTableOperations.METADATA_LOCATION_PROP));
+              }
+            }
+          }
+
+          for (TableIdentifier identifier : databaseIdentifiers) {
+            String location = locationsByName.get(identifier.name().toLowerCase(Locale.ROOT));
+            if (location != null) {
+              locations.put(identifier, location);
+            }
+          }
+        });
+
+    return locations;
+  }
+
+  private List<Table> tableObjects(String database, List<String> tableNames) {
+    try {
+      return clients.run(client -> client.getTableObjectsByName(database, tableNames));
+
+    } catch (UnknownDBException e) {
+      return ImmutableList.of();
+
+    } catch (TException e) {
+      throw new RuntimeException("Failed to load tables from database " + database, e);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted in call to getTableObjectsByName", e);
+    }
+  }
+
   private List<TableIdentifier> listIcebergTables(
       List<String> tableNames, Namespace namespace, String tableTypeProp)
       throws TException, InterruptedException {
@@ -686,7 +749,8 @@ public class HiveCatalog extends BaseMetastoreViewCatalog
   public TableOperations newTableOps(TableIdentifier tableIdentifier) {
     String dbName = tableIdentifier.namespace().level(0);
     String tableName = tableIdentifier.name();
-    return new HiveTableOperations(conf, clients, fileIO, name, dbName, tableName);
+    return new HiveTableOperations(
+        conf, clients, fileIO, name, dbName, tableName, metricsReporter());
   }
 
   @Override
@@ -47,11 +47,18 @@ public class HiveClientPool extends ClientPoolImpl<IMetaStoreClient, TException>
               String.class) // Hive 3
           .buildStatic();
 
+  // a database pattern that is not expected to match, used to check connections cheaply
+  private static final String HEALTH_CHECK_PATTERN = "__iceberg_health_check__";
+
   private final HiveConf hiveConf;
 
   public HiveClientPool(int poolSize, Configuration conf) {
+    this(poolSize, conf, false);
+  }
+
+  public HiveClientPool(int poolSize, Configuration conf, boolean checkHealth) {
     // Do not allow retry by default as we rely on RetryingHiveClient
-    super(poolSize, TTransportException.class, false);
+    super(poolSize, TTransportException.class, false, 1, checkHealth);
     this.hiveConf = new HiveConf(conf, HiveClientPool.class);
     this.hiveConf.addResource(conf);
   }
@@ -105,6 +112,16 @@ public class HiveClientPool extends ClientPoolImpl<IMetaStoreClient, TException>
                 .contains("Got exception: org.apache.thrift.transport.TTransportException"));
   }
 
+  @Override
+  protected boolean isHealthy(IMetaStoreClient client) {
+    try {
+      client.getDatabases(HEALTH_CHECK_PATTERN);
+      return true;
+    } catch (TException | RuntimeException e) {
+      return false;
+    }
+  }
+
   @Override
   protected void close(IMetaStoreClient client) {
     client.close();
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.hive;
+
+import java.time.Duration;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.TimerResult;
+import org.immutables.value.Value;
+
+/**
+ * A report of the time that a commit waited for and held the lock on a Hive table.
+ *
+ * <p>The report is sent to the catalog's {@link org.apache.iceberg.metrics.MetricsReporter} when
+ * the lock is released. Along with the durations of the commit, it carries the timers of all
+ * commits to the table in this JVM.
+ */
+@Value.Immutable
+public interface HiveLockReport extends MetricsReport {
+
+  /** The full name of the table. */
+  String tableName();
+
+  /** Time that the commit waited for other commits to the table in the same JVM. */
+  Duration queueWaitDuration();
+
+  /** Time that the commit waited to acquire the HMS lock. */
+  Duration lockWaitDuration();
+
+  /** Time that the commit held the HMS lock. */
+  Duration holdDuration();
+
+  /** Time that commits to the table in this JVM waited for other commits in the same JVM. */
+  TimerResult queueWaitTime();
+
+  /** Time that commits to the table in this JVM waited to acquire the HMS lock. */
+  TimerResult lockWaitTime();
+
+  /** Time that commits to the table in this JVM held the HMS lock. */
+  TimerResult holdTime();
+}
@@ -41,6 +41,7 @@ import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.hadoop.ConfigProperties;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.metrics.MetricsReporter;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
@@ -67,6 +68,7 @@ public class HiveTableOperations extends BaseMetastoreTableOperations
   private final int metadataRefreshMaxRetries;
   private final FileIO fileIO;
   private final ClientPool<IMetaStoreClient, TException> metaClients;
+  private final MetricsReporter reporter;
 
   protected HiveTableOperations(
       Configuration conf,
@@ -75,7 +77,19 @@ public class HiveTableOperations extends BaseMetastoreTableOperations
       String catalogName,
       String database,
       String table) {
+    this(conf, metaClients, fileIO, catalogName, database, table, report -> {});
+  }
+
+  protected HiveTableOperations(
+      Configuration conf,
+      ClientPool<IMetaStoreClient, TException> metaClients,
+      FileIO fileIO,
+      String catalogName,
+      String database,
+      String table,
+      MetricsReporter reporter) {
     this.conf = conf;
+    this.reporter = reporter;
     this.metaClients = metaClients;
     this.fileIO = fileIO;
     this.fullName = catalogName + "." + database + "." + table;
@@ -131,6 +145,11 @@ public class HiveTableOperations extends BaseMetastoreTableOperations
     refreshFromMetadataLocation(metadataLocation, metadataRefreshMaxRetries);
   }
 
+  @Override
+  protected void refreshFromCatalogMetadataLocation(String newLocation) {
+    refreshFromMetadataLocation(newLocation, metadataRefreshMaxRetries);
+  }
+
   @SuppressWarnings({"checkstyle:CyclomaticComplexity", "MethodLength"})
   @Override
   protected void doCommit(TableMetadata base, TableMetadata metadata) {
@@ -378,7 +397,7 @@ public class HiveTableOperations extends BaseMetastoreTableOperations
   @VisibleForTesting
   HiveLock lockObject(TableMetadata metadata) {
     if (hiveLockEnabled(metadata, conf)) {
-      return new MetastoreLock(conf, metaClients, catalogName, database, tableName);
+      return new MetastoreLock(conf, metaClients, catalogName, database, tableName, reporter);
     } else {
       return new NoLock();
     }
@@ -22,6 +22,7 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Executors;
@@ -43,6 +44,11 @@ import org.apache.hadoop.hive.metastore.api.ShowLocksResponse;
 import org.apache.hadoop.hive.metastore.api.ShowLocksResponseElement;
 import org.apache.iceberg.ClientPool;
 import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.metrics.DefaultTimer;
+import org.apache.iceberg.metrics.MetricsReporter;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.metrics.TimerResult;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -67,6 +73,7 @@ class MetastoreLock implements HiveLock {
       "iceberg.hive.lock-heartbeat-interval-ms";
   private static final String HIVE_TABLE_LEVEL_LOCK_EVICT_MS =
       "iceberg.hive.table-level-lock-evict-ms";
+  private static final String HIVE_LOCK_CHECK_ADAPTIVE = "iceberg.hive.lock-check-adaptive";
 
   private static final long HIVE_ACQUIRE_LOCK_TIMEOUT_MS_DEFAULT = 3 * 60 * 1000; // 3 minutes
   private static final long HIVE_LOCK_CHECK_MIN_WAIT_MS_DEFAULT = 50; // 50 milliseconds
@@ -76,7 +83,8 @@ class MetastoreLock implements HiveLock {
   private static final long HIVE_LOCK_CREATION_MAX_WAIT_MS_DEFAULT = 5 * 1000; // 5 seconds
   private static final long HIVE_LOCK_HEARTBEAT_INTERVAL_MS_DEFAULT = 4 * 60 * 1000; // 4 minutes
   private static final long HIVE_TABLE_LEVEL_LOCK_EVICT_MS_DEFAULT = TimeUnit.MINUTES.toMillis(10);
-  private static volatile Cache<String, ReentrantLock> commitLockCache;
+  private static final boolean HIVE_LOCK_CHECK_ADAPTIVE_DEFAULT = false;
+  private static volatile Cache<String, TableLock> commitLockCache;
 
   private final ClientPool<IMetaStoreClient, TException> metaClients;
   private final String databaseName;
@@ -89,11 +97,16 @@ class MetastoreLock implements HiveLock {
   private final long lockCreationMinWaitTime;
   private final long lockCreationMaxWaitTime;
   private final long lockHeartbeatIntervalTime;
+  private final boolean adaptiveLockCheck;
   private final ScheduledExecutorService exitingScheduledExecutorService;
   private final String agentInfo;
+  private final MetricsReporter reporter;
 
   private Optional<Long> hmsLockId = Optional.empty();
-  private ReentrantLock jvmLock = null;
+  private TableLock jvmLock = null;
+  private long queueWaitNanos = 0L;
+  private long lockWaitNanos = 0L;
+  private long hmsLockAcquiredNanos = 0L;
   private Heartbeat heartbeat = null;
 
   MetastoreLock(
@@ -102,7 +115,18 @@ class MetastoreLock implements HiveLock {
       String catalogName,
       String databaseName,
       String tableName) {
+    this(conf, metaClients, catalogName, databaseName, tableName, report -> {});
+  }
+
+  MetastoreLock(
+      Configuration conf,
+      ClientPool<IMetaStoreClient, TException> metaClients,
+      String catalogName,
+      String databaseName,
+      String tableName,
+      MetricsReporter reporter) {
     this.metaClients = metaClients;
+    this.reporter = reporter;
     this.fullName = catalogName + "." + databaseName + "." + tableName;
     this.databaseName = databaseName;
     this.tableName = tableName;
@@ -121,6 +145,8 @@ class MetastoreLock implements HiveLock {
         conf.getLong(HIVE_LOCK_CREATION_MAX_WAIT_MS, HIVE_LOCK_CREATION_MAX_WAIT_MS_DEFAULT);
     this.lockHeartbeatIntervalTime =
         conf.getLong(HIVE_LOCK_HEARTBEAT_INTERVAL_MS, HIVE_LOCK_HEARTBEAT_INTERVAL_MS_DEFAULT);
+    this.adaptiveLockCheck =
+        conf.getBoolean(HIVE_LOCK_CHECK_ADAPTIVE, HIVE_LOCK_CHECK_ADAPTIVE_DEFAULT);
     long tableLevelLockCacheEvictionTimeout =
         conf.getLong(HIVE_TABLE_LEVEL_LOCK_EVICT_MS, HIVE_TABLE_LEVEL_LOCK_EVICT_MS_DEFAULT);
 
@@ -140,10 +166,17 @@ class MetastoreLock implements HiveLock {
   public void lock() throws LockException {
     // getting a process-level lock per table to avoid concurrent commit attempts to the same table
     // from the same JVM process, which would result in unnecessary HMS lock acquisition requests
+    long queueStart = System.nanoTime();
     acquireJvmLock();
+    this.queueWaitNanos = System.nanoTime() - queueStart;
+    jvmLock.queueWaitTime.record(queueWaitNanos, TimeUnit.NANOSECONDS);
 
     // Getting HMS lock
+    long lockStart = System.nanoTime();
     hmsLockId = Optional.of(acquireLock());
+    this.hmsLockAcquiredNanos = System.nanoTime();
+    this.lockWaitNanos = hmsLockAcquiredNanos - lockStart;
+    jvmLock.lockWaitTime.record(lockWaitNanos, TimeUnit.NANOSECONDS);
 
     // Starting heartbeat for the HMS lock
     heartbeat = new Heartbeat(metaClients, hmsLockId.get(), lockHeartbeatIntervalTime);
@@ -174,11 +207,50 @@ class MetastoreLock implements HiveLock {
       exitingScheduledExecutorService.shutdown();
     }
 
+    HiveLockReport report = null;
     try {
       unlock(hmsLockId);
     } finally {
+      report = recordHoldTime();
       releaseJvmLock();
     }
+
+    report(report);
+  }
+
+  /**
+   * Records the time that the HMS lock was held, while holding the process-level lock.
+   *
+   * @return a report of this lock's times, or null if the HMS lock was not acquired
+   */
+  private HiveLockReport recordHoldTime() {
+    if (jvmLock == null || hmsLockAcquiredNanos == 0L) {
+      return null;
+    }
+
+    long holdNanos = System.nanoTime() - hmsLockAcquiredNanos;
+    this.hmsLockAcquiredNanos = 0L;
+    jvmLock.holdTime.record(holdNanos, TimeUnit.NANOSECONDS);
+
+    return ImmutableHiveLockReport.builder()
+        .tableName(fullName)
+        .queueWaitDuration(Duration.ofNanos(queueWaitNanos))
+        .lockWaitDuration(Duration.ofNanos(lockWaitNanos))
+        .holdDuration(Duration.ofNanos(holdNanos))
+        .queueWaitTime(TimerResult.fromTimer(jvmLock.queueWaitTime))
+        .lockWaitTime(TimerResult.fromTimer(jvmLock.lockWaitTime))
+        .holdTime(TimerResult.fromTimer(jvmLock.holdTime))
+        .build();
+  }
+
+  private void report(HiveLockReport report) {
+    if (report != null) {
+      try {
+        reporter.report(report);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to report lock metrics for {}", fullName, e);
+      }
+    }
   }
 
   private long acquireLock() throws LockException {
@@ -191,6 +263,27 @@ class MetastoreLock implements HiveLock {
 
     try {
       if (lockInfo.lockState.equals(LockState.WAITING)) {
+        long checkMaxWaitTime = lockCheckMaxWaitTime;
+        long checkTimeout = lockAcquireTimeout;
+        long averageWaitTime = adaptiveLockCheck ? jvmLock.averageRemoteWaitMs() : -1L;
+        if (averageWaitTime > 0) {
+          // The lock is held by another process. Waiting locks on this table were acquired after
+          // about the average remote wait, so skip the checks before half of it, and cap the
+          // backoff at the average wait instead of the max wait time. Checks still back off from
+          // the min wait time, so they are never more frequent than the backoff without the cap.
+          checkMaxWaitTime =
+              Math.max(lockCheckMinWaitTime, Math.min(averageWaitTime, lockCheckMaxWaitTime));
+          long initialWaitTime = Math.min(averageWaitTime / 2, checkMaxWaitTime);
+          checkTimeout = Math.max(0L, lockAcquireTimeout - initialWaitTime);
+          try {
+            TimeUnit.MILLISECONDS.sleep(initialWaitTime);
+          } catch (InterruptedException e) {
+            Thread.interrupted(); // Clear the interrupt status flag
+            LOG.warn(
+                "Interrupted while waiting for lock on table {}.{}", databaseName, tableName, e);
+          }
+        }
+
         // Retry count is the typical "upper bound of retries" for Tasks.run() function. In fact,
         // the maximum number of
         // attempts the Tasks.run() would try is `retries + 1`. Here, for checking locks, we use
@@ -203,7 +296,7 @@ class MetastoreLock implements HiveLock {
         // boundary issues.
         Tasks.foreach(lockInfo.lockId)
             .retry(Integer.MAX_VALUE - 100)
-            .exponentialBackoff(lockCheckMinWaitTime, lockCheckMaxWaitTime, lockAcquireTimeout, 1.5)
+            .exponentialBackoff(lockCheckMinWaitTime, checkMaxWaitTime, checkTimeout, 1.5)
             .throwFailureWhenFinished()
             .onlyRetryOn(WaitingForLockException.class)
             .run(
@@ -227,6 +320,10 @@ class MetastoreLock implements HiveLock {
                   }
                 },
                 TException.class);
+
+        if (lockInfo.lockState.equals(LockState.ACQUIRED)) {
+          jvmLock.recordRemoteWait(System.currentTimeMillis() - start);
+        }
       }
     } catch (WaitingForLockException e) {
       timeout = true;
@@ -441,17 +538,22 @@ class MetastoreLock implements HiveLock {
           String.format("Cannot call acquireLock twice for %s", fullName));
     }
 
-    jvmLock = commitLockCache.get(fullName, t -> new ReentrantLock(true));
-    jvmLock.lock();
+    jvmLock = commitLockCache.get(fullName, t -> new TableLock());
+    jvmLock.lock.lock();
   }
 
   private void releaseJvmLock() {
     if (jvmLock != null) {
-      jvmLock.unlock();
+      jvmLock.lock.unlock();
       jvmLock = null;
     }
   }
 
+  @VisibleForTesting
+  static TableLock tableLock(String fullName) {
+    return commitLockCache != null ? commitLockCache.getIfPresent(fullName) : null;
+  }
+
   private static void initTableLevelLockCache(long evictionTimeout) {
     if (commitLockCache == null) {
       synchronized (MetastoreLock.class) {
@@ -465,6 +567,40 @@ class MetastoreLock implements HiveLock {
     }
   }
 
+  /**
+   * A process-level lock for a table, which queues committers in the same JVM in arrival order,
+   * lock timers for the table, and the average time that locks on the table waited for other
+   * processes in HMS.
+   */
+  static class TableLock {
+    // weight of the latest wait time in the average wait time
+    private static final double WAIT_TIME_WEIGHT = 0.2;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    // time that committers waited for other committers in this JVM
+    private final Timer queueWaitTime = new DefaultTimer(TimeUnit.MILLISECONDS);
+    // time that committers waited to acquire the HMS lock
+    private final Timer lockWaitTime = new DefaultTimer(TimeUnit.MILLISECONDS);
+    // time that committers held the HMS lock
+    private final Timer holdTime = new DefaultTimer(TimeUnit.MILLISECONDS);
+    private volatile double averageRemoteWaitMs = -1.0;
+
+    /**
+     * Exponentially weighted average of the time in milliseconds that HMS locks which were
+     * WAITING took to be acquired, or -1 if none were seen.
+     */
+    long averageRemoteWaitMs() {
+      return (long) averageRemoteWaitMs;
+    }
+
+    // called while holding the process-level lock, so there is a single writer
+    void recordRemoteWait(long waitMs) {
+      double current = averageRemoteWaitMs;
+      this.averageRemoteWaitMs =
+          current < 0 ? waitMs : current + WAIT_TIME_WEIGHT * (waitMs - current);
+    }
+  }
+
   private static class Heartbeat implements Runnable {
     private final ClientPool<IMetaStoreClient, TException> hmsClients;
     private final long lockId;
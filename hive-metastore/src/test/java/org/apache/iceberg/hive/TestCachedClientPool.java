@@ -134,6 +134,12 @@ public class TestCachedClientPool {
     key2 = CachedClientPool.extractKey("conf:key2,conf:key1", conf2);
     assertThat(key2).as("Config with same key/value should be equivalent").isEqualTo(key1);
 
+    key1 = CachedClientPool.extractKey("conf:key1", conf1, false);
+    key2 = CachedClientPool.extractKey("conf:key1", conf1, true);
+    assertThat(key2)
+        .as("Different health check settings are not supposed to be equivalent")
+        .isNotEqualTo(key1);
+
     assertThatThrownBy(
             () -> CachedClientPool.extractKey("ugi,ugi", hiveConf),
             "Duplicate key elements should result in an error")
@@ -147,6 +153,30 @@ public class TestCachedClientPool {
         .hasMessageContaining("Conf key element k1 already specified");
   }
 
+  @Test
+  public void testHealthCheckPools() {
+    CachedClientPool withoutHealthCheck =
+        new CachedClientPool(
+            HIVE_METASTORE_EXTENSION.hiveConf(),
+            ImmutableMap.of(CatalogProperties.CLIENT_POOL_HEALTH_CHECK_ENABLED, "false"));
+    CachedClientPool withHealthCheck =
+        new CachedClientPool(
+            HIVE_METASTORE_EXTENSION.hiveConf(),
+            ImmutableMap.of(CatalogProperties.CLIENT_POOL_HEALTH_CHECK_ENABLED, "true"));
+    CachedClientPool withDefaults =
+        new CachedClientPool(HIVE_METASTORE_EXTENSION.hiveConf(), ImmutableMap.of());
+
+    HiveClientPool pool1 = withoutHealthCheck.clientPool();
+    HiveClientPool pool2 = withHealthCheck.clientPool();
+    HiveClientPool pool3 = withDefaults.clientPool();
+
+    assertThat(pool2).isNotSameAs(pool1);
+    assertThat(pool3).isSameAs(pool1);
+
+    CachedClientPool.clientPoolCache()
+        .invalidate(CachedClientPool.extractKey(null, HIVE_METASTORE_EXTENSION.hiveConf(), true));
+  }
+
   @Test
   public void testHmsCatalog() {
     Map<String, String> properties =
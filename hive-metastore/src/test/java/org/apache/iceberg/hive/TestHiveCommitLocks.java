@@ -40,10 +40,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 import org.apache.hadoop.conf.Configuration;
@@ -68,6 +70,7 @@ import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.hadoop.ConfigProperties;
+import org.apache.iceberg.metrics.MetricsReport;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
@@ -268,6 +271,145 @@ public class TestHiveCommitLocks {
     assertThat(spyOps.current().schema().columns()).hasSize(1); // should be 1 again
   }
 
+  @Test
+  public void testRemoteWaitTimeIsRecorded() throws TException, InterruptedException {
+    doReturn(acquiredLockResponse).when(spyClient).lock(any());
+    doNothing().when(spyClient).unlock(eq(dummyLockId));
+    doNothing().when(spyClient).heartbeat(eq(0L), eq(dummyLockId));
+
+    // locks that are acquired immediately did not wait for another process
+    spyOps.doCommit(metadataV2, metadataV1);
+    MetastoreLock.TableLock tableLock =
+        MetastoreLock.tableLock(catalog.name() + "." + DB_NAME + "." + TABLE_NAME);
+    assertThat(tableLock).isNotNull();
+    long averageWaitMs = tableLock.averageRemoteWaitMs();
+
+    doReturn(waitLockResponse).when(spyClient).lock(any());
+    doReturn(waitLockResponse)
+        .doReturn(acquiredLockResponse)
+        .when(spyClient)
+        .checkLock(eq(dummyLockId));
+
+    spyOps.refresh();
+    spyOps.doCommit(spyOps.current(), metadataV2);
+
+    // the lock was checked twice, with at least the min wait time between the checks
+    assertThat(tableLock.averageRemoteWaitMs()).isGreaterThan(0L);
+    if (averageWaitMs < 0) {
+      assertThat(tableLock.averageRemoteWaitMs()).isGreaterThanOrEqualTo(50L);
+    }
+  }
+
+  @Test
+  public void testAdaptiveLockCheckAfterRetries() throws TException, InterruptedException {
+    seedRemoteWait(1_000L);
+    HiveTableOperations adaptiveOps = adaptiveOps(overriddenHiveConf);
+
+    doReturn(waitLockResponse).when(spyClient).lock(any());
+    doReturn(waitLockResponse)
+        .doReturn(waitLockResponse)
+        .doReturn(acquiredLockResponse)
+        .when(spyClient)
+        .checkLock(eq(dummyLockId));
+    doNothing().when(spyClient).unlock(eq(dummyLockId));
+    doNothing().when(spyClient).heartbeat(eq(0L), eq(dummyLockId));
+
+    long start = System.currentTimeMillis();
+    adaptiveOps.doCommit(metadataV2, metadataV1);
+    long elapsedMs = System.currentTimeMillis() - start;
+
+    // the lock is first checked after half of the average remote wait, while the three checks
+    // without the initial wait take about 125 ms
+    verify(spyClient, times(3)).checkLock(eq(dummyLockId));
+    assertThat(elapsedMs).isGreaterThanOrEqualTo(500L);
+    assertThat(adaptiveOps.current().schema().columns()).hasSize(1);
+  }
+
+  @Test
+  public void testAdaptiveLockCheckCapsBackoff() throws TException {
+    Configuration timeoutConf = new Configuration(overriddenHiveConf);
+    timeoutConf.setLong("iceberg.hive.lock-timeout-ms", 1_000L);
+    AtomicInteger checks = new AtomicInteger();
+    doReturn(waitLockResponse).when(spyClient).lock(any());
+    doAnswer(
+            invocation -> {
+              checks.incrementAndGet();
+              return waitLockResponse;
+            })
+        .when(spyClient)
+        .checkLock(eq(dummyLockId));
+
+    // without the cap, checks back off to 50, 75, 112, 168, 253, and 380 ms
+    HiveTableOperations defaultOps =
+        new HiveTableOperations(
+            timeoutConf, spyCachedClientPool, ops.io(), catalog.name(), DB_NAME, TABLE_NAME);
+    assertThatThrownBy(() -> defaultOps.doCommit(metadataV2, metadataV1))
+        .isInstanceOf(CommitFailedException.class)
+        .hasMessageContaining("Timed out after");
+    int defaultChecks = checks.getAndSet(0);
+
+    // with an average remote wait of 100 ms, checks start after 50 ms and back off to 100 ms
+    seedRemoteWait(100L);
+    HiveTableOperations adaptiveOps = adaptiveOps(timeoutConf);
+    assertThatThrownBy(() -> adaptiveOps.doCommit(metadataV2, metadataV1))
+        .isInstanceOf(CommitFailedException.class)
+        .hasMessageContaining("Timed out after");
+    int adaptiveChecks = checks.get();
+
+    assertThat(defaultChecks).isLessThanOrEqualTo(7);
+    assertThat(adaptiveChecks).isGreaterThanOrEqualTo(defaultChecks + 2);
+  }
+
+  @Test
+  public void testLockMetricsAreReported() throws TException, InterruptedException {
+    List<MetricsReport> reports = Lists.newArrayList();
+    HiveTableOperations reportingOps =
+        new HiveTableOperations(
+            overriddenHiveConf,
+            spyCachedClientPool,
+            ops.io(),
+            catalog.name(),
+            DB_NAME,
+            TABLE_NAME,
+            reports::add);
+
+    doReturn(waitLockResponse).when(spyClient).lock(any());
+    doReturn(acquiredLockResponse).when(spyClient).checkLock(eq(dummyLockId));
+    doNothing().when(spyClient).unlock(eq(dummyLockId));
+    doNothing().when(spyClient).heartbeat(eq(0L), eq(dummyLockId));
+
+    reportingOps.doCommit(metadataV2, metadataV1);
+
+    assertThat(reports).hasSize(1).first().isInstanceOf(HiveLockReport.class);
+    HiveLockReport report = (HiveLockReport) reports.get(0);
+    assertThat(report.tableName()).isEqualTo(catalog.name() + "." + DB_NAME + "." + TABLE_NAME);
+    assertThat(report.lockWaitDuration()).isPositive();
+    assertThat(report.holdDuration()).isPositive();
+    assertThat(report.queueWaitTime().count()).isGreaterThanOrEqualTo(1L);
+    assertThat(report.lockWaitTime().totalDuration())
+        .isGreaterThanOrEqualTo(report.lockWaitDuration());
+    assertThat(report.holdTime().totalDuration()).isGreaterThanOrEqualTo(report.holdDuration());
+  }
+
+  private HiveTableOperations adaptiveOps(Configuration conf) {
+    Configuration adaptiveConf = new Configuration(conf);
+    adaptiveConf.setBoolean("iceberg.hive.lock-check-adaptive", true);
+    return new HiveTableOperations(
+        adaptiveConf, spyCachedClientPool, ops.io(), catalog.name(), DB_NAME, TABLE_NAME);
+  }
+
+  /** Sets the average remote wait of the table's lock by recording the same wait repeatedly. */
+  private void seedRemoteWait(long waitMs) {
+    MetastoreLock.TableLock tableLock =
+        MetastoreLock.tableLock(catalog.name() + "." + DB_NAME + "." + TABLE_NAME);
+    assertThat(tableLock).isNotNull();
+    for (int i = 0; i < 100; i += 1) {
+      tableLock.recordRemoteWait(waitMs);
+    }
+
+    assertThat(tableLock.averageRemoteWaitMs()).isBetween(waitMs - 1, waitMs);
+  }
+
   @Test
   public void testLockAcquisitionAfterFailedNotFoundLock() throws TException, InterruptedException {
     doReturn(emptyLocks).when(spyClient).showLocks(any());
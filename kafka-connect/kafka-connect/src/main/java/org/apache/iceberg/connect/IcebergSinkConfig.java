@@ -79,6 +79,10 @@ public class IcebergSinkConfig extends AbstractConfig {
       "iceberg.tables.schema-force-optional";
   private static final String TABLES_SCHEMA_CASE_INSENSITIVE_PROP =
       "iceberg.tables.schema-case-insensitive";
+  private static final String TABLES_MAX_OPEN_WRITERS_PROP = "iceberg.tables.max-open-writers";
+  private static final String TABLES_WRITER_HEAP_FRACTION_PROP =
+      "iceberg.tables.writer-heap-fraction";
+  private static final String TABLES_BUFFER_MAX_RECORDS_PROP = "iceberg.tables.buffer-max-records";
   private static final String CONTROL_TOPIC_PROP = "iceberg.control.topic";
   private static final String CONTROL_GROUP_ID_PREFIX_PROP = "iceberg.control.group-id-prefix";
   private static final String COMMIT_INTERVAL_MS_PROP = "iceberg.control.commit.interval-ms";
@@ -86,6 +90,8 @@ public class IcebergSinkConfig extends AbstractConfig {
   private static final String COMMIT_TIMEOUT_MS_PROP = "iceberg.control.commit.timeout-ms";
   private static final int COMMIT_TIMEOUT_MS_DEFAULT = 30_000;
   private static final String COMMIT_THREADS_PROP = "iceberg.control.commit.threads";
+  private static final String COMMIT_MULTI_TABLE_ENABLED_PROP =
+      "iceberg.control.commit.multi-table-enabled";
   private static final String CONNECT_GROUP_ID_PROP = "iceberg.connect.group-id";
   private static final String TRANSACTIONAL_PREFIX_PROP =
       "iceberg.coordinator.transactional.prefix";
@@ -175,6 +181,27 @@ public class IcebergSinkConfig extends AbstractConfig {
         false,
         Importance.MEDIUM,
         "Set to true to add any missing record fields to the table schema, false otherwise");
+    configDef.define(
+        TABLES_MAX_OPEN_WRITERS_PROP,
+        ConfigDef.Type.INT,
+        0,
+        Importance.LOW,
+        "Maximum number of table writers kept open, least recently used writers are rolled "
+            + "when exceeded, 0 for unbounded");
+    configDef.define(
+        TABLES_WRITER_HEAP_FRACTION_PROP,
+        ConfigDef.Type.DOUBLE,
+        0.0d,
+        Importance.LOW,
+        "Fraction of the maximum heap above which least recently used table writers are rolled, "
+            + "0 to disable");
+    configDef.define(
+        TABLES_BUFFER_MAX_RECORDS_PROP,
+        ConfigDef.Type.INT,
+        0,
+        Importance.LOW,
+        "Maximum number of records buffered for tables without an open writer when the writer "
+            + "limit is reached, 0 to disable buffering");
     configDef.define(
         CATALOG_NAME_PROP,
         ConfigDef.Type.STRING,
@@ -217,6 +244,12 @@ public class IcebergSinkConfig extends AbstractConfig {
         Runtime.getRuntime().availableProcessors() * 2,
         Importance.MEDIUM,
         "Coordinator threads to use for table commits, default is (cores * 2)");
+    configDef.define(
+        COMMIT_MULTI_TABLE_ENABLED_PROP,
+        ConfigDef.Type.BOOLEAN,
+        false,
+        Importance.MEDIUM,
+        "Commit all tables of a commit cycle in a single catalog transaction, if supported");
     configDef.define(
         TRANSACTIONAL_PREFIX_PROP,
         ConfigDef.Type.STRING,
@@ -419,6 +452,10 @@ public class IcebergSinkConfig extends AbstractConfig {
     return getInt(COMMIT_THREADS_PROP);
   }
 
+  public boolean commitMultiTableEnabled() {
+    return getBoolean(COMMIT_MULTI_TABLE_ENABLED_PROP);
+  }
+
   public String transactionalPrefix() {
     String result = getString(TRANSACTIONAL_PREFIX_PROP);
     if (result != null) {
@@ -448,6 +485,18 @@ public class IcebergSinkConfig extends AbstractConfig {
     return getBoolean(TABLES_SCHEMA_CASE_INSENSITIVE_PROP);
   }
 
+  public int tablesMaxOpenWriters() {
+    return getInt(TABLES_MAX_OPEN_WRITERS_PROP);
+  }
+
+  public double tablesWriterHeapFraction() {
+    return getDouble(TABLES_WRITER_HEAP_FRACTION_PROP);
+  }
+
+  public int tablesBufferMaxRecords() {
+    return getInt(TABLES_BUFFER_MAX_RECORDS_PROP);
+  }
+
   public JsonConverter jsonConverter() {
     return jsonConverter;
   }
@@ -18,6 +18,15 @@
  */
 package org.apache.iceberg.connect.channel;
 
+import static org.apache.iceberg.TableProperties.COMMIT_MAX_RETRY_WAIT_MS;
+import static org.apache.iceberg.TableProperties.COMMIT_MAX_RETRY_WAIT_MS_DEFAULT;
+import static org.apache.iceberg.TableProperties.COMMIT_MIN_RETRY_WAIT_MS;
+import static org.apache.iceberg.TableProperties.COMMIT_MIN_RETRY_WAIT_MS_DEFAULT;
+import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES;
+import static org.apache.iceberg.TableProperties.COMMIT_NUM_RETRIES_DEFAULT;
+import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS;
+import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
+
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
@@ -27,14 +36,18 @@ import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.BaseTransaction;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
@@ -42,6 +55,8 @@ import org.apache.iceberg.RowDelta;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.SupportsMultiTableCommits;
+import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.connect.IcebergSinkConfig;
 import org.apache.iceberg.connect.events.CommitComplete;
@@ -50,7 +65,10 @@ import org.apache.iceberg.connect.events.DataWritten;
 import org.apache.iceberg.connect.events.Event;
 import org.apache.iceberg.connect.events.StartCommit;
 import org.apache.iceberg.connect.events.TableReference;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -75,6 +93,8 @@ class Coordinator extends Channel {
   private final String snapshotOffsetsProp;
   private final ExecutorService exec;
   private final CommitState commitState;
+  private final CoordinatorMetrics metrics;
+  private volatile boolean multiTableCommitSupported = true;
   private volatile boolean terminated;
 
   Coordinator(
@@ -105,6 +125,7 @@ class Coordinator extends Channel {
                 .setNameFormat("iceberg-committer" + "-%d")
                 .build());
     this.commitState = new CommitState(config);
+    this.metrics = new CoordinatorMetrics(config.connectGroupId());
   }
 
   void process() {
@@ -151,18 +172,23 @@ class Coordinator extends Channel {
   }
 
   private void doCommit(boolean partialCommit) {
+    long startNanos = System.nanoTime();
     Map<TableReference, List<Envelope>> commitMap = commitState.tableCommitMap();
 
     String offsetsJson = offsetsJson();
     OffsetDateTime validThroughTs = commitState.validThroughTs(partialCommit);
 
-    Tasks.foreach(commitMap.entrySet())
-        .executeWith(exec)
-        .stopOnFailure()
-        .run(
-            entry -> {
-              commitToTable(entry.getKey(), entry.getValue(), offsetsJson, validThroughTs);
-            });
+    if (config.commitMultiTableEnabled()) {
+      commitToTables(commitMap, offsetsJson, validThroughTs);
+    } else {
+      Tasks.foreach(commitMap.entrySet())
+          .executeWith(exec)
+          .stopOnFailure()
+          .run(
+              entry -> {
+                commitToTable(entry.getKey(), entry.getValue(), offsetsJson, validThroughTs);
+              });
+    }
 
     // we should only get here if all tables committed successfully...
     commitConsumerOffsets();
@@ -174,6 +200,8 @@ class Coordinator extends Channel {
             new CommitComplete(commitState.currentCommitId(), validThroughTs));
     send(event);
 
+    metrics.recordCommit(elapsedMs(startNanos));
+
     LOG.info(
         "Commit {} complete, committed to {} table(s), valid-through {}",
         commitState.currentCommitId(),
@@ -194,17 +222,185 @@ class Coordinator extends Channel {
       List<Envelope> envelopeList,
       String offsetsJson,
       OffsetDateTime validThroughTs) {
+    long startNanos = System.nanoTime();
     TableIdentifier tableIdentifier = tableReference.identifier();
-    Table table;
-    try {
-      table = catalog.loadTable(tableIdentifier);
-    } catch (NoSuchTableException e) {
-      LOG.warn("Table not found, skipping commit: {}", tableIdentifier, e);
+    Table table = loadTable(tableIdentifier);
+    if (table == null) {
       return;
     }
 
     String branch = config.tableConfig(tableIdentifier.toString()).commitBranch();
 
+    if (stageCommit(table, tableIdentifier, branch, envelopeList, offsetsJson, validThroughTs)) {
+      Snapshot snapshot = latestSnapshot(table, branch);
+      tableCommitted(tableReference, snapshot, validThroughTs, startNanos);
+    }
+  }
+
+  /**
+   * Commits to all tables of the commit cycle in a single catalog request, when the catalog
+   * supports multi-table commits. Each table's changes are staged in a transaction in parallel
+   * first, so that the manifests are written before the single catalog round trip. If the catalog
+   * does not support multi-table commits or the tables keep conflicting with concurrent commits,
+   * the staged transactions are committed individually and in parallel instead.
+   */
+  private void commitToTables(
+      Map<TableReference, List<Envelope>> commitMap,
+      String offsetsJson,
+      OffsetDateTime validThroughTs) {
+    Queue<StagedTableCommit> stagedCommits = new ConcurrentLinkedQueue<>();
+
+    try {
+      Tasks.foreach(commitMap.entrySet())
+          .executeWith(exec)
+          .stopOnFailure()
+          .run(
+              entry -> {
+                long startNanos = System.nanoTime();
+                TableIdentifier tableIdentifier = entry.getKey().identifier();
+                Table table = loadTable(tableIdentifier);
+                if (table == null) {
+                  return;
+                }
+
+                String branch = config.tableConfig(tableIdentifier.toString()).commitBranch();
+                BaseTransaction transaction = (BaseTransaction) table.newTransaction();
+                if (stageCommit(
+                    transaction.table(),
+                    tableIdentifier,
+                    branch,
+                    entry.getValue(),
+                    offsetsJson,
+                    validThroughTs)) {
+                  stagedCommits.add(
+                      new StagedTableCommit(entry.getKey(), branch, transaction, startNanos));
+                }
+              });
+    } catch (RuntimeException e) {
+      // the other tables will not be committed, so their staged manifests are not needed
+      cleanUpStaged(stagedCommits);
+      throw e;
+    }
+
+    if (stagedCommits.isEmpty()) {
+      return;
+    }
+
+    if (terminated) {
+      cleanUpStaged(stagedCommits);
+      throw new ConnectException("Coordinator is terminated, commit aborted");
+    }
+
+    if (multiTableCommitSupported && catalog instanceof SupportsMultiTableCommits) {
+      try {
+        commitTogether((SupportsMultiTableCommits) catalog, stagedCommits);
+      } catch (UnsupportedOperationException e) {
+        LOG.warn(
+            "Catalog does not support multi-table commits, committing tables individually", e);
+        this.multiTableCommitSupported = false;
+        commitIndividually(stagedCommits);
+      } catch (CommitStateUnknownException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        // no table was changed, each transaction retries on its own and cleans up if it fails
+        LOG.warn("Failed to commit tables together, committing tables individually", e);
+        commitIndividually(stagedCommits);
+      }
+    } else {
+      commitIndividually(stagedCommits);
+    }
+
+    stagedCommits.forEach(
+        staged ->
+            tableCommitted(
+                staged.tableReference(),
+                latestSnapshot(staged.transaction().table(), staged.branch()),
+                validThroughTs,
+                staged.startNanos()));
+  }
+
+  /**
+   * Commits the staged transactions in a single catalog request. If a table was changed
+   * concurrently, the staged changes are applied to the refreshed table metadata and the commit is
+   * retried, using the smallest retry settings of the tables. Refreshing the staged changes deletes
+   * the manifests of the superseded attempt that are no longer used.
+   */
+  private void commitTogether(
+      SupportsMultiTableCommits multiTableCatalog, Collection<StagedTableCommit> stagedCommits) {
+    AtomicInteger attempts = new AtomicInteger(0);
+    Tasks.foreach(multiTableCatalog)
+        .retry(minProperty(stagedCommits, COMMIT_NUM_RETRIES, COMMIT_NUM_RETRIES_DEFAULT))
+        .exponentialBackoff(
+            minProperty(stagedCommits, COMMIT_MIN_RETRY_WAIT_MS, COMMIT_MIN_RETRY_WAIT_MS_DEFAULT),
+            minProperty(stagedCommits, COMMIT_MAX_RETRY_WAIT_MS, COMMIT_MAX_RETRY_WAIT_MS_DEFAULT),
+            minProperty(
+                stagedCommits, COMMIT_TOTAL_RETRY_TIME_MS, COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT),
+            2.0 /* exponential */)
+        .onlyRetryOn(CommitFailedException.class)
+        .run(
+            target -> {
+              if (attempts.getAndIncrement() > 0) {
+                stagedCommits.forEach(staged -> staged.transaction().refreshUpdates());
+              }
+
+              target.commitTransaction(
+                  stagedCommits.stream()
+                      .map(StagedTableCommit::tableCommit)
+                      .collect(Collectors.toList()));
+            });
+  }
+
+  private static int minProperty(
+      Collection<StagedTableCommit> stagedCommits, String property, int defaultValue) {
+    return stagedCommits.stream()
+        .mapToInt(
+            staged -> staged.transaction().startMetadata().propertyAsInt(property, defaultValue))
+        .min()
+        .orElse(defaultValue);
+  }
+
+  private void commitIndividually(Collection<StagedTableCommit> stagedCommits) {
+    // commit every table even if one fails, so that each failed commit cleans up its manifests
+    Tasks.foreach(stagedCommits)
+        .executeWith(exec)
+        .throwFailureWhenFinished()
+        .run(staged -> staged.transaction().commitTransaction());
+  }
+
+  private void cleanUpStaged(Collection<StagedTableCommit> stagedCommits) {
+    Tasks.foreach(stagedCommits)
+        .executeWith(exec)
+        .suppressFailureWhenFinished()
+        .onFailure(
+            (staged, exc) ->
+                LOG.warn(
+                    "Failed to clean up staged commit to table {}",
+                    staged.tableReference().identifier(),
+                    exc))
+        .run(staged -> staged.transaction().cleanUpUncommitted());
+  }
+
+  private Table loadTable(TableIdentifier tableIdentifier) {
+    try {
+      return catalog.loadTable(tableIdentifier);
+    } catch (NoSuchTableException e) {
+      LOG.warn("Table not found, skipping commit: {}", tableIdentifier, e);
+      return null;
+    }
+  }
+
+  /**
+   * Applies the files of the given envelopes to the table, which may be a transaction table.
+   *
+   * @return true if a snapshot was produced, false if there was nothing to commit
+   */
+  private boolean stageCommit(
+      Table table,
+      TableIdentifier tableIdentifier,
+      String branch,
+      List<Envelope> envelopeList,
+      String offsetsJson,
+      OffsetDateTime validThroughTs) {
     Map<Integer, Long> committedOffsets = lastCommittedOffsetsForTable(table, branch);
 
     List<DataWritten> payloads =
@@ -239,49 +435,72 @@ class Coordinator extends Channel {
 
     if (dataFiles.isEmpty() && deleteFiles.isEmpty()) {
       LOG.info("Nothing to commit to table {}, skipping", tableIdentifier);
+      return false;
+    }
+
+    if (deleteFiles.isEmpty()) {
+      AppendFiles appendOp = table.newAppend();
+      if (branch != null) {
+        appendOp.toBranch(branch);
+      }
+      appendOp.set(snapshotOffsetsProp, offsetsJson);
+      appendOp.set(COMMIT_ID_SNAPSHOT_PROP, commitState.currentCommitId().toString());
+      if (validThroughTs != null) {
+        appendOp.set(VALID_THROUGH_TS_SNAPSHOT_PROP, validThroughTs.toString());
+      }
+      dataFiles.forEach(appendOp::appendFile);
+      appendOp.commit();
     } else {
-      if (deleteFiles.isEmpty()) {
-        AppendFiles appendOp = table.newAppend();
-        if (branch != null) {
-          appendOp.toBranch(branch);
-        }
-        appendOp.set(snapshotOffsetsProp, offsetsJson);
-        appendOp.set(COMMIT_ID_SNAPSHOT_PROP, commitState.currentCommitId().toString());
-        if (validThroughTs != null) {
-          appendOp.set(VALID_THROUGH_TS_SNAPSHOT_PROP, validThroughTs.toString());
-        }
-        dataFiles.forEach(appendOp::appendFile);
-        appendOp.commit();
-      } else {
-        RowDelta deltaOp = table.newRowDelta();
-        if (branch != null) {
-          deltaOp.toBranch(branch);
-        }
-        deltaOp.set(snapshotOffsetsProp, offsetsJson);
-        deltaOp.set(COMMIT_ID_SNAPSHOT_PROP, commitState.currentCommitId().toString());
-        if (validThroughTs != null) {
-          deltaOp.set(VALID_THROUGH_TS_SNAPSHOT_PROP, validThroughTs.toString());
-        }
-        dataFiles.forEach(deltaOp::addRows);
-        deleteFiles.forEach(deltaOp::addDeletes);
-        deltaOp.commit();
+      RowDelta deltaOp = table.newRowDelta();
+      if (branch != null) {
+        deltaOp.toBranch(branch);
+      }
+      deltaOp.set(snapshotOffsetsProp, offsetsJson);
+      deltaOp.set(COMMIT_ID_SNAPSHOT_PROP, commitState.currentCommitId().toString());
+      if (validThroughTs != null) {
+        deltaOp.set(VALID_THROUGH_TS_SNAPSHOT_PROP, validThroughTs.toString());
       }
+      dataFiles.forEach(deltaOp::addRows);
+      deleteFiles.forEach(deltaOp::addDeletes);
+      deltaOp.commit();
+    }
 
-      Long snapshotId = latestSnapshot(table, branch).snapshotId();
-      Event event =
-          new Event(
-              config.connectGroupId(),
-              new CommitToTable(
-                  commitState.currentCommitId(), tableReference, snapshotId, validThroughTs));
-      send(event);
+    return true;
+  }
 
-      LOG.info(
-          "Commit complete to table {}, snapshot {}, commit ID {}, valid-through {}",
-          tableIdentifier,
-          snapshotId,
-          commitState.currentCommitId(),
-          validThroughTs);
-    }
+  private void tableCommitted(
+      TableReference tableReference,
+      Snapshot snapshot,
+      OffsetDateTime validThroughTs,
+      long startNanos) {
+    TableIdentifier tableIdentifier = tableReference.identifier();
+    long durationMs = elapsedMs(startNanos);
+    metrics.recordTableCommit(tableIdentifier, durationMs);
+
+    Long snapshotId = snapshot.snapshotId();
+    Event event =
+        new Event(
+            config.connectGroupId(),
+            new CommitToTable(
+                commitState.currentCommitId(), tableReference, snapshotId, validThroughTs));
+    send(event);
+
+    LOG.info(
+        "Commit complete to table {}, snapshot {}, commit ID {}, valid-through {}, took {} ms",
+        tableIdentifier,
+        snapshotId,
+        commitState.currentCommitId(),
+        validThroughTs,
+        durationMs);
+  }
+
+  private static long elapsedMs(long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  @VisibleForTesting
+  CoordinatorMetrics metrics() {
+    return metrics;
   }
 
   private <T> Predicate<T> distinctByKey(Function<? super T, ?> keyExtractor) {
@@ -319,6 +538,7 @@ class Coordinator extends Channel {
     this.terminated = true;
 
     exec.shutdownNow();
+    metrics.close();
 
     // wait for coordinator termination, else cause the sink task to fail
     try {
@@ -329,4 +549,43 @@ class Coordinator extends Channel {
       throw new ConnectException("Interrupted while waiting for coordinator shutdown", e);
     }
   }
+
+  private static class StagedTableCommit {
+    private final TableReference tableReference;
+    private final String branch;
+    private final BaseTransaction transaction;
+    private final long startNanos;
+
+    StagedTableCommit(
+        TableReference tableReference,
+        String branch,
+        BaseTransaction transaction,
+        long startNanos) {
+      this.tableReference = tableReference;
+      this.branch = branch;
+      this.transaction = transaction;
+      this.startNanos = startNanos;
+    }
+
+    TableReference tableReference() {
+      return tableReference;
+    }
+
+    String branch() {
+      return branch;
+    }
+
+    BaseTransaction transaction() {
+      return transaction;
+    }
+
+    long startNanos() {
+      return startNanos;
+    }
+
+    TableCommit tableCommit() {
+      return TableCommit.create(
+          tableReference.identifier(), transaction.startMetadata(), transaction.currentMetadata());
+    }
+  }
 }
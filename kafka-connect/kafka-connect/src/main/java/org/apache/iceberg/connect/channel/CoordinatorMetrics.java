@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.connect.channel;
+
+import java.util.Map;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.JmxReporter;
+import org.apache.kafka.common.metrics.KafkaMetricsContext;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.CumulativeCount;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.utils.Time;
+
+/**
+ * Commit metrics of the coordinator, reported through JMX under the {@code iceberg.connect}
+ * namespace.
+ *
+ * <p>Per-table sensors expire after being inactive for an hour so that connectors routing to a
+ * changing set of tables do not accumulate sensors indefinitely.
+ */
+class CoordinatorMetrics implements AutoCloseable {
+
+  private static final String JMX_PREFIX = "iceberg.connect";
+  private static final String GROUP = "coordinator-commit-metrics";
+  private static final long TABLE_SENSOR_EXPIRATION_SECONDS = 3600L;
+
+  private final Metrics metrics;
+  private final Map<String, String> tags;
+  private final Sensor commitSensor;
+
+  CoordinatorMetrics(String connectGroupId) {
+    this.tags = ImmutableMap.of("connect-group-id", connectGroupId);
+    this.metrics =
+        new Metrics(
+            new MetricConfig(),
+            ImmutableList.of(new JmxReporter()),
+            Time.SYSTEM,
+            true /* expire inactive sensors */,
+            new KafkaMetricsContext(JMX_PREFIX));
+
+    this.commitSensor = metrics.sensor("commit-latency");
+    addLatencyMetrics(commitSensor, "commit", tags);
+  }
+
+  /** Records the duration of a full commit cycle, across all tables. */
+  void recordCommit(long durationMs) {
+    commitSensor.record(durationMs);
+  }
+
+  /** Records the duration of a commit to a single table. */
+  void recordTableCommit(TableIdentifier identifier, long durationMs) {
+    tableSensor(identifier).record(durationMs);
+  }
+
+  @VisibleForTesting
+  double tableCommitCount(TableIdentifier identifier) {
+    MetricName name = tableMetricName(identifier, "table-commit-count");
+    return (double) metrics.metric(name).metricValue();
+  }
+
+  @VisibleForTesting
+  double commitCount() {
+    return (double) metrics.metric(metricName("commit-count", tags)).metricValue();
+  }
+
+  private Sensor tableSensor(TableIdentifier identifier) {
+    String name = "table-commit-latency." + identifier;
+    synchronized (metrics) {
+      Sensor sensor = metrics.getSensor(name);
+      if (sensor == null) {
+        sensor = metrics.sensor(name, null, TABLE_SENSOR_EXPIRATION_SECONDS);
+        addLatencyMetrics(sensor, "table-commit", tableTags(identifier));
+      }
+
+      return sensor;
+    }
+  }
+
+  private void addLatencyMetrics(Sensor sensor, String prefix, Map<String, String> metricTags) {
+    sensor.add(metricName(prefix + "-latency-avg", metricTags), new Avg());
+    sensor.add(metricName(prefix + "-latency-max", metricTags), new Max());
+    sensor.add(metricName(prefix + "-count", metricTags), new CumulativeCount());
+  }
+
+  private MetricName tableMetricName(TableIdentifier identifier, String name) {
+    return metricName(name, tableTags(identifier));
+  }
+
+  private Map<String, String> tableTags(TableIdentifier identifier) {
+    return ImmutableMap.<String, String>builder()
+        .putAll(tags)
+        .put("table", identifier.toString())
+        .build();
+  }
+
+  private MetricName metricName(String name, Map<String, String> metricTags) {
+    return metrics.metricName(name, GROUP, metricTags);
+  }
+
+  @Override
+  public void close() {
+    metrics.close();
+  }
+}
@@ -22,29 +22,67 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.connect.IcebergSinkConfig;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.connect.sink.SinkRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Routes records to table writers.
+ *
+ * <p>By default one writer is kept open per destination table until the write is completed. When
+ * {@link IcebergSinkConfig#tablesMaxOpenWriters()} is set, writers are kept in an LRU pool and the
+ * least recently used writer is rolled (its files are completed and the writer is released) to
+ * make room for a new one. Writers are also rolled when heap usage exceeds {@link
+ * IcebergSinkConfig#tablesWriterHeapFraction()}. When {@link
+ * IcebergSinkConfig#tablesBufferMaxRecords()} is set, records for tables without an open writer
+ * are buffered while the pool is full, and are written in batches so that rarely written tables do
+ * not each hold a live writer.
+ */
 public class SinkWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(SinkWriter.class);
+  private static final int HEAP_CHECK_INTERVAL_RECORDS = 1_000;
+
   private final IcebergSinkConfig config;
   private final IcebergWriterFactory writerFactory;
   private final Map<String, RecordWriter> writers;
+  private final Map<String, List<BufferedRecord>> bufferedRecords;
+  private final List<IcebergWriterResult> rolledResults;
   private final Map<TopicPartition, Offset> sourceOffsets;
+  private final int maxOpenWriters;
+  private final int bufferMaxRecords;
+  private final double writerHeapFraction;
+  private int bufferedRecordCount = 0;
+  private long recordsSinceHeapCheck = 0L;
 
   public SinkWriter(Catalog catalog, IcebergSinkConfig config) {
+    this(config, new IcebergWriterFactory(catalog, config));
+  }
+
+  @VisibleForTesting
+  SinkWriter(IcebergSinkConfig config, IcebergWriterFactory writerFactory) {
     this.config = config;
-    this.writerFactory = new IcebergWriterFactory(catalog, config);
-    this.writers = Maps.newHashMap();
+    this.writerFactory = writerFactory;
+    // access-ordered so that iteration starts at the least recently used writer
+    this.writers = new LinkedHashMap<>(16, 0.75f, true);
+    this.bufferedRecords = Maps.newLinkedHashMap();
+    this.rolledResults = Lists.newArrayList();
     this.sourceOffsets = Maps.newHashMap();
+    this.maxOpenWriters = config.tablesMaxOpenWriters();
+    this.bufferMaxRecords = config.tablesBufferMaxRecords();
+    this.writerHeapFraction = config.tablesWriterHeapFraction();
   }
 
   public void close() {
@@ -52,18 +90,33 @@ public class SinkWriter {
   }
 
   public SinkWriterResult completeWrite() {
-    List<IcebergWriterResult> writerResults =
-        writers.values().stream()
-            .flatMap(writer -> writer.complete().stream())
-            .collect(Collectors.toList());
+    // write the buffered records, rolling writers as needed to stay within the limit
+    List<String> bufferedTables = Lists.newArrayList(bufferedRecords.keySet());
+    bufferedTables.forEach(this::flushBuffer);
+
+    List<IcebergWriterResult> writerResults = Lists.newArrayList(rolledResults);
+    writers.values().stream()
+        .flatMap(writer -> writer.complete().stream())
+        .forEach(writerResults::add);
     Map<TopicPartition, Offset> offsets = Maps.newHashMap(sourceOffsets);
 
     writers.clear();
+    rolledResults.clear();
     sourceOffsets.clear();
 
     return new SinkWriterResult(writerResults, offsets);
   }
 
+  @VisibleForTesting
+  int openWriterCount() {
+    return writers.size();
+  }
+
+  @VisibleForTesting
+  int bufferedRecordCount() {
+    return bufferedRecordCount;
+  }
+
   public void save(Collection<SinkRecord> sinkRecords) {
     sinkRecords.forEach(this::save);
   }
@@ -107,7 +160,7 @@ public class SinkWriter {
                 tableName -> {
                   Pattern regex = config.tableConfig(tableName).routeRegex();
                   if (regex != null && regex.matcher(routeValue).matches()) {
-                    writerForTable(tableName, record, false).write(record);
+                    write(tableName, record, false);
                   }
                 });
       }
@@ -121,7 +174,7 @@ public class SinkWriter {
     String routeValue = extractRouteValue(record.value(), routeField);
     if (routeValue != null) {
       String tableName = routeValue.toLowerCase(Locale.ROOT);
-      writerForTable(tableName, record, true).write(record);
+      write(tableName, record, true);
     }
   }
 
@@ -133,9 +186,122 @@ public class SinkWriter {
     return routeValue == null ? null : routeValue.toString();
   }
 
-  private RecordWriter writerForTable(
-      String tableName, SinkRecord sample, boolean ignoreMissingTable) {
-    return writers.computeIfAbsent(
-        tableName, notUsed -> writerFactory.createWriter(tableName, sample, ignoreMissingTable));
+  private void write(String tableName, SinkRecord record, boolean ignoreMissingTable) {
+    RecordWriter writer = writers.get(tableName);
+    if (writer == null) {
+      if (shouldBuffer(tableName)) {
+        buffer(tableName, record, ignoreMissingTable);
+        return;
+      }
+
+      writer = openWriter(tableName, record, ignoreMissingTable);
+    }
+
+    writer.write(record);
+    checkHeapUsage();
+  }
+
+  private boolean shouldBuffer(String tableName) {
+    return bufferMaxRecords > 0
+        && (bufferedRecords.containsKey(tableName)
+            || (maxOpenWriters > 0 && writers.size() >= maxOpenWriters));
+  }
+
+  private void buffer(String tableName, SinkRecord record, boolean ignoreMissingTable) {
+    bufferedRecords
+        .computeIfAbsent(tableName, notUsed -> Lists.newArrayList())
+        .add(new BufferedRecord(record, ignoreMissingTable));
+    bufferedRecordCount += 1;
+
+    if (bufferedRecordCount > bufferMaxRecords) {
+      // write out the table with the most buffered records, it is the best candidate for a writer
+      String largest = null;
+      int largestSize = 0;
+      for (Map.Entry<String, List<BufferedRecord>> entry : bufferedRecords.entrySet()) {
+        if (entry.getValue().size() > largestSize) {
+          largest = entry.getKey();
+          largestSize = entry.getValue().size();
+        }
+      }
+
+      flushBuffer(largest);
+    }
+  }
+
+  private void flushBuffer(String tableName) {
+    List<BufferedRecord> records = bufferedRecords.remove(tableName);
+    if (records == null || records.isEmpty()) {
+      return;
+    }
+
+    bufferedRecordCount -= records.size();
+
+    BufferedRecord first = records.get(0);
+    RecordWriter writer = writers.get(tableName);
+    if (writer == null) {
+      writer = openWriter(tableName, first.record(), first.ignoreMissingTable());
+    }
+
+    for (BufferedRecord buffered : records) {
+      writer.write(buffered.record());
+    }
+  }
+
+  private RecordWriter openWriter(String tableName, SinkRecord sample, boolean ignoreMissingTable) {
+    if (maxOpenWriters > 0) {
+      while (writers.size() >= maxOpenWriters) {
+        rollLeastRecentlyUsed();
+      }
+    }
+
+    RecordWriter writer = writerFactory.createWriter(tableName, sample, ignoreMissingTable);
+    writers.put(tableName, writer);
+    return writer;
+  }
+
+  private void rollLeastRecentlyUsed() {
+    Iterator<Map.Entry<String, RecordWriter>> iter = writers.entrySet().iterator();
+    Map.Entry<String, RecordWriter> eldest = iter.next();
+    iter.remove();
+
+    LOG.debug("Rolling writer for table {}", eldest.getKey());
+    rolledResults.addAll(eldest.getValue().complete());
+  }
+
+  private void checkHeapUsage() {
+    if (writerHeapFraction <= 0 || ++recordsSinceHeapCheck < HEAP_CHECK_INTERVAL_RECORDS) {
+      return;
+    }
+
+    this.recordsSinceHeapCheck = 0L;
+
+    Runtime runtime = Runtime.getRuntime();
+    long used = runtime.totalMemory() - runtime.freeMemory();
+    // roll at most one writer per check, memory is only reclaimed after the next GC
+    if (writers.size() > 1 && used > runtime.maxMemory() * writerHeapFraction) {
+      LOG.info(
+          "Heap usage {} bytes exceeds {} of max heap, rolling least recently used writer",
+          used,
+          writerHeapFraction);
+      rollLeastRecentlyUsed();
+    }
+  }
+
+  private static class BufferedRecord {
+    private final SinkRecord record;
+    private final boolean ignoreMissingTable;
+
+    BufferedRecord(SinkRecord record, boolean ignoreMissingTable) {
+      this.record = record;
+      this.ignoreMissingTable = ignoreMissingTable;
+    }
+
+    SinkRecord record() {
+      return record;
+    }
+
+    boolean ignoreMissingTable() {
+      return ignoreMissingTable;
+    }
   }
 }
@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -30,8 +31,14 @@ import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.DataOperations;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.MetadataUpdate;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.catalog.SupportsMultiTableCommits;
+import org.apache.iceberg.catalog.TableCommit;
 import org.apache.iceberg.connect.events.AvroUtil;
 import org.apache.iceberg.connect.events.CommitComplete;
 import org.apache.iceberg.connect.events.CommitToTable;
@@ -42,16 +49,21 @@ import org.apache.iceberg.connect.events.PayloadType;
 import org.apache.iceberg.connect.events.StartCommit;
 import org.apache.iceberg.connect.events.TableReference;
 import org.apache.iceberg.connect.events.TopicPartitionOffset;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types.StructType;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.connect.sink.SinkTaskContext;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 public class TestCoordinator extends ChannelTestBase {
 
+  private Coordinator coordinator;
+
   @Test
   public void testCommitAppend() {
     assertThat(table.snapshots()).isEmpty();
@@ -106,6 +118,115 @@ public class TestCoordinator extends ChannelTestBase {
         .containsEntry(VALID_THROUGH_TS_SNAPSHOT_PROP, ts.toString());
   }
 
+  @Test
+  public void testCommitMultiTable() {
+    when(config.commitMultiTableEnabled()).thenReturn(true);
+
+    OffsetDateTime ts = EventTestUtil.now();
+    UUID commitId =
+        coordinatorTest(
+            ImmutableList.of(EventTestUtil.createDataFile()),
+            ImmutableList.of(EventTestUtil.createDeleteFile()),
+            ts);
+    table.refresh();
+
+    assertThat(producer.history()).hasSize(3);
+    assertCommitTable(1, commitId, ts);
+    assertCommitComplete(2, commitId, ts);
+
+    List<Snapshot> snapshots = ImmutableList.copyOf(table.snapshots());
+    assertThat(snapshots).hasSize(1);
+
+    Snapshot snapshot = snapshots.get(0);
+    assertThat(snapshot.operation()).isEqualTo(DataOperations.OVERWRITE);
+    assertThat(snapshot.addedDataFiles(table.io())).hasSize(1);
+    assertThat(snapshot.addedDeleteFiles(table.io())).hasSize(1);
+
+    assertThat(snapshot.summary())
+        .containsEntry(COMMIT_ID_SNAPSHOT_PROP, commitId.toString())
+        .containsEntry(OFFSETS_SNAPSHOT_PROP, "{\"0\":3}")
+        .containsEntry(VALID_THROUGH_TS_SNAPSHOT_PROP, ts.toString());
+
+    assertThat(coordinator.metrics().commitCount()).isEqualTo(1.0);
+    assertThat(coordinator.metrics().tableCommitCount(TABLE_IDENTIFIER)).isEqualTo(1.0);
+  }
+
+  @Test
+  public void testCommitMultiTableRetriesConcurrentCommits() throws IOException {
+    when(config.commitMultiTableEnabled()).thenReturn(true);
+    MultiTableCatalog multiTableCatalog = useMultiTableCatalog(2);
+
+    OffsetDateTime ts = EventTestUtil.now();
+    UUID commitId =
+        coordinatorTest(ImmutableList.of(EventTestUtil.createDataFile()), ImmutableList.of(), ts);
+    table.refresh();
+
+    // the staged changes are applied to the refreshed table after each conflict
+    assertThat(multiTableCatalog.attempts()).isEqualTo(3);
+    assertThat(producer.history()).hasSize(3);
+    assertCommitTable(1, commitId, ts);
+    assertCommitComplete(2, commitId, ts);
+
+    List<Snapshot> snapshots = ImmutableList.copyOf(table.snapshots());
+    assertThat(snapshots).hasSize(3);
+    assertThat(table.currentSnapshot().parentId()).isEqualTo(snapshots.get(1).snapshotId());
+    assertThat(table.currentSnapshot().summary())
+        .containsEntry(COMMIT_ID_SNAPSHOT_PROP, commitId.toString());
+  }
+
+  @Test
+  public void testCommitMultiTableDeletesSupersededManifestLists() throws IOException {
+    when(config.commitMultiTableEnabled()).thenReturn(true);
+    MultiTableCatalog multiTableCatalog = useMultiTableCatalog(2);
+
+    coordinatorTest(
+        ImmutableList.of(EventTestUtil.createDataFile()), ImmutableList.of(), EventTestUtil.now());
+    table.refresh();
+
+    // each retry stages a new manifest list and deletes the one of the superseded attempt
+    List<String> manifestLists = multiTableCatalog.stagedManifestLists();
+    assertThat(manifestLists).hasSize(3).doesNotHaveDuplicates();
+    assertThat(manifestLists.get(2)).isEqualTo(table.currentSnapshot().manifestListLocation());
+    assertThat(table.io().newInputFile(manifestLists.get(0)).exists()).isFalse();
+    assertThat(table.io().newInputFile(manifestLists.get(1)).exists()).isFalse();
+    assertThat(table.io().newInputFile(manifestLists.get(2)).exists()).isTrue();
+  }
+
+  @Test
+  public void testCommitMultiTableFallsBackAfterConflicts() throws IOException {
+    when(config.commitMultiTableEnabled()).thenReturn(true);
+    MultiTableCatalog multiTableCatalog = useMultiTableCatalog(Integer.MAX_VALUE);
+    table
+        .updateProperties()
+        .set(TableProperties.COMMIT_NUM_RETRIES, "1")
+        .set(TableProperties.COMMIT_MIN_RETRY_WAIT_MS, "1")
+        .commit();
+
+    OffsetDateTime ts = EventTestUtil.now();
+    UUID commitId =
+        coordinatorTest(ImmutableList.of(EventTestUtil.createDataFile()), ImmutableList.of(), ts);
+    table.refresh();
+
+    // the table is committed individually once the multi-table retries are exhausted
+    assertThat(multiTableCatalog.attempts()).isEqualTo(2);
+    assertThat(producer.history()).hasSize(3);
+    assertCommitTable(1, commitId, ts);
+    assertCommitComplete(2, commitId, ts);
+
+    assertThat(table.snapshots()).hasSize(3);
+    assertThat(table.currentSnapshot().summary())
+        .containsEntry(COMMIT_ID_SNAPSHOT_PROP, commitId.toString());
+  }
+
+  @Test
+  public void testCommitMetrics() {
+    coordinatorTest(
+        ImmutableList.of(EventTestUtil.createDataFile()), ImmutableList.of(), EventTestUtil.now());
+
+    assertThat(coordinator.metrics().commitCount()).isEqualTo(1.0);
+    assertThat(coordinator.metrics().tableCommitCount(TABLE_IDENTIFIER)).isEqualTo(1.0);
+  }
+
   @Test
   public void testCommitNoFiles() {
     OffsetDateTime ts = EventTestUtil.now();
@@ -164,7 +285,7 @@ public class TestCoordinator extends ChannelTestBase {
     when(config.commitTimeoutMs()).thenReturn(Integer.MAX_VALUE);
 
     SinkTaskContext context = mock(SinkTaskContext.class);
-    Coordinator coordinator =
+    this.coordinator =
         new Coordinator(catalog, config, ImmutableList.of(), clientFactory, context);
     coordinator.start();
 
@@ -209,6 +330,74 @@ public class TestCoordinator extends ChannelTestBase {
     return commitId;
   }
 
+  private MultiTableCatalog useMultiTableCatalog(int concurrentCommits) throws IOException {
+    catalog.close();
+    MultiTableCatalog multiTableCatalog = new MultiTableCatalog(concurrentCommits);
+    multiTableCatalog.initialize(null, ImmutableMap.of());
+    multiTableCatalog.createNamespace(NAMESPACE);
+    this.catalog = multiTableCatalog;
+    this.table = catalog.createTable(TABLE_IDENTIFIER, SCHEMA);
+    return multiTableCatalog;
+  }
+
+  /**
+   * A catalog that commits several tables, after appending to the test table concurrently for the
+   * given number of attempts.
+   */
+  private static class MultiTableCatalog extends InMemoryCatalog
+      implements SupportsMultiTableCommits {
+    private final List<String> stagedManifestLists = Lists.newArrayList();
+    private int concurrentCommits;
+    private int attempts = 0;
+
+    MultiTableCatalog(int concurrentCommits) {
+      this.concurrentCommits = concurrentCommits;
+    }
+
+    int attempts() {
+      return attempts;
+    }
+
+    List<String> stagedManifestLists() {
+      return stagedManifestLists;
+    }
+
+    @Override
+    public void commitTransaction(List<TableCommit> commits) {
+      this.attempts += 1;
+      for (TableCommit commit : commits) {
+        commit.updates().stream()
+            .filter(MetadataUpdate.AddSnapshot.class::isInstance)
+            .map(update -> ((MetadataUpdate.AddSnapshot) update).snapshot())
+            .forEach(snapshot -> stagedManifestLists.add(snapshot.manifestListLocation()));
+      }
+
+      if (concurrentCommits > 0) {
+        this.concurrentCommits -= 1;
+        loadTable(TABLE_IDENTIFIER)
+            .newFastAppend()
+            .appendFile(EventTestUtil.createDataFile())
+            .commit();
+      }
+
+      for (TableCommit commit : commits) {
+        TableOperations ops = newTableOps(commit.identifier());
+        TableMetadata base = ops.current();
+        commit.requirements().forEach(requirement -> requirement.validate(base));
+        TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+        commit.updates().forEach(update -> update.applyTo(builder));
+        ops.commit(base, builder.build());
+      }
+    }
+  }
+
+  @AfterEach
+  public void terminateCoordinator() {
+    if (coordinator != null) {
+      coordinator.terminate();
+    }
+  }
+
   @Test
   public void testCoordinatorRunning() {
     TopicPartition tp0 = new TopicPartition(SRC_TOPIC_NAME, 0);
@@ -23,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -167,6 +169,98 @@ public class TestSinkWriter {
     assertThat(writerResults).hasSize(0);
   }
 
+  @Test
+  public void testMaxOpenWriters() {
+    IcebergSinkConfig config = dynamicRouteConfig();
+    when(config.tablesMaxOpenWriters()).thenReturn(2);
+
+    IcebergWriterFactory writerFactory = mock(IcebergWriterFactory.class);
+    when(writerFactory.createWriter(any(), any(), anyBoolean()))
+        .thenAnswer(invocation -> mockWriter(invocation.getArgument(0)));
+
+    SinkWriter sinkWriter = new SinkWriter(config, writerFactory);
+    sinkWriter.save(
+        ImmutableList.of(
+            routedRecord("db.t1", 1L),
+            routedRecord("db.t2", 2L),
+            routedRecord("db.t3", 3L),
+            routedRecord("db.t1", 4L)));
+
+    assertThat(sinkWriter.openWriterCount()).isEqualTo(2);
+
+    // t1 was rolled when t3 was opened, so it has results from two writers
+    SinkWriterResult result = sinkWriter.completeWrite();
+    assertThat(result.writerResults())
+        .extracting(writerResult -> writerResult.tableIdentifier().toString())
+        .containsExactlyInAnyOrder("db.t1", "db.t1", "db.t2", "db.t3");
+    verify(writerFactory, times(4)).createWriter(any(), any(), anyBoolean());
+  }
+
+  @Test
+  public void testBufferRecordsWhenWriterLimitReached() {
+    IcebergSinkConfig config = dynamicRouteConfig();
+    when(config.tablesMaxOpenWriters()).thenReturn(1);
+    when(config.tablesBufferMaxRecords()).thenReturn(2);
+
+    IcebergWriterFactory writerFactory = mock(IcebergWriterFactory.class);
+    when(writerFactory.createWriter(any(), any(), anyBoolean()))
+        .thenAnswer(invocation -> mockWriter(invocation.getArgument(0)));
+
+    SinkWriter sinkWriter = new SinkWriter(config, writerFactory);
+    sinkWriter.save(
+        ImmutableList.of(
+            routedRecord("db.t1", 1L), routedRecord("db.t2", 2L), routedRecord("db.t3", 3L)));
+
+    assertThat(sinkWriter.openWriterCount()).isEqualTo(1);
+    assertThat(sinkWriter.bufferedRecordCount()).isEqualTo(2);
+
+    // exceeding the buffer limit writes out the largest buffer, rolling the open writer
+    sinkWriter.save(ImmutableList.of(routedRecord("db.t2", 4L)));
+    assertThat(sinkWriter.openWriterCount()).isEqualTo(1);
+    assertThat(sinkWriter.bufferedRecordCount()).isEqualTo(1);
+
+    SinkWriterResult result = sinkWriter.completeWrite();
+    assertThat(result.writerResults())
+        .extracting(writerResult -> writerResult.tableIdentifier().toString())
+        .containsExactlyInAnyOrder("db.t1", "db.t2", "db.t3");
+    assertThat(sinkWriter.bufferedRecordCount()).isEqualTo(0);
+    assertThat(result.sourceOffsets().get(new TopicPartition("topic", 1)).offset())
+        .isEqualTo(5L);
+  }
+
+  private IcebergSinkConfig dynamicRouteConfig() {
+    IcebergSinkConfig config = mock(IcebergSinkConfig.class);
+    when(config.tableConfig(any())).thenReturn(mock(TableSinkConfig.class));
+    when(config.dynamicTablesEnabled()).thenReturn(true);
+    when(config.tablesRouteField()).thenReturn(ROUTE_FIELD);
+    return config;
+  }
+
+  private RecordWriter mockWriter(String tableName) {
+    IcebergWriterResult writeResult =
+        new IcebergWriterResult(
+            TableIdentifier.parse(tableName),
+            ImmutableList.of(mock(DataFile.class)),
+            ImmutableList.of(),
+            Types.StructType.of());
+    RecordWriter writer = mock(RecordWriter.class);
+    when(writer.complete()).thenReturn(ImmutableList.of(writeResult));
+    return writer;
+  }
+
+  private SinkRecord routedRecord(String tableName, long offset) {
+    return new SinkRecord(
+        "topic",
+        1,
+        null,
+        "key",
+        null,
+        ImmutableMap.of(ROUTE_FIELD, tableName),
+        offset,
+        Instant.now().toEpochMilli(),
+        TimestampType.LOG_APPEND_TIME);
+  }
+
   private List<IcebergWriterResult> sinkWriterTest(
       Map<String, Object> value, IcebergSinkConfig config) {
     IcebergWriterResult writeResult =
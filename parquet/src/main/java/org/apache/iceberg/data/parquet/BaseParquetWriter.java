@@ -42,10 +42,15 @@ abstract class BaseParquetWriter<T> {
     return createWriter(null, type);
   }
 
-  @SuppressWarnings("unchecked")
   protected ParquetValueWriter<T> createWriter(Types.StructType struct, MessageType type) {
+    return createWriter(struct, type, false);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected ParquetValueWriter<T> createWriter(
+      Types.StructType struct, MessageType type, boolean inferredShredding) {
     return (ParquetValueWriter<T>)
-        TypeWithSchemaVisitor.visit(struct, type, new WriteBuilder(type));
+        TypeWithSchemaVisitor.visit(struct, type, new WriteBuilder(type, inferredShredding));
   }
 
   protected abstract ParquetValueWriters.StructWriter<T> createStructWriter(
@@ -62,9 +67,11 @@ abstract class BaseParquetWriter<T> {
 
   private class WriteBuilder extends TypeWithSchemaVisitor<ParquetValueWriter<?>> {
     private final MessageType type;
+    private final boolean inferredShredding;
 
-    private WriteBuilder(MessageType type) {
+    private WriteBuilder(MessageType type, boolean inferredShredding) {
       this.type = type;
+      this.inferredShredding = inferredShredding;
     }
 
     @Override
@@ -169,7 +176,7 @@ abstract class BaseParquetWriter<T> {
 
     @Override
     public ParquetVariantVisitor<ParquetValueWriter<?>> variantVisitor() {
-      return new VariantWriterBuilder(type, Arrays.asList(currentPath()));
+      return new VariantWriterBuilder(type, Arrays.asList(currentPath()), inferredShredding);
     }
   }
 
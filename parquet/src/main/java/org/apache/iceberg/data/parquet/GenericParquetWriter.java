@@ -48,6 +48,15 @@ public class GenericParquetWriter extends BaseParquetWriter<Record> {
     return INSTANCE.createWriter(schema.asStruct(), type);
   }
 
+  /**
+   * Creates a writer for a file schema with variant shredded types that were inferred from the
+   * written values.
+   */
+  public static ParquetValueWriter<Record> createWithInferredShredding(
+      Schema schema, MessageType type) {
+    return INSTANCE.createWriter(schema.asStruct(), type, true);
+  }
+
   @Override
   protected StructWriter<Record> createStructWriter(
       Types.StructType struct, List<ParquetValueWriter<?>> writers) {
@@ -51,6 +51,16 @@ public class InternalWriter<T extends StructLike> extends BaseParquetWriter<T> {
     return (ParquetValueWriter<T>) INSTANCE.createWriter(struct, type);
   }
 
+  /**
+   * Creates a writer for a file schema with variant shredded types that were inferred from the
+   * written values.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends StructLike> ParquetValueWriter<T> createWithInferredShredding(
+      Types.StructType struct, MessageType type) {
+    return (ParquetValueWriter<T>) INSTANCE.createWriter(struct, type, true);
+  }
+
   @Override
   protected StructWriter<T> createStructWriter(
       Types.StructType struct, List<ParquetValueWriter<?>> writers) {
@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnWriteStore;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageWriteStore;
+import org.apache.parquet.column.page.PageWriter;
+import org.apache.parquet.column.statistics.SizeStatistics;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilterWriteStore;
+import org.apache.parquet.column.values.bloomfilter.BloomFilterWriter;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * Estimates the encoded size of a row group per column and chooses dictionary or plain encoding per
+ * column for the row groups of a file.
+ *
+ * <p>The buffered size that Parquet reports for a column is the size of its written pages plus an
+ * estimate of the values in the current page before encoding and compression, which is far from the
+ * written size for dictionary-encoded or compressible columns. When a row group is flushed, the
+ * written size of each column's last page is compared with its buffered size to find a per-column
+ * correction that is applied to the buffered values of the following row groups. Dictionary pages
+ * are only written when a row group is flushed, so the dictionary size of the previous row group is
+ * used as the estimate for the current one.
+ *
+ * <p>Columns that fall back from dictionary to plain encoding in a row group, because the values
+ * have too many distinct values to fit or compress with a dictionary, are written with plain
+ * encoding in the following row groups of the file instead of trying a dictionary again.
+ */
+class AdaptiveRowGroupSizer {
+  private final List<ColumnDescriptor> columns;
+  private final ParquetProperties baseProps;
+  private final double tolerance;
+  private final Map<ColumnDescriptor, Double> sizeRatios = Maps.newHashMap();
+  private final Map<ColumnDescriptor, Long> dictionarySizes = Maps.newHashMap();
+  private final Set<ColumnDescriptor> plainColumns = Sets.newHashSet();
+  private ParquetProperties props;
+  private TrackingPageStore current = null;
+
+  AdaptiveRowGroupSizer(MessageType parquetSchema, ParquetProperties props, double tolerance) {
+    Preconditions.checkArgument(
+        tolerance > 0 && tolerance < 1, "Invalid row group size tolerance: %s", tolerance);
+    this.columns = parquetSchema.getColumns();
+    this.baseProps = props;
+    this.props = props;
+    this.tolerance = tolerance;
+  }
+
+  /** Returns the write properties for the next row group. */
+  ParquetProperties properties() {
+    return props;
+  }
+
+  /**
+   * Returns whether a row group of the given estimated size should be flushed.
+   *
+   * @param estimatedSize the estimated size of the row group
+   * @param targetSize the target row group size
+   * @return true if the estimated size is within the tolerance of the target
+   */
+  boolean isFull(long estimatedSize, long targetSize) {
+    return estimatedSize >= targetSize * (1.0 - tolerance);
+  }
+
+  /**
+   * Wraps the page stores of a new row group to track the pages that are written for each column.
+   *
+   * @param pages the page store of the row group
+   * @param bloomFilters the bloom filter store of the row group
+   * @return a store that tracks pages and passes them to the row group's stores
+   */
+  TrackingPageStore startRowGroup(PageWriteStore pages, BloomFilterWriteStore bloomFilters) {
+    this.current = new TrackingPageStore(pages, bloomFilters);
+    return current;
+  }
+
+  /**
+   * Returns the estimated encoded and compressed size of the current row group.
+   *
+   * @param writeStore the column store of the current row group
+   * @return the estimated size in bytes
+   */
+  long estimatedSize(ColumnWriteStore writeStore) {
+    long size = 0L;
+    for (ColumnDescriptor column : columns) {
+      long written = current.writtenSize(column);
+      long buffered = writeStore.getColumnWriter(column).getBufferedSizeInMemory() - written;
+      size += written + (long) (buffered * sizeRatios.getOrDefault(column, 1.0));
+      if (props.isDictionaryEnabled(column)) {
+        size += dictionarySizes.getOrDefault(column, 0L);
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * Flushes the current row group's columns and updates the estimates for the next row group.
+   *
+   * @param writeStore the column store of the current row group
+   */
+  void flush(ColumnWriteStore writeStore) {
+    Map<ColumnDescriptor, Long> writtenBefore = Maps.newHashMap();
+    Map<ColumnDescriptor, Long> bufferedBefore = Maps.newHashMap();
+    for (ColumnDescriptor column : columns) {
+      long written = current.writtenSize(column);
+      writtenBefore.put(column, written);
+      bufferedBefore.put(column, writeStore.getColumnWriter(column).getBufferedSizeInMemory());
+    }
+
+    writeStore.flush();
+
+    boolean newPlainColumns = false;
+    for (ColumnDescriptor column : columns) {
+      long buffered = bufferedBefore.get(column) - writtenBefore.get(column);
+      long flushed = current.writtenSize(column) - writtenBefore.get(column);
+      if (buffered > 0 && flushed > 0) {
+        sizeRatios.put(column, ((double) flushed) / buffered);
+      }
+
+      TrackingPageWriter pages = current.pageWriter(column);
+      if (pages.dictionarySize > 0) {
+        dictionarySizes.put(column, pages.dictionarySize);
+      }
+
+      if (pages.fellBack && plainColumns.add(column)) {
+        newPlainColumns = true;
+      }
+    }
+
+    if (newPlainColumns) {
+      ParquetProperties.Builder builder = ParquetProperties.copy(baseProps);
+      for (ColumnDescriptor column : plainColumns) {
+        builder.withDictionaryEncoding(String.join(".", column.getPath()), false);
+      }
+
+      this.props = builder.build();
+    }
+  }
+
+  class TrackingPageStore implements PageWriteStore, BloomFilterWriteStore {
+    private final PageWriteStore pages;
+    private final BloomFilterWriteStore bloomFilters;
+    private final Map<ColumnDescriptor, TrackingPageWriter> pageWriters = Maps.newHashMap();
+
+    private TrackingPageStore(PageWriteStore pages, BloomFilterWriteStore bloomFilters) {
+      this.pages = pages;
+      this.bloomFilters = bloomFilters;
+    }
+
+    @Override
+    public PageWriter getPageWriter(ColumnDescriptor path) {
+      return pageWriter(path);
+    }
+
+    @Override
+    public BloomFilterWriter getBloomFilterWriter(ColumnDescriptor path) {
+      return bloomFilters.getBloomFilterWriter(path);
+    }
+
+    private TrackingPageWriter pageWriter(ColumnDescriptor path) {
+      return pageWriters.computeIfAbsent(
+          path,
+          column ->
+              new TrackingPageWriter(
+                  pages.getPageWriter(column), props.isDictionaryEnabled(column)));
+    }
+
+    private long writtenSize(ColumnDescriptor column) {
+      TrackingPageWriter writer = pageWriters.get(column);
+      return writer != null ? writer.getMemSize() : 0L;
+    }
+  }
+
+  private static class TrackingPageWriter implements PageWriter {
+    private final PageWriter writer;
+    private final boolean dictionaryEnabled;
+    private long dictionarySize = 0L;
+    private boolean fellBack = false;
+
+    private TrackingPageWriter(PageWriter writer, boolean dictionaryEnabled) {
+      this.writer = writer;
+      this.dictionaryEnabled = dictionaryEnabled;
+    }
+
+    private void track(Encoding valuesEncoding) {
+      if (dictionaryEnabled && !valuesEncoding.usesDictionary()) {
+        this.fellBack = true;
+      }
+    }
+
+    @Override
+    @Deprecated
+    public void writePage(
+        BytesInput bytes,
+        int valueCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      track(valuesEncoding);
+      writer.writePage(bytes, valueCount, statistics, rlEncoding, dlEncoding, valuesEncoding);
+    }
+
+    @Override
+    public void writePage(
+        BytesInput bytes,
+        int valueCount,
+        int rowCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      track(valuesEncoding);
+      writer.writePage(
+          bytes, valueCount, rowCount, statistics, rlEncoding, dlEncoding, valuesEncoding);
+    }
+
+    @Override
+    public void writePage(
+        BytesInput bytes,
+        int valueCount,
+        int rowCount,
+        Statistics<?> statistics,
+        SizeStatistics sizeStatistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      track(valuesEncoding);
+      writer.writePage(
+          bytes,
+          valueCount,
+          rowCount,
+          statistics,
+          sizeStatistics,
+          rlEncoding,
+          dlEncoding,
+          valuesEncoding);
+    }
+
+    @Override
+    public void writePageV2(
+        int rowCount,
+        int nullCount,
+        int valueCount,
+        BytesInput repetitionLevels,
+        BytesInput definitionLevels,
+        Encoding dataEncoding,
+        BytesInput data,
+        Statistics<?> statistics)
+        throws IOException {
+      track(dataEncoding);
+      writer.writePageV2(
+          rowCount,
+          nullCount,
+          valueCount,
+          repetitionLevels,
+          definitionLevels,
+          dataEncoding,
+          data,
+          statistics);
+    }
+
+    @Override
+    public void writePageV2(
+        int rowCount,
+        int nullCount,
+        int valueCount,
+        BytesInput repetitionLevels,
+        BytesInput definitionLevels,
+        Encoding dataEncoding,
+        BytesInput data,
+        Statistics<?> statistics,
+        SizeStatistics sizeStatistics)
+        throws IOException {
+      track(dataEncoding);
+      writer.writePageV2(
+          rowCount,
+          nullCount,
+          valueCount,
+          repetitionLevels,
+          definitionLevels,
+          dataEncoding,
+          data,
+          statistics,
+          sizeStatistics);
+    }
+
+    @Override
+    public void writeDictionaryPage(DictionaryPage dictionaryPage) throws IOException {
+      this.dictionarySize = dictionaryPage.getBytes().size();
+      writer.writeDictionaryPage(dictionaryPage);
+    }
+
+    @Override
+    public long getMemSize() {
+      return writer.getMemSize();
+    }
+
+    @Override
+    public long allocatedSize() {
+      return writer.allocatedSize();
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+      return writer.memUsageString(prefix);
+    }
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.DataPageV1;
+import org.apache.parquet.column.page.DataPageV2;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+
+/**
+ * The pages of the filter columns of a row group, kept in memory once they are read to evaluate
+ * the filter.
+ *
+ * <p>With late materialization, the filter columns are read first. The pages which hold selected
+ * rows are then passed to the value readers from memory, so that they are not read and
+ * decompressed a second time.
+ */
+class FilterColumnPages implements PageReadStore {
+  private final PageReadStore pages;
+  private final Map<ColumnDescriptor, CachingPageReader> readers = Maps.newHashMap();
+
+  FilterColumnPages(PageReadStore pages) {
+    this.pages = pages;
+  }
+
+  @Override
+  public PageReader getPageReader(ColumnDescriptor column) {
+    return readers.computeIfAbsent(column, col -> new CachingPageReader(pages.getPageReader(col)));
+  }
+
+  @Override
+  public long getRowCount() {
+    return pages.getRowCount();
+  }
+
+  @Override
+  public Optional<PrimitiveIterator.OfLong> getRowIndexes() {
+    return pages.getRowIndexes();
+  }
+
+  /**
+   * Returns the pages of the selected rows, serving the filter columns from memory.
+   *
+   * @param columns the filter columns
+   * @param offsetIndexes the offset indexes of the filter columns
+   * @param readRanges the rows of the pages which were read for the filter, or null for all rows
+   * @param selected the selected rows, aligned to the pages of all projected columns
+   * @param rowCount the number of rows in the row group
+   * @param otherPages the pages of the selected rows for the other projected columns
+   * @return a page store of the selected rows for all projected columns
+   */
+  PageReadStore select(
+      List<ColumnDescriptor> columns,
+      List<OffsetIndex> offsetIndexes,
+      RowRanges readRanges,
+      RowRanges selected,
+      long rowCount,
+      PageReadStore otherPages) {
+    Map<ColumnDescriptor, PageReader> selectedReaders = Maps.newHashMap();
+    for (int i = 0; i < columns.size(); i += 1) {
+      ColumnDescriptor column = columns.get(i);
+      CachingPageReader cached = (CachingPageReader) getPageReader(column);
+      selectedReaders.put(
+          column, cached.select(offsetIndexes.get(i), readRanges, selected, rowCount));
+    }
+
+    return new PageReadStore() {
+      @Override
+      public PageReader getPageReader(ColumnDescriptor column) {
+        PageReader reader = selectedReaders.get(column);
+        return reader != null ? reader : otherPages.getPageReader(column);
+      }
+
+      @Override
+      public long getRowCount() {
+        return otherPages.getRowCount();
+      }
+
+      @Override
+      public Optional<PrimitiveIterator.OfLong> getRowIndexes() {
+        return otherPages.getRowIndexes();
+      }
+    };
+  }
+
+  private static class CachingPageReader implements PageReader {
+    private final PageReader reader;
+    private final List<DataPage> cached = Lists.newArrayList();
+    private DictionaryPage dictionary = null;
+    private boolean dictionaryRead = false;
+
+    private CachingPageReader(PageReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public DictionaryPage readDictionaryPage() {
+      if (!dictionaryRead) {
+        DictionaryPage page = reader.readDictionaryPage();
+        this.dictionary = page != null ? copy(page) : null;
+        this.dictionaryRead = true;
+      }
+
+      return dictionary;
+    }
+
+    @Override
+    public long getTotalValueCount() {
+      return reader.getTotalValueCount();
+    }
+
+    @Override
+    public DataPage readPage() {
+      DataPage page = reader.readPage();
+      if (page == null) {
+        return null;
+      }
+
+      DataPage copy = page.accept(CopyPage.INSTANCE);
+      cached.add(copy);
+      return copy;
+    }
+
+    /** Returns a reader of the cached pages which hold selected rows. */
+    private PageReader select(
+        OffsetIndex offsetIndex, RowRanges readRanges, RowRanges selected, long rowCount) {
+      readDictionaryPage();
+      // the filter may not have consumed the pages after its last row
+      DataPage remaining = readPage();
+      while (remaining != null) {
+        remaining = readPage();
+      }
+
+      List<DataPage> selectedPages = Lists.newArrayList();
+      long valueCount = 0L;
+      int cachedIndex = 0;
+      for (int page = 0; page < offsetIndex.getPageCount(); page += 1) {
+        long firstRow = offsetIndex.getFirstRowIndex(page);
+        long lastRow = offsetIndex.getLastRowIndex(page, rowCount);
+        if (readRanges == null || readRanges.isOverlapping(firstRow, lastRow)) {
+          DataPage dataPage = cached.get(cachedIndex);
+          cachedIndex += 1;
+          if (selected.isOverlapping(firstRow, lastRow)) {
+            selectedPages.add(dataPage);
+            valueCount += dataPage.getValueCount();
+          }
+        }
+      }
+
+      return new SelectedPageReader(dictionary, selectedPages, valueCount);
+    }
+
+    private static DictionaryPage copy(DictionaryPage page) {
+      try {
+        return page.copy();
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to copy dictionary page");
+      }
+    }
+  }
+
+  private static class SelectedPageReader implements PageReader {
+    private final DictionaryPage dictionary;
+    private final Iterator<DataPage> pages;
+    private final long valueCount;
+
+    private SelectedPageReader(DictionaryPage dictionary, List<DataPage> pages, long valueCount) {
+      this.dictionary = dictionary;
+      this.pages = pages.iterator();
+      this.valueCount = valueCount;
+    }
+
+    @Override
+    public DictionaryPage readDictionaryPage() {
+      return dictionary;
+    }
+
+    @Override
+    public long getTotalValueCount() {
+      return valueCount;
+    }
+
+    @Override
+    public DataPage readPage() {
+      return pages.hasNext() ? pages.next() : null;
+    }
+  }
+
+  /** Copies the decompressed bytes of pages, which may only be readable once, to memory. */
+  private static class CopyPage implements DataPage.Visitor<DataPage> {
+    private static final CopyPage INSTANCE = new CopyPage();
+
+    @Override
+    public DataPage visit(DataPageV1 page) {
+      BytesInput bytes = copy(page.getBytes());
+      if (page.getFirstRowIndex().isPresent() && page.getIndexRowCount().isPresent()) {
+        return new DataPageV1(
+            bytes,
+            page.getValueCount(),
+            page.getUncompressedSize(),
+            page.getFirstRowIndex().get(),
+            page.getIndexRowCount().get(),
+            page.getStatistics(),
+            page.getRlEncoding(),
+            page.getDlEncoding(),
+            page.getValueEncoding());
+      }
+
+      return new DataPageV1(
+          bytes,
+          page.getValueCount(),
+          page.getUncompressedSize(),
+          page.getStatistics(),
+          page.getRlEncoding(),
+          page.getDlEncoding(),
+          page.getValueEncoding());
+    }
+
+    @Override
+    public DataPage visit(DataPageV2 page) {
+      BytesInput repetitionLevels = copy(page.getRepetitionLevels());
+      BytesInput definitionLevels = copy(page.getDefinitionLevels());
+      BytesInput data = copy(page.getData());
+      if (page.getFirstRowIndex().isPresent()) {
+        return DataPageV2.uncompressed(
+            page.getRowCount(),
+            page.getNullCount(),
+            page.getValueCount(),
+            page.getFirstRowIndex().get(),
+            repetitionLevels,
+            definitionLevels,
+            page.getDataEncoding(),
+            data,
+            page.getStatistics());
+      }
+
+      return DataPageV2.uncompressed(
+          page.getRowCount(),
+          page.getNullCount(),
+          page.getValueCount(),
+          repetitionLevels,
+          definitionLevels,
+          page.getDataEncoding(),
+          data,
+          page.getStatistics());
+    }
+
+    private static BytesInput copy(BytesInput bytes) {
+      try {
+        return BytesInput.copy(bytes);
+      } catch (IOException e) {
+        throw new RuntimeIOException(e, "Failed to copy page");
+      }
+    }
+  }
+}
@@ -26,6 +26,10 @@ import static org.apache.iceberg.TableProperties.DELETE_PARQUET_PAGE_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.DELETE_PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.DELETE_PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.DELETE_PARQUET_ROW_GROUP_SIZE_BYTES;
+import static org.apache.iceberg.TableProperties.PARQUET_ADAPTIVE_ROW_GROUP_ENABLED;
+import static org.apache.iceberg.TableProperties.PARQUET_ADAPTIVE_ROW_GROUP_ENABLED_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_ADAPTIVE_ROW_GROUP_TOLERANCE;
+import static org.apache.iceberg.TableProperties.PARQUET_ADAPTIVE_ROW_GROUP_TOLERANCE_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_BLOOM_FILTER_COLUMN_ENABLED_PREFIX;
 import static org.apache.iceberg.TableProperties.PARQUET_BLOOM_FILTER_COLUMN_FPP_PREFIX;
 import static org.apache.iceberg.TableProperties.PARQUET_BLOOM_FILTER_MAX_BYTES;
@@ -37,19 +41,28 @@ import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED;
 import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT;
 import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_PAGE_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_PAGE_SIZE_BYTES_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_PAGE_SKIPPING_ENABLED;
+import static org.apache.iceberg.TableProperties.PARQUET_PIPELINED_WRITE_ENABLED;
+import static org.apache.iceberg.TableProperties.PARQUET_PIPELINED_WRITE_ENABLED_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_INFERENCE_ENABLED;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_INFERENCE_ENABLED_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_SAMPLE_ROWS;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_SAMPLE_ROWS_DEFAULT;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.List;
@@ -102,6 +115,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.ArrayUtil;
 import org.apache.iceberg.util.ByteBuffers;
 import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.variants.Variant;
 import org.apache.parquet.HadoopReadOptions;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroReadSupport;
@@ -162,6 +176,9 @@ public class Parquet {
     private final Map<String, String> config = Maps.newLinkedHashMap();
     private Schema schema = null;
     private VariantShreddingFunction variantShreddingFunc = null;
+    private Function<?, ?> variantCopyFunc = null;
+    private BiFunction<?, Integer, Variant> variantFunc = null;
+    private BiFunction<Schema, MessageType, ParquetValueWriter<?>> inferredWriterFunc = null;
     private String name = "table";
     private WriteSupport<?> writeSupport = null;
     private BiFunction<Schema, MessageType, ParquetValueWriter<?>> createWriterFunc = null;
@@ -207,6 +224,35 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Set the functions used to infer the shredded types of top-level variant fields from the first
+     * rows of each file.
+     *
+     * <p>Shredded types are inferred when {@link
+     * org.apache.iceberg.TableProperties#PARQUET_VARIANT_SHREDDING_INFERENCE_ENABLED} is true and no
+     * {@link VariantShreddingFunction} is set. The first rows of the file are copied and buffered
+     * until the sample size is reached.
+     *
+     * <p>The file is written with {@code createInferredWriterFunc} instead of the function set by
+     * {@code createWriterFunc}, so that the value writers can widen values to the inferred types.
+     *
+     * @param copyFunc a function that copies a row so that it can be buffered
+     * @param getVariantFunc a function that returns the variant at a top-level position of a row,
+     *     or null
+     * @param createInferredWriterFunc a function that creates the value writer for a file schema
+     *     with inferred shredded types
+     * @return this for method chaining
+     */
+    public <D> WriteBuilder variantShreddingInference(
+        Function<D, D> copyFunc,
+        BiFunction<D, Integer, Variant> getVariantFunc,
+        BiFunction<Schema, MessageType, ParquetValueWriter<?>> createInferredWriterFunc) {
+      this.variantCopyFunc = copyFunc;
+      this.variantFunc = getVariantFunc;
+      this.inferredWriterFunc = createInferredWriterFunc;
+      return this;
+    }
+
     @Override
     public WriteBuilder named(String newName) {
       this.name = newName;
@@ -307,6 +353,41 @@ public class Parquet {
       return this;
     }
 
+    private boolean inferVariantShredding() {
+      return variantShreddingFunc == null
+          && variantCopyFunc != null
+          && inferredWriterFunc != null
+          && PropertyUtil.propertyAsBoolean(
+              config,
+              PARQUET_VARIANT_SHREDDING_INFERENCE_ENABLED,
+              PARQUET_VARIANT_SHREDDING_INFERENCE_ENABLED_DEFAULT)
+          && VariantInferenceWriter.hasVariants(schema);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <D> FileAppender<D> inferringWriter() {
+      int sampleRows =
+          PropertyUtil.propertyAsInt(
+              config,
+              PARQUET_VARIANT_SHREDDING_SAMPLE_ROWS,
+              PARQUET_VARIANT_SHREDDING_SAMPLE_ROWS_DEFAULT);
+
+      return new VariantInferenceWriter<>(
+          schema,
+          sampleRows,
+          (Function<D, D>) variantCopyFunc,
+          (BiFunction<D, Integer, Variant>) variantFunc,
+          inferredFunc -> {
+            variantShreddingFunc(inferredFunc);
+            createWriterFunc(inferredWriterFunc);
+            try {
+              return build();
+            } catch (IOException e) {
+              throw new UncheckedIOException("Failed to create Parquet writer", e);
+            }
+          });
+    }
+
     private void setBloomFilterConfig(
         Context context,
         Map<String, String> colNameToParquetPathMap,
@@ -354,6 +435,10 @@ public class Parquet {
       Preconditions.checkNotNull(schema, "Schema is required");
       Preconditions.checkNotNull(name, "Table name is required and cannot be null");
 
+      if (inferVariantShredding()) {
+        return inferringWriter();
+      }
+
       // add the Iceberg schema to keyValueMetadata
       meta("iceberg.schema", SchemaParser.toJson(schema));
 
@@ -446,6 +531,19 @@ public class Parquet {
         setColumnStatsConfig(context, colNameToParquetPathMap, propsBuilder::withStatisticsEnabled);
 
         ParquetProperties parquetProperties = propsBuilder.build();
+        boolean pipelined =
+            PropertyUtil.propertyAsBoolean(
+                config, PARQUET_PIPELINED_WRITE_ENABLED, PARQUET_PIPELINED_WRITE_ENABLED_DEFAULT);
+        boolean adaptiveRowGroups =
+            PropertyUtil.propertyAsBoolean(
+                config,
+                PARQUET_ADAPTIVE_ROW_GROUP_ENABLED,
+                PARQUET_ADAPTIVE_ROW_GROUP_ENABLED_DEFAULT);
+        double rowGroupSizeTolerance =
+            PropertyUtil.propertyAsDouble(
+                config,
+                PARQUET_ADAPTIVE_ROW_GROUP_TOLERANCE,
+                PARQUET_ADAPTIVE_ROW_GROUP_TOLERANCE_DEFAULT);
 
         return new org.apache.iceberg.parquet.ParquetWriter<>(
             conf,
@@ -459,7 +557,10 @@ public class Parquet {
             parquetProperties,
             metricsConfig,
             writeMode,
-            fileEncryptionProperties);
+            fileEncryptionProperties,
+            pipelined,
+            adaptiveRowGroups,
+            rowGroupSizeTolerance);
       } else {
         ParquetWriteBuilder<D> parquetWriteBuilder =
             new ParquetWriteBuilder<D>(ParquetIO.file(file))
@@ -832,6 +933,14 @@ public class Parquet {
       return this;
     }
 
+    public <D> DataWriteBuilder variantShreddingInference(
+        Function<D, D> copyFunc,
+        BiFunction<D, Integer, Variant> getVariantFunc,
+        BiFunction<Schema, MessageType, ParquetValueWriter<?>> createInferredWriterFunc) {
+      appenderBuilder.variantShreddingInference(copyFunc, getVariantFunc, createInferredWriterFunc);
+      return this;
+    }
+
     public DataWriteBuilder withSpec(PartitionSpec newSpec) {
       this.spec = newSpec;
       return this;
@@ -1210,6 +1319,38 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Enables skipping the pages which cannot contain rows matching the filter, based on the
+     * column and offset indexes of the file.
+     *
+     * <p>Skipped pages are not read, and the row positions of the rows which are read account for
+     * them. Rows are not filtered: every row of the pages which are read is returned.
+     *
+     * @param enabled whether page skipping is enabled
+     * @return this builder for method chaining
+     */
+    public ReadBuilder pageSkipping(boolean enabled) {
+      return set(PARQUET_PAGE_SKIPPING_ENABLED, Boolean.toString(enabled));
+    }
+
+    /**
+     * Enables late materialization of the columns which are not referenced by the filter.
+     *
+     * <p>The columns referenced by the filter are decoded first and the filter is evaluated on
+     * every row. The pages of the other projected columns that hold no matching row are then
+     * skipped. Rows are not filtered: every row of the pages which are read is returned.
+     *
+     * <p>The filter columns are read and decompressed once, but the pages which hold matching rows
+     * are decoded again by the value readers. This is only worthwhile when the filter is selective
+     * enough to skip pages of the other columns.
+     *
+     * @param enabled whether late materialization is enabled
+     * @return this builder for method chaining
+     */
+    public ReadBuilder lateMaterialization(boolean enabled) {
+      return set(PARQUET_LATE_MATERIALIZATION_ENABLED, Boolean.toString(enabled));
+    }
+
     /**
      * @deprecated will be removed in 2.0.0; use {@link #createReaderFunc(Function)} instead
      */
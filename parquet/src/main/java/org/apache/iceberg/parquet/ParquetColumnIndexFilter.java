@@ -0,0 +1,511 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.Bound;
+import org.apache.iceberg.expressions.BoundExtract;
+import org.apache.iceberg.expressions.BoundPredicate;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.BinaryUtil;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Evaluates an expression against the column indexes of a row group, to find the ranges of rows
+ * which may contain matching records.
+ *
+ * <p>Each predicate is evaluated against the min and max values and the null counts of the pages
+ * of its column, and the pages that may match are translated to row ranges using the offset index
+ * of the column. Columns without a column or offset index, and columns nested in lists or maps,
+ * always produce the full range of rows of the row group. Predicates on fields extracted from
+ * variants are evaluated against the shredded columns of the fields.
+ */
+class ParquetColumnIndexFilter {
+  private static final int IN_PREDICATE_LIMIT = 200;
+
+  private final Schema schema;
+  private final Expression expr;
+
+  ParquetColumnIndexFilter(Schema schema, Expression unbound, boolean caseSensitive) {
+    this.schema = schema;
+    StructType struct = schema.asStruct();
+    this.expr = Binder.bind(struct, Expressions.rewriteNot(unbound), caseSensitive);
+  }
+
+  /**
+   * Calculates the ranges of rows of a row group which may contain records that match the
+   * expression.
+   *
+   * @param fileSchema schema for the Parquet file
+   * @param columnIndexStore column and offset indexes of the row group
+   * @param rowCount number of rows of the row group
+   * @return the row ranges which may contain matching rows
+   */
+  RowRanges calculateRowRanges(
+      MessageType fileSchema, ColumnIndexStore columnIndexStore, long rowCount) {
+    return new ColumnIndexEvalVisitor(fileSchema, columnIndexStore, rowCount).eval();
+  }
+
+  private class ColumnIndexEvalVisitor extends BoundExpressionVisitor<RowRanges> {
+    private final ColumnIndexStore columnIndexStore;
+    private final long rowCount;
+    private final RowRanges allRows;
+    private final Map<Integer, ColumnDescriptor> columns = Maps.newHashMap();
+    private final Map<Integer, Type> shreddedTypes = Maps.newHashMap();
+    private final MessageType fileSchema;
+    private final ParquetShreddedFields shreddedFields;
+
+    private ColumnIndexEvalVisitor(
+        MessageType fileSchema, ColumnIndexStore columnIndexStore, long rowCount) {
+      this.fileSchema = fileSchema;
+      this.columnIndexStore = columnIndexStore;
+      this.rowCount = rowCount;
+      this.allRows = RowRanges.createSingle(rowCount);
+      this.shreddedFields = new ParquetShreddedFields(fileSchema);
+      for (ColumnDescriptor column : fileSchema.getColumns()) {
+        PrimitiveType colType = column.getPrimitiveType();
+        if (colType.getId() != null) {
+          columns.put(colType.getId().intValue(), column);
+        }
+      }
+    }
+
+    private RowRanges eval() {
+      return ExpressionVisitors.visitEvaluator(expr, this);
+    }
+
+    @Override
+    public RowRanges alwaysTrue() {
+      return allRows;
+    }
+
+    @Override
+    public RowRanges alwaysFalse() {
+      return RowRanges.EMPTY;
+    }
+
+    @Override
+    public RowRanges not(RowRanges result) {
+      // the expression is rewritten without NOT, and the complement of a may-match range is not a
+      // cannot-match range
+      return allRows;
+    }
+
+    @Override
+    public RowRanges and(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.intersection(leftResult, rightResult);
+    }
+
+    @Override
+    public RowRanges or(RowRanges leftResult, RowRanges rightResult) {
+      return RowRanges.union(leftResult, rightResult);
+    }
+
+    @Override
+    public <T> RowRanges isNull(BoundReference<T> ref) {
+      return evalPages(
+          ref,
+          allRows,
+          pages ->
+              page -> {
+                Long nullCount = pages.nullCount(page);
+                return nullCount == null || nullCount > 0;
+              });
+    }
+
+    @Override
+    public <T> RowRanges notNull(BoundReference<T> ref) {
+      return evalPages(ref, RowRanges.EMPTY, pages -> page -> !pages.isNullPage(page));
+    }
+
+    @Override
+    public <T> RowRanges isNaN(BoundReference<T> ref) {
+      return evalPages(ref, RowRanges.EMPTY, pages -> page -> !pages.isNullPage(page));
+    }
+
+    @Override
+    public <T> RowRanges notNaN(BoundReference<T> ref) {
+      return allRows;
+    }
+
+    @Override
+    public <T> RowRanges lt(BoundReference<T> ref, Literal<T> lit) {
+      return evalPages(
+          ref,
+          RowRanges.EMPTY,
+          pages ->
+              page ->
+                  !pages.isNullPage(page)
+                      && lit.comparator().compare(pages.min(page), lit.value()) < 0);
+    }
+
+    @Override
+    public <T> RowRanges ltEq(BoundReference<T> ref, Literal<T> lit) {
+      return evalPages(
+          ref,
+          RowRanges.EMPTY,
+          pages ->
+              page ->
+                  !pages.isNullPage(page)
+                      && lit.comparator().compare(pages.min(page), lit.value()) <= 0);
+    }
+
+    @Override
+    public <T> RowRanges gt(BoundReference<T> ref, Literal<T> lit) {
+      return evalPages(
+          ref,
+          RowRanges.EMPTY,
+          pages ->
+              page ->
+                  !pages.isNullPage(page)
+                      && lit.comparator().compare(pages.max(page), lit.value()) > 0);
+    }
+
+    @Override
+    public <T> RowRanges gtEq(BoundReference<T> ref, Literal<T> lit) {
+      return evalPages(
+          ref,
+          RowRanges.EMPTY,
+          pages ->
+              page ->
+                  !pages.isNullPage(page)
+                      && lit.comparator().compare(pages.max(page), lit.value()) >= 0);
+    }
+
+    @Override
+    public <T> RowRanges eq(BoundReference<T> ref, Literal<T> lit) {
+      return evalPages(
+          ref,
+          RowRanges.EMPTY,
+          pages ->
+              page ->
+                  !pages.isNullPage(page)
+                      && lit.comparator().compare(pages.min(page), lit.value()) <= 0
+                      && lit.comparator().compare(pages.max(page), lit.value()) >= 0);
+    }
+
+    @Override
+    public <T> RowRanges notEq(BoundReference<T> ref, Literal<T> lit) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notEq(col, X) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows;
+    }
+
+    @Override
+    public <T> RowRanges in(BoundReference<T> ref, Set<T> literalSet) {
+      if (literalSet.size() > IN_PREDICATE_LIMIT) {
+        // skip evaluating the predicate if the number of values is too big
+        return allRows;
+      }
+
+      Comparator<T> comparator = ref.comparator();
+      return evalPages(
+          ref,
+          RowRanges.EMPTY,
+          pages ->
+              page -> {
+                if (pages.isNullPage(page)) {
+                  return false;
+                }
+
+                T lower = pages.min(page);
+                T upper = pages.max(page);
+                for (T value : literalSet) {
+                  if (comparator.compare(lower, value) <= 0
+                      && comparator.compare(upper, value) >= 0) {
+                    return true;
+                  }
+                }
+
+                return false;
+              });
+    }
+
+    @Override
+    public <T> RowRanges notIn(BoundReference<T> ref, Set<T> literalSet) {
+      // because the bounds are not necessarily a min or max value, this cannot be answered using
+      // them. notIn(col, {X, ...}) with (X, Y) doesn't guarantee that X is a value in col.
+      return allRows;
+    }
+
+    @Override
+    public <T> RowRanges startsWith(BoundReference<T> ref, Literal<T> lit) {
+      ByteBuffer prefix = lit.toByteBuffer();
+      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+      return evalPages(
+          ref,
+          RowRanges.EMPTY,
+          pages ->
+              page -> {
+                if (pages.isNullPage(page)) {
+                  return false;
+                }
+
+                Binary lower = pages.rawMin(page);
+                Binary upper = pages.rawMax(page);
+                // truncate the bounds so that their length is not greater than the prefix
+                int lowerLength = Math.min(prefix.remaining(), lower.length());
+                int upperLength = Math.min(prefix.remaining(), upper.length());
+                return comparator.compare(
+                            BinaryUtil.truncateBinary(lower.toByteBuffer(), lowerLength), prefix)
+                        <= 0
+                    && comparator.compare(
+                            BinaryUtil.truncateBinary(upper.toByteBuffer(), upperLength), prefix)
+                        >= 0;
+              });
+    }
+
+    @Override
+    public <T> RowRanges notStartsWith(BoundReference<T> ref, Literal<T> lit) {
+      ByteBuffer prefix = lit.toByteBuffer();
+      Comparator<ByteBuffer> comparator = Comparators.unsignedBytes();
+      return evalPages(
+          ref,
+          allRows,
+          pages ->
+              page -> {
+                Long nullCount = pages.nullCount(page);
+                if (nullCount == null || nullCount > 0) {
+                  return true;
+                }
+
+                Binary lower = pages.rawMin(page);
+                Binary upper = pages.rawMax(page);
+
+                // rows cannot match only if both bounds start with the prefix
+                return lower.length() < prefix.remaining()
+                    || upper.length() < prefix.remaining()
+                    || comparator.compare(
+                            BinaryUtil.truncateBinary(lower.toByteBuffer(), prefix.remaining()),
+                            prefix)
+                        != 0
+                    || comparator.compare(
+                            BinaryUtil.truncateBinary(upper.toByteBuffer(), prefix.remaining()),
+                            prefix)
+                        != 0;
+              });
+    }
+
+    @Override
+    public <T> RowRanges handleNonReference(Bound<T> term) {
+      return allRows;
+    }
+
+    @Override
+    public <T> RowRanges predicate(BoundPredicate<T> pred) {
+      if (pred.term() instanceof BoundExtract) {
+        return evalShredded(pred);
+      }
+
+      return super.predicate(pred);
+    }
+
+    /**
+     * Evaluates a predicate on a field extracted from a variant against the pages of the shredded
+     * typed_value column of the field. Rows in pages of the variant-encoded values of the field may
+     * hold values of any type, and always match.
+     */
+    private <T> RowRanges evalShredded(BoundPredicate<T> pred) {
+      ParquetShreddedFields.ShreddedField field =
+          shreddedFields.field((BoundExtract<?>) pred.term());
+      Expression shredded = field != null ? field.bind(pred) : null;
+      if (shredded == null) {
+        return allRows;
+      }
+
+      columns.put(field.id(), fileSchema.getColumnDescription(field.typedValuePath().toArray()));
+      shreddedTypes.put(field.id(), field.type());
+      RowRanges typedRows = ExpressionVisitors.visitEvaluator(shredded, this);
+      if (field.valuePath() == null) {
+        return typedRows;
+      }
+
+      return RowRanges.union(typedRows, nonNullPages(field.valuePath()));
+    }
+
+    private RowRanges nonNullPages(ColumnPath path) {
+      ColumnIndex columnIndex = columnIndexStore.getColumnIndex(path);
+      if (columnIndex == null) {
+        return allRows;
+      }
+
+      OffsetIndex offsetIndex;
+      try {
+        offsetIndex = columnIndexStore.getOffsetIndex(path);
+      } catch (ColumnIndexStore.MissingOffsetIndexException e) {
+        return allRows;
+      }
+
+      List<Boolean> nullPages = columnIndex.getNullPages();
+      return RowRanges.create(
+          rowCount,
+          IntStream.range(0, offsetIndex.getPageCount())
+              .filter(page -> !nullPages.get(page))
+              .iterator(),
+          offsetIndex);
+    }
+
+    /**
+     * Evaluates a predicate against the pages of the referenced column.
+     *
+     * @param ref the column reference
+     * @param missingColumnResult rows that match when the column is not in the file (all nulls)
+     * @param pagePredicate returns whether a page may contain matching rows
+     */
+    private <T> RowRanges evalPages(
+        BoundReference<T> ref,
+        RowRanges missingColumnResult,
+        Function<PageBounds<T>, IntPredicate> pagePredicate) {
+      int id = ref.fieldId();
+      Type type = shreddedTypes.containsKey(id) ? shreddedTypes.get(id) : schema.findType(id);
+      if (type == null || !type.isPrimitiveType()) {
+        // filters on nested and variant types are evaluated post scan
+        return allRows;
+      }
+
+      ColumnDescriptor column = columns.get(id);
+      if (column == null) {
+        // the column is not present and is all nulls
+        return missingColumnResult;
+      }
+
+      if (column.getMaxRepetitionLevel() > 0) {
+        // pages of repeated columns cannot be mapped to the value of a single row
+        return allRows;
+      }
+
+      ColumnPath path = ColumnPath.get(column.getPath());
+      ColumnIndex columnIndex = columnIndexStore.getColumnIndex(path);
+      if (columnIndex == null) {
+        return allRows;
+      }
+
+      OffsetIndex offsetIndex;
+      try {
+        offsetIndex = columnIndexStore.getOffsetIndex(path);
+      } catch (ColumnIndexStore.MissingOffsetIndexException e) {
+        return allRows;
+      }
+
+      PageBounds<T> pages = new PageBounds<>(column.getPrimitiveType(), type, columnIndex);
+      IntPredicate mightMatch = pagePredicate.apply(pages);
+      return RowRanges.create(
+          rowCount,
+          IntStream.range(0, offsetIndex.getPageCount()).filter(mightMatch).iterator(),
+          offsetIndex);
+    }
+  }
+
+  /** Page level min, max and null count accessors of a column index. */
+  private static class PageBounds<T> {
+    private final PrimitiveType primitiveType;
+    private final Function<Object, Object> conversion;
+    private final List<Boolean> nullPages;
+    private final List<Long> nullCounts;
+    private final List<ByteBuffer> minValues;
+    private final List<ByteBuffer> maxValues;
+
+    private PageBounds(PrimitiveType primitiveType, Type icebergType, ColumnIndex columnIndex) {
+      this.primitiveType = primitiveType;
+      this.conversion = ParquetConversions.converterFromParquet(primitiveType, icebergType);
+      this.nullPages = columnIndex.getNullPages();
+      this.nullCounts = columnIndex.getNullCounts();
+      this.minValues = columnIndex.getMinValues();
+      this.maxValues = columnIndex.getMaxValues();
+    }
+
+    private boolean isNullPage(int page) {
+      return nullPages.get(page);
+    }
+
+    private Long nullCount(int page) {
+      return nullCounts != null ? nullCounts.get(page) : null;
+    }
+
+    private T min(int page) {
+      return convert(page, minValues);
+    }
+
+    private T max(int page) {
+      return convert(page, maxValues);
+    }
+
+    private Binary rawMin(int page) {
+      return Binary.fromConstantByteBuffer(minValues.get(page));
+    }
+
+    private Binary rawMax(int page) {
+      return Binary.fromConstantByteBuffer(maxValues.get(page));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T convert(int page, List<ByteBuffer> values) {
+      ByteBuffer value = values.get(page).duplicate().order(ByteOrder.LITTLE_ENDIAN);
+      Object parquetValue;
+      switch (primitiveType.getPrimitiveTypeName()) {
+        case BOOLEAN:
+          parquetValue = value.get(value.position()) != 0;
+          break;
+        case INT32:
+          parquetValue = value.getInt(value.position());
+          break;
+        case INT64:
+          parquetValue = value.getLong(value.position());
+          break;
+        case FLOAT:
+          parquetValue = value.getFloat(value.position());
+          break;
+        case DOUBLE:
+          parquetValue = value.getDouble(value.position());
+          break;
+        default:
+          parquetValue = Binary.fromConstantByteBuffer(value);
+      }
+
+      return (T) conversion.apply(parquetValue);
+    }
+  }
+}
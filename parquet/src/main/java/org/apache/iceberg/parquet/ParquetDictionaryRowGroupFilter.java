@@ -27,6 +27,8 @@ import org.apache.iceberg.Schema;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Bound;
+import org.apache.iceberg.expressions.BoundExtract;
+import org.apache.iceberg.expressions.BoundPredicate;
 import org.apache.iceberg.expressions.BoundReference;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.ExpressionVisitors;
@@ -46,6 +48,7 @@ import org.apache.parquet.column.page.DictionaryPage;
 import org.apache.parquet.column.page.DictionaryPageReadStore;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
 
@@ -85,6 +88,9 @@ public class ParquetDictionaryRowGroupFilter {
     private Map<Integer, Boolean> mayContainNulls = null;
     private Map<Integer, ColumnDescriptor> cols = null;
     private Map<Integer, Function<Object, Object>> conversions = null;
+    private MessageType fileSchema = null;
+    private Map<ColumnPath, ColumnChunkMetaData> columns = null;
+    private ParquetShreddedFields shreddedFields = null;
 
     private boolean eval(
         MessageType fileSchema,
@@ -96,6 +102,9 @@ public class ParquetDictionaryRowGroupFilter {
       this.mayContainNulls = Maps.newHashMap();
       this.cols = Maps.newHashMap();
       this.conversions = Maps.newHashMap();
+      this.fileSchema = fileSchema;
+      this.columns = Maps.newHashMap();
+      this.shreddedFields = new ParquetShreddedFields(fileSchema);
 
       for (ColumnDescriptor desc : fileSchema.getColumns()) {
         PrimitiveType colType = fileSchema.getType(desc.getPath()).asPrimitiveType();
@@ -108,6 +117,7 @@ public class ParquetDictionaryRowGroupFilter {
       }
 
       for (ColumnChunkMetaData meta : rowGroup.getColumns()) {
+        columns.put(meta.getPath(), meta);
         PrimitiveType colType = fileSchema.getType(meta.getPath().toArray()).asPrimitiveType();
         if (colType.getId() != null) {
           int id = colType.getId().intValue();
@@ -472,6 +482,55 @@ public class ParquetDictionaryRowGroupFilter {
     public <T> Boolean handleNonReference(Bound<T> term) {
       return ROWS_MIGHT_MATCH;
     }
+
+    @Override
+    public <T> Boolean predicate(BoundPredicate<T> pred) {
+      if (pred.term() instanceof BoundExtract) {
+        Expression shredded = shreddedPredicate(pred);
+        if (shredded != null) {
+          return ExpressionVisitors.visitEvaluator(shredded, this);
+        }
+
+        return ROWS_MIGHT_MATCH;
+      }
+
+      return super.predicate(pred);
+    }
+
+    /**
+     * Rewrites a predicate on a field extracted from a variant to a predicate on the shredded
+     * typed_value column of the field, if the dictionary of that column holds all values of the
+     * field.
+     */
+    private <T> Expression shreddedPredicate(BoundPredicate<T> pred) {
+      ParquetShreddedFields.ShreddedField field =
+          shreddedFields.field((BoundExtract<?>) pred.term());
+      if (field == null) {
+        return null;
+      }
+
+      ColumnChunkMetaData typedValue = columns.get(field.typedValuePath());
+      if (typedValue == null) {
+        return null;
+      }
+
+      if (field.valuePath() != null) {
+        // values which are not shredded are not in the dictionary
+        ColumnChunkMetaData value = columns.get(field.valuePath());
+        if (value == null || !ParquetShreddedFields.hasOnlyNullValues(value)) {
+          return null;
+        }
+      }
+
+      int id = field.id();
+      cols.put(id, fileSchema.getColumnDescription(field.typedValuePath().toArray()));
+      conversions.put(
+          id, ParquetConversions.converterFromParquet(field.typedValueType(), field.type()));
+      isFallback.put(id, ParquetUtil.hasNonDictionaryPages(typedValue));
+      mayContainNulls.put(id, mayContainNull(typedValue));
+
+      return field.bind(pred);
+    }
   }
 
   private static boolean mayContainNull(ColumnChunkMetaData meta) {
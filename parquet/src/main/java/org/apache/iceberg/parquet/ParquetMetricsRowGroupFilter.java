@@ -28,6 +28,8 @@ import java.util.stream.Collectors;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Bound;
+import org.apache.iceberg.expressions.BoundExtract;
+import org.apache.iceberg.expressions.BoundPredicate;
 import org.apache.iceberg.expressions.BoundReference;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.ExpressionVisitors;
@@ -42,6 +44,7 @@ import org.apache.iceberg.util.BinaryUtil;
 import org.apache.parquet.column.statistics.Statistics;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
@@ -80,6 +83,8 @@ public class ParquetMetricsRowGroupFilter {
     private Map<Integer, Statistics<?>> stats = null;
     private Map<Integer, Long> valueCounts = null;
     private Map<Integer, Function<Object, Object>> conversions = null;
+    private Map<ColumnPath, ColumnChunkMetaData> columns = null;
+    private ParquetShreddedFields shreddedFields = null;
 
     private boolean eval(MessageType fileSchema, BlockMetaData rowGroup) {
       if (rowGroup.getRowCount() <= 0) {
@@ -89,7 +94,10 @@ public class ParquetMetricsRowGroupFilter {
       this.stats = Maps.newHashMap();
       this.valueCounts = Maps.newHashMap();
       this.conversions = Maps.newHashMap();
+      this.columns = Maps.newHashMap();
+      this.shreddedFields = new ParquetShreddedFields(fileSchema);
       for (ColumnChunkMetaData col : rowGroup.getColumns()) {
+        columns.put(col.getPath(), col);
         PrimitiveType colType = fileSchema.getType(col.getPath().toArray()).asPrimitiveType();
         if (colType.getId() != null) {
           int id = colType.getId().intValue();
@@ -564,6 +572,53 @@ public class ParquetMetricsRowGroupFilter {
     public <T> Boolean handleNonReference(Bound<T> term) {
       return ROWS_MIGHT_MATCH;
     }
+
+    @Override
+    public <T> Boolean predicate(BoundPredicate<T> pred) {
+      if (pred.term() instanceof BoundExtract) {
+        Expression shredded = shreddedPredicate(pred);
+        if (shredded != null) {
+          return ExpressionVisitors.visitEvaluator(shredded, this);
+        }
+
+        return ROWS_MIGHT_MATCH;
+      }
+
+      return super.predicate(pred);
+    }
+
+    /**
+     * Rewrites a predicate on a field extracted from a variant to a predicate on the shredded
+     * typed_value column of the field, if the stats of that column cover all values of the field.
+     */
+    private <T> Expression shreddedPredicate(BoundPredicate<T> pred) {
+      ParquetShreddedFields.ShreddedField field =
+          shreddedFields.field((BoundExtract<?>) pred.term());
+      if (field == null) {
+        return null;
+      }
+
+      ColumnChunkMetaData typedValue = columns.get(field.typedValuePath());
+      if (typedValue == null) {
+        return null;
+      }
+
+      if (field.valuePath() != null) {
+        // values which are not shredded may be of any type
+        ColumnChunkMetaData value = columns.get(field.valuePath());
+        if (value == null || !ParquetShreddedFields.hasOnlyNullValues(value)) {
+          return null;
+        }
+      }
+
+      int id = field.id();
+      stats.put(id, typedValue.getStatistics());
+      valueCounts.put(id, typedValue.getValueCount());
+      conversions.put(
+          id, ParquetConversions.converterFromParquet(field.typedValueType(), field.type()));
+
+      return field.bind(pred);
+    }
   }
 
   /**
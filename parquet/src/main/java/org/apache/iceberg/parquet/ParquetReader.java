@@ -19,6 +19,7 @@
 package org.apache.iceberg.parquet;
 
 import java.io.IOException;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -99,10 +100,9 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
   private static class FileIterator<T> implements CloseableIterator<T> {
     private static final Logger LOG = LoggerFactory.getLogger(FileIterator.class);
 
+    private final ReadConf<T> conf;
     private final ParquetFileReader reader;
-    private final boolean[] shouldSkip;
     private final ParquetValueReader<T> model;
-    private final long totalValues;
     private final boolean reuseContainers;
 
     private int nextRowGroup = 0;
@@ -111,25 +111,31 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
     private T last = null;
 
     FileIterator(ReadConf<T> conf) {
+      this.conf = conf;
       this.reader = conf.reader();
-      this.shouldSkip = conf.shouldSkip();
       this.model = conf.model();
-      this.totalValues = conf.totalValues();
       this.reuseContainers = conf.reuseContainers();
     }
 
     @Override
     public boolean hasNext() {
-      return valuesRead < totalValues;
+      // row groups are opened lazily, as the rows to read are only known once they are opened
+      while (valuesRead >= nextRowGroupStart) {
+        if (!advance()) {
+          return false;
+        }
+      }
+
+      return true;
     }
 
     @Override
     public T next() {
-      try {
-        if (valuesRead >= nextRowGroupStart) {
-          advance();
-        }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
 
+      try {
         if (reuseContainers) {
           this.last = model.read(last);
         } else {
@@ -150,23 +156,26 @@ public class ParquetReader<T> extends CloseableGroup implements CloseableIterabl
       }
     }
 
-    private void advance() {
-      while (shouldSkip[nextRowGroup]) {
-        nextRowGroup += 1;
-        reader.skipNextRowGroup();
-      }
+    private boolean advance() {
+      ReadConf.RowGroupPages rowGroup = null;
+      while (rowGroup == null) {
+        if (nextRowGroup >= conf.rowGroupCount()) {
+          return false;
+        }
 
-      PageReadStore pages;
-      try {
-        pages = reader.readNextRowGroup();
-      } catch (IOException e) {
-        throw new RuntimeIOException(e);
+        try {
+          rowGroup = conf.readRowGroup(reader, nextRowGroup);
+        } catch (IOException e) {
+          throw new RuntimeIOException(e);
+        }
+
+        nextRowGroup += 1;
       }
 
+      PageReadStore pages = rowGroup.pages();
       nextRowGroupStart += pages.getRowCount();
-      nextRowGroup += 1;
-
       model.setPageSource(pages);
+      return true;
     }
 
     @Override
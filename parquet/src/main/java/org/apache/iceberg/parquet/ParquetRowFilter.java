@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.parquet.InternalReader;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.BoundExtract;
+import org.apache.iceberg.expressions.BoundPredicate;
+import org.apache.iceberg.expressions.Evaluator;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.schema.MessageType;
+
+/**
+ * Evaluates a filter on the rows of a row group, reading only the columns referenced by the filter.
+ *
+ * <p>This is used for late materialization: once the matching rows are known, the pages of the
+ * other projected columns which hold no matching row do not need to be read or decoded.
+ */
+class ParquetRowFilter {
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final Schema filterSchema;
+  private final Evaluator evaluator;
+  private final ParquetValueReader<StructLike> reader;
+  private final Expression unbound;
+  private final boolean caseSensitive;
+
+  ParquetRowFilter(
+      Schema expectedSchema, MessageType fileSchema, Expression unbound, boolean caseSensitive) {
+    this.unbound = unbound;
+    this.caseSensitive = caseSensitive;
+    Set<Integer> filterIds =
+        Binder.boundReferences(
+            expectedSchema.asStruct(), ImmutableList.of(unbound), caseSensitive);
+    this.filterSchema = TypeUtil.select(expectedSchema, filterIds);
+    this.evaluator = new Evaluator(filterSchema.asStruct(), unbound, caseSensitive);
+    this.reader = InternalReader.create(filterSchema, fileSchema);
+  }
+
+  /** Returns whether the filter can be evaluated on rows; values extracted from variants cannot. */
+  boolean canEvaluate() {
+    return ExpressionVisitors.visit(
+        Binder.bind(filterSchema.asStruct(), unbound, caseSensitive), new CanEvaluate());
+  }
+
+  /** Returns the projection of the expected schema on the columns referenced by the filter. */
+  Schema filterSchema() {
+    return filterSchema;
+  }
+
+  /**
+   * Returns the indexes of the rows that match the filter, in ascending order.
+   *
+   * @param pages the pages of the filter columns
+   * @return the indexes of the matching rows, within the row group
+   */
+  long[] matchingRows(PageReadStore pages) {
+    reader.setPageSource(pages);
+    PrimitiveIterator.OfLong rowIndexes = pages.getRowIndexes().orElse(null);
+
+    long[] matches = new long[INITIAL_CAPACITY];
+    int matchCount = 0;
+    StructLike row = null;
+    for (long pos = 0; pos < pages.getRowCount(); pos += 1) {
+      row = reader.read(row);
+      long rowIndex = rowIndexes != null ? rowIndexes.nextLong() : pos;
+      if (evaluator.eval(row)) {
+        if (matchCount == matches.length) {
+          matches = Arrays.copyOf(matches, matches.length * 2);
+        }
+
+        matches[matchCount] = rowIndex;
+        matchCount += 1;
+      }
+    }
+
+    return Arrays.copyOf(matches, matchCount);
+  }
+
+  /**
+   * Returns the rows of the pages of a column that hold at least one of the given rows.
+   *
+   * @param rows row indexes, in ascending order
+   * @param offsetIndex the offset index of the column
+   * @param rowCount the number of rows in the row group
+   * @return the rows of the pages holding the given rows
+   */
+  static RowRanges pagesWithRows(long[] rows, OffsetIndex offsetIndex, long rowCount) {
+    IntStream.Builder pages = IntStream.builder();
+    int next = 0;
+    for (int page = 0; page < offsetIndex.getPageCount() && next < rows.length; page += 1) {
+      long lastRow = offsetIndex.getLastRowIndex(page, rowCount);
+      if (rows[next] <= lastRow) {
+        pages.add(page);
+        while (next < rows.length && rows[next] <= lastRow) {
+          next += 1;
+        }
+      }
+    }
+
+    return RowRanges.create(rowCount, pages.build().iterator(), offsetIndex);
+  }
+
+  private static class CanEvaluate extends ExpressionVisitors.ExpressionVisitor<Boolean> {
+    @Override
+    public Boolean alwaysTrue() {
+      return true;
+    }
+
+    @Override
+    public Boolean alwaysFalse() {
+      return true;
+    }
+
+    @Override
+    public Boolean not(Boolean result) {
+      return result;
+    }
+
+    @Override
+    public Boolean and(Boolean leftResult, Boolean rightResult) {
+      return leftResult && rightResult;
+    }
+
+    @Override
+    public Boolean or(Boolean leftResult, Boolean rightResult) {
+      return leftResult && rightResult;
+    }
+
+    @Override
+    public <T> Boolean predicate(BoundPredicate<T> pred) {
+      return !(pred.term() instanceof BoundExtract);
+    }
+  }
+}
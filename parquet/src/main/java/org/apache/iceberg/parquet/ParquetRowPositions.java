@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.util.PrimitiveIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.parquet.column.page.PageReadStore;
+
+/**
+ * Tracks the positions in the file of the rows read from a row group.
+ *
+ * <p>When pages are skipped using the page index, the rows read from a row group are not
+ * contiguous. Their positions are then taken from the row indexes of the {@link PageReadStore}.
+ */
+public class ParquetRowPositions {
+  private final long rowGroupStart;
+  private final PrimitiveIterator.OfLong rowIndexes;
+  private long nextPosition;
+
+  private ParquetRowPositions(long rowGroupStart, PrimitiveIterator.OfLong rowIndexes) {
+    this.rowGroupStart = rowGroupStart;
+    this.rowIndexes = rowIndexes;
+    this.nextPosition = rowGroupStart;
+  }
+
+  public static ParquetRowPositions of(PageReadStore pages) {
+    long rowGroupStart =
+        pages
+            .getRowIndexOffset()
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "PageReadStore does not contain row index offset"));
+    return new ParquetRowPositions(rowGroupStart, pages.getRowIndexes().orElse(null));
+  }
+
+  /** Returns the position of the next row, and moves past it. */
+  public long next() {
+    if (rowIndexes != null) {
+      return rowGroupStart + rowIndexes.nextLong();
+    }
+
+    long position = nextPosition;
+    this.nextPosition += 1;
+    return position;
+  }
+
+  /**
+   * Returns the position of the first of the next rows, and moves past them.
+   *
+   * <p>The rows must have contiguous positions, which readers ensure by never reading batches over
+   * skipped rows.
+   *
+   * @param numRows number of rows to move past
+   * @return the position of the first row
+   */
+  public long next(int numRows) {
+    if (rowIndexes != null) {
+      long first = rowIndexes.nextLong();
+      long last = first;
+      for (int i = 1; i < numRows; i += 1) {
+        last = rowIndexes.nextLong();
+      }
+
+      Preconditions.checkState(
+          last - first == numRows - 1,
+          "Cannot read %s rows from non-contiguous positions %s to %s",
+          numRows,
+          rowGroupStart + first,
+          rowGroupStart + last);
+      return rowGroupStart + first;
+    }
+
+    long position = nextPosition;
+    this.nextPosition += numRows;
+    return position;
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.parquet.ParquetVariantVisitor.TYPED_VALUE;
+import static org.apache.iceberg.parquet.ParquetVariantVisitor.VALUE;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.BoundExtract;
+import org.apache.iceberg.expressions.BoundPredicate;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.PathUtil;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.variants.PhysicalType;
+import org.apache.iceberg.variants.Variants;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Resolves the shredded columns of the fields extracted from variants, so that filters on extracted
+ * values can be evaluated using the statistics, dictionaries and column indexes of the shredded
+ * typed_value columns.
+ *
+ * <p>Each extracted field that is shredded as a primitive of a type compatible with the extracted
+ * type is assigned a synthetic field ID, and predicates on the extract are rewritten to predicates
+ * on a field with that ID. Fields nested in shredded arrays are not resolved.
+ */
+class ParquetShreddedFields {
+  private static final String SHREDDED_FIELD_NAME = "shredded";
+
+  private final MessageType fileSchema;
+  private final Map<String, ShreddedField> fields = Maps.newHashMap();
+  private int nextId = -1;
+
+  ParquetShreddedFields(MessageType fileSchema) {
+    this.fileSchema = fileSchema;
+  }
+
+  /**
+   * Returns the shredded field of an extract, or null if the extracted field is not shredded with a
+   * compatible type.
+   */
+  ShreddedField field(BoundExtract<?> extract) {
+    String key = extract.ref().fieldId() + extract.path() + extract.type();
+    if (!fields.containsKey(key)) {
+      fields.put(key, resolve(extract));
+    }
+
+    return fields.get(key);
+  }
+
+  /**
+   * Returns whether the variant-encoded values of a shredded field hold only nulls, in which case
+   * the statistics of its typed_value column cover all the values of the field.
+   */
+  static boolean hasOnlyNullValues(ColumnChunkMetaData value) {
+    Statistics<?> stats = value.getStatistics();
+    if (stats == null || stats.isEmpty()) {
+      return false;
+    }
+
+    if (stats.getNumNulls() == value.getValueCount()) {
+      return true;
+    }
+
+    return stats.hasNonNullValue()
+        && Variants.isNull(ByteBuffer.wrap(stats.getMinBytes()))
+        && Variants.isNull(ByteBuffer.wrap(stats.getMaxBytes()));
+  }
+
+  private ShreddedField resolve(BoundExtract<?> extract) {
+    List<String> variantPath = findPath(fileSchema, extract.ref().fieldId());
+    if (variantPath == null) {
+      return null;
+    }
+
+    GroupType variant = fileSchema.getType(variantPath.toArray(new String[0])).asGroupType();
+    return resolve(extract, variant, variantPath, Lists.newArrayList());
+  }
+
+  private ShreddedField resolve(
+      BoundExtract<?> extract, GroupType group, List<String> columnPath, List<String> names) {
+    if (!group.containsField(TYPED_VALUE)) {
+      return null;
+    }
+
+    org.apache.parquet.schema.Type typedValue = group.getType(TYPED_VALUE);
+    List<String> typedValuePath = append(columnPath, TYPED_VALUE);
+    if (typedValue.isPrimitive()) {
+      if (!PathUtil.toNormalizedPath(names).equals(extract.path())
+          || !isCompatible(typedValue.asPrimitiveType(), extract.type())) {
+        return null;
+      }
+
+      ColumnPath valuePath =
+          group.containsField(VALUE) ? ColumnPath.get(toArray(append(columnPath, VALUE))) : null;
+      ShreddedField field =
+          new ShreddedField(
+              nextId,
+              extract.type(),
+              ColumnPath.get(toArray(typedValuePath)),
+              typedValue.asPrimitiveType(),
+              valuePath);
+      nextId -= 1;
+      return field;
+    }
+
+    GroupType shreddedGroup = typedValue.asGroupType();
+    if (shreddedGroup.getLogicalTypeAnnotation()
+        instanceof LogicalTypeAnnotation.ListLogicalTypeAnnotation) {
+      return null;
+    }
+
+    for (org.apache.parquet.schema.Type shreddedField : shreddedGroup.getFields()) {
+      List<String> fieldNames = append(names, shreddedField.getName());
+      // normalized paths quote every name, so a prefix match is a match of the leading fields
+      if (!shreddedField.isPrimitive()
+          && extract.path().startsWith(PathUtil.toNormalizedPath(fieldNames))) {
+        return resolve(
+            extract,
+            shreddedField.asGroupType(),
+            append(typedValuePath, shreddedField.getName()),
+            fieldNames);
+      }
+    }
+
+    return null;
+  }
+
+  private static List<String> findPath(GroupType group, int fieldId) {
+    for (org.apache.parquet.schema.Type field : group.getFields()) {
+      if (field.getId() != null && field.getId().intValue() == fieldId) {
+        return field.isPrimitive() ? null : Lists.newArrayList(field.getName());
+      }
+
+      if (!field.isPrimitive()) {
+        List<String> path = findPath(field.asGroupType(), fieldId);
+        if (path != null) {
+          path.add(0, field.getName());
+          return path;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  private static boolean isCompatible(PrimitiveType primitive, Type type) {
+    PhysicalType physicalType;
+    try {
+      physicalType = ParquetVariantUtil.convert(primitive);
+    } catch (UnsupportedOperationException e) {
+      return false;
+    }
+
+    if (physicalType == null) {
+      return false;
+    }
+
+    switch (type.typeId()) {
+      case INTEGER:
+        return physicalType == PhysicalType.INT8
+            || physicalType == PhysicalType.INT16
+            || physicalType == PhysicalType.INT32;
+      case LONG:
+        return physicalType == PhysicalType.INT8
+            || physicalType == PhysicalType.INT16
+            || physicalType == PhysicalType.INT32
+            || physicalType == PhysicalType.INT64;
+      case FLOAT:
+        return physicalType == PhysicalType.FLOAT;
+      case DOUBLE:
+        return physicalType == PhysicalType.FLOAT || physicalType == PhysicalType.DOUBLE;
+      case DECIMAL:
+        return physicalType == PhysicalType.DECIMAL4
+            || physicalType == PhysicalType.DECIMAL8
+            || physicalType == PhysicalType.DECIMAL16;
+      case DATE:
+        return physicalType == PhysicalType.DATE;
+      case TIME:
+        return physicalType == PhysicalType.TIME;
+      case TIMESTAMP:
+        return ((Types.TimestampType) type).shouldAdjustToUTC()
+            ? physicalType == PhysicalType.TIMESTAMPTZ
+            : physicalType == PhysicalType.TIMESTAMPNTZ;
+      case TIMESTAMP_NANO:
+        return ((Types.TimestampNanoType) type).shouldAdjustToUTC()
+            ? physicalType == PhysicalType.TIMESTAMPTZ_NANOS
+            : physicalType == PhysicalType.TIMESTAMPNTZ_NANOS;
+      case STRING:
+        return physicalType == PhysicalType.STRING;
+      case BINARY:
+        return physicalType == PhysicalType.BINARY;
+      default:
+        return false;
+    }
+  }
+
+  private static List<String> append(List<String> path, String name) {
+    List<String> newPath = Lists.newArrayList(path);
+    newPath.add(name);
+    return newPath;
+  }
+
+  private static String[] toArray(List<String> path) {
+    return path.toArray(new String[0]);
+  }
+
+  /** A field extracted from a variant, and its shredded columns. */
+  static class ShreddedField {
+    private final int id;
+    private final Type type;
+    private final ColumnPath typedValuePath;
+    private final PrimitiveType typedValueType;
+    private final ColumnPath valuePath;
+
+    private ShreddedField(
+        int id,
+        Type type,
+        ColumnPath typedValuePath,
+        PrimitiveType typedValueType,
+        ColumnPath valuePath) {
+      this.id = id;
+      this.type = type;
+      this.typedValuePath = typedValuePath;
+      this.typedValueType = typedValueType;
+      this.valuePath = valuePath;
+    }
+
+    /** Returns the synthetic field ID used for the extracted field. */
+    int id() {
+      return id;
+    }
+
+    /** Returns the extracted type. */
+    Type type() {
+      return type;
+    }
+
+    ColumnPath typedValuePath() {
+      return typedValuePath;
+    }
+
+    PrimitiveType typedValueType() {
+      return typedValueType;
+    }
+
+    /** Returns the path of the variant-encoded values of the field, or null if there is none. */
+    ColumnPath valuePath() {
+      return valuePath;
+    }
+
+    /**
+     * Rewrites a predicate on the extract to a predicate bound to the synthetic field, or returns
+     * null if the predicate cannot be rewritten.
+     *
+     * <p>Unary predicates, like null checks, are not rewritten: a missing field and a variant null
+     * are both null in the typed_value column.
+     */
+    <T> Expression bind(BoundPredicate<T> pred) {
+      Expression unbound;
+      if (pred.isLiteralPredicate()) {
+        unbound =
+            Expressions.predicate(
+                pred.op(), SHREDDED_FIELD_NAME, pred.asLiteralPredicate().literal());
+      } else if (pred.isSetPredicate()) {
+        unbound =
+            Expressions.predicate(
+                pred.op(), SHREDDED_FIELD_NAME, pred.asSetPredicate().literalSet());
+      } else {
+        return null;
+      }
+
+      Types.StructType struct =
+          Types.StructType.of(Types.NestedField.optional(id, SHREDDED_FIELD_NAME, type));
+      return Binder.bind(struct, unbound, true);
+    }
+  }
+}
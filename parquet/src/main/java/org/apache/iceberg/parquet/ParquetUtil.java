@@ -40,11 +40,13 @@ import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.EncodingStats;
 import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.column.page.PageReader;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.io.ParquetDecodingException;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
@@ -157,6 +159,26 @@ public class ParquetUtil {
     return null;
   }
 
+  /**
+   * Reads the next row group of a reader, restricted to the pages holding the given row ranges.
+   *
+   * @param reader a Parquet file reader
+   * @param rowGroupIndex index of the next row group of the reader
+   * @param rowRanges rows to read, or null to read the entire row group
+   * @return the pages of the row group
+   */
+  static PageReadStore readRowGroup(
+      ParquetFileReader reader, int rowGroupIndex, RowRanges rowRanges) throws IOException {
+    if (rowRanges == null) {
+      return reader.readNextRowGroup();
+    }
+
+    PageReadStore pages = reader.readFilteredRowGroup(rowGroupIndex, rowRanges);
+    // keep the position of the reader in sync with the row group that was read
+    reader.skipNextRowGroup();
+    return pages;
+  }
+
   public static boolean isIntType(PrimitiveType primitiveType) {
     if (primitiveType.getOriginalType() != null) {
       switch (primitiveType.getOriginalType()) {
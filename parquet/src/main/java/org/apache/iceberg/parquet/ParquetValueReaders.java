@@ -337,13 +337,11 @@ public class ParquetValueReaders {
   }
 
   private static class PositionReader implements ParquetValueReader<Long> {
-    private long rowOffset = -1;
-    private long rowGroupStart;
+    private ParquetRowPositions positions;
 
     @Override
     public Long read(Long reuse) {
-      rowOffset = rowOffset + 1;
-      return rowGroupStart + rowOffset;
+      return positions.next();
     }
 
     @Override
@@ -358,14 +356,7 @@ public class ParquetValueReaders {
 
     @Override
     public void setPageSource(PageReadStore pageStore) {
-      this.rowGroupStart =
-          pageStore
-              .getRowIndexOffset()
-              .orElseThrow(
-                  () ->
-                      new IllegalArgumentException(
-                          "PageReadStore does not contain row index offset"));
-      this.rowOffset = -1;
+      this.positions = ParquetRowPositions.of(pageStore);
     }
   }
 
@@ -375,6 +375,55 @@ class ParquetVariantUtil {
     }
   }
 
+  static GroupType shreddedList(Type shreddedType) {
+    GroupType elementType = shreddedField("element", shreddedType);
+    checkField(elementType);
+
+    return Types.optionalList().element(elementType).named("typed_value");
+  }
+
+  static GroupType shreddedObject(List<GroupType> fields) {
+    Types.GroupBuilder<GroupType> builder = Types.buildGroup(Type.Repetition.OPTIONAL);
+    for (GroupType field : fields) {
+      checkField(field);
+      builder.addField(field);
+    }
+
+    return builder.named("typed_value");
+  }
+
+  private static void checkField(GroupType fieldType) {
+    Preconditions.checkArgument(
+        fieldType.isRepetition(Type.Repetition.REQUIRED),
+        "Invalid field type repetition: %s should be REQUIRED",
+        fieldType.getRepetition());
+  }
+
+  static GroupType shreddedField(String name, Type shreddedType) {
+    Types.GroupBuilder<GroupType> builder =
+        Types.buildGroup(Type.Repetition.REQUIRED)
+            .optional(PrimitiveType.PrimitiveTypeName.BINARY)
+            .named("value");
+
+    if (shreddedType != null) {
+      checkShreddedType(shreddedType);
+      builder.addField(shreddedType);
+    }
+
+    return builder.named(name);
+  }
+
+  private static void checkShreddedType(Type shreddedType) {
+    Preconditions.checkArgument(
+        shreddedType.getName().equals("typed_value"),
+        "Invalid shredded type name: %s should be typed_value",
+        shreddedType.getName());
+    Preconditions.checkArgument(
+        shreddedType.isRepetition(Type.Repetition.OPTIONAL),
+        "Invalid shredded type repetition: %s should be OPTIONAL",
+        shreddedType.getRepetition());
+  }
+
   private static class ParquetSchemaProducer extends VariantVisitor<Type> {
     @Override
     public Type object(VariantObject object, List<String> names, List<Type> typedValues) {
@@ -387,11 +436,11 @@ class ParquetVariantUtil {
       int index = 0;
       for (String name : names) {
         Type typedValue = typedValues.get(index);
-        fields.add(field(name, typedValue));
+        fields.add(shreddedField(name, typedValue));
         index += 1;
       }
 
-      return objectFields(fields);
+      return shreddedObject(fields);
     }
 
     @Override
@@ -404,19 +453,12 @@ class ParquetVariantUtil {
       Type shredType = elementResults.get(0);
       if (shredType != null
           && elementResults.stream().allMatch(type -> Objects.equals(type, shredType))) {
-        return list(shredType);
+        return shreddedList(shredType);
       }
 
       return null;
     }
 
-    private static GroupType list(Type shreddedType) {
-      GroupType elementType = field("element", shreddedType);
-      checkField(elementType);
-
-      return Types.optionalList().element(elementType).named("typed_value");
-    }
-
     @Override
     public Type primitive(VariantPrimitive<?> primitive) {
       switch (primitive.type()) {
@@ -492,48 +534,6 @@ class ParquetVariantUtil {
       throw new UnsupportedOperationException("Unsupported shredding type: " + primitive.type());
     }
 
-    private static GroupType objectFields(List<GroupType> fields) {
-      Types.GroupBuilder<GroupType> builder = Types.buildGroup(Type.Repetition.OPTIONAL);
-      for (GroupType field : fields) {
-        checkField(field);
-        builder.addField(field);
-      }
-
-      return builder.named("typed_value");
-    }
-
-    private static void checkField(GroupType fieldType) {
-      Preconditions.checkArgument(
-          fieldType.isRepetition(Type.Repetition.REQUIRED),
-          "Invalid field type repetition: %s should be REQUIRED",
-          fieldType.getRepetition());
-    }
-
-    private static GroupType field(String name, Type shreddedType) {
-      Types.GroupBuilder<GroupType> builder =
-          Types.buildGroup(Type.Repetition.REQUIRED)
-              .optional(PrimitiveType.PrimitiveTypeName.BINARY)
-              .named("value");
-
-      if (shreddedType != null) {
-        checkShreddedType(shreddedType);
-        builder.addField(shreddedType);
-      }
-
-      return builder.named(name);
-    }
-
-    private static void checkShreddedType(Type shreddedType) {
-      Preconditions.checkArgument(
-          shreddedType.getName().equals("typed_value"),
-          "Invalid shredded type name: %s should be typed_value",
-          shreddedType.getName());
-      Preconditions.checkArgument(
-          shreddedType.isRepetition(Type.Repetition.OPTIONAL),
-          "Invalid shredded type repetition: %s should be OPTIONAL",
-          shreddedType.getRepetition());
-    }
-
     private static Type shreddedPrimitive(PrimitiveType.PrimitiveTypeName primitive) {
       return Types.optional(primitive).named("typed_value");
     }
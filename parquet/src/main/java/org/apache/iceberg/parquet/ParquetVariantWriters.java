@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.parquet;
 
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.Arrays;
@@ -40,6 +41,12 @@ import org.apache.iceberg.variants.Variants;
 import org.apache.parquet.column.ColumnWriteStore;
 
 class ParquetVariantWriters {
+  private static final List<PhysicalType> INTEGER_TYPES =
+      ImmutableList.of(
+          PhysicalType.INT8, PhysicalType.INT16, PhysicalType.INT32, PhysicalType.INT64);
+  private static final Set<PhysicalType> DECIMAL_TYPES =
+      Sets.immutableEnumSet(PhysicalType.DECIMAL4, PhysicalType.DECIMAL8, PhysicalType.DECIMAL16);
+
   private ParquetVariantWriters() {}
 
   @SuppressWarnings("unchecked")
@@ -65,6 +72,28 @@ class ParquetVariantWriters {
     return new PrimitiveWriter<>(writer, Sets.immutableEnumSet(Arrays.asList(types)));
   }
 
+  /**
+   * Returns a writer for an integer type that also accepts narrower integers.
+   *
+   * <p>Narrower values are widened instead of being written to the {@code value} column, so they
+   * are read back with the shredded type. This is only used for inferred shredded types.
+   */
+  @SuppressWarnings("unchecked")
+  static ParquetValueWriter<VariantValue> integer(ParquetValueWriter<?> writer, PhysicalType type) {
+    return new IntegerWriter(type, (ParquetValueWriter<Object>) writer);
+  }
+
+  /**
+   * Returns a writer for a decimal type that also accepts any decimal that fits without rounding.
+   *
+   * <p>Values are rescaled to the shredded scale. This is only used for inferred shredded types.
+   */
+  @SuppressWarnings("unchecked")
+  static ParquetValueWriter<VariantValue> decimal(
+      ParquetValueWriter<?> writer, int precision, int scale) {
+    return new DecimalWriter(precision, scale, (ParquetValueWriter<BigDecimal>) writer);
+  }
+
   @SuppressWarnings("unchecked")
   static ParquetValueWriter<VariantValue> shredded(
       int valueDefinitionLevel,
@@ -220,6 +249,10 @@ class ParquetVariantWriters {
 
   private interface TypedWriter extends ParquetValueWriter<VariantValue> {
     Set<PhysicalType> types();
+
+    default boolean canWrite(VariantValue value) {
+      return types().contains(value.type());
+    }
   }
 
   private static class PrimitiveWriter<T> implements TypedWriter {
@@ -253,6 +286,95 @@ class ParquetVariantWriters {
     }
   }
 
+  private static class IntegerWriter implements TypedWriter {
+    private final PhysicalType type;
+    private final Set<PhysicalType> types;
+    private final ParquetValueWriter<Object> writer;
+
+    private IntegerWriter(PhysicalType type, ParquetValueWriter<Object> writer) {
+      this.type = type;
+      this.types =
+          Sets.immutableEnumSet(INTEGER_TYPES.subList(0, INTEGER_TYPES.indexOf(type) + 1));
+      this.writer = writer;
+    }
+
+    @Override
+    public Set<PhysicalType> types() {
+      return types;
+    }
+
+    @Override
+    public void write(int repetitionLevel, VariantValue value) {
+      Number number = (Number) value.asPrimitive().get();
+      switch (type) {
+        case INT8:
+          writer.write(repetitionLevel, number.byteValue());
+          break;
+        case INT16:
+          writer.write(repetitionLevel, number.shortValue());
+          break;
+        case INT32:
+          writer.write(repetitionLevel, number.intValue());
+          break;
+        default:
+          writer.write(repetitionLevel, number.longValue());
+      }
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return writer.columns();
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      writer.setColumnStore(columnStore);
+    }
+  }
+
+  private static class DecimalWriter implements TypedWriter {
+    private final int maxIntegerDigits;
+    private final int scale;
+    private final ParquetValueWriter<BigDecimal> writer;
+
+    private DecimalWriter(int precision, int scale, ParquetValueWriter<BigDecimal> writer) {
+      this.maxIntegerDigits = precision - scale;
+      this.scale = scale;
+      this.writer = writer;
+    }
+
+    @Override
+    public Set<PhysicalType> types() {
+      return DECIMAL_TYPES;
+    }
+
+    @Override
+    public boolean canWrite(VariantValue value) {
+      if (!DECIMAL_TYPES.contains(value.type())) {
+        return false;
+      }
+
+      BigDecimal decimal = (BigDecimal) value.asPrimitive().get();
+      return decimal.scale() <= scale && decimal.precision() - decimal.scale() <= maxIntegerDigits;
+    }
+
+    @Override
+    public void write(int repetitionLevel, VariantValue value) {
+      // increasing the scale is exact
+      writer.write(repetitionLevel, ((BigDecimal) value.asPrimitive().get()).setScale(scale));
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      return writer.columns();
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      writer.setColumnStore(columnStore);
+    }
+  }
+
   private static class ShreddedVariantWriter implements ParquetValueWriter<VariantValue> {
     private final int valueDefinitionLevel;
     private final ParquetValueWriter<VariantValue> valueWriter;
@@ -274,7 +396,7 @@ class ParquetVariantWriters {
 
     @Override
     public void write(int repetitionLevel, VariantValue value) {
-      if (typedWriter.types().contains(value.type())) {
+      if (typedWriter.canWrite(value)) {
         typedWriter.write(repetitionLevel, value);
         writeNull(valueWriter, repetitionLevel, valueDefinitionLevel);
       } else {
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.Metrics;
@@ -34,9 +35,11 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.parquet.column.ColumnWriteStore;
 import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.column.page.PageWriteStore;
+import org.apache.parquet.column.values.bloomfilter.BloomFilterWriteStore;
+import org.apache.parquet.compression.CompressionCodecFactory.BytesInputCompressor;
 import org.apache.parquet.crypto.FileEncryptionProperties;
 import org.apache.parquet.crypto.InternalFileEncryptor;
-import org.apache.parquet.hadoop.CodecFactory;
 import org.apache.parquet.hadoop.ColumnChunkPageWriteStore;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
@@ -50,7 +53,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final long targetRowGroupSize;
   private final Map<String, String> metadata;
   private final ParquetProperties props;
-  private final CodecFactory.BytesCompressor compressor;
+  private final BytesInputCompressor compressor;
   private final MessageType parquetSchema;
   private final ParquetValueWriter<T> model;
   private final MetricsConfig metricsConfig;
@@ -59,8 +62,14 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final OutputFile output;
   private final Configuration conf;
   private final InternalFileEncryptor fileEncryptor;
+  private final boolean pipelined;
+  private final AdaptiveRowGroupSizer sizer;
 
   private ColumnChunkPageWriteStore pageStore = null;
+  private PipelinedPageWriteStore pipelinedStore = null;
+  private CompletableFuture<Void> pendingFlush = CompletableFuture.completedFuture(null);
+  private long pendingFlushStart = 0L;
+  private long pendingFlushSize = 0L;
   private ColumnWriteStore writeStore;
   private long recordCount = 0;
   private long nextCheckRecordCount = 10;
@@ -84,13 +93,20 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       ParquetProperties properties,
       MetricsConfig metricsConfig,
       ParquetFileWriter.Mode writeMode,
-      FileEncryptionProperties encryptionProperties) {
+      FileEncryptionProperties encryptionProperties,
+      boolean pipelined,
+      boolean adaptiveRowGroups,
+      double rowGroupSizeTolerance) {
     this.schema = schema;
     this.targetRowGroupSize = rowGroupSize;
     this.props = properties;
     this.metadata = ImmutableMap.copyOf(metadata);
+    int pageSize = props.getPageSizeThreshold();
     this.compressor =
-        new ParquetCodecFactory(conf, props.getPageSizeThreshold()).getCompressor(codec);
+        pipelined
+            ? new PipelinedPageWriteStore.PooledCompressor(
+                codec, () -> new ParquetCodecFactory(conf, pageSize).getCompressor(codec))
+            : new ParquetCodecFactory(conf, pageSize).getCompressor(codec);
     this.parquetSchema = parquetSchema;
     this.model = (ParquetValueWriter<T>) createWriterFunc.apply(schema, parquetSchema);
     this.metricsConfig = metricsConfig;
@@ -102,6 +118,11 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     this.rowGroupOrdinal = 0;
     this.fileEncryptor =
         (encryptionProperties == null ? null : new InternalFileEncryptor(encryptionProperties));
+    this.pipelined = pipelined;
+    this.sizer =
+        adaptiveRowGroups
+            ? new AdaptiveRowGroupSizer(parquetSchema, properties, rowGroupSizeTolerance)
+            : null;
 
     startRowGroup();
   }
@@ -165,7 +186,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       long length = 0L;
 
       if (writer != null) {
-        length += writer.getPos();
+        length += pipelined ? writtenLength() : writer.getPos();
       }
 
       if (!closed && recordCount > 0) {
@@ -181,6 +202,21 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     }
   }
 
+  /**
+   * Returns the length of the row groups passed to the file writer without waiting for a worker.
+   *
+   * <p>The file writer is used by a worker until the pending row group is written, so its length is
+   * estimated from the position before the row group and the row group's buffered size.
+   */
+  private long writtenLength() throws IOException {
+    if (pendingFlush.isDone()) {
+      awaitFlush();
+      return writer.getPos();
+    }
+
+    return pendingFlushStart + pendingFlushSize;
+  }
+
   @Override
   public List<Long> splitOffsets() {
     if (writer != null) {
@@ -189,7 +225,19 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     return null;
   }
 
+  /**
+   * Checks the size of the row group, which is flushed once it nears the target size.
+   *
+   * <p>When pages are compressed by workers, the size of pending pages is estimated and the check
+   * does not wait for them, so row group boundaries can differ slightly from a writer without
+   * pipelining. Pending pages are only waited for when a row group is flushed.
+   */
   private void checkSize() {
+    if (sizer != null) {
+      checkEstimatedSize();
+      return;
+    }
+
     if (recordCount >= nextCheckRecordCount) {
       long bufferedSize = writeStore.getBufferedSize();
       double avgRecordSize = ((double) bufferedSize) / recordCount;
@@ -208,12 +256,51 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     }
   }
 
+  /**
+   * Checks the estimated size of the row group, which is flushed once it is within the tolerance of
+   * the target size.
+   *
+   * <p>The next check is scheduled halfway to the estimated target record count, without the
+   * minimum check interval, so that checks become more frequent as the row group nears the target.
+   */
+  private void checkEstimatedSize() {
+    if (recordCount >= nextCheckRecordCount) {
+      long estimatedSize = sizer.estimatedSize(writeStore);
+      double avgRecordSize = ((double) estimatedSize) / recordCount;
+
+      if (sizer.isFull(estimatedSize, targetRowGroupSize)
+          || estimatedSize > (targetRowGroupSize - 2 * avgRecordSize)) {
+        flushRowGroup(false);
+      } else {
+        long remainingSpace = targetRowGroupSize - estimatedSize;
+        long remainingRecords = (long) (remainingSpace / avgRecordSize);
+        this.nextCheckRecordCount =
+            recordCount
+                + Math.min(
+                    Math.max(remainingRecords / 2, 1), props.getMaxRowCountForPageSizeCheck());
+      }
+    }
+  }
+
+  private void flushWriteStore() {
+    if (sizer != null) {
+      sizer.flush(writeStore);
+    } else {
+      writeStore.flush();
+    }
+  }
+
   private void flushRowGroup(boolean finished) {
+    if (pipelined) {
+      flushRowGroupAsync(finished);
+      return;
+    }
+
     try {
       if (recordCount > 0) {
         ensureWriterInitialized();
         writer.startBlock(recordCount);
-        writeStore.flush();
+        flushWriteStore();
         pageStore.flushToFileWriter(writer);
         writer.endBlock();
         if (!finished) {
@@ -226,6 +313,32 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     }
   }
 
+  /**
+   * Flushes the row group on a worker thread, after the previous row group is written.
+   *
+   * <p>Only one row group is written at a time so that at most one row group is buffered while the
+   * next one is encoded.
+   */
+  private void flushRowGroupAsync(boolean finished) {
+    if (recordCount > 0) {
+      ensureWriterInitialized();
+      flushWriteStore();
+      awaitFlush();
+      this.pendingFlushStart = writer.getPos();
+      this.pendingFlushSize = writeStore.getBufferedSize();
+      this.pendingFlush = pipelinedStore.flushToFileWriter(writer, recordCount);
+
+      if (!finished) {
+        writeStore.close();
+        startRowGroup();
+      }
+    }
+  }
+
+  private void awaitFlush() {
+    PipelinedPageWriteStore.join(pendingFlush);
+  }
+
   private void startRowGroup() {
     Preconditions.checkState(!closed, "Writer is closed");
 
@@ -246,7 +359,27 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
             rowGroupOrdinal);
     this.rowGroupOrdinal++;
 
-    this.writeStore = props.newColumnWriteStore(parquetSchema, pageStore, pageStore);
+    PageWriteStore pages = pageStore;
+    BloomFilterWriteStore bloomFilters = pageStore;
+    if (pipelined) {
+      this.pipelinedStore =
+          new PipelinedPageWriteStore(
+              pageStore,
+              (PipelinedPageWriteStore.PooledCompressor) compressor,
+              pendingFlush,
+              targetRowGroupSize);
+      pages = pipelinedStore;
+      bloomFilters = pipelinedStore;
+    }
+
+    if (sizer != null) {
+      AdaptiveRowGroupSizer.TrackingPageStore trackingStore =
+          sizer.startRowGroup(pages, bloomFilters);
+      this.writeStore =
+          sizer.properties().newColumnWriteStore(parquetSchema, trackingStore, trackingStore);
+    } else {
+      this.writeStore = props.newColumnWriteStore(parquetSchema, pages, bloomFilters);
+    }
 
     model.setColumnStore(writeStore);
   }
@@ -257,6 +390,11 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       this.closed = true;
       flushRowGroup(true);
       writeStore.close();
+      if (pipelined) {
+        pipelinedStore.await();
+        awaitFlush();
+      }
+
       if (writer != null) {
         writer.end(metadata);
       }
@@ -0,0 +1,442 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.ThreadPools;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageWriteStore;
+import org.apache.parquet.column.page.PageWriter;
+import org.apache.parquet.column.statistics.SizeStatistics;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.column.values.bloomfilter.BloomFilterWriteStore;
+import org.apache.parquet.column.values.bloomfilter.BloomFilterWriter;
+import org.apache.parquet.compression.CompressionCodecFactory.BytesInputCompressor;
+import org.apache.parquet.hadoop.ColumnChunkPageWriteStore;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+
+/**
+ * A page store that compresses and buffers the pages of a row group on worker threads.
+ *
+ * <p>Pages are copied and passed, in the order they are written, to a {@link
+ * ColumnChunkPageWriteStore} that compresses them on worker threads while the caller continues to
+ * encode values. The pages of each column are passed in order, but different columns are
+ * compressed in parallel, so the page store must be created with a {@link PooledCompressor} that
+ * lends a compressor to each worker action.
+ *
+ * <p>Sizes, like {@link PageWriter#getMemSize()}, do not wait for the workers. The size of pending
+ * pages is estimated from the compression ratio of the column's pages that were already
+ * compressed. At most {@code maxPendingBytes} of uncompressed pages are buffered before the caller
+ * waits for the workers to catch up.
+ */
+class PipelinedPageWriteStore implements PageWriteStore, BloomFilterWriteStore {
+  private final ColumnChunkPageWriteStore pageStore;
+  private final PooledCompressor compressor;
+  private final CompletableFuture<Void> previous;
+  private final ExecutorService executor;
+  private final long maxPendingBytes;
+  private final Map<ColumnDescriptor, PipelinedPageWriter> pageWriters = Maps.newHashMap();
+  private final AtomicLong pendingBytes = new AtomicLong(0L);
+
+  PipelinedPageWriteStore(
+      ColumnChunkPageWriteStore pageStore,
+      PooledCompressor compressor,
+      CompletableFuture<Void> previous,
+      long maxPendingBytes) {
+    this(pageStore, compressor, previous, WritePoolHolder.POOL, maxPendingBytes);
+  }
+
+  PipelinedPageWriteStore(
+      ColumnChunkPageWriteStore pageStore,
+      PooledCompressor compressor,
+      CompletableFuture<Void> previous,
+      ExecutorService executor,
+      long maxPendingBytes) {
+    this.pageStore = pageStore;
+    this.compressor = compressor;
+    this.previous = previous;
+    this.executor = executor;
+    this.maxPendingBytes = maxPendingBytes;
+  }
+
+  @Override
+  public PageWriter getPageWriter(ColumnDescriptor path) {
+    return pageWriter(path);
+  }
+
+  @Override
+  public BloomFilterWriter getBloomFilterWriter(ColumnDescriptor path) {
+    BloomFilterWriter writer = pageStore.getBloomFilterWriter(path);
+    PipelinedPageWriter pages = pageWriter(path);
+    return bloomFilter -> pages.submit(0L, false, () -> writer.writeBloomFilter(bloomFilter));
+  }
+
+  private PipelinedPageWriter pageWriter(ColumnDescriptor path) {
+    return pageWriters.computeIfAbsent(
+        path, column -> new PipelinedPageWriter(pageStore.getPageWriter(column)));
+  }
+
+  /**
+   * Writes the row group to a file once its pending pages are compressed and the previous row group
+   * is written.
+   *
+   * <p>The file writer is used by a worker until the returned future completes.
+   *
+   * @param writer a file writer
+   * @param rowCount the number of rows in the row group
+   * @return a future that completes when the row group is written
+   */
+  CompletableFuture<Void> flushToFileWriter(ParquetFileWriter writer, long rowCount) {
+    return CompletableFuture.allOf(previous, allColumns())
+        .thenRunAsync(
+            () -> {
+              try {
+                writer.startBlock(rowCount);
+                pageStore.flushToFileWriter(writer);
+                writer.endBlock();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            },
+            executor);
+  }
+
+  /** Waits for the pending pages to be passed to the page store. */
+  void await() {
+    join(allColumns());
+  }
+
+  private CompletableFuture<Void> allColumns() {
+    return CompletableFuture.allOf(
+        pageWriters.values().stream()
+            .map(writer -> writer.pending)
+            .toArray(CompletableFuture[]::new));
+  }
+
+  static void join(CompletableFuture<Void> future) {
+    try {
+      future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+
+      throw e;
+    }
+  }
+
+  private interface IOAction {
+    void run() throws IOException;
+  }
+
+  private class PipelinedPageWriter implements PageWriter {
+    private final PageWriter writer;
+    private final AtomicLong pendingPageBytes = new AtomicLong(0L);
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+    // updated by the worker after each page so that sizes can be read without waiting
+    private final AtomicLong uncompressedBytes = new AtomicLong(0L);
+    private volatile long compressedBytes = 0L;
+    private volatile long allocatedBytes = 0L;
+
+    private PipelinedPageWriter(PageWriter writer) {
+      this.writer = writer;
+    }
+
+    /**
+     * Passes an action to the worker after the column's pending actions.
+     *
+     * @param size the uncompressed size of the buffered page
+     * @param dataPage whether the page is buffered as part of {@link PageWriter#getMemSize()}
+     * @param action an action that writes to the page writer
+     */
+    private void submit(long size, boolean dataPage, IOAction action) {
+      if (pendingBytes.get() + size > maxPendingBytes) {
+        await();
+      }
+
+      pendingBytes.addAndGet(size);
+      if (dataPage) {
+        pendingPageBytes.addAndGet(size);
+      }
+
+      this.pending =
+          pending.thenRunAsync(
+              () -> {
+                compressor.borrow();
+                try {
+                  action.run();
+                  if (dataPage) {
+                    uncompressedBytes.addAndGet(size);
+                    this.compressedBytes = writer.getMemSize();
+                  }
+
+                  this.allocatedBytes = writer.allocatedSize();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                } finally {
+                  compressor.giveBack();
+                  pendingBytes.addAndGet(-size);
+                  if (dataPage) {
+                    pendingPageBytes.addAndGet(-size);
+                  }
+                }
+              },
+              executor);
+    }
+
+    @Override
+    @Deprecated
+    public void writePage(
+        BytesInput bytes,
+        int valueCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      BytesInput copy = BytesInput.copy(bytes);
+      submit(
+          copy.size(),
+          true,
+          () ->
+              writer.writePage(
+                  copy, valueCount, statistics, rlEncoding, dlEncoding, valuesEncoding));
+    }
+
+    @Override
+    public void writePage(
+        BytesInput bytes,
+        int valueCount,
+        int rowCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      BytesInput copy = BytesInput.copy(bytes);
+      submit(
+          copy.size(),
+          true,
+          () ->
+              writer.writePage(
+                  copy, valueCount, rowCount, statistics, rlEncoding, dlEncoding, valuesEncoding));
+    }
+
+    @Override
+    public void writePage(
+        BytesInput bytes,
+        int valueCount,
+        int rowCount,
+        Statistics<?> statistics,
+        SizeStatistics sizeStatistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      BytesInput copy = BytesInput.copy(bytes);
+      submit(
+          copy.size(),
+          true,
+          () ->
+              writer.writePage(
+                  copy,
+                  valueCount,
+                  rowCount,
+                  statistics,
+                  sizeStatistics,
+                  rlEncoding,
+                  dlEncoding,
+                  valuesEncoding));
+    }
+
+    @Override
+    public void writePageV2(
+        int rowCount,
+        int nullCount,
+        int valueCount,
+        BytesInput repetitionLevels,
+        BytesInput definitionLevels,
+        Encoding dataEncoding,
+        BytesInput data,
+        Statistics<?> statistics)
+        throws IOException {
+      BytesInput rlCopy = BytesInput.copy(repetitionLevels);
+      BytesInput dlCopy = BytesInput.copy(definitionLevels);
+      BytesInput dataCopy = BytesInput.copy(data);
+      submit(
+          rlCopy.size() + dlCopy.size() + dataCopy.size(),
+          true,
+          () ->
+              writer.writePageV2(
+                  rowCount,
+                  nullCount,
+                  valueCount,
+                  rlCopy,
+                  dlCopy,
+                  dataEncoding,
+                  dataCopy,
+                  statistics));
+    }
+
+    @Override
+    public void writePageV2(
+        int rowCount,
+        int nullCount,
+        int valueCount,
+        BytesInput repetitionLevels,
+        BytesInput definitionLevels,
+        Encoding dataEncoding,
+        BytesInput data,
+        Statistics<?> statistics,
+        SizeStatistics sizeStatistics)
+        throws IOException {
+      BytesInput rlCopy = BytesInput.copy(repetitionLevels);
+      BytesInput dlCopy = BytesInput.copy(definitionLevels);
+      BytesInput dataCopy = BytesInput.copy(data);
+      submit(
+          rlCopy.size() + dlCopy.size() + dataCopy.size(),
+          true,
+          () ->
+              writer.writePageV2(
+                  rowCount,
+                  nullCount,
+                  valueCount,
+                  rlCopy,
+                  dlCopy,
+                  dataEncoding,
+                  dataCopy,
+                  statistics,
+                  sizeStatistics));
+    }
+
+    @Override
+    public void writeDictionaryPage(DictionaryPage dictionaryPage) throws IOException {
+      DictionaryPage copy = dictionaryPage.copy();
+      submit(copy.getBytes().size(), false, () -> writer.writeDictionaryPage(copy));
+    }
+
+    @Override
+    public long getMemSize() {
+      long compressed = compressedBytes;
+      long uncompressed = uncompressedBytes.get();
+      long pendingSize = pendingPageBytes.get();
+      if (uncompressed > 0) {
+        return compressed + (long) (pendingSize * ((double) compressed / uncompressed));
+      }
+
+      return compressed + pendingSize;
+    }
+
+    @Override
+    public long allocatedSize() {
+      return allocatedBytes + pendingPageBytes.get();
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+      join(pending);
+      return writer.memUsageString(prefix);
+    }
+  }
+
+  /**
+   * A compressor that lends a separate compressor to each worker action, so that columns can be
+   * compressed in parallel.
+   *
+   * <p>Compressors reuse their output buffer, so the compressed bytes are only valid until the same
+   * compressor is used again. The page store consumes them before the action gives its compressor
+   * back. Compressors belong to the writer rather than to the shared pool's threads, so they are
+   * all released with the writer.
+   */
+  static class PooledCompressor implements BytesInputCompressor {
+    private final CompressionCodecName codec;
+    private final Supplier<BytesInputCompressor> newCompressor;
+    private final Queue<BytesInputCompressor> compressors = new ConcurrentLinkedQueue<>();
+    private final Queue<BytesInputCompressor> idle = new ConcurrentLinkedQueue<>();
+    // only set while a worker runs an action, so no entries are left on the pool's threads
+    private final ThreadLocal<BytesInputCompressor> borrowed = new ThreadLocal<>();
+
+    PooledCompressor(CompressionCodecName codec, Supplier<BytesInputCompressor> newCompressor) {
+      this.codec = codec;
+      this.newCompressor = newCompressor;
+    }
+
+    /** Lends an idle compressor to the current thread until {@link #giveBack()} is called. */
+    private void borrow() {
+      BytesInputCompressor compressor = idle.poll();
+      if (compressor == null) {
+        compressor = newCompressor.get();
+        compressors.add(compressor);
+      }
+
+      borrowed.set(compressor);
+    }
+
+    private void giveBack() {
+      BytesInputCompressor compressor = borrowed.get();
+      borrowed.remove();
+      idle.add(compressor);
+    }
+
+    @Override
+    public BytesInput compress(BytesInput bytes) throws IOException {
+      BytesInputCompressor compressor = borrowed.get();
+      Preconditions.checkState(compressor != null, "Cannot compress outside of a page action");
+      return compressor.compress(bytes);
+    }
+
+    @Override
+    public CompressionCodecName getCodecName() {
+      return codec;
+    }
+
+    @Override
+    public void release() {
+      idle.clear();
+      BytesInputCompressor compressor = compressors.poll();
+      while (compressor != null) {
+        compressor.release();
+        compressor = compressors.poll();
+      }
+    }
+  }
+
+  private static class WritePoolHolder {
+    private static final ExecutorService POOL =
+        ThreadPools.newExitingWorkerPool(
+            "iceberg-parquet-write", ThreadPools.WORKER_THREAD_POOL_SIZE);
+
+    private WritePoolHolder() {}
+  }
+}
@@ -24,19 +24,29 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMapping;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
 
 /**
  * Configuration for Parquet readers.
@@ -52,7 +62,10 @@ class ReadConf<T> {
   private final VectorizedReader<T> vectorizedModel;
   private final List<BlockMetaData> rowGroups;
   private final boolean[] shouldSkip;
-  private final long totalValues;
+  private final RowRanges[] rowRanges;
+  private final ParquetRowFilter rowFilter;
+  private final MessageType filterProjection;
+  private final MessageType lateProjection;
   private final boolean reuseContainers;
   private final Integer batchSize;
 
@@ -77,30 +90,61 @@ class ReadConf<T> {
     MessageType fileSchema = reader.getFileMetaData().getSchema();
 
     MessageType typeWithIds;
+    Function<Schema, MessageType> pruneColumns;
     if (ParquetSchemaUtil.hasIds(fileSchema)) {
       typeWithIds = fileSchema;
-      this.projection = ParquetSchemaUtil.pruneColumns(fileSchema, expectedSchema);
+      pruneColumns = schema -> ParquetSchemaUtil.pruneColumns(fileSchema, schema);
     } else if (nameMapping != null) {
-      typeWithIds = ParquetSchemaUtil.applyNameMapping(fileSchema, nameMapping);
-      this.projection = ParquetSchemaUtil.pruneColumns(typeWithIds, expectedSchema);
+      MessageType mappedSchema = ParquetSchemaUtil.applyNameMapping(fileSchema, nameMapping);
+      typeWithIds = mappedSchema;
+      pruneColumns = schema -> ParquetSchemaUtil.pruneColumns(mappedSchema, schema);
     } else {
       typeWithIds = ParquetSchemaUtil.addFallbackIds(fileSchema);
-      this.projection = ParquetSchemaUtil.pruneColumnsFallback(fileSchema, expectedSchema);
+      pruneColumns = schema -> ParquetSchemaUtil.pruneColumnsFallback(fileSchema, schema);
     }
 
+    this.projection = pruneColumns.apply(expectedSchema);
+
     this.rowGroups = reader.getRowGroups();
     this.shouldSkip = new boolean[rowGroups.size()];
+    this.rowRanges = new RowRanges[rowGroups.size()];
 
     ParquetMetricsRowGroupFilter statsFilter = null;
     ParquetDictionaryRowGroupFilter dictFilter = null;
     ParquetBloomRowGroupFilter bloomFilter = null;
+    ParquetColumnIndexFilter columnIndexFilter = null;
+    ParquetRowFilter lateFilter = null;
+    MessageType lateFilterProjection = null;
     if (filter != null) {
       statsFilter = new ParquetMetricsRowGroupFilter(expectedSchema, filter, caseSensitive);
       dictFilter = new ParquetDictionaryRowGroupFilter(expectedSchema, filter, caseSensitive);
       bloomFilter = new ParquetBloomRowGroupFilter(expectedSchema, filter, caseSensitive);
+      // page skipping is off by default, parquet-mr's column index filter setting is ignored
+      String pageSkipping = options.getProperty(TableProperties.PARQUET_PAGE_SKIPPING_ENABLED);
+      if (Boolean.parseBoolean(pageSkipping)) {
+        columnIndexFilter = new ParquetColumnIndexFilter(expectedSchema, filter, caseSensitive);
+      }
+
+      String lateMaterialization =
+          options.getProperty(TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED);
+      if (Boolean.parseBoolean(lateMaterialization)) {
+        lateFilter = new ParquetRowFilter(expectedSchema, typeWithIds, filter, caseSensitive);
+        lateFilterProjection = pruneColumns.apply(lateFilter.filterSchema());
+        int filterColumns = lateFilterProjection.getColumns().size();
+        if (filterColumns == 0 || filterColumns >= projection.getColumns().size()) {
+          // there are no columns left to materialize late
+          lateFilter = null;
+        } else if (!lateFilter.canEvaluate()) {
+          lateFilter = null;
+        }
+      }
     }
 
-    long computedTotalValues = 0L;
+    this.rowFilter = lateFilter;
+    this.filterProjection = lateFilter != null ? lateFilterProjection : null;
+    this.lateProjection =
+        lateFilter != null ? withoutColumns(projection, lateFilterProjection) : null;
+
     for (int i = 0; i < shouldSkip.length; i += 1) {
       BlockMetaData rowGroup = rowGroups.get(i);
       boolean shouldRead =
@@ -110,13 +154,21 @@ class ReadConf<T> {
                       typeWithIds, rowGroup, reader.getDictionaryReader(rowGroup))
                   && bloomFilter.shouldRead(
                       typeWithIds, rowGroup, reader.getBloomFilterDataReader(rowGroup)));
-      this.shouldSkip[i] = !shouldRead;
-      if (shouldRead) {
-        computedTotalValues += rowGroup.getRowCount();
+
+      RowRanges ranges = null;
+      if (shouldRead && columnIndexFilter != null) {
+        ranges = filterPages(columnIndexFilter, typeWithIds, i, rowGroup.getRowCount());
       }
+
+      if (ranges != null && ranges.rowCount() == 0) {
+        shouldRead = false;
+      } else if (ranges != null && ranges.rowCount() < rowGroup.getRowCount()) {
+        this.rowRanges[i] = ranges;
+      }
+
+      this.shouldSkip[i] = !shouldRead;
     }
 
-    this.totalValues = computedTotalValues;
     if (readerFunc != null) {
       this.model = (ParquetValueReader<T>) readerFunc.apply(typeWithIds);
       this.vectorizedModel = null;
@@ -139,7 +191,10 @@ class ReadConf<T> {
     this.model = toCopy.model;
     this.rowGroups = toCopy.rowGroups;
     this.shouldSkip = toCopy.shouldSkip;
-    this.totalValues = toCopy.totalValues;
+    this.rowRanges = toCopy.rowRanges;
+    this.rowFilter = toCopy.rowFilter;
+    this.filterProjection = toCopy.filterProjection;
+    this.lateProjection = toCopy.lateProjection;
     this.reuseContainers = toCopy.reuseContainers;
     this.batchSize = toCopy.batchSize;
     this.vectorizedModel = toCopy.vectorizedModel;
@@ -165,12 +220,78 @@ class ReadConf<T> {
     return vectorizedModel;
   }
 
-  boolean[] shouldSkip() {
-    return shouldSkip;
+  int rowGroupCount() {
+    return rowGroups.size();
   }
 
-  long totalValues() {
-    return totalValues;
+  /**
+   * Reads the pages of a row group which hold the rows to return, and moves the given reader past
+   * the row group. Row groups must be read in order.
+   *
+   * <p>With late materialization, the filter columns of the row group are read and the filter is
+   * evaluated on every row first. The pages of the filter columns are kept in memory, and only the
+   * pages of the other columns which hold matching rows are read.
+   *
+   * @param fileReader the reader returned by {@link #reader()}
+   * @param rowGroupIndex the index of the row group
+   * @return the pages to read, or null if the row group holds no row to return
+   */
+  RowGroupPages readRowGroup(ParquetFileReader fileReader, int rowGroupIndex) throws IOException {
+    if (shouldSkip[rowGroupIndex]) {
+      fileReader.skipNextRowGroup();
+      return null;
+    }
+
+    RowRanges ranges = rowRanges[rowGroupIndex];
+    List<OffsetIndex> offsetIndexes =
+        rowFilter != null ? offsetIndexes(fileReader.getColumnIndexStore(rowGroupIndex)) : null;
+    if (offsetIndexes == null) {
+      return new RowGroupPages(ParquetUtil.readRowGroup(fileReader, rowGroupIndex, ranges), ranges);
+    }
+
+    long rowCount = rowGroups.get(rowGroupIndex).getRowCount();
+    try {
+      fileReader.setRequestedSchema(filterProjection);
+      FilterColumnPages filterPages =
+          new FilterColumnPages(
+              ranges != null
+                  ? fileReader.readFilteredRowGroup(rowGroupIndex, ranges)
+                  : fileReader.readRowGroup(rowGroupIndex));
+
+      long[] matchingRows;
+      synchronized (rowFilter) {
+        matchingRows = rowFilter.matchingRows(filterPages);
+      }
+
+      RowRanges selected = RowRanges.EMPTY;
+      for (OffsetIndex offsetIndex : offsetIndexes) {
+        selected =
+            RowRanges.union(
+                selected, ParquetRowFilter.pagesWithRows(matchingRows, offsetIndex, rowCount));
+      }
+
+      selected = alignToPages(selected, offsetIndexes, rowCount);
+      if (selected.rowCount() == 0) {
+        return null;
+      }
+
+      List<ColumnDescriptor> filterColumns = filterProjection.getColumns();
+      List<OffsetIndex> filterOffsetIndexes = Lists.newArrayList();
+      for (ColumnDescriptor column : filterColumns) {
+        filterOffsetIndexes.add(offsetIndexes.get(projection.getColumns().indexOf(column)));
+      }
+
+      fileReader.setRequestedSchema(lateProjection);
+      PageReadStore otherPages = fileReader.readFilteredRowGroup(rowGroupIndex, selected);
+      PageReadStore pages =
+          filterPages.select(
+              filterColumns, filterOffsetIndexes, ranges, selected, rowCount, otherPages);
+      return new RowGroupPages(pages, selected.rowCount() < rowCount ? selected : null);
+    } finally {
+      fileReader.setRequestedSchema(projection);
+      // keep the position of the reader in sync with the row group that was read
+      fileReader.skipNextRowGroup();
+    }
   }
 
   boolean reuseContainers() {
@@ -197,6 +318,102 @@ class ReadConf<T> {
     }
   }
 
+  /**
+   * Returns the rows of a row group which must be read to evaluate the filter, based on the column
+   * and offset indexes, or null if the indexes are not available.
+   */
+  private RowRanges filterPages(
+      ParquetColumnIndexFilter columnIndexFilter,
+      MessageType fileSchema,
+      int rowGroupIndex,
+      long rowCount) {
+    ColumnIndexStore columnIndexStore = reader.getColumnIndexStore(rowGroupIndex);
+    List<OffsetIndex> offsetIndexes = offsetIndexes(columnIndexStore);
+    if (offsetIndexes == null) {
+      return null;
+    }
+
+    RowRanges ranges = columnIndexFilter.calculateRowRanges(fileSchema, columnIndexStore, rowCount);
+    return alignToPages(ranges, offsetIndexes, rowCount);
+  }
+
+  /** Returns the offset indexes of the projected columns, or null if any is missing. */
+  private List<OffsetIndex> offsetIndexes(ColumnIndexStore columnIndexStore) {
+    List<OffsetIndex> offsetIndexes = Lists.newArrayList();
+    for (ColumnDescriptor column : projection.getColumns()) {
+      try {
+        offsetIndexes.add(columnIndexStore.getOffsetIndex(ColumnPath.get(column.getPath())));
+      } catch (ColumnIndexStore.MissingOffsetIndexException e) {
+        return null;
+      }
+    }
+
+    return offsetIndexes;
+  }
+
+  /**
+   * Extends the rows to the boundaries of the pages of all projected columns, so that the pages
+   * read for each column hold exactly the same rows. Readers can then read the pages of each
+   * column sequentially, without having to synchronize the columns on row indexes.
+   */
+  private static RowRanges alignToPages(
+      RowRanges rowRanges, List<OffsetIndex> offsetIndexes, long rowCount) {
+    RowRanges ranges = rowRanges;
+    long alignedRowCount;
+    do {
+      alignedRowCount = ranges.rowCount();
+      for (OffsetIndex offsetIndex : offsetIndexes) {
+        ranges = RowRanges.union(ranges, overlappingPages(ranges, offsetIndex, rowCount));
+      }
+    } while (ranges.rowCount() != alignedRowCount);
+
+    return ranges;
+  }
+
+  /** Returns the schema without the given columns, keeping the groups which still hold columns. */
+  private static MessageType withoutColumns(MessageType schema, MessageType columns) {
+    Set<ColumnPath> paths =
+        columns.getColumns().stream()
+            .map(column -> ColumnPath.get(column.getPath()))
+            .collect(Collectors.toSet());
+    return new MessageType(schema.getName(), withoutColumns(schema, ImmutableList.of(), paths));
+  }
+
+  private static List<Type> withoutColumns(
+      GroupType group, List<String> groupPath, Set<ColumnPath> paths) {
+    List<Type> fields = Lists.newArrayList();
+    for (Type field : group.getFields()) {
+      List<String> path =
+          ImmutableList.<String>builder().addAll(groupPath).add(field.getName()).build();
+      if (field.isPrimitive()) {
+        if (!paths.contains(ColumnPath.get(path.toArray(new String[0])))) {
+          fields.add(field);
+        }
+      } else {
+        List<Type> children = withoutColumns(field.asGroupType(), path, paths);
+        if (!children.isEmpty()) {
+          fields.add(field.asGroupType().withNewFields(children));
+        }
+      }
+    }
+
+    return fields;
+  }
+
+  private static RowRanges overlappingPages(
+      RowRanges ranges, OffsetIndex offsetIndex, long rowCount) {
+    return RowRanges.create(
+        rowCount,
+        IntStream.range(0, offsetIndex.getPageCount())
+            .filter(
+                page ->
+                    ranges.isOverlapping(
+                        offsetIndex.getFirstRowIndex(page),
+                        offsetIndex.getLastRowIndex(page, rowCount)))
+            .iterator(),
+        offsetIndex);
+  }
+
   private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
     Set<ColumnPath> projectedColumns =
         projection.getColumns().stream()
@@ -220,4 +437,24 @@ class ReadConf<T> {
     }
     return listBuilder.build();
   }
+
+  /** The pages of a row group to read, and the ranges of the rows they hold. */
+  static class RowGroupPages {
+    private final PageReadStore pages;
+    private final RowRanges rowRanges;
+
+    private RowGroupPages(PageReadStore pages, RowRanges rowRanges) {
+      this.pages = pages;
+      this.rowRanges = rowRanges;
+    }
+
+    PageReadStore pages() {
+      return pages;
+    }
+
+    /** Returns the ranges of the rows held by the pages, or null if they hold every row. */
+    RowRanges rowRanges() {
+      return rowRanges;
+    }
+  }
 }
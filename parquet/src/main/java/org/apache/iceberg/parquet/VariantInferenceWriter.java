@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.variants.Variant;
+
+/**
+ * A {@link FileAppender} that infers the shredded types of the top-level variant fields from the
+ * first rows written to a file.
+ *
+ * <p>Rows are copied and buffered until the sample size is reached or the appender is closed. The
+ * Parquet writer is then created with a {@link VariantShreddingFunction} that returns the inferred
+ * types, and the buffered rows are written to it.
+ */
+class VariantInferenceWriter<D> implements FileAppender<D> {
+  private final int sampleSize;
+  private final Function<D, D> copyFunc;
+  private final BiFunction<D, Integer, Variant> variantFunc;
+  private final Function<VariantShreddingFunction, FileAppender<D>> createWriterFunc;
+  private final Map<Integer, Integer> variantPositions = Maps.newHashMap();
+  private final Map<Integer, VariantShreddingAnalyzer> analyzers = Maps.newHashMap();
+  private final List<D> buffer;
+  private FileAppender<D> writer = null;
+  private boolean closed = false;
+
+  VariantInferenceWriter(
+      Schema schema,
+      int sampleSize,
+      Function<D, D> copyFunc,
+      BiFunction<D, Integer, Variant> variantFunc,
+      Function<VariantShreddingFunction, FileAppender<D>> createWriterFunc) {
+    Preconditions.checkArgument(
+        sampleSize > 0, "Invalid sample size: %s (must be > 0)", sampleSize);
+    this.sampleSize = sampleSize;
+    this.copyFunc = copyFunc;
+    this.variantFunc = variantFunc;
+    this.createWriterFunc = createWriterFunc;
+    this.buffer = Lists.newArrayListWithExpectedSize(sampleSize);
+
+    List<Types.NestedField> columns = schema.columns();
+    for (int pos = 0; pos < columns.size(); pos += 1) {
+      Types.NestedField field = columns.get(pos);
+      if (field.type().isVariantType()) {
+        variantPositions.put(field.fieldId(), pos);
+        analyzers.put(field.fieldId(), new VariantShreddingAnalyzer());
+      }
+    }
+  }
+
+  /** Returns whether the schema has top-level variant fields to infer shredded types for. */
+  static boolean hasVariants(Schema schema) {
+    return schema.columns().stream().anyMatch(field -> field.type().isVariantType());
+  }
+
+  @Override
+  public void add(D datum) {
+    if (writer != null) {
+      writer.add(datum);
+      return;
+    }
+
+    for (Map.Entry<Integer, Integer> entry : variantPositions.entrySet()) {
+      Variant variant = variantFunc.apply(datum, entry.getValue());
+      if (variant != null) {
+        analyzers.get(entry.getKey()).add(variant.value());
+      }
+    }
+
+    buffer.add(copyFunc.apply(datum));
+    if (buffer.size() >= sampleSize) {
+      startWriter();
+    }
+  }
+
+  private void startWriter() {
+    Map<Integer, org.apache.parquet.schema.Type> shreddedTypes = Maps.newHashMap();
+    analyzers.forEach((fieldId, analyzer) -> shreddedTypes.put(fieldId, analyzer.shreddedType()));
+
+    this.writer = createWriterFunc.apply((fieldId, name) -> shreddedTypes.get(fieldId));
+    for (D datum : buffer) {
+      writer.add(datum);
+    }
+
+    buffer.clear();
+    analyzers.clear();
+  }
+
+  @Override
+  public Metrics metrics() {
+    Preconditions.checkState(closed, "Cannot return metrics for unclosed writer");
+    return writer.metrics();
+  }
+
+  @Override
+  public long length() {
+    // buffered rows are not included because their encoded size is not known
+    return writer != null ? writer.length() : 0L;
+  }
+
+  @Override
+  public List<Long> splitOffsets() {
+    return writer != null ? writer.splitOffsets() : null;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      this.closed = true;
+      if (writer == null) {
+        startWriter();
+      }
+
+      writer.close();
+    }
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.variants.PhysicalType;
+import org.apache.iceberg.variants.VariantArray;
+import org.apache.iceberg.variants.VariantObject;
+import org.apache.iceberg.variants.VariantPrimitive;
+import org.apache.iceberg.variants.VariantValue;
+import org.apache.iceberg.variants.Variants;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.Type;
+
+/**
+ * Infers a shredded {@code typed_value} type from a sample of the values of a variant field.
+ *
+ * <p>A value is shredded when one type accounts for at least {@link #MIN_TYPE_FREQUENCY} of its
+ * non-null values; values of other types are written to the variant-encoded {@code value} column.
+ * Integers of different widths are counted as one type and shredded as the widest width seen.
+ * Decimals are also counted as one type and shredded with a precision and scale that fits all of
+ * the decimals seen, unless that needs more than {@link #MAX_DECIMAL_PRECISION} digits.
+ * Object fields are shredded when they occur in at least {@link #MIN_FIELD_FREQUENCY} of the
+ * objects, keeping at most {@link #MAX_FIELDS} of the most frequent fields per object. Arrays are
+ * shredded using the type inferred from all of their elements.
+ */
+class VariantShreddingAnalyzer {
+  static final double MIN_TYPE_FREQUENCY = 0.9;
+  static final double MIN_FIELD_FREQUENCY = 0.1;
+  static final int MAX_FIELDS = 100;
+  static final int MAX_DECIMAL_PRECISION = 38;
+
+  private static final String OBJECT_KEY = "object";
+  private static final String ARRAY_KEY = "array";
+  private static final String BOOLEAN_KEY = "boolean";
+  private static final String INTEGER_KEY = "integer";
+  private static final String DECIMAL_KEY = "decimal";
+
+  private final Node root = new Node();
+
+  /** Adds a value to the sample. */
+  void add(VariantValue value) {
+    root.add(value);
+  }
+
+  /**
+   * Returns the {@code typed_value} type inferred from the sample, or null if the values should not
+   * be shredded.
+   */
+  Type shreddedType() {
+    return root.shreddedType();
+  }
+
+  private static class Node {
+    private final Map<String, Integer> typeCounts = Maps.newHashMap();
+    private final Map<String, VariantPrimitive<?>> primitives = Maps.newHashMap();
+    private final Map<String, Node> fields = Maps.newLinkedHashMap();
+    private final Map<String, Integer> fieldCounts = Maps.newHashMap();
+    private Node element = null;
+    private int count = 0;
+    private int decimalIntegerDigits = 0;
+    private int decimalScale = 0;
+
+    private void add(VariantValue value) {
+      if (value == null || value.type() == PhysicalType.NULL) {
+        return;
+      }
+
+      count += 1;
+      switch (value.type()) {
+        case OBJECT:
+          increment(typeCounts, OBJECT_KEY);
+          VariantObject object = value.asObject();
+          for (String name : object.fieldNames()) {
+            increment(fieldCounts, name);
+            fields.computeIfAbsent(name, ignored -> new Node()).add(object.get(name));
+          }
+
+          break;
+
+        case ARRAY:
+          increment(typeCounts, ARRAY_KEY);
+          VariantArray array = value.asArray();
+          if (element == null) {
+            this.element = new Node();
+          }
+
+          for (int index = 0; index < array.numElements(); index += 1) {
+            element.add(array.get(index));
+          }
+
+          break;
+
+        default:
+          VariantPrimitive<?> primitive = value.asPrimitive();
+          String key = typeKey(primitive);
+          increment(typeCounts, key);
+          if (INTEGER_KEY.equals(key)) {
+            primitives.merge(key, primitive, Node::wider);
+          } else if (DECIMAL_KEY.equals(key)) {
+            BigDecimal decimal = (BigDecimal) primitive.get();
+            this.decimalIntegerDigits =
+                Math.max(decimalIntegerDigits, decimal.precision() - decimal.scale());
+            this.decimalScale = Math.max(decimalScale, decimal.scale());
+          } else {
+            primitives.putIfAbsent(key, primitive);
+          }
+      }
+    }
+
+    private Type shreddedType() {
+      String type = null;
+      int typeCount = 0;
+      for (Map.Entry<String, Integer> entry : typeCounts.entrySet()) {
+        if (entry.getValue() > typeCount) {
+          type = entry.getKey();
+          typeCount = entry.getValue();
+        }
+      }
+
+      if (type == null || typeCount < MIN_TYPE_FREQUENCY * count) {
+        return null;
+      }
+
+      switch (type) {
+        case OBJECT_KEY:
+          return objectType(typeCount);
+        case ARRAY_KEY:
+          Type elementType = element.shreddedType();
+          return elementType != null ? ParquetVariantUtil.shreddedList(elementType) : null;
+        case DECIMAL_KEY:
+          return decimalType();
+        default:
+          return ParquetVariantUtil.toParquetSchema(primitives.get(type));
+      }
+    }
+
+    private Type decimalType() {
+      int precision = decimalIntegerDigits + decimalScale;
+      PhysicalType type;
+      if (precision <= 9) {
+        type = PhysicalType.DECIMAL4;
+      } else if (precision <= 18) {
+        type = PhysicalType.DECIMAL8;
+      } else if (precision <= MAX_DECIMAL_PRECISION) {
+        type = PhysicalType.DECIMAL16;
+      } else {
+        return null;
+      }
+
+      return ParquetVariantUtil.toParquetSchema(
+          Variants.of(type, BigDecimal.ZERO.setScale(decimalScale)));
+    }
+
+    private Type objectType(int objectCount) {
+      List<String> names = Lists.newArrayList();
+      for (String name : fields.keySet()) {
+        if (fieldCounts.get(name) >= MIN_FIELD_FREQUENCY * objectCount) {
+          names.add(name);
+        }
+      }
+
+      if (names.size() > MAX_FIELDS) {
+        // keep the most frequent fields; the sort is stable so ties keep the order of occurrence
+        names.sort((left, right) -> Integer.compare(fieldCounts.get(right), fieldCounts.get(left)));
+        names = names.subList(0, MAX_FIELDS);
+      }
+
+      if (names.isEmpty()) {
+        // Parquet cannot write a typed_value group with no fields
+        return null;
+      }
+
+      Set<String> selected = Sets.newHashSet(names);
+      List<GroupType> shreddedFields = Lists.newArrayList();
+      for (String name : fields.keySet()) {
+        if (selected.contains(name)) {
+          shreddedFields.add(
+              ParquetVariantUtil.shreddedField(name, fields.get(name).shreddedType()));
+        }
+      }
+
+      return ParquetVariantUtil.shreddedObject(shreddedFields);
+    }
+
+    private static String typeKey(VariantPrimitive<?> primitive) {
+      switch (primitive.type()) {
+        case BOOLEAN_TRUE:
+        case BOOLEAN_FALSE:
+          return BOOLEAN_KEY;
+        case INT8:
+        case INT16:
+        case INT32:
+        case INT64:
+          return INTEGER_KEY;
+        case DECIMAL4:
+        case DECIMAL8:
+        case DECIMAL16:
+          return DECIMAL_KEY;
+        default:
+          return primitive.type().name();
+      }
+    }
+
+    private static VariantPrimitive<?> wider(
+        VariantPrimitive<?> left, VariantPrimitive<?> right) {
+      // integer physical types are declared from the narrowest to the widest
+      return right.type().ordinal() > left.type().ordinal() ? right : left;
+    }
+
+    private static void increment(Map<String, Integer> counts, String key) {
+      counts.merge(key, 1, Integer::sum);
+    }
+  }
+}
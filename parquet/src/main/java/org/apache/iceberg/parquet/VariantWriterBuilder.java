@@ -46,11 +46,30 @@ import org.apache.parquet.schema.Type;
 public class VariantWriterBuilder extends ParquetVariantVisitor<ParquetValueWriter<?>> {
   private final MessageType schema;
   private final Iterable<String> basePath;
+  private final boolean inferredShredding;
   private final Deque<String> fieldNames = Lists.newLinkedList();
 
   public VariantWriterBuilder(MessageType schema, Iterable<String> basePath) {
+    this(schema, basePath, false);
+  }
+
+  /**
+   * Creates a builder for the writer of a variant column.
+   *
+   * <p>Shredded values are written to {@code typed_value} only when their type matches the shredded
+   * type exactly. Inferred shredded types merge integer widths and decimal scales, so when the
+   * types were inferred, integers are also widened to the shredded width and decimals are rescaled
+   * to the shredded scale when that does not round.
+   *
+   * @param schema the Parquet file schema
+   * @param basePath the path of the variant column
+   * @param inferredShredding whether the shredded types were inferred from the written values
+   */
+  public VariantWriterBuilder(
+      MessageType schema, Iterable<String> basePath, boolean inferredShredding) {
     this.schema = schema;
     this.basePath = basePath;
+    this.inferredShredding = inferredShredding;
   }
 
   @Override
@@ -96,7 +115,7 @@ public class VariantWriterBuilder extends ParquetVariantVisitor<ParquetValueWrit
     LogicalTypeAnnotation annotation = primitive.getLogicalTypeAnnotation();
     if (annotation != null) {
       Optional<ParquetValueWriter<?>> writer =
-          annotation.accept(new LogicalTypeToVariantWriter(desc));
+          annotation.accept(new LogicalTypeToVariantWriter(desc, inferredShredding));
       if (writer.isPresent()) {
         return writer.get();
       }
@@ -112,11 +131,9 @@ public class VariantWriterBuilder extends ParquetVariantVisitor<ParquetValueWrit
               PhysicalType.BOOLEAN_TRUE,
               PhysicalType.BOOLEAN_FALSE);
         case INT32:
-          return ParquetVariantWriters.primitive(
-              ParquetValueWriters.ints(desc), PhysicalType.INT32);
+          return integer(ParquetValueWriters.ints(desc), PhysicalType.INT32, inferredShredding);
         case INT64:
-          return ParquetVariantWriters.primitive(
-              ParquetValueWriters.longs(desc), PhysicalType.INT64);
+          return integer(ParquetValueWriters.longs(desc), PhysicalType.INT64, inferredShredding);
         case FLOAT:
           // use an unboxed writer to skip metrics collection that requires an ID
           return ParquetVariantWriters.primitive(
@@ -180,12 +197,28 @@ public class VariantWriterBuilder extends ParquetVariantVisitor<ParquetValueWrit
     return ParquetVariantWriters.shredded(valueDL, valueWriter, typedDL, typedWriter);
   }
 
+  private static ParquetValueWriter<VariantValue> integer(
+      ParquetValueWriter<?> writer, PhysicalType type, boolean widen) {
+    return widen
+        ? ParquetVariantWriters.integer(writer, type)
+        : ParquetVariantWriters.primitive(writer, type);
+  }
+
+  private static ParquetValueWriter<VariantValue> decimal(
+      ParquetValueWriter<?> writer, PhysicalType type, int precision, int scale, boolean widen) {
+    return widen
+        ? ParquetVariantWriters.decimal(writer, precision, scale)
+        : ParquetVariantWriters.primitive(writer, type);
+  }
+
   private static class LogicalTypeToVariantWriter
       implements LogicalTypeAnnotationVisitor<ParquetValueWriter<?>> {
     private final ColumnDescriptor desc;
+    private final boolean widen;
 
-    private LogicalTypeToVariantWriter(ColumnDescriptor desc) {
+    private LogicalTypeToVariantWriter(ColumnDescriptor desc, boolean widen) {
       this.desc = desc;
+      this.widen = widen;
     }
 
     @Override
@@ -197,30 +230,34 @@ public class VariantWriterBuilder extends ParquetVariantVisitor<ParquetValueWrit
 
     @Override
     public Optional<ParquetValueWriter<?>> visit(DecimalLogicalTypeAnnotation decimal) {
-      ParquetValueWriter<VariantValue> writer;
+      int precision = decimal.getPrecision();
+      int scale = decimal.getScale();
       switch (desc.getPrimitiveType().getPrimitiveTypeName()) {
         case FIXED_LEN_BYTE_ARRAY:
         case BINARY:
-          writer =
-              ParquetVariantWriters.primitive(
-                  ParquetValueWriters.decimalAsFixed(
-                      desc, decimal.getPrecision(), decimal.getScale()),
-                  PhysicalType.DECIMAL16);
-          return Optional.of(writer);
+          return Optional.of(
+              decimal(
+                  ParquetValueWriters.decimalAsFixed(desc, precision, scale),
+                  PhysicalType.DECIMAL16,
+                  precision,
+                  scale,
+                  widen));
         case INT64:
-          writer =
-              ParquetVariantWriters.primitive(
-                  ParquetValueWriters.decimalAsLong(
-                      desc, decimal.getPrecision(), decimal.getScale()),
-                  PhysicalType.DECIMAL8);
-          return Optional.of(writer);
+          return Optional.of(
+              decimal(
+                  ParquetValueWriters.decimalAsLong(desc, precision, scale),
+                  PhysicalType.DECIMAL8,
+                  precision,
+                  scale,
+                  widen));
         case INT32:
-          writer =
-              ParquetVariantWriters.primitive(
-                  ParquetValueWriters.decimalAsInteger(
-                      desc, decimal.getPrecision(), decimal.getScale()),
-                  PhysicalType.DECIMAL4);
-          return Optional.of(writer);
+          return Optional.of(
+              decimal(
+                  ParquetValueWriters.decimalAsInteger(desc, precision, scale),
+                  PhysicalType.DECIMAL4,
+                  precision,
+                  scale,
+                  widen));
       }
 
       throw new IllegalArgumentException(
@@ -255,21 +292,16 @@ public class VariantWriterBuilder extends ParquetVariantVisitor<ParquetValueWrit
       ParquetValueWriter<?> writer;
       switch (logical.getBitWidth()) {
         case 8:
-          writer =
-              ParquetVariantWriters.primitive(
-                  ParquetValueWriters.tinyints(desc), PhysicalType.INT8);
+          writer = integer(ParquetValueWriters.tinyints(desc), PhysicalType.INT8, widen);
           return Optional.of(writer);
         case 16:
-          writer =
-              ParquetVariantWriters.primitive(ParquetValueWriters.shorts(desc), PhysicalType.INT16);
+          writer = integer(ParquetValueWriters.shorts(desc), PhysicalType.INT16, widen);
           return Optional.of(writer);
         case 32:
-          writer =
-              ParquetVariantWriters.primitive(ParquetValueWriters.ints(desc), PhysicalType.INT32);
+          writer = integer(ParquetValueWriters.ints(desc), PhysicalType.INT32, widen);
           return Optional.of(writer);
         case 64:
-          writer =
-              ParquetVariantWriters.primitive(ParquetValueWriters.longs(desc), PhysicalType.INT64);
+          writer = integer(ParquetValueWriters.longs(desc), PhysicalType.INT64, widen);
           return Optional.of(writer);
       }
 
@@ -19,6 +19,7 @@
 package org.apache.iceberg.parquet;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -37,6 +38,7 @@ import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.schema.MessageType;
 
 public class VectorizedParquetReader<T> extends CloseableGroup implements CloseableIterable<T> {
@@ -102,22 +104,22 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
   }
 
   private static class FileIterator<T> implements CloseableIterator<T> {
+    private final ReadConf conf;
     private final ParquetFileReader reader;
-    private final boolean[] shouldSkip;
     private final VectorizedReader<T> model;
-    private final long totalValues;
     private final int batchSize;
     private final List<Map<ColumnPath, ColumnChunkMetaData>> columnChunkMetadata;
     private final boolean reuseContainers;
     private int nextRowGroup = 0;
     private long nextRowGroupStart = 0;
+    private Iterator<RowRanges.Range> nextRanges = null;
+    private long nextRangeStart = 0;
     private long valuesRead = 0;
     private T last = null;
 
     FileIterator(ReadConf conf) {
+      this.conf = conf;
       this.reader = conf.reader();
-      this.shouldSkip = conf.shouldSkip();
-      this.totalValues = conf.totalValues();
       this.reuseContainers = conf.reuseContainers();
       this.model = conf.vectorizedModel();
       this.batchSize = conf.batchSize();
@@ -127,7 +129,14 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
 
     @Override
     public boolean hasNext() {
-      return valuesRead < totalValues;
+      // row groups are opened lazily, as the rows to read are only known once they are opened
+      while (valuesRead >= nextRowGroupStart) {
+        if (!advance()) {
+          return false;
+        }
+      }
+
+      return true;
     }
 
     @Override
@@ -135,12 +144,14 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       if (!hasNext()) {
         throw new NoSuchElementException();
       }
-      if (valuesRead >= nextRowGroupStart) {
-        advance();
+
+      if (valuesRead >= nextRangeStart) {
+        advanceRange();
       }
 
-      // batchSize is an integer, so casting to integer is safe
-      int numValuesToRead = (int) Math.min(nextRowGroupStart - valuesRead, batchSize);
+      // batches must not span over skipped rows so that the rows of a batch have contiguous
+      // positions; batchSize is an integer, so casting to integer is safe
+      int numValuesToRead = (int) Math.min(nextRangeStart - valuesRead, batchSize);
       if (reuseContainers) {
         this.last = model.read(last, numValuesToRead);
       } else {
@@ -151,21 +162,43 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       return last;
     }
 
-    private void advance() {
-      while (shouldSkip[nextRowGroup]) {
+    private boolean advance() {
+      ReadConf.RowGroupPages rowGroup = null;
+      int rowGroupIndex = nextRowGroup;
+      while (rowGroup == null) {
+        if (nextRowGroup >= conf.rowGroupCount()) {
+          return false;
+        }
+
+        rowGroupIndex = nextRowGroup;
+        try {
+          rowGroup = conf.readRowGroup(reader, rowGroupIndex);
+        } catch (IOException e) {
+          throw new RuntimeIOException(e);
+        }
+
         nextRowGroup += 1;
-        reader.skipNextRowGroup();
       }
-      PageReadStore pages;
-      try {
-        pages = reader.readNextRowGroup();
-      } catch (IOException e) {
-        throw new RuntimeIOException(e);
+
+      PageReadStore pages = rowGroup.pages();
+      model.setRowGroupInfo(pages, columnChunkMetadata.get(rowGroupIndex));
+      if (rowGroup.rowRanges() != null) {
+        this.nextRanges = rowGroup.rowRanges().getRanges().iterator();
+        this.nextRangeStart = valuesRead;
+      } else {
+        this.nextRanges = null;
+        this.nextRangeStart = nextRowGroupStart + pages.getRowCount();
       }
 
-      model.setRowGroupInfo(pages, columnChunkMetadata.get(nextRowGroup));
       nextRowGroupStart += pages.getRowCount();
-      nextRowGroup += 1;
+      return true;
+    }
+
+    private void advanceRange() {
+      if (nextRanges != null && nextRanges.hasNext()) {
+        RowRanges.Range range = nextRanges.next();
+        this.nextRangeStart = valuesRead + range.to - range.from + 1;
+      }
     }
 
     @Override
@@ -20,7 +20,10 @@ package org.apache.iceberg.parquet;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.iceberg.Files.localInput;
+import static org.apache.iceberg.TableProperties.PARQUET_ADAPTIVE_ROW_GROUP_ENABLED;
+import static org.apache.iceberg.TableProperties.PARQUET_ADAPTIVE_ROW_GROUP_TOLERANCE;
 import static org.apache.iceberg.TableProperties.PARQUET_COLUMN_STATS_ENABLED_PREFIX;
+import static org.apache.iceberg.TableProperties.PARQUET_PIPELINED_WRITE_ENABLED;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
@@ -36,6 +39,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 import java.util.function.Function;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -96,6 +100,104 @@ public class TestParquet {
     }
   }
 
+  @Test
+  public void testPipelinedWrite() throws IOException {
+    Schema schema =
+        new Schema(
+            optional(1, "intCol", IntegerType.get()),
+            optional(2, "strCol", Types.StringType.get()));
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    GenericData.Record[] records = new GenericData.Record[5000];
+    for (int i = 0; i < records.length; i += 1) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("intCol", i);
+      record.put("strCol", "value-" + (i % 100));
+      records[i] = record;
+    }
+
+    ImmutableMap<String, String> props =
+        ImmutableMap.of(
+            PARQUET_ROW_GROUP_SIZE_BYTES, "4096",
+            PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT, "10",
+            PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT, "100");
+
+    File expected = createTempFile(temp);
+    long expectedLength = write(expected, schema, props, ParquetAvroWriter::buildWriter, records);
+
+    File actual = createTempFile(temp);
+    long actualLength =
+        write(
+            actual,
+            schema,
+            ImmutableMap.<String, String>builder()
+                .putAll(props)
+                .put(PARQUET_PIPELINED_WRITE_ENABLED, "true")
+                .build(),
+            ParquetAvroWriter::buildWriter,
+            records);
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(actual)))) {
+      assertThat(reader.getRowGroups()).hasSizeGreaterThan(1);
+    }
+
+    // row group sizes are estimated without waiting for compression, so only the rows must match
+    assertThat(expectedLength).isEqualTo(expected.length());
+    assertThat(actualLength).isEqualTo(actual.length());
+    Iterable<GenericData.Record> expectedRows =
+        Parquet.read(localInput(expected)).project(schema).callInit().build();
+    Iterable<GenericData.Record> actualRows =
+        Parquet.read(localInput(actual)).project(schema).callInit().build();
+    assertThat(actualRows).containsExactlyElementsOf(expectedRows);
+  }
+
+  @Test
+  public void testAdaptiveRowGroupSize() throws IOException {
+    Schema schema =
+        new Schema(
+            optional(1, "intCol", IntegerType.get()),
+            optional(2, "uuidCol", Types.StringType.get()),
+            optional(3, "strCol", Types.StringType.get()));
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    GenericData.Record[] records = new GenericData.Record[20000];
+    for (int i = 0; i < records.length; i += 1) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("intCol", i);
+      record.put("uuidCol", UUID.randomUUID().toString());
+      record.put("strCol", "value-" + (i % 10));
+      records[i] = record;
+    }
+
+    int targetSize = 16 * 1024;
+    File file = createTempFile(temp);
+    write(
+        file,
+        schema,
+        ImmutableMap.of(
+            PARQUET_ROW_GROUP_SIZE_BYTES, String.valueOf(targetSize),
+            PARQUET_ADAPTIVE_ROW_GROUP_ENABLED, "true",
+            PARQUET_ADAPTIVE_ROW_GROUP_TOLERANCE, "0.1"),
+        ParquetAvroWriter::buildWriter,
+        records);
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(localInput(file)))) {
+      List<BlockMetaData> rowGroups = reader.getRowGroups();
+      assertThat(rowGroups).hasSizeGreaterThan(3);
+
+      // the first row group is sized before the per-column estimates are corrected and the last
+      // row group holds the remaining rows
+      for (BlockMetaData rowGroup : rowGroups.subList(1, rowGroups.size() - 1)) {
+        assertThat(rowGroup.getCompressedSize())
+            .isBetween((long) (targetSize * 0.75), (long) (targetSize * 1.1));
+      }
+
+      for (BlockMetaData rowGroup : rowGroups) {
+        // the unique values fall back to plain encoding and are not dictionary encoded again
+        assertThat(rowGroup.getColumns().get(1).hasDictionaryPage()).isFalse();
+        assertThat(rowGroup.getColumns().get(2).hasDictionaryPage()).isTrue();
+      }
+    }
+  }
+
   @Test
   public void testMetricsMissingColumnStatisticsInRowGroups() throws IOException {
     Schema schema = new Schema(optional(1, "stringCol", Types.StringType.get()));
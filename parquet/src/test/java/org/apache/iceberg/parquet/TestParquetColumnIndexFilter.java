@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.InternalReader;
+import org.apache.iceberg.data.parquet.InternalWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.inmemory.InMemoryOutputFile;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriter;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestParquetColumnIndexFilter {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), optional(2, "data", Types.StringType.get()));
+  private static final Schema SCHEMA_WITH_POS =
+      new Schema(SCHEMA.columns().get(0), SCHEMA.columns().get(1), MetadataColumns.ROW_POSITION);
+  private static final int NUM_RECORDS = 1000;
+  private static final int PAGE_ROW_LIMIT = 100;
+
+  private InputFile file;
+
+  @BeforeEach
+  public void writeFile() throws IOException {
+    OutputFile outputFile = new InMemoryOutputFile();
+    try (DataWriter<StructLike> writer =
+        Parquet.writeData(outputFile)
+            .schema(SCHEMA)
+            .createWriterFunc(InternalWriter::createWriter)
+            .set(PARQUET_PAGE_ROW_LIMIT, String.valueOf(PAGE_ROW_LIMIT))
+            .overwrite()
+            .withSpec(PartitionSpec.unpartitioned())
+            .build()) {
+      Record record = GenericRecord.create(SCHEMA);
+      for (long id = 0; id < NUM_RECORDS; id += 1) {
+        writer.write(record.copy("id", id, "data", id % 2 == 0 ? "even" : null));
+      }
+    }
+
+    this.file = outputFile.toInputFile();
+  }
+
+  @Test
+  public void testRowRanges() throws IOException {
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
+      RowRanges ranges =
+          new ParquetColumnIndexFilter(
+                  SCHEMA,
+                  Expressions.and(
+                      Expressions.greaterThanOrEqual("id", 250L), Expressions.lessThan("id", 420L)),
+                  true)
+              .calculateRowRanges(
+                  reader.getFileMetaData().getSchema(),
+                  reader.getColumnIndexStore(0),
+                  reader.getRowGroups().get(0).getRowCount());
+
+      assertThat(ranges.getRanges()).hasSize(1);
+      assertThat(ranges.getRanges().get(0).from).isEqualTo(200L);
+      assertThat(ranges.getRanges().get(0).to).isEqualTo(499L);
+    }
+  }
+
+  @Test
+  public void testSkipPages() throws IOException {
+    List<Record> rows =
+        read(
+            Expressions.and(
+                Expressions.greaterThanOrEqual("id", 520L), Expressions.lessThan("id", 540L)));
+
+    assertThat(rows).hasSizeLessThan(NUM_RECORDS);
+    assertThat(rows).extracting(row -> row.getField("id")).contains(520L, 539L);
+    for (Record row : rows) {
+      // row positions must account for the skipped pages
+      assertThat(row.getField(MetadataColumns.ROW_POSITION.name())).isEqualTo(row.getField("id"));
+    }
+  }
+
+  @Test
+  public void testPageSkippingDisabledByDefault() throws IOException {
+    Expression filter =
+        Expressions.and(
+            Expressions.greaterThanOrEqual("id", 520L), Expressions.lessThan("id", 540L));
+    try (CloseableIterable<Record> reader =
+        Parquet.read(file)
+            .project(SCHEMA_WITH_POS)
+            .filter(filter)
+            .createReaderFunc(fileSchema -> InternalReader.create(SCHEMA_WITH_POS, fileSchema))
+            .build()) {
+      assertThat(reader).hasSize(NUM_RECORDS);
+    }
+  }
+
+  @Test
+  public void testSkipAllPages() throws IOException {
+    // both bounds match the row group statistics, but no page can contain matching rows
+    List<Record> rows =
+        read(
+            Expressions.or(
+                Expressions.and(
+                    Expressions.greaterThan("id", 150L), Expressions.lessThan("id", 100L)),
+                Expressions.isNull("id")));
+
+    assertThat(rows).isEmpty();
+  }
+
+  @Test
+  public void testNullPages() throws IOException {
+    List<Record> rows =
+        read(
+            Expressions.and(
+                Expressions.lessThan("id", 200L), Expressions.equal("data", "missing")));
+
+    assertThat(rows).isEmpty();
+
+    rows = read(Expressions.and(Expressions.lessThan("id", 100L), Expressions.isNull("data")));
+    assertThat(rows).hasSize(PAGE_ROW_LIMIT);
+  }
+
+  private List<Record> read(Expression filter) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(file)
+            .project(SCHEMA_WITH_POS)
+            .filter(filter)
+            .pageSkipping(true)
+            .createReaderFunc(fileSchema -> InternalReader.create(SCHEMA_WITH_POS, fileSchema))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT;
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.MetadataColumns;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.InternalReader;
+import org.apache.iceberg.data.parquet.InternalWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.inmemory.InMemoryOutputFile;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.DataWriter;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestParquetLateMaterialization {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), optional(2, "data", Types.StringType.get()));
+  private static final Schema SCHEMA_WITH_POS =
+      new Schema(SCHEMA.columns().get(0), SCHEMA.columns().get(1), MetadataColumns.ROW_POSITION);
+  private static final int NUM_RECORDS = 1000;
+  private static final int PAGE_ROW_LIMIT = 100;
+
+  private InputFile file;
+
+  @BeforeEach
+  public void writeFile() throws IOException {
+    OutputFile outputFile = new InMemoryOutputFile();
+    try (DataWriter<StructLike> writer =
+        Parquet.writeData(outputFile)
+            .schema(SCHEMA)
+            .createWriterFunc(InternalWriter::createWriter)
+            .set(PARQUET_PAGE_ROW_LIMIT, String.valueOf(PAGE_ROW_LIMIT))
+            .overwrite()
+            .withSpec(PartitionSpec.unpartitioned())
+            .build()) {
+      Record record = GenericRecord.create(SCHEMA);
+      for (long id = 0; id < NUM_RECORDS; id += 1) {
+        writer.write(record.copy("id", id, "data", data(id)));
+      }
+    }
+
+    this.file = outputFile.toInputFile();
+  }
+
+  @Test
+  public void testSkipPagesWithoutMatches() throws IOException {
+    // the column index of data cannot skip any page, as every page holds both "a" and "z"
+    Expression filter = Expressions.equal("data", "m");
+    assertThat(read(filter, false)).hasSize(NUM_RECORDS);
+
+    List<Record> rows = read(filter, true);
+    assertThat(rows).hasSize(PAGE_ROW_LIMIT);
+    assertThat(rows).extracting(row -> row.getField("data")).contains("m");
+    for (Record row : rows) {
+      assertThat(row.getField(MetadataColumns.ROW_POSITION.name())).isEqualTo(row.getField("id"));
+      assertThat((Long) row.getField("id")).isBetween(500L, 599L);
+    }
+  }
+
+  @Test
+  public void testFilterColumnPagesAreReused() throws IOException {
+    // the pages of data read to evaluate the filter are passed to the value readers from memory,
+    // so the values of data must still line up with the other columns
+    Expression filter = Expressions.in("data", "m", "q");
+    try (CloseableIterable<Record> reader =
+        Parquet.read(file)
+            .project(SCHEMA_WITH_POS)
+            .filter(filter)
+            .lateMaterialization(true)
+            .createReaderFunc(fileSchema -> InternalReader.create(SCHEMA_WITH_POS, fileSchema))
+            .build()) {
+      // read twice to also use a copy of the read configuration
+      for (int pass = 0; pass < 2; pass += 1) {
+        List<Record> rows = Lists.newArrayList(reader);
+        assertThat(rows).hasSize(PAGE_ROW_LIMIT);
+        for (Record row : rows) {
+          long id = (Long) row.getField("id");
+          assertThat(row.getField("data")).isEqualTo(data(id));
+          assertThat(row.getField(MetadataColumns.ROW_POSITION.name())).isEqualTo(id);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testFilterOnAllProjectedColumns() throws IOException {
+    // no column is left to materialize late, so the filter is not evaluated on rows
+    Expression filter =
+        Expressions.and(Expressions.equal("data", "m"), Expressions.greaterThan("id", 10L));
+    assertThat(read(filter, true)).hasSize(NUM_RECORDS);
+  }
+
+  private List<Record> read(Expression filter, boolean lateMaterialization) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(file)
+            .project(SCHEMA_WITH_POS)
+            .filter(filter)
+            .lateMaterialization(lateMaterialization)
+            .createReaderFunc(fileSchema -> InternalReader.create(SCHEMA_WITH_POS, fileSchema))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+
+  private static String data(long id) {
+    return id == 555 ? "m" : (id % 2 == 0 ? "a" : "z");
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.expressions.Expressions.equal;
+import static org.apache.iceberg.expressions.Expressions.extract;
+import static org.apache.iceberg.expressions.Expressions.greaterThan;
+import static org.apache.iceberg.expressions.Expressions.in;
+import static org.apache.iceberg.expressions.Expressions.lessThan;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Set;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.InternalWriter;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.inmemory.InMemoryOutputFile;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.variants.ShreddedObject;
+import org.apache.iceberg.variants.Variant;
+import org.apache.iceberg.variants.VariantMetadata;
+import org.apache.iceberg.variants.VariantTestUtil;
+import org.apache.iceberg.variants.VariantValue;
+import org.apache.iceberg.variants.Variants;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.schema.MessageType;
+import org.junit.jupiter.api.Test;
+
+public class TestVariantRowGroupFilter {
+  private static final VariantMetadata METADATA =
+      VariantMetadata.from(VariantTestUtil.createMetadata(Set.of("age", "country"), true));
+
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "var", Types.VariantType.get()));
+
+  @Test
+  public void testMetricsFilter() throws IOException {
+    InputFile file = writeParquet(object("DE", Variants.of(34)), object("NL", Variants.of(52)));
+
+    assertThat(shouldReadMetrics(file, equal(extract("var", "$.country", "string"), "DE")))
+        .isTrue();
+    assertThat(shouldReadMetrics(file, equal(extract("var", "$.country", "string"), "US")))
+        .isFalse();
+    assertThat(shouldReadMetrics(file, lessThan(extract("var", "$.country", "string"), "AT")))
+        .isFalse();
+    assertThat(shouldReadMetrics(file, greaterThan(extract("var", "$.age", "long"), 40L)))
+        .isTrue();
+    assertThat(shouldReadMetrics(file, greaterThan(extract("var", "$.age", "long"), 60L)))
+        .isFalse();
+    assertThat(shouldReadMetrics(file, greaterThan(extract("var", "$.age", "int"), 60)))
+        .isFalse();
+  }
+
+  @Test
+  public void testDictionaryFilter() throws IOException {
+    InputFile file = writeParquet(object("DE", Variants.of(34)), object("NL", Variants.of(52)));
+
+    assertThat(shouldReadDictionary(file, equal(extract("var", "$.country", "string"), "NL")))
+        .isTrue();
+    assertThat(shouldReadDictionary(file, equal(extract("var", "$.country", "string"), "FR")))
+        .isFalse();
+    assertThat(shouldReadDictionary(file, in(extract("var", "$.country", "string"), "ES", "IT")))
+        .isFalse();
+  }
+
+  @Test
+  public void testColumnIndexFilter() throws IOException {
+    InputFile file = writeParquet(object("DE", Variants.of(34)), object("NL", Variants.of(52)));
+
+    assertThat(rowCount(file, greaterThan(extract("var", "$.age", "long"), 40L))).isEqualTo(2L);
+    assertThat(rowCount(file, greaterThan(extract("var", "$.age", "long"), 60L))).isEqualTo(0L);
+  }
+
+  @Test
+  public void testIncompatibleOrMissingShreddedType() throws IOException {
+    InputFile file = writeParquet(object("DE", Variants.of(34)), object("NL", Variants.of(52)));
+
+    // age is shredded as an int, not as a string
+    assertThat(shouldReadMetrics(file, equal(extract("var", "$.age", "string"), "60"))).isTrue();
+    assertThat(shouldReadDictionary(file, equal(extract("var", "$.age", "string"), "60")))
+        .isTrue();
+
+    // city is not shredded
+    assertThat(shouldReadMetrics(file, equal(extract("var", "$.city", "string"), "Berlin")))
+        .isTrue();
+  }
+
+  @Test
+  public void testValuesNotShredded() throws IOException {
+    // the last age is not an int and is stored in the variant-encoded value column
+    InputFile file =
+        writeParquet(
+            object("DE", Variants.of(34)),
+            object("NL", Variants.of(52)),
+            object("FR", Variants.of("unknown")));
+
+    Expression filter = greaterThan(extract("var", "$.age", "long"), 60L);
+    assertThat(shouldReadMetrics(file, filter)).isTrue();
+    assertThat(shouldReadDictionary(file, filter)).isTrue();
+    assertThat(rowCount(file, filter)).isEqualTo(3L);
+
+    // country is always shredded
+    assertThat(shouldReadMetrics(file, equal(extract("var", "$.country", "string"), "US")))
+        .isFalse();
+  }
+
+  private static boolean shouldReadMetrics(InputFile file, Expression filter) throws IOException {
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
+      MessageType fileSchema = reader.getFileMetaData().getSchema();
+      BlockMetaData rowGroup = reader.getRowGroups().get(0);
+      return new ParquetMetricsRowGroupFilter(SCHEMA, filter).shouldRead(fileSchema, rowGroup);
+    }
+  }
+
+  private static boolean shouldReadDictionary(InputFile file, Expression filter)
+      throws IOException {
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
+      MessageType fileSchema = reader.getFileMetaData().getSchema();
+      BlockMetaData rowGroup = reader.getRowGroups().get(0);
+      return new ParquetDictionaryRowGroupFilter(SCHEMA, filter)
+          .shouldRead(fileSchema, rowGroup, reader.getDictionaryReader(rowGroup));
+    }
+  }
+
+  private static long rowCount(InputFile file, Expression filter) throws IOException {
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file))) {
+      return new ParquetColumnIndexFilter(SCHEMA, filter, true)
+          .calculateRowRanges(
+              reader.getFileMetaData().getSchema(),
+              reader.getColumnIndexStore(0),
+              reader.getRowGroups().get(0).getRowCount())
+          .rowCount();
+    }
+  }
+
+  private static VariantValue object(String country, VariantValue age) {
+    ShreddedObject object = Variants.object(METADATA);
+    object.put("country", Variants.of(country));
+    object.put("age", age);
+    return object;
+  }
+
+  private static InputFile writeParquet(VariantValue... values) throws IOException {
+    OutputFile out = new InMemoryOutputFile();
+    VariantValue shreddedValue = values[0];
+    GenericRecord record = GenericRecord.create(SCHEMA);
+
+    FileAppender<Record> writer =
+        Parquet.write(out)
+            .schema(SCHEMA)
+            .variantShreddingFunc((id, name) -> ParquetVariantUtil.toParquetSchema(shreddedValue))
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .build();
+
+    try (writer) {
+      for (int id = 0; id < values.length; id += 1) {
+        record.setField("id", (long) id);
+        record.setField("var", Variant.of(METADATA, values[id]));
+        writer.add(record);
+      }
+    }
+
+    return out.toInputFile();
+  }
+}
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_INFERENCE_ENABLED;
+import static org.apache.iceberg.TableProperties.PARQUET_VARIANT_SHREDDING_SAMPLE_ROWS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.InternalReader;
+import org.apache.iceberg.data.parquet.InternalWriter;
+import org.apache.iceberg.inmemory.InMemoryOutputFile;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.variants.PhysicalType;
+import org.apache.iceberg.variants.ShreddedObject;
+import org.apache.iceberg.variants.ValueArray;
+import org.apache.iceberg.variants.Variant;
+import org.apache.iceberg.variants.VariantMetadata;
+import org.apache.iceberg.variants.VariantTestUtil;
+import org.apache.iceberg.variants.VariantValue;
+import org.apache.iceberg.variants.Variants;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+import org.junit.jupiter.api.Test;
+
+public class TestVariantShreddingInference {
+  private static final VariantMetadata METADATA =
+      VariantMetadata.from(
+          VariantTestUtil.createMetadata(Set.of("age", "country", "note", "tags"), true));
+
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "var", Types.VariantType.get()));
+
+  @Test
+  public void testInferObjectFields() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer();
+    for (int i = 0; i < 20; i += 1) {
+      ShreddedObject object = Variants.object(METADATA);
+      object.put("country", Variants.of("DE"));
+      object.put("age", i % 2 == 0 ? Variants.of(i) : Variants.of("unknown"));
+      if (i == 0) {
+        object.put("note", Variants.of("rare"));
+      }
+
+      analyzer.add(object);
+    }
+
+    analyzer.add(Variants.ofNull());
+
+    GroupType typedValue = analyzer.shreddedType().asGroupType();
+    assertThat(typedValue.getFieldCount()).isEqualTo(2);
+
+    Type country = typedValue.getType("country").asGroupType().getType("typed_value");
+    assertThat(country.getLogicalTypeAnnotation())
+        .isEqualTo(LogicalTypeAnnotation.stringType());
+
+    // age has no stable type and is not shredded
+    assertThat(typedValue.getType("age").asGroupType().containsField("typed_value")).isFalse();
+
+    // note occurs in less than 10% of the objects
+    assertThat(typedValue.containsField("note")).isFalse();
+  }
+
+  @Test
+  public void testInferArrayElements() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer();
+    for (int i = 0; i < 10; i += 1) {
+      ValueArray array = Variants.array();
+      array.add(Variants.of((long) i));
+      array.add(Variants.of((long) i + 1));
+      analyzer.add(array);
+    }
+
+    GroupType typedValue = analyzer.shreddedType().asGroupType();
+    assertThat(typedValue.getLogicalTypeAnnotation())
+        .isEqualTo(LogicalTypeAnnotation.listType());
+    GroupType element = typedValue.getType(0).asGroupType().getType(0).asGroupType();
+    assertThat(element.getType("typed_value").asPrimitiveType().getPrimitiveTypeName())
+        .isEqualTo(PrimitiveType.PrimitiveTypeName.INT64);
+  }
+
+  @Test
+  public void testNoStableType() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer();
+    analyzer.add(Variants.of(34));
+    analyzer.add(Variants.of("34"));
+
+    assertThat(analyzer.shreddedType()).isNull();
+    assertThat(new VariantShreddingAnalyzer().shreddedType()).isNull();
+  }
+
+  @Test
+  public void testInferMixedIntegerWidths() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer();
+    for (int i = 0; i < 10; i += 1) {
+      analyzer.add(Variants.of((byte) i));
+      analyzer.add(Variants.of((short) 1000));
+      analyzer.add(Variants.of(100_000));
+    }
+
+    analyzer.add(Variants.of(10_000_000_000L));
+
+    // no single width reaches the frequency threshold, but all values are integers
+    PrimitiveType typedValue = analyzer.shreddedType().asPrimitiveType();
+    assertThat(typedValue.getPrimitiveTypeName()).isEqualTo(PrimitiveType.PrimitiveTypeName.INT64);
+  }
+
+  @Test
+  public void testInferMixedDecimals() {
+    VariantShreddingAnalyzer analyzer = new VariantShreddingAnalyzer();
+    analyzer.add(Variants.of(new BigDecimal("1.5")));
+    analyzer.add(Variants.of(new BigDecimal("123456.789")));
+    analyzer.add(Variants.of(new BigDecimal("12345678.1")));
+
+    // 8 integer digits and a scale of 3 need a precision of 11
+    PrimitiveType typedValue = analyzer.shreddedType().asPrimitiveType();
+    assertThat(typedValue.getPrimitiveTypeName()).isEqualTo(PrimitiveType.PrimitiveTypeName.INT64);
+    assertThat(typedValue.getLogicalTypeAnnotation())
+        .isEqualTo(LogicalTypeAnnotation.decimalType(3, 18));
+
+    VariantShreddingAnalyzer tooWide = new VariantShreddingAnalyzer();
+    tooWide.add(Variants.of(new BigDecimal("0.12345678901234567890")));
+    tooWide.add(Variants.of(new BigDecimal("123456789012345678901")));
+    assertThat(tooWide.shreddedType()).isNull();
+  }
+
+  @Test
+  public void testWriteMixedIntegerWidths() throws IOException {
+    List<Record> records = Lists.newArrayList();
+    GenericRecord record = GenericRecord.create(SCHEMA);
+    for (long id = 0; id < 10; id += 1) {
+      ShreddedObject object = Variants.object(METADATA);
+      object.put("age", id % 2 == 0 ? Variants.of((byte) id) : Variants.of(id * 1_000_000_000L));
+      records.add(record.copy("id", id, "var", Variant.of(METADATA, object)));
+    }
+
+    OutputFile out = new InMemoryOutputFile();
+    write(out, records, "10");
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(out.toInputFile()))) {
+      GroupType typedValue =
+          reader
+              .getFileMetaData()
+              .getSchema()
+              .getType("var")
+              .asGroupType()
+              .getType("typed_value")
+              .asGroupType();
+      assertThat(
+              typedValue
+                  .getType("age")
+                  .asGroupType()
+                  .getType("typed_value")
+                  .asPrimitiveType()
+                  .getPrimitiveTypeName())
+          .isEqualTo(PrimitiveType.PrimitiveTypeName.INT64);
+
+      // all values are widened to the shredded type, so the value column is never written
+      ColumnChunkMetaData ageValue =
+          reader.getRowGroups().get(0).getColumns().stream()
+              .filter(column -> column.getPath().toDotString().equals("var.typed_value.age.value"))
+              .findFirst()
+              .orElseThrow();
+      assertThat(ageValue.getStatistics().getNumNulls()).isEqualTo(records.size());
+    }
+
+    List<Record> actual = read(out);
+    for (int i = 0; i < records.size(); i += 1) {
+      Variant expected = (Variant) records.get(i).getField("var");
+      Variant variant = (Variant) actual.get(i).getField("var");
+      Number expectedAge = (Number) expected.value().asObject().get("age").asPrimitive().get();
+      VariantValue age = variant.value().asObject().get("age");
+      assertThat(age.type()).isEqualTo(PhysicalType.INT64);
+      assertThat(age.asPrimitive().get()).isEqualTo(expectedAge.longValue());
+    }
+  }
+
+  @Test
+  public void testWriteInferredShreddedType() throws IOException {
+    List<Record> records = Lists.newArrayList();
+    GenericRecord record = GenericRecord.create(SCHEMA);
+    for (long id = 0; id < 10; id += 1) {
+      ShreddedObject object = Variants.object(METADATA);
+      object.put("country", Variants.of(id < 5 ? "DE" : "NL"));
+      object.put("age", Variants.of((int) id));
+      records.add(record.copy("id", id, "var", Variant.of(METADATA, object)));
+    }
+
+    // the sample ends before the last rows, which are written directly
+    OutputFile out = new InMemoryOutputFile();
+    write(out, records, "4");
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(out.toInputFile()))) {
+      MessageType fileSchema = reader.getFileMetaData().getSchema();
+      GroupType variant = fileSchema.getType("var").asGroupType();
+      GroupType typedValue = variant.getType("typed_value").asGroupType();
+      assertThat(typedValue.getType("country").asGroupType().getType("typed_value").isPrimitive())
+          .isTrue();
+      assertThat(
+              typedValue
+                  .getType("age")
+                  .asGroupType()
+                  .getType("typed_value")
+                  .asPrimitiveType()
+                  .getPrimitiveTypeName())
+          .isEqualTo(PrimitiveType.PrimitiveTypeName.INT32);
+    }
+
+    List<Record> actual = read(out);
+    assertThat(actual).hasSameSizeAs(records);
+    for (int i = 0; i < records.size(); i += 1) {
+      Variant expected = (Variant) records.get(i).getField("var");
+      Variant variant = (Variant) actual.get(i).getField("var");
+      VariantTestUtil.assertEqual(expected.value(), variant.value());
+    }
+  }
+
+  @Test
+  public void testWriteFewerRowsThanSample() throws IOException {
+    ShreddedObject object = Variants.object(METADATA);
+    object.put("country", Variants.of("DE"));
+    Record record =
+        GenericRecord.create(SCHEMA).copy("id", 1L, "var", Variant.of(METADATA, object));
+
+    OutputFile out = new InMemoryOutputFile();
+    write(out, List.of(record), "1000");
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(out.toInputFile()))) {
+      GroupType variant = reader.getFileMetaData().getSchema().getType("var").asGroupType();
+      assertThat(variant.containsField("typed_value")).isTrue();
+    }
+
+    assertThat(read(out)).hasSize(1);
+  }
+
+  @Test
+  public void testInferenceDisabled() throws IOException {
+    ShreddedObject object = Variants.object(METADATA);
+    object.put("country", Variants.of("DE"));
+    Record record =
+        GenericRecord.create(SCHEMA).copy("id", 1L, "var", Variant.of(METADATA, object));
+
+    OutputFile out = new InMemoryOutputFile();
+    try (FileAppender<Record> writer =
+        Parquet.write(out)
+            .schema(SCHEMA)
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .variantShreddingInference(
+                Record::copy,
+                (row, pos) -> row.get(pos, Variant.class),
+                (icebergSchema, fileSchema) ->
+                    InternalWriter.createWithInferredShredding(SCHEMA.asStruct(), fileSchema))
+            .build()) {
+      writer.add(record);
+    }
+
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(out.toInputFile()))) {
+      GroupType variant = reader.getFileMetaData().getSchema().getType("var").asGroupType();
+      assertThat(variant.containsField("typed_value")).isFalse();
+    }
+  }
+
+  private static void write(OutputFile out, List<Record> records, String sampleRows)
+      throws IOException {
+    FileAppender<Record> writer =
+        Parquet.write(out)
+            .schema(SCHEMA)
+            .set(PARQUET_VARIANT_SHREDDING_INFERENCE_ENABLED, "true")
+            .set(PARQUET_VARIANT_SHREDDING_SAMPLE_ROWS, sampleRows)
+            .createWriterFunc(fileSchema -> InternalWriter.create(SCHEMA.asStruct(), fileSchema))
+            .variantShreddingInference(
+                Record::copy,
+                (row, pos) -> row.get(pos, Variant.class),
+                (icebergSchema, fileSchema) ->
+                    InternalWriter.createWithInferredShredding(SCHEMA.asStruct(), fileSchema))
+            .build();
+
+    try (writer) {
+      for (Record record : records) {
+        writer.add(record);
+      }
+    }
+
+    assertThat(writer.metrics().recordCount()).isEqualTo(records.size());
+  }
+
+  private static List<Record> read(OutputFile out) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(out.toInputFile())
+            .project(SCHEMA)
+            .createReaderFunc(fileSchema -> InternalReader.create(SCHEMA, fileSchema))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+}
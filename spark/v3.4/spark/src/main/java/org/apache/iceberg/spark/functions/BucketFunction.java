@@ -41,6 +41,7 @@ import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
 import org.apache.spark.sql.types.TimestampNTZType;
 import org.apache.spark.sql.types.TimestampType;
+import org.apache.spark.unsafe.Platform;
 import org.apache.spark.unsafe.types.UTF8String;
 
 /**
@@ -214,7 +215,18 @@ public class BucketFunction implements UnboundFunction {
         return null;
       }
 
-      return apply(numBuckets, hash(value.getBytes()));
+      return apply(numBuckets, hash(value));
+    }
+
+    private static int hash(UTF8String value) {
+      if (value.getBaseObject() instanceof byte[]) {
+        // hash the bytes in place instead of copying them out of the string
+        byte[] bytes = (byte[]) value.getBaseObject();
+        int offset = (int) (value.getBaseOffset() - Platform.BYTE_ARRAY_OFFSET);
+        return BucketUtil.hash(bytes, offset, value.numBytes());
+      }
+
+      return hash(value.getBytes());
     }
 
     // Visible for testing
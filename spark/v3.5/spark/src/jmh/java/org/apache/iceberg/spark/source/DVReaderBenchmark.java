@@ -21,6 +21,7 @@ package org.apache.iceberg.spark.source;
 import com.google.errorprone.annotations.FormatMethod;
 import com.google.errorprone.annotations.FormatString;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
@@ -74,6 +75,9 @@ import org.openjdk.jmh.infra.Blackhole;
 /**
  * A benchmark that compares the performance of DV and position delete readers.
  *
+ * <p>The benchmark also compares applying a loaded DV to batches of rows by checking each position
+ * and by iterating ranges of deleted positions, as done by vectorized readers.
+ *
  * <p>To run this benchmark for spark-3.5: <code>
  *   ./gradlew -DsparkVersions=3.5 :iceberg-spark:iceberg-spark-3.5_2.12:jmh
  *       -PjmhIncludeRegex=DVReaderBenchmark
@@ -91,6 +95,7 @@ public class DVReaderBenchmark {
   private static final String TABLE_NAME = "test_table";
   private static final int DATA_FILE_RECORD_COUNT = 2_000_000;
   private static final long TARGET_FILE_SIZE = Long.MAX_VALUE;
+  private static final int BATCH_SIZE = 5000;
 
   @Param({"5", "10"})
   private int referencedDataFileCount;
@@ -105,6 +110,7 @@ public class DVReaderBenchmark {
   private DeleteWriteResult dvsResult;
   private DeleteWriteResult fileDeletesResult;
   private DeleteWriteResult partitionDeletesResult;
+  private PositionDeleteIndex dvIndex;
 
   @Setup
   public void setupBenchmark() throws NoSuchTableException, ParseException, IOException {
@@ -114,6 +120,7 @@ public class DVReaderBenchmark {
     this.dvsResult = writeDVs(deletes);
     this.fileDeletesResult = writePositionDeletes(deletes, DeleteGranularity.FILE);
     this.partitionDeletesResult = writePositionDeletes(deletes, DeleteGranularity.PARTITION);
+    this.dvIndex = loadDV();
   }
 
   @TearDown
@@ -152,6 +159,43 @@ public class DVReaderBenchmark {
     blackhole.consume(index);
   }
 
+  @Benchmark
+  @Threads(1)
+  public void applyDVByPosition(Blackhole blackhole) {
+    boolean[] isDeleted = new boolean[BATCH_SIZE];
+    for (long batchStart = 0; batchStart < DATA_FILE_RECORD_COUNT; batchStart += BATCH_SIZE) {
+      for (int rowId = 0; rowId < BATCH_SIZE; rowId++) {
+        isDeleted[rowId] = dvIndex.isDeleted(batchStart + rowId);
+      }
+
+      blackhole.consume(isDeleted);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void applyDVByRange(Blackhole blackhole) {
+    boolean[] isDeleted = new boolean[BATCH_SIZE];
+    for (long batchStart = 0; batchStart < DATA_FILE_RECORD_COUNT; batchStart += BATCH_SIZE) {
+      long rowStartPos = batchStart;
+      Arrays.fill(isDeleted, false);
+      dvIndex.forEachRange(
+          rowStartPos,
+          rowStartPos + BATCH_SIZE,
+          (posStart, posEnd) ->
+              Arrays.fill(
+                  isDeleted, (int) (posStart - rowStartPos), (int) (posEnd - rowStartPos), true));
+
+      blackhole.consume(isDeleted);
+    }
+  }
+
+  private PositionDeleteIndex loadDV() {
+    DeleteLoader loader = new BaseDeleteLoader(file -> table.io().newInputFile(file), null);
+    DeleteFile dv = dvsResult.deleteFiles().get(0);
+    return loader.loadPositionDeletes(ImmutableList.of(dv), dv.referencedDataFile());
+  }
+
   private FanoutPositionOnlyDeleteWriter<InternalRow> newWriter(DeleteGranularity granularity) {
     return new FanoutPositionOnlyDeleteWriter<>(
         newWriterFactory(),
@@ -24,6 +24,7 @@ import org.apache.iceberg.arrow.vectorized.BaseBatchReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader.DeletedVectorReader;
 import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.parquet.ParquetRowPositions;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.util.Pair;
@@ -43,6 +44,7 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
   private final boolean hasIsDeletedColumn;
   private DeleteFilter<InternalRow> deletes = null;
   private long rowStartPosInBatch = 0;
+  private ParquetRowPositions rowPositions = null;
 
   public ColumnarBatchReader(List<VectorizedReader<?>> readers) {
     super(readers);
@@ -54,13 +56,7 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
   public void setRowGroupInfo(
       PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData) {
     super.setRowGroupInfo(pageStore, metaData);
-    this.rowStartPosInBatch =
-        pageStore
-            .getRowIndexOffset()
-            .orElseThrow(
-                () ->
-                    new IllegalArgumentException(
-                        "PageReadStore does not contain row index offset"));
+    this.rowPositions = ParquetRowPositions.of(pageStore);
   }
 
   public void setDeleteFilter(DeleteFilter<InternalRow> deleteFilter) {
@@ -73,9 +69,8 @@ public class ColumnarBatchReader extends BaseBatchReader<ColumnarBatch> {
       closeVectors();
     }
 
-    ColumnarBatch columnarBatch = new ColumnBatchLoader(numRowsToRead).loadDataToColumnBatch();
-    rowStartPosInBatch += numRowsToRead;
-    return columnarBatch;
+    this.rowStartPosInBatch = rowPositions.next(numRowsToRead);
+    return new ColumnBatchLoader(numRowsToRead).loadDataToColumnBatch();
   }
 
   private class ColumnBatchLoader {
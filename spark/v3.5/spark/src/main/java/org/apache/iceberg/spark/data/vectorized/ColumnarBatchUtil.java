@@ -65,22 +65,42 @@ public class ColumnarBatchUtil {
 
     PositionDeleteIndex deletedPositions = deletes.deletedRowPositions();
     Predicate<InternalRow> eqDeleteFilter = deletes.eqDeletedRowFilter();
-    ColumnarBatchRow row = new ColumnarBatchRow(columnVectors);
-    int[] rowIdMapping = new int[batchSize];
-    int liveRowId = 0;
-
-    for (int rowId = 0; rowId < batchSize; rowId++) {
-      long pos = rowStartPosInBatch + rowId;
-      row.rowId = rowId;
-      if (isDeleted(pos, row, deletedPositions, eqDeleteFilter)) {
-        deletes.incrementDeleteCount();
-      } else {
-        rowIdMapping[liveRowId] = rowId;
-        liveRowId++;
+    int[] rowIdMapping = null;
+    int numLiveRows = batchSize;
+
+    if (deletedPositions != null) {
+      LiveRowIdCollector collector = new LiveRowIdCollector(rowStartPosInBatch, batchSize);
+      deletedPositions.forEachRange(rowStartPosInBatch, rowStartPosInBatch + batchSize, collector);
+      rowIdMapping = collector.rowIds();
+      numLiveRows = collector.numLiveRows();
+    }
+
+    if (eqDeleteFilter != null && numLiveRows > 0) {
+      if (rowIdMapping == null) {
+        rowIdMapping = new int[batchSize];
+        for (int rowId = 0; rowId < batchSize; rowId++) {
+          rowIdMapping[rowId] = rowId;
+        }
       }
+
+      // only test rows that are not position deleted, compacting the mapping in place
+      ColumnarBatchRow row = new ColumnarBatchRow(columnVectors);
+      int liveRowId = 0;
+      for (int index = 0; index < numLiveRows; index++) {
+        row.rowId = rowIdMapping[index];
+        if (eqDeleteFilter.test(row)) {
+          rowIdMapping[liveRowId] = row.rowId;
+          liveRowId++;
+        }
+      }
+
+      // clear row IDs left behind by compaction so that unused entries stay zero
+      Arrays.fill(rowIdMapping, liveRowId, numLiveRows, 0);
+      numLiveRows = liveRowId;
     }
 
-    return liveRowId == batchSize ? null : Pair.of(rowIdMapping, liveRowId);
+    deletes.incrementDeleteCount(batchSize - numLiveRows);
+    return numLiveRows == batchSize ? null : Pair.of(rowIdMapping, numLiveRows);
   }
 
   /**
@@ -120,35 +140,35 @@ public class ColumnarBatchUtil {
 
     PositionDeleteIndex deletedPositions = deletes.deletedRowPositions();
     Predicate<InternalRow> eqDeleteFilter = deletes.eqDeletedRowFilter();
-    ColumnarBatchRow row = new ColumnarBatchRow(columnVectors);
-
-    for (int rowId = 0; rowId < batchSize; rowId++) {
-      long pos = rowStartPosInBatch + rowId;
-      row.rowId = rowId;
-      if (isDeleted(pos, row, deletedPositions, eqDeleteFilter)) {
-        deletes.incrementDeleteCount();
-        isDeleted[rowId] = true;
-      }
+    long deleteCount = 0L;
+
+    if (deletedPositions != null) {
+      long[] numPosDeleted = new long[1];
+      deletedPositions.forEachRange(
+          rowStartPosInBatch,
+          rowStartPosInBatch + batchSize,
+          (posStart, posEnd) -> {
+            int rowIdStart = (int) (posStart - rowStartPosInBatch);
+            int rowIdEnd = (int) (posEnd - rowStartPosInBatch);
+            Arrays.fill(isDeleted, rowIdStart, rowIdEnd, true);
+            numPosDeleted[0] += rowIdEnd - rowIdStart;
+          });
+      deleteCount = numPosDeleted[0];
     }
 
-    return isDeleted;
-  }
-
-  private static boolean isDeleted(
-      long pos,
-      InternalRow row,
-      PositionDeleteIndex deletedPositions,
-      Predicate<InternalRow> eqDeleteFilter) {
-    // use separate if statements to reduce the chance of speculative execution for equality tests
-    if (deletedPositions != null && deletedPositions.isDeleted(pos)) {
-      return true;
-    }
-
-    if (eqDeleteFilter != null && !eqDeleteFilter.test(row)) {
-      return true;
+    if (eqDeleteFilter != null && deleteCount < batchSize) {
+      ColumnarBatchRow row = new ColumnarBatchRow(columnVectors);
+      for (int rowId = 0; rowId < batchSize; rowId++) {
+        row.rowId = rowId;
+        if (!isDeleted[rowId] && !eqDeleteFilter.test(row)) {
+          isDeleted[rowId] = true;
+          deleteCount++;
+        }
+      }
     }
 
-    return false;
+    deletes.incrementDeleteCount(deleteCount);
+    return isDeleted;
   }
 
   /**
@@ -178,4 +198,56 @@ public class ColumnarBatchUtil {
       return columnVectors;
     }
   }
+
+  /**
+   * Collects the IDs of rows that are not position deleted from ranges of deleted positions.
+   *
+   * <p>Live rows between deleted ranges are added in bulk, so positions are not checked one by one.
+   * The mapping is only allocated once a deleted range is found, which skips batches without
+   * deletes, and batches that are deleted entirely produce an empty mapping.
+   */
+  private static class LiveRowIdCollector implements PositionDeleteIndex.RangeConsumer {
+    private final long rowStartPosInBatch;
+    private final int batchSize;
+    private int[] rowIds = null;
+    private int numLiveRows = 0;
+    private int nextRowId = 0;
+
+    private LiveRowIdCollector(long rowStartPosInBatch, int batchSize) {
+      this.rowStartPosInBatch = rowStartPosInBatch;
+      this.batchSize = batchSize;
+    }
+
+    @Override
+    public void accept(long posStart, long posEnd) {
+      if (rowIds == null) {
+        this.rowIds = new int[batchSize];
+      }
+
+      addLiveRows((int) (posStart - rowStartPosInBatch));
+      this.nextRowId = (int) (posEnd - rowStartPosInBatch);
+    }
+
+    /** Returns the mapping of live row IDs, or null if no rows are deleted. */
+    int[] rowIds() {
+      if (rowIds != null) {
+        addLiveRows(batchSize);
+      }
+
+      return rowIds;
+    }
+
+    int numLiveRows() {
+      return rowIds != null ? numLiveRows : batchSize;
+    }
+
+    private void addLiveRows(int rowIdEnd) {
+      for (int rowId = nextRowId; rowId < rowIdEnd; rowId++) {
+        rowIds[numLiveRows] = rowId;
+        numLiveRows++;
+      }
+
+      this.nextRowId = rowIdEnd;
+    }
+  }
 }
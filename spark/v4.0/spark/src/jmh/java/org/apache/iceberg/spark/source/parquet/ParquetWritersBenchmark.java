@@ -19,11 +19,17 @@
 package org.apache.iceberg.spark.source.parquet;
 
 import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.spark.source.WritersBenchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
 
 /**
  * A benchmark that evaluates the performance of various Iceberg writers for Parquet data.
  *
+ * <p>Each writer is run with the given compression codecs, with and without pipelined writes that
+ * compress and write row groups on a worker pool.
+ *
  * <p>To run this benchmark for spark-4.0: <code>
  *   ./gradlew -DsparkVersions=4.0 :iceberg-spark:iceberg-spark-4.0_2.13:jmh \
  *       -PjmhIncludeRegex=ParquetWritersBenchmark \
@@ -32,6 +38,21 @@ import org.apache.iceberg.spark.source.WritersBenchmark;
  */
 public class ParquetWritersBenchmark extends WritersBenchmark {
 
+  @Param({"snappy", "zstd"})
+  private String codec;
+
+  @Param({"false", "true"})
+  private boolean pipelinedWrite;
+
+  @Setup
+  public void setupWriteProperties() {
+    table()
+        .updateProperties()
+        .set(TableProperties.PARQUET_COMPRESSION, codec)
+        .set(TableProperties.PARQUET_PIPELINED_WRITE_ENABLED, String.valueOf(pipelinedWrite))
+        .commit();
+  }
+
   @Override
   protected FileFormat fileFormat() {
     return FileFormat.PARQUET;
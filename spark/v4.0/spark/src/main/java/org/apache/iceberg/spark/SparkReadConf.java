@@ -135,6 +135,14 @@ public class SparkReadConf {
     return confParser.stringConf().option(SparkReadOptions.SCAN_TASK_SET_ID).parseOptional();
   }
 
+  public boolean mergeSortedFiles() {
+    return confParser
+        .booleanConf()
+        .option(SparkReadOptions.MERGE_SORTED_FILES)
+        .defaultValue(SparkReadOptions.MERGE_SORTED_FILES_DEFAULT)
+        .parse();
+  }
+
   public boolean streamingSkipDeleteSnapshots() {
     return confParser
         .booleanConf()
@@ -65,6 +65,10 @@ public class SparkReadOptions {
   // Set ID that is used to fetch scan tasks
   public static final String SCAN_TASK_SET_ID = "scan-task-set-id";
 
+  // Merges staged files that are sorted by the same sort order into sorted output
+  public static final String MERGE_SORTED_FILES = "merge-sorted-files";
+  public static final boolean MERGE_SORTED_FILES_DEFAULT = false;
+
   // skip snapshots of type delete while reading stream out of iceberg table
   public static final String STREAMING_SKIP_DELETE_SNAPSHOTS = "streaming-skip-delete-snapshots";
   public static final boolean STREAMING_SKIP_DELETE_SNAPSHOTS_DEFAULT = false;
@@ -42,6 +42,7 @@ import org.apache.iceberg.DistributionMode;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.IsolationLevel;
 import org.apache.iceberg.SnapshotSummary;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableUtil;
@@ -162,6 +163,21 @@ public class SparkWriteConf {
     return outputSpecId;
   }
 
+  public SortOrder outputSortOrder() {
+    Integer outputSortOrderId =
+        confParser.intConf().option(SparkWriteOptions.OUTPUT_SORT_ORDER_ID).parseOptional();
+    if (outputSortOrderId == null) {
+      return null;
+    }
+
+    SortOrder outputSortOrder = table.sortOrders().get(outputSortOrderId);
+    Preconditions.checkArgument(
+        outputSortOrder != null,
+        "Output sort order id %s is not a valid sort order id for table",
+        outputSortOrderId);
+    return outputSortOrder;
+  }
+
   public FileFormat dataFileFormat() {
     String valueAsString =
         confParser
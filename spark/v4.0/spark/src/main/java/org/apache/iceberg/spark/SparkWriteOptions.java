@@ -55,6 +55,9 @@ public class SparkWriteOptions {
 
   public static final String OUTPUT_SPEC_ID = "output-spec-id";
 
+  // Sort order ID that is recorded in data files when the written data is known to be sorted
+  public static final String OUTPUT_SORT_ORDER_ID = "output-sort-order-id";
+
   public static final String OVERWRITE_MODE = "overwrite-mode";
 
   // Overrides the default distribution mode for a write operation
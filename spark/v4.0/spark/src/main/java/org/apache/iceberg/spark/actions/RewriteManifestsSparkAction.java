@@ -49,6 +49,7 @@ import org.apache.iceberg.TableOperations;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.actions.ImmutableRewriteManifests;
 import org.apache.iceberg.actions.RewriteManifests;
+import org.apache.iceberg.actions.RewriteManifestsPlanner;
 import org.apache.iceberg.exceptions.CleanableFailure;
 import org.apache.iceberg.exceptions.CommitStateUnknownException;
 import org.apache.iceberg.exceptions.ValidationException;
@@ -88,6 +89,10 @@ import org.slf4j.LoggerFactory;
  * a way to configure a custom location for staged manifests via {@link #stagingLocation(String)}.
  * The provided staging location will be ignored if snapshot ID inheritance is enabled. In such
  * cases, the manifests are always written to the metadata folder and committed without staging.
+ *
+ * <p>Setting the {@link RewriteManifestsPlanner#REWRITE_ALL} option to false rewrites only the
+ * matching manifests that are undersized, oversized, contain many deleted entries, or overlap many
+ * other manifests in partition ranges, as selected by {@link RewriteManifestsPlanner}.
  */
 public class RewriteManifestsSparkAction
     extends BaseSnapshotUpdateSparkAction<RewriteManifestsSparkAction> implements RewriteManifests {
@@ -225,7 +230,7 @@ public class RewriteManifestsSparkAction
   }
 
   private RewriteManifests.Result rewriteManifests(ManifestContent content) {
-    List<ManifestFile> matchingManifests = findMatchingManifests(content);
+    List<ManifestFile> matchingManifests = selectManifests(findMatchingManifests(content));
     if (matchingManifests.isEmpty()) {
       return EMPTY_RESULT;
     }
@@ -360,6 +365,17 @@ public class RewriteManifestsSparkAction
         .collect(Collectors.toList());
   }
 
+  private List<ManifestFile> selectManifests(List<ManifestFile> manifests) {
+    String clusteringField =
+        partitionFieldClustering != null && !partitionFieldClustering.isEmpty()
+            ? partitionFieldClustering.get(0)
+            : null;
+    RewriteManifestsPlanner planner =
+        new RewriteManifestsPlanner(table, spec.specId(), clusteringField);
+    planner.init(options());
+    return planner.plan(manifests);
+  }
+
   private List<ManifestFile> loadManifests(ManifestContent content, Snapshot snapshot) {
     switch (content) {
       case DATA:
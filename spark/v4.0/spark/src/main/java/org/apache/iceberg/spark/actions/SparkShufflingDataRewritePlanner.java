@@ -20,6 +20,7 @@ package org.apache.iceberg.spark.actions;
 
 import java.util.Map;
 import java.util.Set;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.actions.BinPackRewriteFilePlanner;
 import org.apache.iceberg.expressions.Expression;
@@ -46,11 +47,19 @@ class SparkShufflingDataRewritePlanner extends BinPackRewriteFilePlanner {
 
   public static final double COMPRESSION_FACTOR_DEFAULT = 1.0;
 
+  private final SortOrder sortOrder;
   private double compressionFactor;
+  private boolean mergeSortedFiles;
 
   SparkShufflingDataRewritePlanner(
       Table table, Expression filter, Long snapshotId, boolean caseSensitive) {
+    this(table, filter, snapshotId, caseSensitive, null);
+  }
+
+  SparkShufflingDataRewritePlanner(
+      Table table, Expression filter, Long snapshotId, boolean caseSensitive, SortOrder sortOrder) {
     super(table, filter, snapshotId, caseSensitive);
+    this.sortOrder = sortOrder;
   }
 
   @Override
@@ -65,6 +74,22 @@ class SparkShufflingDataRewritePlanner extends BinPackRewriteFilePlanner {
   public void init(Map<String, String> options) {
     super.init(options);
     this.compressionFactor = compressionFactor(options);
+    this.mergeSortedFiles =
+        PropertyUtil.propertyAsBoolean(
+            options,
+            SparkSortFileRewriteRunner.MERGE_SORTED_FILES,
+            SparkSortFileRewriteRunner.MERGE_SORTED_FILES_DEFAULT);
+  }
+
+  @Override
+  protected Set<String> columnStatsToLoad() {
+    if (!mergeSortedFiles || sortOrder == null || !sortOrder.isSorted()) {
+      return ImmutableSet.of();
+    }
+
+    // bounds of the first sort column are used to find files that must be merged
+    String name = table().schema().findColumnName(sortOrder.fields().get(0).sourceId());
+    return name != null ? ImmutableSet.of(name) : ImmutableSet.of();
   }
 
   @Override
@@ -35,6 +35,7 @@ import org.apache.iceberg.spark.SparkReadOptions;
 import org.apache.iceberg.spark.SparkWriteOptions;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.SortOrderUtil;
+import org.apache.spark.sql.DataFrameWriter;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SparkSession;
@@ -119,15 +120,33 @@ abstract class SparkShufflingFileRewriteRunner extends SparkDataFileRewriteRunne
                 spec(fileGroup.outputSpecId()),
                 fileGroup.expectedOutputFiles()));
 
-    sortedDF
-        .write()
-        .format("iceberg")
-        .option(SparkWriteOptions.REWRITTEN_FILE_SCAN_TASK_SET_ID, groupId)
-        .option(SparkWriteOptions.TARGET_FILE_SIZE_BYTES, fileGroup.maxOutputFileSize())
-        .option(SparkWriteOptions.USE_TABLE_DISTRIBUTION_AND_ORDERING, "false")
-        .option(SparkWriteOptions.OUTPUT_SPEC_ID, fileGroup.outputSpecId())
-        .mode("append")
-        .save(groupId);
+    DataFrameWriter<Row> writer =
+        sortedDF
+            .write()
+            .format("iceberg")
+            .option(SparkWriteOptions.REWRITTEN_FILE_SCAN_TASK_SET_ID, groupId)
+            .option(SparkWriteOptions.TARGET_FILE_SIZE_BYTES, fileGroup.maxOutputFileSize())
+            .option(SparkWriteOptions.USE_TABLE_DISTRIBUTION_AND_ORDERING, "false")
+            .option(SparkWriteOptions.OUTPUT_SPEC_ID, fileGroup.outputSpecId());
+
+    // output files are sorted within their partition, so the sort order can be recorded
+    Integer sortOrderId = tableSortOrderId();
+    if (sortOrderId != null) {
+      writer = writer.option(SparkWriteOptions.OUTPUT_SORT_ORDER_ID, sortOrderId);
+    }
+
+    writer.mode("append").save(groupId);
+  }
+
+  /** Returns the ID of a table sort order that matches the rewrite order, or null if none does. */
+  protected Integer tableSortOrderId() {
+    for (org.apache.iceberg.SortOrder tableSortOrder : table().sortOrders().values()) {
+      if (tableSortOrder.isSorted() && tableSortOrder.sameOrder(sortOrder())) {
+        return tableSortOrder.orderId();
+      }
+    }
+
+    return null;
   }
 
   private Function<Dataset<Row>, Dataset<Row>> sortFunction(
@@ -18,17 +18,50 @@
  */
 package org.apache.iceberg.spark.actions;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.ScanTaskGroup;
 import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.RewriteFileGroup;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.spark.SparkReadOptions;
+import org.apache.iceberg.spark.SparkWriteOptions;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.TableScanUtil;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SparkSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class SparkSortFileRewriteRunner extends SparkShufflingFileRewriteRunner {
+  private static final Logger LOG = LoggerFactory.getLogger(SparkSortFileRewriteRunner.class);
+
+  /**
+   * Whether to merge files that are already sorted by the rewrite sort order instead of shuffling
+   * them. When all files of a group were written with a table sort order that matches the rewrite
+   * sort order, files with overlapping ranges of the first sort column are read together with a
+   * sorted merge and files are written without a shuffle. Other groups are rewritten with a sort.
+   */
+  public static final String MERGE_SORTED_FILES = "merge-sorted-files";
+
+  public static final boolean MERGE_SORTED_FILES_DEFAULT = false;
+
+  /**
+   * The maximum total size of files with overlapping ranges that are read by a single sorted merge.
+   * Groups with larger overlapping ranges are rewritten with a sort, which distributes the work.
+   */
+  public static final String MAX_MERGE_RANGE_SIZE_BYTES = "max-merge-range-size-bytes";
+
+  public static final long MAX_MERGE_RANGE_SIZE_BYTES_DEFAULT = 4L * 1024 * 1024 * 1024; // 4 GB
 
   private final SortOrder sortOrder;
+  private boolean mergeSortedFiles;
+  private long maxMergeRangeSizeBytes;
 
   SparkSortFileRewriteRunner(SparkSession spark, Table table) {
     super(spark, table);
@@ -57,6 +90,95 @@ class SparkSortFileRewriteRunner extends SparkShufflingFileRewriteRunner {
     return sortOrder;
   }
 
+  @Override
+  public Set<String> validOptions() {
+    return ImmutableSet.<String>builder()
+        .addAll(super.validOptions())
+        .add(MERGE_SORTED_FILES)
+        .add(MAX_MERGE_RANGE_SIZE_BYTES)
+        .build();
+  }
+
+  @Override
+  public void init(Map<String, String> options) {
+    super.init(options);
+    this.mergeSortedFiles =
+        PropertyUtil.propertyAsBoolean(options, MERGE_SORTED_FILES, MERGE_SORTED_FILES_DEFAULT);
+    this.maxMergeRangeSizeBytes = maxMergeRangeSizeBytes(options);
+  }
+
+  @Override
+  public void doRewrite(String groupId, RewriteFileGroup fileGroup) {
+    if (mergeSortedFiles && canMerge(fileGroup)) {
+      merge(groupId, fileGroup);
+    } else {
+      super.doRewrite(groupId, fileGroup);
+    }
+  }
+
+  private void merge(String groupId, RewriteFileGroup fileGroup) {
+    // read overlapping files with sorted merges, combining ranges into splits of the required size
+    Dataset<Row> scanDF =
+        spark()
+            .read()
+            .format("iceberg")
+            .option(SparkReadOptions.SCAN_TASK_SET_ID, groupId)
+            .option(SparkReadOptions.SPLIT_SIZE, fileGroup.inputSplitSize())
+            .option(SparkReadOptions.MERGE_SORTED_FILES, "true")
+            .load(groupId);
+
+    // write the merged data without a shuffle, keeping the sort order of the input files
+    scanDF
+        .write()
+        .format("iceberg")
+        .option(SparkWriteOptions.REWRITTEN_FILE_SCAN_TASK_SET_ID, groupId)
+        .option(SparkWriteOptions.TARGET_FILE_SIZE_BYTES, fileGroup.maxOutputFileSize())
+        .option(SparkWriteOptions.USE_TABLE_DISTRIBUTION_AND_ORDERING, "false")
+        .option(SparkWriteOptions.OUTPUT_SPEC_ID, fileGroup.outputSpecId())
+        .option(SparkWriteOptions.OUTPUT_SORT_ORDER_ID, tableSortOrderId())
+        .mode("append")
+        .save(groupId);
+  }
+
+  // files can be merged if they are sorted by the rewrite order and do not need repartitioning
+  private boolean canMerge(RewriteFileGroup fileGroup) {
+    Integer sortOrderId = tableSortOrderId();
+    if (sortOrderId == null) {
+      return false;
+    }
+
+    for (FileScanTask task : fileGroup.fileScanTasks()) {
+      if (task.spec().specId() != fileGroup.outputSpecId()
+          || !sortOrderId.equals(task.file().sortOrderId())) {
+        return false;
+      }
+    }
+
+    SortOrder fileSortOrder = table().sortOrders().get(sortOrderId);
+    for (ScanTaskGroup<FileScanTask> range :
+        TableScanUtil.planMergeGroups(fileGroup.fileScanTasks(), fileSortOrder)) {
+      if (range.sizeBytes() > maxMergeRangeSizeBytes) {
+        LOG.info(
+            "Sorting {} instead of merging, overlapping range of {} bytes exceeds {}",
+            fileGroup,
+            range.sizeBytes(),
+            maxMergeRangeSizeBytes);
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private long maxMergeRangeSizeBytes(Map<String, String> options) {
+    long value =
+        PropertyUtil.propertyAsLong(
+            options, MAX_MERGE_RANGE_SIZE_BYTES, MAX_MERGE_RANGE_SIZE_BYTES_DEFAULT);
+    Preconditions.checkArgument(
+        value > 0, "'%s' is set to %s but must be > 0", MAX_MERGE_RANGE_SIZE_BYTES, value);
+    return value;
+  }
+
   @Override
   protected Dataset<Row> sortedDF(Dataset<Row> df, Function<Dataset<Row>, Dataset<Row>> sortFunc) {
     return sortFunc.apply(df);
@@ -75,17 +75,34 @@ import org.apache.spark.unsafe.types.VariantVal;
 public class SparkParquetWriters {
   private SparkParquetWriters() {}
 
-  @SuppressWarnings("unchecked")
   public static <T> ParquetValueWriter<T> buildWriter(StructType dfSchema, MessageType type) {
+    return buildWriter(dfSchema, type, false);
+  }
+
+  /**
+   * Builds a writer for a file schema with variant shredded types that were inferred from the
+   * written values.
+   */
+  public static <T> ParquetValueWriter<T> buildWriterWithInferredShredding(
+      StructType dfSchema, MessageType type) {
+    return buildWriter(dfSchema, type, true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ParquetValueWriter<T> buildWriter(
+      StructType dfSchema, MessageType type, boolean inferredShredding) {
     return (ParquetValueWriter<T>)
-        ParquetWithSparkSchemaVisitor.visit(dfSchema, type, new WriteBuilder(type));
+        ParquetWithSparkSchemaVisitor.visit(
+            dfSchema, type, new WriteBuilder(type, inferredShredding));
   }
 
   private static class WriteBuilder extends ParquetWithSparkSchemaVisitor<ParquetValueWriter<?>> {
     private final MessageType type;
+    private final boolean inferredShredding;
 
-    WriteBuilder(MessageType type) {
+    WriteBuilder(MessageType type, boolean inferredShredding) {
       this.type = type;
+      this.inferredShredding = inferredShredding;
     }
 
     @Override
@@ -153,7 +170,8 @@ public class SparkParquetWriters {
     public ParquetValueWriter<?> variant(VariantType sVariant, GroupType variant) {
       ParquetValueWriter<?> writer =
           ParquetVariantVisitor.visit(
-              variant, new VariantWriterBuilder(type, Arrays.asList(currentPath())));
+              variant,
+              new VariantWriterBuilder(type, Arrays.asList(currentPath()), inferredShredding));
       return new VariantWriter(writer);
     }
 
@@ -578,6 +596,21 @@ public class SparkParquetWriters {
     }
   }
 
+  /** Returns the variant at a position of a row, or null if it is null. */
+  public static Variant variant(InternalRow row, int pos) {
+    return row.isNullAt(pos) ? null : toVariant(row.getVariant(pos));
+  }
+
+  private static Variant toVariant(VariantVal variantVal) {
+    VariantMetadata metadata =
+        VariantMetadata.from(
+            ByteBuffer.wrap(variantVal.getMetadata()).order(ByteOrder.LITTLE_ENDIAN));
+    VariantValue value =
+        VariantValue.from(
+            metadata, ByteBuffer.wrap(variantVal.getValue()).order(ByteOrder.LITTLE_ENDIAN));
+    return Variant.of(metadata, value);
+  }
+
   /** Variant writer converts from VariantVal to Variant */
   public static class VariantWriter implements ParquetValueWriter<VariantVal> {
     private final ParquetValueWriter<Variant> writer;
@@ -589,14 +622,7 @@ public class SparkParquetWriters {
 
     @Override
     public void write(int repetitionLevel, VariantVal variantVal) {
-      VariantMetadata metadata =
-          VariantMetadata.from(
-              ByteBuffer.wrap(variantVal.getMetadata()).order(ByteOrder.LITTLE_ENDIAN));
-      VariantValue value =
-          VariantValue.from(
-              metadata, ByteBuffer.wrap(variantVal.getValue()).order(ByteOrder.LITTLE_ENDIAN));
-
-      writer.write(repetitionLevel, Variant.of(metadata, value));
+      writer.write(repetitionLevel, toVariant(variantVal));
     }
 
     @Override
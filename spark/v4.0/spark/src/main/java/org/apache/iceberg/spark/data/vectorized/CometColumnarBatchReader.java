@@ -26,6 +26,7 @@ import org.apache.comet.parquet.AbstractColumnReader;
 import org.apache.comet.parquet.BatchReader;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.parquet.ParquetRowPositions;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.spark.SparkSchemaUtil;
@@ -58,6 +59,7 @@ class CometColumnarBatchReader implements VectorizedReader<ColumnarBatch> {
   private final BatchReader delegate;
   private DeleteFilter<InternalRow> deletes = null;
   private long rowStartPosInBatch = 0;
+  private ParquetRowPositions rowPositions = null;
 
   CometColumnarBatchReader(List<VectorizedReader<?>> readers, Schema schema) {
     this.readers =
@@ -90,13 +92,7 @@ class CometColumnarBatchReader implements VectorizedReader<ColumnarBatch> {
       delegate.getColumnReaders()[i] = this.readers[i].delegate();
     }
 
-    this.rowStartPosInBatch =
-        pageStore
-            .getRowIndexOffset()
-            .orElseThrow(
-                () ->
-                    new IllegalArgumentException(
-                        "PageReadStore does not contain row index offset"));
+    this.rowPositions = ParquetRowPositions.of(pageStore);
   }
 
   public void setDeleteFilter(DeleteFilter<InternalRow> deleteFilter) {
@@ -105,9 +101,8 @@ class CometColumnarBatchReader implements VectorizedReader<ColumnarBatch> {
 
   @Override
   public final ColumnarBatch read(ColumnarBatch reuse, int numRowsToRead) {
-    ColumnarBatch columnarBatch = new ColumnBatchLoader(numRowsToRead).loadDataToColumnBatch();
-    rowStartPosInBatch += numRowsToRead;
-    return columnarBatch;
+    this.rowStartPosInBatch = rowPositions.next(numRowsToRead);
+    return new ColumnBatchLoader(numRowsToRead).loadDataToColumnBatch();
   }
 
   @Override
@@ -106,6 +106,8 @@ abstract class BaseBatchReader<T extends ScanTask> extends BaseReader<ColumnarBa
         .recordsPerBatch(parquetConf.batchSize())
         .filter(residual)
         .caseSensitive(caseSensitive())
+        .pageSkipping(pageSkipping())
+        .lateMaterialization(lateMaterialization())
         // Spark eagerly consumes the batches. So the underlying memory allocated could be reused
         // without worrying about subsequent reads clobbering over each other. This improves
         // read performance as every batch read doesn't have to pay the cost of allocating memory.
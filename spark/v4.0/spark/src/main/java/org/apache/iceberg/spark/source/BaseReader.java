@@ -52,6 +52,7 @@ import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.spark.SparkUtil;
 import org.apache.iceberg.types.Types.StructType;
 import org.apache.iceberg.util.PartitionUtil;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.spark.rdd.InputFileBlockHolder;
 import org.apache.spark.sql.catalyst.InternalRow;
 import org.slf4j.Logger;
@@ -70,6 +71,8 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
   private final Schema expectedSchema;
   private final boolean caseSensitive;
   private final NameMapping nameMapping;
+  private final boolean pageSkipping;
+  private final boolean lateMaterialization;
   private final ScanTaskGroup<TaskT> taskGroup;
   private final Iterator<TaskT> tasks;
   private final DeleteCounter counter;
@@ -97,6 +100,16 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     String nameMappingString = table.properties().get(TableProperties.DEFAULT_NAME_MAPPING);
     this.nameMapping =
         nameMappingString != null ? NameMappingParser.fromJson(nameMappingString) : null;
+    this.pageSkipping =
+        PropertyUtil.propertyAsBoolean(
+            table.properties(),
+            TableProperties.PARQUET_PAGE_SKIPPING_ENABLED,
+            TableProperties.PARQUET_PAGE_SKIPPING_ENABLED_DEFAULT);
+    this.lateMaterialization =
+        PropertyUtil.propertyAsBoolean(
+            table.properties(),
+            TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED,
+            TableProperties.PARQUET_LATE_MATERIALIZATION_ENABLED_DEFAULT);
     this.counter = new DeleteCounter();
     this.cacheDeleteFilesOnExecutors = cacheDeleteFilesOnExecutors;
   }
@@ -121,6 +134,14 @@ abstract class BaseReader<T, TaskT extends ScanTask> implements Closeable {
     return nameMapping;
   }
 
+  protected boolean pageSkipping() {
+    return pageSkipping;
+  }
+
+  protected boolean lateMaterialization() {
+    return lateMaterialization;
+  }
+
   protected Table table() {
     return table;
   }
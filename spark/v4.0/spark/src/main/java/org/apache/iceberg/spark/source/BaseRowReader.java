@@ -99,6 +99,8 @@ abstract class BaseRowReader<T extends ScanTask> extends BaseReader<InternalRow,
             fileSchema -> SparkParquetReaders.buildReader(readSchema, fileSchema, idToConstant))
         .filter(residual)
         .caseSensitive(caseSensitive())
+        .pageSkipping(pageSkipping())
+        .lateMaterialization(lateMaterialization())
         .withNameMapping(nameMapping())
         .build();
   }
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.source;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.ScanTaskGroup;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.SortOrderComparators;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.iceberg.util.SortedMerge;
+import org.apache.iceberg.util.TableScanUtil;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.types.StructType;
+
+/**
+ * A reader that merges the rows of files sorted by the same sort order into sorted output.
+ *
+ * <p>All files in the task group must be sorted by the same sort order and the expected schema
+ * must contain the sort order's source columns. Files with overlapping ranges are merged together
+ * and non-overlapping ranges are read one after another. Rows are copied as they are read because
+ * the underlying readers may reuse rows while other files are being merged.
+ */
+class SortedMergeRowReader extends RowDataReader {
+  private final ScanTaskGroup<FileScanTask> taskGroup;
+  private final SortOrder sortOrder;
+  private CloseableIterable<InternalRow> merged = null;
+  private CloseableIterator<InternalRow> rows = null;
+  private InternalRow current = null;
+
+  SortedMergeRowReader(SparkInputPartition partition) {
+    super(partition);
+    this.taskGroup = partition.taskGroup();
+    this.sortOrder = sortOrder(partition.table(), taskGroup.tasks());
+  }
+
+  static SortOrder sortOrder(Table table, Collection<FileScanTask> tasks) {
+    Preconditions.checkArgument(!tasks.isEmpty(), "Cannot merge an empty set of files");
+
+    Integer sortOrderId = null;
+    for (FileScanTask task : tasks) {
+      Integer fileSortOrderId = task.file().sortOrderId();
+      ValidationException.check(
+          fileSortOrderId != null && (sortOrderId == null || sortOrderId.equals(fileSortOrderId)),
+          "Cannot merge files that are not sorted by the same sort order: %s",
+          task.file().location());
+      sortOrderId = fileSortOrderId;
+    }
+
+    SortOrder sortOrder =
+        table.sortOrder().orderId() == sortOrderId
+            ? table.sortOrder()
+            : table.sortOrders().get(sortOrderId);
+    ValidationException.check(
+        sortOrder != null && sortOrder.isSorted(),
+        "Cannot merge files with unknown or unsorted sort order: %s",
+        sortOrderId);
+    return sortOrder;
+  }
+
+  @Override
+  public boolean next() throws IOException {
+    if (rows == null) {
+      Comparator<InternalRow> comparator = comparator();
+      List<CloseableIterable<InternalRow>> ranges = Lists.newArrayList();
+      for (ScanTaskGroup<FileScanTask> range :
+          TableScanUtil.planMergeGroups(Lists.newArrayList(taskGroup.tasks()), sortOrder)) {
+        ranges.add(merge(range.tasks(), comparator));
+      }
+
+      this.merged = CloseableIterable.concat(ranges);
+      this.rows = merged.iterator();
+    }
+
+    if (rows.hasNext()) {
+      this.current = rows.next();
+      return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  public InternalRow get() {
+    return current;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (merged != null) {
+      merged.close();
+    }
+
+    super.close();
+  }
+
+  private CloseableIterable<InternalRow> merge(
+      Collection<FileScanTask> tasks, Comparator<InternalRow> comparator) {
+    List<CloseableIterable<InternalRow>> files = Lists.newArrayList();
+    for (FileScanTask task : tasks) {
+      Iterable<InternalRow> fileRows = () -> open(task);
+      files.add(
+          CloseableIterable.transform(CloseableIterable.withNoopClose(fileRows), InternalRow::copy));
+    }
+
+    return new SortedMerge<>(comparator, files);
+  }
+
+  private Comparator<InternalRow> comparator() {
+    Schema schema = expectedSchema();
+    StructType sparkType = SparkSchemaUtil.convert(schema);
+    InternalRowWrapper left = new InternalRowWrapper(sparkType, schema.asStruct());
+    InternalRowWrapper right = new InternalRowWrapper(sparkType, schema.asStruct());
+    Comparator<StructLike> comparator = SortOrderComparators.forSchema(schema, sortOrder);
+    return (row1, row2) -> comparator.compare(left.wrap(row1), right.wrap(row2));
+  }
+}
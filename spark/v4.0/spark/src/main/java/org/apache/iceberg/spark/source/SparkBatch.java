@@ -122,7 +122,11 @@ class SparkBatch implements Batch {
 
   @Override
   public PartitionReaderFactory createReaderFactory() {
-    if (useCometBatchReads()) {
+    if (readConf.mergeSortedFiles()) {
+      // sorted merges compare individual rows
+      return new SparkRowReaderFactory(true);
+
+    } else if (useCometBatchReads()) {
       return new SparkColumnarReaderFactory(parquetBatchReadConf(ParquetReaderType.COMET));
 
     } else if (useParquetBatchReads()) {
@@ -115,6 +115,11 @@ class SparkFileWriterFactory extends BaseFileWriterFactory<InternalRow> {
   @Override
   protected void configureDataWrite(Parquet.DataWriteBuilder builder) {
     builder.createWriterFunc(msgType -> SparkParquetWriters.buildWriter(dataSparkType(), msgType));
+    builder.variantShreddingInference(
+        InternalRow::copy,
+        SparkParquetWriters::variant,
+        (icebergSchema, msgType) ->
+            SparkParquetWriters.buildWriterWithInferredShredding(dataSparkType(), msgType));
     builder.setAll(writeProperties);
   }
 
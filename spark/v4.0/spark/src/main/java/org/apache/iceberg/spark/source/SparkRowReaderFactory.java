@@ -30,7 +30,15 @@ import org.apache.spark.sql.vectorized.ColumnarBatch;
 
 class SparkRowReaderFactory implements PartitionReaderFactory {
 
-  SparkRowReaderFactory() {}
+  private final boolean mergeSortedFiles;
+
+  SparkRowReaderFactory() {
+    this(false);
+  }
+
+  SparkRowReaderFactory(boolean mergeSortedFiles) {
+    this.mergeSortedFiles = mergeSortedFiles;
+  }
 
   @Override
   public PartitionReader<InternalRow> createReader(InputPartition inputPartition) {
@@ -41,7 +49,10 @@ class SparkRowReaderFactory implements PartitionReaderFactory {
 
     SparkInputPartition partition = (SparkInputPartition) inputPartition;
 
-    if (partition.allTasksOfType(FileScanTask.class)) {
+    if (mergeSortedFiles && partition.allTasksOfType(FileScanTask.class)) {
+      return new SortedMergeRowReader(partition);
+
+    } else if (partition.allTasksOfType(FileScanTask.class)) {
       return new RowDataReader(partition);
 
     } else if (partition.allTasksOfType(ChangelogScanTask.class)) {
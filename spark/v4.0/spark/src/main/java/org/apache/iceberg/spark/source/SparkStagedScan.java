@@ -20,12 +20,16 @@ package org.apache.iceberg.spark.source;
 
 import java.util.List;
 import java.util.Objects;
+import org.apache.iceberg.BaseScanTaskGroup;
+import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.ScanTask;
 import org.apache.iceberg.ScanTaskGroup;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.spark.ScanTaskSetManager;
 import org.apache.iceberg.spark.SparkReadConf;
 import org.apache.iceberg.util.TableScanUtil;
@@ -37,6 +41,7 @@ class SparkStagedScan extends SparkScan {
   private final long splitSize;
   private final int splitLookback;
   private final long openFileCost;
+  private final boolean mergeSortedFiles;
 
   private List<ScanTaskGroup<ScanTask>> taskGroups = null; // lazy cache of tasks
 
@@ -46,6 +51,7 @@ class SparkStagedScan extends SparkScan {
     this.splitSize = readConf.splitSize();
     this.splitLookback = readConf.splitLookback();
     this.openFileCost = readConf.splitOpenFileCost();
+    this.mergeSortedFiles = readConf.mergeSortedFiles();
   }
 
   @Override
@@ -59,11 +65,51 @@ class SparkStagedScan extends SparkScan {
           table(),
           taskSetId);
 
-      this.taskGroups = TableScanUtil.planTaskGroups(tasks, splitSize, splitLookback, openFileCost);
+      if (mergeSortedFiles) {
+        this.taskGroups = planMergeGroups(tasks);
+      } else {
+        this.taskGroups =
+            TableScanUtil.planTaskGroups(tasks, splitSize, splitLookback, openFileCost);
+      }
     }
     return taskGroups;
   }
 
+  // files are not split and overlapping files are kept in the same task group so that each
+  // group can be read with sorted merges; adjacent ranges are combined up to the split size
+  private List<ScanTaskGroup<ScanTask>> planMergeGroups(List<ScanTask> tasks) {
+    List<FileScanTask> fileTasks = Lists.newArrayListWithExpectedSize(tasks.size());
+    for (ScanTask task : tasks) {
+      ValidationException.check(
+          task.isFileScanTask(), "Cannot merge sorted files for non-file task: %s", task);
+      fileTasks.add(task.asFileScanTask());
+    }
+
+    if (fileTasks.isEmpty()) {
+      return ImmutableList.of();
+    }
+
+    SortOrder sortOrder = SortedMergeRowReader.sortOrder(table(), fileTasks);
+    List<ScanTaskGroup<ScanTask>> groups = Lists.newArrayList();
+    List<ScanTask> groupTasks = Lists.newArrayList();
+    long groupSize = 0L;
+
+    for (ScanTaskGroup<FileScanTask> range : TableScanUtil.planMergeGroups(fileTasks, sortOrder)) {
+      if (!groupTasks.isEmpty() && groupSize + range.sizeBytes() > splitSize) {
+        groups.add(new BaseScanTaskGroup<>(groupTasks));
+        groupTasks = Lists.newArrayList();
+        groupSize = 0L;
+      }
+
+      groupTasks.addAll(range.tasks());
+      groupSize += range.sizeBytes();
+    }
+
+    groups.add(new BaseScanTaskGroup<>(groupTasks));
+
+    return groups;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (this == other) {
@@ -80,13 +126,20 @@ class SparkStagedScan extends SparkScan {
         && readSchema().equals(that.readSchema())
         && splitSize == that.splitSize
         && splitLookback == that.splitLookback
-        && openFileCost == that.openFileCost;
+        && openFileCost == that.openFileCost
+        && mergeSortedFiles == that.mergeSortedFiles;
   }
 
   @Override
   public int hashCode() {
     return Objects.hash(
-        table().name(), taskSetId, readSchema(), splitSize, splitSize, openFileCost);
+        table().name(),
+        taskSetId,
+        readSchema(),
+        splitSize,
+        splitSize,
+        openFileCost,
+        mergeSortedFiles);
   }
 
   @Override
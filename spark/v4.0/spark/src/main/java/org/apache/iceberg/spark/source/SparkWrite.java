@@ -41,6 +41,7 @@ import org.apache.iceberg.Schema;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.SnapshotSummary;
 import org.apache.iceberg.SnapshotUpdate;
+import org.apache.iceberg.SortOrder;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.exceptions.CleanableFailure;
 import org.apache.iceberg.expressions.Expression;
@@ -98,6 +99,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
   private final boolean wapEnabled;
   private final String wapId;
   private final int outputSpecId;
+  private final SortOrder outputSortOrder;
   private final String branch;
   private final long targetFileSize;
   private final Schema writeSchema;
@@ -134,6 +136,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
     this.useFanoutWriter = writeConf.useFanoutWriter(writeRequirements);
     this.writeRequirements = writeRequirements;
     this.outputSpecId = writeConf.outputSpecId();
+    this.outputSortOrder = writeConf.outputSortOrder();
     this.writeProperties = writeConf.writeProperties();
   }
 
@@ -201,6 +204,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
         queryId,
         format,
         outputSpecId,
+        outputSortOrder,
         targetFileSize,
         writeSchema,
         dsSchema,
@@ -669,6 +673,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
     private final Broadcast<Table> tableBroadcast;
     private final FileFormat format;
     private final int outputSpecId;
+    private final SortOrder outputSortOrder;
     private final long targetFileSize;
     private final Schema writeSchema;
     private final StructType dsSchema;
@@ -681,6 +686,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
         String queryId,
         FileFormat format,
         int outputSpecId,
+        SortOrder outputSortOrder,
         long targetFileSize,
         Schema writeSchema,
         StructType dsSchema,
@@ -689,6 +695,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
       this.tableBroadcast = tableBroadcast;
       this.format = format;
       this.outputSpecId = outputSpecId;
+      this.outputSortOrder = outputSortOrder;
       this.targetFileSize = targetFileSize;
       this.writeSchema = writeSchema;
       this.dsSchema = dsSchema;
@@ -718,6 +725,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
               .dataFileFormat(format)
               .dataSchema(writeSchema)
               .dataSparkType(dsSchema)
+              .dataSortOrder(outputSortOrder)
               .writeProperties(writeProperties)
               .build();
 
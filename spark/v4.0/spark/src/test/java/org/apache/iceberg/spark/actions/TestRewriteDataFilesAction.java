@@ -46,6 +46,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -85,6 +86,7 @@ import org.apache.iceberg.actions.SizeBasedFileRewritePlanner;
 import org.apache.iceberg.data.GenericAppenderFactory;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
 import org.apache.iceberg.deletes.BaseDVFileWriter;
 import org.apache.iceberg.deletes.DVFileWriter;
 import org.apache.iceberg.deletes.EqualityDeleteWriter;
@@ -101,6 +103,7 @@ import org.apache.iceberg.hadoop.HadoopTables;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.io.OutputFileFactory;
+import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
@@ -127,7 +130,9 @@ import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Encoders;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.catalyst.analysis.NoSuchTableException;
+import org.apache.spark.sql.execution.QueryExecution;
 import org.apache.spark.sql.internal.SQLConf;
+import org.apache.spark.sql.util.QueryExecutionListener;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
@@ -1588,6 +1593,184 @@ public class TestRewriteDataFilesAction extends TestBase {
     shouldHaveLastCommitSorted(table, "c2");
   }
 
+  @TestTemplate
+  public void testMergeSortedFiles() {
+    Table table = createTable(20);
+    shouldHaveFiles(table, 20);
+    table.replaceSortOrder().asc("c2").commit();
+    int sortOrderId = table.sortOrder().orderId();
+
+    List<Object[]> originalData = currentData();
+
+    basicRewrite(table)
+        .sort()
+        .option(SizeBasedFileRewritePlanner.MIN_INPUT_FILES, "1")
+        .option(SizeBasedFileRewritePlanner.REWRITE_ALL, "true")
+        .option(RewriteDataFiles.TARGET_FILE_SIZE_BYTES, Integer.toString(averageFileSize(table)))
+        .execute();
+
+    table.refresh();
+    assertThat(TestHelpers.dataFiles(table))
+        .as("Sorted files should record the sort order")
+        .extracting(DataFile::sortOrderId)
+        .containsOnly(sortOrderId);
+
+    long dataSizeBefore = testDataSize(table);
+    int numFilesBefore = TestHelpers.dataFiles(table).size();
+
+    RewriteDataFiles.Result result =
+        basicRewrite(table)
+            .sort()
+            .option(SparkSortFileRewriteRunner.MERGE_SORTED_FILES, "true")
+            .option(SizeBasedFileRewritePlanner.MIN_INPUT_FILES, "1")
+            .option(SizeBasedFileRewritePlanner.REWRITE_ALL, "true")
+            .option(
+                RewriteDataFiles.TARGET_FILE_SIZE_BYTES,
+                Integer.toString(averageFileSize(table) * 4))
+            .execute();
+
+    assertThat(result.rewrittenBytesCount()).isEqualTo(dataSizeBefore);
+
+    table.refresh();
+
+    List<Object[]> postRewriteData = currentData();
+    assertEquals("We shouldn't have changed the data", originalData, postRewriteData);
+
+    List<DataFile> dataFiles = TestHelpers.dataFiles(table);
+    assertThat(dataFiles).hasSizeLessThan(numFilesBefore);
+    assertThat(dataFiles)
+        .as("Merged files should record the sort order")
+        .extracting(DataFile::sortOrderId)
+        .containsOnly(sortOrderId);
+
+    shouldHaveSnapshots(table, 3);
+    shouldHaveACleanCache(table);
+    shouldHaveLastCommitSorted(table, "c2");
+  }
+
+  @TestTemplate
+  public void testMergeOverlappingSortedFiles() {
+    Table table = createTable();
+    table.replaceSortOrder().asc("c2").commit();
+    int sortOrderId = table.sortOrder().orderId();
+    writeSortedRecords(4, 2000, sortOrderId);
+    shouldHaveFiles(table, 4);
+    shouldHaveLastCommitUnsorted(table, "c2");
+
+    List<Object[]> originalData = currentData();
+
+    List<String> plans =
+        executedPlans(
+            () ->
+                basicRewrite(table)
+                    .sort()
+                    .option(SparkSortFileRewriteRunner.MERGE_SORTED_FILES, "true")
+                    .option(SizeBasedFileRewritePlanner.REWRITE_ALL, "true")
+                    .option(
+                        RewriteDataFiles.TARGET_FILE_SIZE_BYTES,
+                        Long.toString(testDataSize(table) * 2))
+                    .execute());
+
+    assertThat(plans)
+        .as("Overlapping files should be merged without a shuffle")
+        .isNotEmpty()
+        .noneMatch(plan -> plan.contains("Exchange"));
+
+    table.refresh();
+    assertEquals("We shouldn't have changed the data", originalData, currentData());
+    // without a shuffle, the only way to produce a single sorted file is a sorted merge
+    shouldHaveFiles(table, 1);
+    shouldHaveSortedRows(table, "c2", sortOrderId);
+    shouldHaveACleanCache(table);
+  }
+
+  @TestTemplate
+  public void testMergeSortedFilesFallsBackToSort() {
+    Table table = createTable();
+    table.replaceSortOrder().asc("c2").commit();
+    int sortOrderId = table.sortOrder().orderId();
+    writeSortedRecords(4, 2000, sortOrderId);
+    shouldHaveFiles(table, 4);
+
+    List<Object[]> originalData = currentData();
+
+    List<String> plans =
+        executedPlans(
+            () ->
+                basicRewrite(table)
+                    .sort()
+                    .option(SparkSortFileRewriteRunner.MERGE_SORTED_FILES, "true")
+                    .option(SparkSortFileRewriteRunner.MAX_MERGE_RANGE_SIZE_BYTES, "1")
+                    .option(SizeBasedFileRewritePlanner.REWRITE_ALL, "true")
+                    .option(
+                        RewriteDataFiles.TARGET_FILE_SIZE_BYTES,
+                        Long.toString(testDataSize(table) * 2))
+                    .execute());
+
+    assertThat(plans)
+        .as("Groups with overlapping ranges larger than the limit should be sorted")
+        .anyMatch(plan -> plan.contains("Exchange"));
+
+    table.refresh();
+    assertEquals("We shouldn't have changed the data", originalData, currentData());
+    shouldHaveSortedRows(table, "c2", sortOrderId);
+    shouldHaveACleanCache(table);
+    shouldHaveLastCommitSorted(table, "c2");
+  }
+
+  @TestTemplate
+  public void testMergeSortedFilesWithDeletes() throws IOException {
+    Table table = createTable();
+    table.replaceSortOrder().asc("c2").commit();
+    int sortOrderId = table.sortOrder().orderId();
+    writeSortedRecords(4, 2000, sortOrderId);
+    shouldHaveFiles(table, 4);
+    int total = 4 * 2000;
+
+    table.refresh();
+    RowDelta rowDelta = table.newRowDelta();
+    for (DataFile dataFile : TestHelpers.dataFiles(table)) {
+      if (formatVersion >= 3) {
+        writeDV(table, dataFile.partition(), dataFile.location(), 10)
+            .forEach(rowDelta::addDeletes);
+      } else {
+        writePosDeletes(table, dataFile.partition(), dataFile.location(), 1, 10)
+            .forEach(rowDelta::addDeletes);
+      }
+    }
+
+    rowDelta.commit();
+    writeEqDeleteRecord(table, "c1", 0, "c2", "foo1");
+
+    List<Object[]> expectedData = currentData();
+    assertThat(expectedData).as("Deletes should remove rows").hasSizeLessThan(total - 40);
+
+    List<String> plans =
+        executedPlans(
+            () ->
+                basicRewrite(table)
+                    .sort()
+                    .option(SparkSortFileRewriteRunner.MERGE_SORTED_FILES, "true")
+                    .option(SizeBasedFileRewritePlanner.REWRITE_ALL, "true")
+                    .option(
+                        RewriteDataFiles.TARGET_FILE_SIZE_BYTES,
+                        Long.toString(testDataSize(table) * 2))
+                    .execute());
+
+    assertThat(plans)
+        .as("Files with deletes should be merged without a shuffle")
+        .isNotEmpty()
+        .noneMatch(plan -> plan.contains("Exchange"));
+
+    table.refresh();
+    assertEquals("Rows must match", expectedData, currentData());
+    shouldHaveFiles(table, 1);
+    assertThat(TestHelpers.dataFiles(table))
+        .extracting(DataFile::recordCount)
+        .containsExactly((long) expectedData.size());
+    shouldHaveSortedRows(table, "c2", sortOrderId);
+  }
+
   @TestTemplate
   public void testSortAfterPartitionChange() {
     Table table = createTable(20);
@@ -2441,6 +2624,73 @@ public class TestRewriteDataFilesAction extends TestBase {
         .save(tableLocation);
   }
 
+  // writes files sorted by c2 that each cover the full range of c2 values
+  private void writeSortedRecords(int files, int numRecordsPerFile, int sortOrderId) {
+    List<ThreeColumnRecord> records = Lists.newArrayList();
+    for (int i = 0; i < files * numRecordsPerFile; i++) {
+      records.add(new ThreeColumnRecord(i % 10, "foo" + (i % 100), "bar" + i));
+    }
+
+    spark
+        .createDataFrame(records, ThreeColumnRecord.class)
+        .repartition(files)
+        .select("c1", "c2", "c3")
+        .sortWithinPartitions("c2")
+        .write()
+        .format("iceberg")
+        .mode("append")
+        .option(SparkWriteOptions.USE_TABLE_DISTRIBUTION_AND_ORDERING, "false")
+        .option(SparkWriteOptions.OUTPUT_SORT_ORDER_ID, sortOrderId)
+        .save(tableLocation);
+  }
+
+  private void shouldHaveSortedRows(Table table, String column, int sortOrderId) {
+    Schema schema = table.schema();
+    for (DataFile file : TestHelpers.dataFiles(table)) {
+      assertThat(file.sortOrderId()).isEqualTo(sortOrderId);
+
+      List<String> values = Lists.newArrayList();
+      try (CloseableIterable<Record> rows =
+          Parquet.read(table.io().newInputFile(file.location()))
+              .project(schema)
+              .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(schema, fileSchema))
+              .build()) {
+        rows.forEach(row -> values.add((String) row.getField(column)));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      assertThat(values).as("Rows of %s must be sorted", file.location()).isSorted();
+    }
+  }
+
+  // returns the executed plans of all queries run by the action
+  private List<String> executedPlans(Action action) {
+    List<String> plans = Collections.synchronizedList(Lists.newArrayList());
+    QueryExecutionListener listener =
+        new QueryExecutionListener() {
+          @Override
+          public void onSuccess(String funcName, QueryExecution qe, long durationNs) {
+            plans.add(qe.executedPlan().toString());
+          }
+
+          @Override
+          public void onFailure(String funcName, QueryExecution qe, Exception exception) {}
+        };
+
+    spark.listenerManager().register(listener);
+    try {
+      action.invoke();
+      spark.sparkContext().listenerBus().waitUntilEmpty();
+    } catch (TimeoutException e) {
+      throw new RuntimeException("Timeout while waiting for processing events", e);
+    } finally {
+      spark.listenerManager().unregister(listener);
+    }
+
+    return Lists.newArrayList(plans);
+  }
+
   private List<DeleteFile> writePosDeletesToFile(
       Table table, DataFile dataFile, int outputDeleteFiles) {
     return writePosDeletes(table, dataFile.partition(), dataFile.location(), outputDeleteFiles);
@@ -63,6 +63,7 @@ import org.apache.iceberg.Table;
 import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TestHelpers;
 import org.apache.iceberg.actions.RewriteManifests;
+import org.apache.iceberg.actions.RewriteManifestsPlanner;
 import org.apache.iceberg.data.FileHelpers;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.Record;
@@ -425,6 +426,72 @@ public class TestRewriteManifestsAction extends TestBase {
     assertThat(actualRecords).as("Rows must match").isEqualTo(expectedRecords);
   }
 
+  @TestTemplate
+  public void testRewriteOnlyUndersizedManifests() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("c1").build();
+    Map<String, String> options = Maps.newHashMap();
+    options.put(TableProperties.FORMAT_VERSION, String.valueOf(formatVersion));
+    options.put(TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED, snapshotIdInheritanceEnabled);
+    Table table = TABLES.create(SCHEMA, spec, options, tableLocation);
+
+    List<ThreeColumnRecord> expectedRecords = Lists.newArrayList();
+    for (int c1 = 1; c1 <= 3; c1 += 1) {
+      List<ThreeColumnRecord> records =
+          Lists.newArrayList(new ThreeColumnRecord(c1, "AAAAAAAAAA", "AAAA"));
+      writeRecords(records);
+      expectedRecords.addAll(records);
+    }
+
+    SparkActions actions = SparkActions.get();
+    actions.rewriteManifests(table).rewriteIf(manifest -> true).execute();
+    table.refresh();
+
+    List<ManifestFile> clusteredManifests = table.currentSnapshot().allManifests(table.io());
+    assertThat(clusteredManifests).as("Should have 1 manifest after full rewrite").hasSize(1);
+    ManifestFile clusteredManifest = clusteredManifests.get(0);
+
+    for (int c1 = 4; c1 <= 5; c1 += 1) {
+      List<ThreeColumnRecord> records =
+          Lists.newArrayList(new ThreeColumnRecord(c1, "BBBBBBBBBB", "BBBB"));
+      writeRecords(records);
+      expectedRecords.addAll(records);
+    }
+
+    table.refresh();
+    assertThat(table.currentSnapshot().allManifests(table.io())).hasSize(3);
+
+    RewriteManifests.Result result =
+        actions
+            .rewriteManifests(table)
+            .rewriteIf(manifest -> true)
+            .option(RewriteManifestsPlanner.REWRITE_ALL, "false")
+            .option(
+                RewriteManifestsPlanner.MIN_MANIFEST_SIZE_BYTES,
+                String.valueOf(clusteredManifest.length()))
+            .option(RewriteManifestsPlanner.MAX_MANIFEST_SIZE_BYTES, String.valueOf(Long.MAX_VALUE))
+            .option(RewriteManifestsSparkAction.USE_CACHING, useCaching)
+            .execute();
+
+    assertThat(result.rewrittenManifests())
+        .as("Action should only rewrite the undersized manifests")
+        .hasSize(2)
+        .doesNotContain(clusteredManifest);
+    assertThat(result.addedManifests()).as("Action should add 1 manifest").hasSize(1);
+
+    table.refresh();
+
+    List<ManifestFile> newManifests = table.currentSnapshot().allManifests(table.io());
+    assertThat(newManifests).hasSize(2);
+    assertThat(Lists.transform(newManifests, ManifestFile::path))
+        .contains(clusteredManifest.path());
+
+    Dataset<Row> resultDF = spark.read().format("iceberg").load(tableLocation);
+    List<ThreeColumnRecord> actualRecords =
+        resultDF.sort("c1", "c2").as(Encoders.bean(ThreeColumnRecord.class)).collectAsList();
+
+    assertThat(actualRecords).as("Rows must match").isEqualTo(expectedRecords);
+  }
+
   @TestTemplate
   public void testRewriteImportedManifests() throws IOException {
     PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("c3").build();
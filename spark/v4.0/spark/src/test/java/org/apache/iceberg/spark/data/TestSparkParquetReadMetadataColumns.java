@@ -37,6 +37,7 @@ import org.apache.iceberg.Parameter;
 import org.apache.iceberg.ParameterizedTestExtension;
 import org.apache.iceberg.Parameters;
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.data.DeleteFilter;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.expressions.Expression;
@@ -240,6 +241,57 @@ public class TestSparkParquetReadMetadataColumns {
     }
   }
 
+  @TestTemplate
+  public void testReadRowNumbersWithSkippedPages() throws IOException {
+    File pagedFile = File.createTempFile("junit", null, temp.toFile());
+    assertThat(pagedFile.delete()).as("Delete should succeed").isTrue();
+    StructType struct = SparkSchemaUtil.convert(DATA_SCHEMA);
+    try (FileAppender<InternalRow> writer =
+        Parquet.write(Files.localOutput(pagedFile))
+            .createWriterFunc(msgType -> SparkParquetWriters.buildWriter(struct, msgType))
+            .schema(DATA_SCHEMA)
+            .set(TableProperties.PARQUET_PAGE_ROW_LIMIT, "10")
+            .build()) {
+      writer.addAll(DATA_ROWS);
+    }
+
+    // rows 520 to 539 hold ids 1040 to 1078, the pages of all other rows are skipped
+    List<InternalRow> expected = Lists.newArrayList();
+    EXPECTED_ROWS.subList(520, 540).forEach(row -> expected.add(row.copy()));
+
+    Parquet.ReadBuilder builder =
+        Parquet.read(Files.localInput(pagedFile))
+            .project(PROJECTION_SCHEMA)
+            .filter(
+                Expressions.and(
+                    Expressions.greaterThanOrEqual("id", 1040L), Expressions.lessThan("id", 1080L)))
+            .pageSkipping(true);
+
+    if (vectorized) {
+      // deleted positions must be matched with the positions of the rows after the skipped pages
+      DeleteFilter deleteFilter = mock(DeleteFilter.class);
+      when(deleteFilter.hasPosDeletes()).thenReturn(true);
+      PositionDeleteIndex deletedRowPos = new CustomizedPositionDeleteIndex();
+      deletedRowPos.delete(521, 523);
+      deletedRowPos.delete(535);
+      when(deleteFilter.deletedRowPositions()).thenReturn(deletedRowPos);
+      expected.get(1).update(3, true);
+      expected.get(2).update(3, true);
+      expected.get(15).update(3, true);
+
+      builder.createBatchedReaderFunc(
+          fileSchema ->
+              VectorizedSparkParquetReaders.buildReader(
+                  PROJECTION_SCHEMA, fileSchema, Maps.newHashMap(), deleteFilter));
+      builder.recordsPerBatch(RECORDS_PER_BATCH);
+    } else {
+      builder.createReaderFunc(
+          msgType -> SparkParquetReaders.buildReader(PROJECTION_SCHEMA, msgType));
+    }
+
+    validate(expected, builder);
+  }
+
   @TestTemplate
   public void testReadRowNumbersWithSplits() throws IOException {
     ParquetFileReader fileReader =
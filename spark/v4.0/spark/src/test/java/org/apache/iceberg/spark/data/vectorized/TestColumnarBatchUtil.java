@@ -20,15 +20,21 @@ package org.apache.iceberg.spark.data.vectorized;
 
 import static java.util.Collections.nCopies;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.deletes.Deletes;
 import org.apache.iceberg.deletes.PositionDeleteIndex;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.vectorized.ColumnVector;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,7 +54,7 @@ public class TestColumnarBatchUtil {
   @Test
   public void testBuildRowIdMappingNoDeletes() {
     when(deleteFilter.hasPosDeletes()).thenReturn(true);
-    PositionDeleteIndex deletedRowPos = mock(PositionDeleteIndex.class);
+    PositionDeleteIndex deletedRowPos = mockPositionDeleteIndex();
 
     for (long i = 0; i <= 10; i++) {
       when(deletedRowPos.isDeleted(i)).thenReturn(false);
@@ -62,7 +68,7 @@ public class TestColumnarBatchUtil {
   @Test
   public void testBuildRowIdMappingPositionDeletesOnly() {
     when(deleteFilter.hasPosDeletes()).thenReturn(true);
-    PositionDeleteIndex deletedRowPos = mock(PositionDeleteIndex.class);
+    PositionDeleteIndex deletedRowPos = mockPositionDeleteIndex();
 
     // 5 position deletes
     for (long i = 98; i < 103; i++) {
@@ -121,7 +127,7 @@ public class TestColumnarBatchUtil {
         Stream.of(rawEqDelete).map(Predicate::negate).reduce(Predicate::and).orElse(t -> true);
     when(deleteFilter.eqDeletedRowFilter()).thenReturn(eqDeletePredicate);
 
-    PositionDeleteIndex deletedRowPos = mock(PositionDeleteIndex.class);
+    PositionDeleteIndex deletedRowPos = mockPositionDeleteIndex();
     when(deletedRowPos.isDeleted(1)).thenReturn(true); // 41
     when(deletedRowPos.isDeleted(4)).thenReturn(true); // 44
     when(deleteFilter.hasPosDeletes()).thenReturn(true);
@@ -141,7 +147,7 @@ public class TestColumnarBatchUtil {
   void testBuildRowIdMappingEmptyColumVectors() {
     ColumnVector[] columnVectorsZero = new ColumnVector[0];
 
-    PositionDeleteIndex deletedRowPos = mock(PositionDeleteIndex.class);
+    PositionDeleteIndex deletedRowPos = mockPositionDeleteIndex();
     when(deletedRowPos.isDeleted(1)).thenReturn(true);
     when(deletedRowPos.isDeleted(4)).thenReturn(true);
     when(deleteFilter.hasPosDeletes()).thenReturn(true);
@@ -164,7 +170,7 @@ public class TestColumnarBatchUtil {
         Stream.of(rawEqDelete).map(Predicate::negate).reduce(Predicate::and).orElse(t -> true);
     when(deleteFilter.eqDeletedRowFilter()).thenReturn(eqDeletePredicate);
 
-    PositionDeleteIndex deletedRowPos = mock(PositionDeleteIndex.class);
+    PositionDeleteIndex deletedRowPos = mockPositionDeleteIndex();
     when(deletedRowPos.isDeleted(0)).thenReturn(true); // 40
     when(deletedRowPos.isDeleted(1)).thenReturn(true); // 41
     when(deletedRowPos.isDeleted(4)).thenReturn(true); // 44
@@ -182,9 +188,54 @@ public class TestColumnarBatchUtil {
     assertThat(rowIds).containsExactly(0, 0, 0, 0, 0);
   }
 
+  @Test
+  void testBuildRowIdMappingDeletionVector() {
+    // deleted ranges that start before, are inside of, and end after the batch
+    PositionDeleteIndex deletedRowPos =
+        positionDeleteIndex(95, 96, 97, 98, 101, 102, 103, 107, 108);
+    when(deleteFilter.hasPosDeletes()).thenReturn(true);
+    when(deleteFilter.deletedRowPositions()).thenReturn(deletedRowPos);
+
+    var rowIdMapping = ColumnarBatchUtil.buildRowIdMapping(columnVectors, deleteFilter, 97, 11);
+
+    assertThat(rowIdMapping).isNotNull();
+    int[] rowIds = rowIdMapping.first();
+    int liveRows = rowIdMapping.second();
+
+    assertThat(liveRows).isEqualTo(5);
+    assertThat(Arrays.copyOf(rowIds, liveRows)).containsExactly(2, 3, 7, 8, 9);
+    verify(deleteFilter).incrementDeleteCount(6);
+  }
+
+  @Test
+  void testBuildRowIdMappingDeletionVectorAllRowsDeleted() {
+    PositionDeleteIndex deletedRowPos = positionDeleteIndex(9, 10, 11, 12, 13, 14, 15);
+    when(deleteFilter.deletedRowPositions()).thenReturn(deletedRowPos);
+
+    var rowIdMapping = ColumnarBatchUtil.buildRowIdMapping(columnVectors, deleteFilter, 10, 5);
+
+    assertThat(rowIdMapping).isNotNull();
+    assertThat((int) rowIdMapping.second()).isEqualTo(0);
+    verify(deleteFilter).incrementDeleteCount(5);
+
+    // a batch without deletes next to deleted rows
+    assertThat(ColumnarBatchUtil.buildRowIdMapping(columnVectors, deleteFilter, 16, 5)).isNull();
+  }
+
+  @Test
+  void testBuildIsDeletedDeletionVector() {
+    PositionDeleteIndex deletedRowPos = positionDeleteIndex(8, 9, 10, 13);
+    when(deleteFilter.deletedRowPositions()).thenReturn(deletedRowPos);
+
+    var isDeleted = ColumnarBatchUtil.buildIsDeleted(columnVectors, deleteFilter, 10, 5);
+
+    assertThat(isDeleted).containsExactly(true, false, false, true, false);
+    verify(deleteFilter).incrementDeleteCount(2);
+  }
+
   @Test
   void testBuildIsDeletedPositionDeletes() {
-    PositionDeleteIndex deletedRowPos = mock(PositionDeleteIndex.class);
+    PositionDeleteIndex deletedRowPos = mockPositionDeleteIndex();
     when(deleteFilter.deletedRowPositions()).thenReturn(deletedRowPos);
 
     for (long i = 98; i < 100; i++) {
@@ -236,7 +287,7 @@ public class TestColumnarBatchUtil {
         Stream.of(rawEqDelete).map(Predicate::negate).reduce(Predicate::and).orElse(t -> true);
     when(deleteFilter.eqDeletedRowFilter()).thenReturn(eqDeletePredicate);
 
-    PositionDeleteIndex deletedRowPos = mock(PositionDeleteIndex.class);
+    PositionDeleteIndex deletedRowPos = mockPositionDeleteIndex();
     when(deletedRowPos.isDeleted(1)).thenReturn(true); // 41
     when(deletedRowPos.isDeleted(4)).thenReturn(true); // 44
     when(deleteFilter.hasPosDeletes()).thenReturn(true);
@@ -288,6 +339,20 @@ public class TestColumnarBatchUtil {
     assertThat(result.length).isEqualTo(3);
   }
 
+  private static PositionDeleteIndex mockPositionDeleteIndex() {
+    // use the default implementations that check each position with isDeleted
+    return mock(PositionDeleteIndex.class, CALLS_REAL_METHODS);
+  }
+
+  private static PositionDeleteIndex positionDeleteIndex(long... positions) {
+    List<Long> positionList = Lists.newArrayList();
+    for (long pos : positions) {
+      positionList.add(pos);
+    }
+
+    return Deletes.toPositionIndex(CloseableIterable.withNoopClose(positionList));
+  }
+
   private ColumnVector[] mockColumnVector() {
     // Create a mocked Int column vector with values: 40, 41, 42, 43, 44
     ColumnVector intVector = mock(ColumnVector.class);